@@ -0,0 +1,115 @@
+package org.infinispan.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.remoting.transport.jgroups.JGroupsTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code Cache.get} and {@code Cache.put} on a local cache and on clustered caches. The clustered caches
+ * run on two cache managers in the same JVM, connected with JGroups over the loopback interface, so the numbers
+ * include the marshalling and the JGroups stack but not the network.
+ *
+ * @since 9.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CacheBenchmark {
+
+   static final String JGROUPS_CONFIGURATION = "benchmark-jgroups-loopback.xml";
+
+   @Param({"LOCAL", "REPL_SYNC", "DIST_SYNC"})
+   CacheMode cacheMode;
+
+   @Param("1000")
+   int keyCount;
+
+   @Param("100")
+   int valueSize;
+
+   private EmbeddedCacheManager[] cacheManagers;
+   private Cache<String, byte[]> cache;
+   private String[] keys;
+   private byte[] value;
+
+   @Setup(Level.Trial)
+   public void setup() {
+      int nodes = cacheMode.isClustered() ? 2 : 1;
+      cacheManagers = new EmbeddedCacheManager[nodes];
+      for (int i = 0; i < nodes; i++) {
+         cacheManagers[i] = createCacheManager(cacheMode);
+      }
+      cache = cacheManagers[0].getCache();
+      for (int i = 1; i < nodes; i++) {
+         cacheManagers[i].getCache();
+      }
+
+      keys = new String[keyCount];
+      value = new byte[valueSize];
+      ThreadLocalRandom.current().nextBytes(value);
+      for (int i = 0; i < keyCount; i++) {
+         keys[i] = "key" + i;
+         cache.put(keys[i], value);
+      }
+   }
+
+   @TearDown(Level.Trial)
+   public void tearDown() {
+      for (int i = cacheManagers.length - 1; i >= 0; i--) {
+         cacheManagers[i].stop();
+      }
+   }
+
+   @Benchmark
+   public byte[] get() {
+      return cache.get(nextKey());
+   }
+
+   @Benchmark
+   public byte[] put() {
+      return cache.put(nextKey(), value);
+   }
+
+   private String nextKey() {
+      return keys[ThreadLocalRandom.current().nextInt(keyCount)];
+   }
+
+   static EmbeddedCacheManager createCacheManager(CacheMode cacheMode) {
+      GlobalConfigurationBuilder global;
+      if (cacheMode.isClustered()) {
+         global = GlobalConfigurationBuilder.defaultClusteredBuilder();
+         global.transport().clusterName("benchmark")
+               .addProperty(JGroupsTransport.CONFIGURATION_FILE, JGROUPS_CONFIGURATION);
+      } else {
+         global = new GlobalConfigurationBuilder();
+      }
+      global.globalJmxStatistics().allowDuplicateDomains(true);
+
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.clustering().cacheMode(cacheMode);
+      return new DefaultCacheManager(global.build(), builder.build());
+   }
+}
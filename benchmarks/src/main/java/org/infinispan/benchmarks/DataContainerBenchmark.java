@@ -0,0 +1,99 @@
+package org.infinispan.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.container.DataContainer;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.metadata.Metadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@code DefaultDataContainer} compute paths used by the entry wrapping and committing code, on the
+ * unbounded map and on the bounded map used with eviction.
+ *
+ * @since 9.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DataContainerBenchmark {
+
+   @Param({"false", "true"})
+   boolean bounded;
+
+   @Param("100000")
+   int keyCount;
+
+   private EmbeddedCacheManager cacheManager;
+   private DataContainer<String, String> container;
+   private Metadata metadata;
+   private String[] keys;
+
+   @Setup(Level.Trial)
+   public void setup() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      if (bounded) {
+         builder.eviction().size(2L * keyCount);
+      }
+      cacheManager = new DefaultCacheManager(builder.build());
+      container = cacheManager.<String, String>getCache().getAdvancedCache().getDataContainer();
+      metadata = new EmbeddedMetadata.Builder().build();
+
+      keys = new String[keyCount];
+      for (int i = 0; i < keyCount; i++) {
+         keys[i] = "key" + i;
+         container.put(keys[i], keys[i], metadata);
+      }
+   }
+
+   @TearDown(Level.Trial)
+   public void tearDown() {
+      cacheManager.stop();
+   }
+
+   @Benchmark
+   public InternalCacheEntry<String, String> computeReplace() {
+      return container.compute(nextKey(), (key, oldEntry, factory) -> factory.create(key, key, metadata));
+   }
+
+   @Benchmark
+   public InternalCacheEntry<String, String> computeUnchanged() {
+      return container.compute(nextKey(), (key, oldEntry, factory) -> oldEntry);
+   }
+
+   @Benchmark
+   public InternalCacheEntry<String, String> computeRemoveAndCreate() {
+      String key = nextKey();
+      container.compute(key, (k, oldEntry, factory) -> null);
+      return container.compute(key, (k, oldEntry, factory) -> factory.create(k, k, metadata));
+   }
+
+   @Benchmark
+   public InternalCacheEntry<String, String> peek() {
+      return container.peek(nextKey());
+   }
+
+   private String nextKey() {
+      return keys[ThreadLocalRandom.current().nextInt(keyCount)];
+   }
+}
@@ -0,0 +1,176 @@
+package org.infinispan.benchmarks;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.commons.equivalence.ByteArrayEquivalence;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.server.core.transport.ExtendedByteBuf;
+import org.infinispan.server.hotrod.ContextHandler;
+import org.infinispan.server.hotrod.HotRodDecoder;
+import org.infinispan.server.hotrod.HotRodServer;
+import org.infinispan.server.hotrod.configuration.HotRodServerConfigurationBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Measures the Hot Rod 2.x request decoding and response encoding. Requests are written to an in-memory channel
+ * holding the same decoder, handler and encoder as a server connection, so a run covers {@code Decoder2x},
+ * the cache operation and {@code Encoder2x}, without any socket I/O.
+ *
+ * @since 9.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class HotRodCodecBenchmark {
+
+   private static final short MAGIC_REQ = 0xA0;
+   private static final byte VERSION_25 = 25;
+   private static final byte PUT_REQUEST = 0x01;
+   private static final byte GET_REQUEST = 0x03;
+   private static final byte CLIENT_INTELLIGENCE_BASIC = 0x01;
+   private static final byte INFINITE_LIFESPAN_AND_MAX_IDLE = (byte) 0x88;
+
+   @Param("1000")
+   int keyCount;
+
+   @Param({"10", "1000"})
+   int valueSize;
+
+   @Param("11322")
+   int port;
+
+   private EmbeddedCacheManager cacheManager;
+   private HotRodServer server;
+   private EmbeddedChannel channel;
+   private ByteBuf[] getRequests;
+   private ByteBuf[] putRequests;
+
+   @Setup(Level.Trial)
+   public void setup() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      // Hot Rod keys and values are byte arrays, compared by content like in a server cache
+      builder.dataContainer()
+            .keyEquivalence(ByteArrayEquivalence.INSTANCE)
+            .valueEquivalence(ByteArrayEquivalence.INSTANCE);
+      cacheManager = new DefaultCacheManager(builder.build());
+      server = new HotRodServer();
+      server.start(new HotRodServerConfigurationBuilder().host("127.0.0.1").port(port).build(), cacheManager);
+
+      HotRodDecoder decoder = server.getDecoder();
+      channel = new LoopbackEmbeddedChannel(port, decoder, new ContextHandler(server, decoder.getTransport()),
+            server.getEncoder());
+
+      getRequests = new ByteBuf[keyCount];
+      putRequests = new ByteBuf[keyCount];
+      for (int i = 0; i < keyCount; i++) {
+         byte[] key = ("key" + i).getBytes();
+         byte[] value = new byte[valueSize];
+         ThreadLocalRandom.current().nextBytes(value);
+         putRequests[i] = Unpooled.unreleasableBuffer(putRequest(i, key, value));
+         getRequests[i] = Unpooled.unreleasableBuffer(getRequest(i, key));
+         roundTrip(putRequests[i]);
+      }
+   }
+
+   @TearDown(Level.Trial)
+   public void tearDown() {
+      channel.finish();
+      server.stop();
+      cacheManager.stop();
+   }
+
+   @Benchmark
+   public int get() {
+      return roundTrip(getRequests[ThreadLocalRandom.current().nextInt(keyCount)]);
+   }
+
+   @Benchmark
+   public int put() {
+      return roundTrip(putRequests[ThreadLocalRandom.current().nextInt(keyCount)]);
+   }
+
+   private int roundTrip(ByteBuf request) {
+      channel.writeInbound(request.duplicate());
+      Object response = channel.readOutbound();
+      if (response == null) {
+         throw new IllegalStateException("No response written");
+      }
+      int length = ((ByteBuf) response).readableBytes();
+      ReferenceCountUtil.release(response);
+      return length;
+   }
+
+   private static ByteBuf header(long messageId, byte opCode) {
+      ByteBuf buf = Unpooled.buffer();
+      buf.writeByte(MAGIC_REQ);
+      ExtendedByteBuf.writeUnsignedLong(messageId, buf);
+      buf.writeByte(VERSION_25);
+      buf.writeByte(opCode);
+      // default cache
+      ExtendedByteBuf.writeUnsignedInt(0, buf);
+      // flags
+      ExtendedByteBuf.writeUnsignedInt(0, buf);
+      buf.writeByte(CLIENT_INTELLIGENCE_BASIC);
+      // topology id
+      ExtendedByteBuf.writeUnsignedInt(0, buf);
+      return buf;
+   }
+
+   private static ByteBuf getRequest(long messageId, byte[] key) {
+      ByteBuf buf = header(messageId, GET_REQUEST);
+      ExtendedByteBuf.writeRangedBytes(key, buf);
+      return buf;
+   }
+
+   private static ByteBuf putRequest(long messageId, byte[] key, byte[] value) {
+      ByteBuf buf = header(messageId, PUT_REQUEST);
+      ExtendedByteBuf.writeRangedBytes(key, buf);
+      buf.writeByte(INFINITE_LIFESPAN_AND_MAX_IDLE);
+      ExtendedByteBuf.writeRangedBytes(value, buf);
+      return buf;
+   }
+
+   /**
+    * The decoder looks at the remote address of the channel, which must be an {@link InetSocketAddress}.
+    */
+   private static final class LoopbackEmbeddedChannel extends EmbeddedChannel {
+      private final InetSocketAddress remoteAddress;
+
+      LoopbackEmbeddedChannel(int port, ChannelHandler... handlers) {
+         super(handlers);
+         this.remoteAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+      }
+
+      @Override
+      protected SocketAddress remoteAddress0() {
+         return remoteAddress;
+      }
+   }
+}
@@ -0,0 +1,132 @@
+package org.infinispan.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.infinispan.commands.VisitableCommand;
+import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.commons.equivalence.AnyEquivalence;
+import org.infinispan.commons.util.EnumUtil;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.context.SingleKeyNonTxInvocationContext;
+import org.infinispan.factories.components.ComponentMetadataRepo;
+import org.infinispan.factories.components.ModuleMetadataFileFinder;
+import org.infinispan.interceptors.BaseSequentialInterceptor;
+import org.infinispan.interceptors.SequentialInterceptor;
+import org.infinispan.interceptors.impl.SequentialInterceptorChainImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the dispatch overhead of {@link SequentialInterceptorChainImpl}: a command goes through {@code depth}
+ * interceptors which do no work, optionally registering a return handler each, before the last interceptor
+ * short-circuits the invocation.
+ *
+ * @since 9.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class InterceptorChainBenchmark {
+
+   // The chain refuses two interceptors of the same type, so each position needs its own class
+   private static final Supplier<?>[] PASS_THROUGH = {
+         Interceptor1::new, Interceptor2::new, Interceptor3::new, Interceptor4::new,
+         Interceptor5::new, Interceptor6::new, Interceptor7::new, Interceptor8::new,
+   };
+
+   private static final SequentialInterceptor.ReturnHandler NO_OP_HANDLER = (ctx, command, rv, throwable) -> null;
+
+   @Param({"1", "4", "8"})
+   int depth;
+
+   @Param({"false", "true"})
+   boolean returnHandlers;
+
+   private SequentialInterceptorChainImpl chain;
+   private VisitableCommand command;
+
+   @Setup(Level.Trial)
+   public void setup() {
+      ComponentMetadataRepo componentMetadataRepo = new ComponentMetadataRepo();
+      componentMetadataRepo.initialize(Collections.<ModuleMetadataFileFinder>emptyList(),
+            InterceptorChainBenchmark.class.getClassLoader());
+      chain = new SequentialInterceptorChainImpl(componentMetadataRepo);
+      for (int i = 0; i < depth; i++) {
+         PassThroughInterceptor interceptor = (PassThroughInterceptor) PASS_THROUGH[i].get();
+         interceptor.returnHandler = returnHandlers;
+         chain.appendInterceptor(interceptor, false);
+      }
+      chain.appendInterceptor(new TerminalInterceptor(), false);
+      command = new GetKeyValueCommand("key", EnumUtil.EMPTY_BIT_SET);
+   }
+
+   @Benchmark
+   public Object invoke() {
+      return chain.invoke(newContext(), command);
+   }
+
+   @Benchmark
+   public Object invokeAsync() throws Exception {
+      return chain.invokeAsync(newContext(), command).get();
+   }
+
+   private InvocationContext newContext() {
+      return new SingleKeyNonTxInvocationContext(null, AnyEquivalence.getInstance());
+   }
+
+   abstract static class PassThroughInterceptor extends BaseSequentialInterceptor {
+      boolean returnHandler;
+
+      @Override
+      public CompletableFuture<Void> visitCommand(InvocationContext ctx, VisitableCommand command) {
+         return returnHandler ? ctx.onReturn(NO_OP_HANDLER) : ctx.continueInvocation();
+      }
+   }
+
+   static final class Interceptor1 extends PassThroughInterceptor {
+   }
+
+   static final class Interceptor2 extends PassThroughInterceptor {
+   }
+
+   static final class Interceptor3 extends PassThroughInterceptor {
+   }
+
+   static final class Interceptor4 extends PassThroughInterceptor {
+   }
+
+   static final class Interceptor5 extends PassThroughInterceptor {
+   }
+
+   static final class Interceptor6 extends PassThroughInterceptor {
+   }
+
+   static final class Interceptor7 extends PassThroughInterceptor {
+   }
+
+   static final class Interceptor8 extends PassThroughInterceptor {
+   }
+
+   static final class TerminalInterceptor extends BaseSequentialInterceptor {
+      @Override
+      public CompletableFuture<Void> visitCommand(InvocationContext ctx, VisitableCommand command) {
+         return ctx.shortCircuit(command);
+      }
+   }
+}
@@ -0,0 +1,83 @@
+package org.infinispan.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.remote.SingleRpcCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commons.marshall.StreamingMarshaller;
+import org.infinispan.commons.util.EnumUtil;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@code GlobalMarshaller} on the command that dominates replication traffic: a
+ * {@link PutKeyValueCommand} wrapped in a {@link SingleRpcCommand}, as the RPC manager sends it.
+ *
+ * @since 9.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MarshallerBenchmark {
+
+   @Param({"10", "1000"})
+   int valueSize;
+
+   private EmbeddedCacheManager cacheManager;
+   private StreamingMarshaller marshaller;
+   private SingleRpcCommand command;
+   private byte[] bytes;
+
+   @Setup(Level.Trial)
+   public void setup() throws Exception {
+      // The cache has to be clustered for the cache RPC commands to be unmarshalled
+      cacheManager = CacheBenchmark.createCacheManager(CacheMode.REPL_SYNC);
+      AdvancedCache<Object, Object> cache = cacheManager.getCache().getAdvancedCache();
+      marshaller = cacheManager.getGlobalComponentRegistry().getComponent(StreamingMarshaller.class,
+            KnownComponentNames.GLOBAL_MARSHALLER);
+
+      byte[] value = new byte[valueSize];
+      ThreadLocalRandom.current().nextBytes(value);
+      CommandsFactory commandsFactory = cache.getComponentRegistry().getComponent(CommandsFactory.class);
+      PutKeyValueCommand put = commandsFactory.buildPutKeyValueCommand("key", value,
+            new EmbeddedMetadata.Builder().build(), EnumUtil.EMPTY_BIT_SET);
+      command = commandsFactory.buildSingleRpcCommand(put);
+      bytes = marshaller.objectToByteBuffer(command);
+   }
+
+   @TearDown(Level.Trial)
+   public void tearDown() {
+      cacheManager.stop();
+   }
+
+   @Benchmark
+   public byte[] marshall() throws Exception {
+      return marshaller.objectToByteBuffer(command);
+   }
+
+   @Benchmark
+   public Object unmarshall() throws Exception {
+      return marshaller.objectFromByteBuffer(bytes);
+   }
+}
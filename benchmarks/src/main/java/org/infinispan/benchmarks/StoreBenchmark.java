@@ -0,0 +1,136 @@
+package org.infinispan.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.marshall.core.MarshalledEntry;
+import org.infinispan.marshall.core.MarshalledEntryFactory;
+import org.infinispan.persistence.manager.PersistenceManager;
+import org.infinispan.persistence.sifs.configuration.SoftIndexFileStoreConfigurationBuilder;
+import org.infinispan.persistence.spi.AdvancedLoadWriteStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reads and writes going straight to the file based stores, bypassing the cache and the persistence
+ * interceptors. The stores are created by a cache so that they get the same configuration, marshaller and thread
+ * pools as in a real deployment.
+ *
+ * @since 9.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StoreBenchmark {
+
+   public enum StoreType {
+      SINGLE_FILE_STORE {
+         @Override
+         void configure(ConfigurationBuilder builder, Path location) {
+            builder.persistence().addSingleFileStore().location(location.toString());
+         }
+      },
+      SOFT_INDEX_FILE_STORE {
+         @Override
+         void configure(ConfigurationBuilder builder, Path location) {
+            builder.persistence().addStore(SoftIndexFileStoreConfigurationBuilder.class)
+                  .dataLocation(location.resolve("data").toString())
+                  .indexLocation(location.resolve("index").toString());
+         }
+      };
+
+      abstract void configure(ConfigurationBuilder builder, Path location);
+   }
+
+   @Param({"SINGLE_FILE_STORE", "SOFT_INDEX_FILE_STORE"})
+   StoreType storeType;
+
+   @Param("10000")
+   int keyCount;
+
+   @Param("100")
+   int valueSize;
+
+   private Path location;
+   private EmbeddedCacheManager cacheManager;
+   private AdvancedLoadWriteStore<String, byte[]> store;
+   private MarshalledEntry<String, byte[]>[] entries;
+
+   @Setup(Level.Trial)
+   @SuppressWarnings("unchecked")
+   public void setup() throws IOException {
+      location = Files.createTempDirectory("infinispan-store-benchmark");
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      storeType.configure(builder, location);
+      cacheManager = new DefaultCacheManager(builder.build());
+      AdvancedCache<String, byte[]> cache = cacheManager.<String, byte[]>getCache().getAdvancedCache();
+      store = cache.getComponentRegistry().getComponent(PersistenceManager.class)
+            .getStores(AdvancedLoadWriteStore.class).iterator().next();
+      MarshalledEntryFactory<String, byte[]> entryFactory =
+            cache.getComponentRegistry().getComponent(MarshalledEntryFactory.class);
+
+      entries = new MarshalledEntry[keyCount];
+      for (int i = 0; i < keyCount; i++) {
+         byte[] value = new byte[valueSize];
+         ThreadLocalRandom.current().nextBytes(value);
+         entries[i] = entryFactory.newMarshalledEntry("key" + i, value, null);
+         store.write(entries[i]);
+      }
+   }
+
+   @TearDown(Level.Trial)
+   public void tearDown() throws IOException {
+      cacheManager.stop();
+      Files.walkFileTree(location, new SimpleFileVisitor<Path>() {
+         @Override
+         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+            Files.delete(file);
+            return FileVisitResult.CONTINUE;
+         }
+
+         @Override
+         public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+            Files.delete(dir);
+            return FileVisitResult.CONTINUE;
+         }
+      });
+   }
+
+   @Benchmark
+   public MarshalledEntry<String, byte[]> read() {
+      return store.load(nextEntry().getKey());
+   }
+
+   @Benchmark
+   public void write() {
+      store.write(nextEntry());
+   }
+
+   private MarshalledEntry<String, byte[]> nextEntry() {
+      return entries[ThreadLocalRandom.current().nextInt(keyCount)];
+   }
+}
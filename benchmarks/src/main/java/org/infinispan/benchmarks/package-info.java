@@ -0,0 +1,11 @@
+/**
+ * JMH micro-benchmarks for the Infinispan hot paths.
+ * <p>
+ * The module is only built with the {@code benchmarks} profile. To build the benchmark jar and run a suite:
+ * <pre>
+ * mvn -Pbenchmarks -pl benchmarks -am install -DskipTests
+ * java -jar benchmarks/target/benchmarks.jar CacheBenchmark -rf json -rff cache.json
+ * </pre>
+ * The JSON results can be compared between builds to catch regressions.
+ */
+package org.infinispan.benchmarks;
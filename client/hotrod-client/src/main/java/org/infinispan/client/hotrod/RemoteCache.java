@@ -379,6 +379,21 @@
     */
    <T> T execute(String scriptName, Map<String, ?> params);
 
+   /**
+    * Updates the value associated with the key by applying the function registered in the server under the given
+    * name to the current value and to the argument. The function runs atomically on the server owning the key, so
+    * unlike a {@link #getWithMetadata(Object)} and {@link #replaceWithVersion(Object, Object, long)} loop this takes
+    * a single round trip and never has to be retried because of concurrent updates to the same key.
+    *
+    * @return the new value, or null if the function removed the entry
+    */
+   V compute(K key, String functionName, Object argument);
+
+   /**
+    * Same as {@link #compute(Object, String, Object)}, storing the new value with the given lifespan and max idle time.
+    */
+   V compute(K key, String functionName, Object argument, long lifespan, TimeUnit lifespanUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit);
+
    /**
     * Returns {@link CacheTopologyInfo} for this cache.
     */
@@ -130,6 +130,11 @@ public ConfigurationBuilder tcpKeepAlive(boolean tcpKeepAlive) {
       return builder.tcpKeepAlive(tcpKeepAlive);
    }
 
+   @Override
+   public ConfigurationBuilder multiplexedTransport(boolean multiplexedTransport) {
+      return builder.multiplexedTransport(multiplexedTransport);
+   }
+
    @Override
    public ConfigurationBuilder transportFactory(String transportFactory) {
       return builder.transportFactory(transportFactory);
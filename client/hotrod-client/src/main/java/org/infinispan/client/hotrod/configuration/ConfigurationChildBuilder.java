@@ -139,6 +139,14 @@ public interface ConfigurationChildBuilder {
     */
    ConfigurationBuilder tcpKeepAlive(boolean keepAlive);
 
+   /**
+    * Whether the asynchronous key operations (e.g. {@link org.infinispan.client.hotrod.RemoteCache#getAsync(Object)})
+    * should be sent over a single non-blocking connection per server, on which many requests can be in flight at the
+    * same time and responses are matched to requests by their message id. Not supported together with SSL or
+    * authentication. Defaults to disabled
+    */
+   ConfigurationBuilder multiplexedTransport(boolean multiplexedTransport);
+
    /**
     * Controls which transport to use. Currently only the TcpTransport is supported.
     */
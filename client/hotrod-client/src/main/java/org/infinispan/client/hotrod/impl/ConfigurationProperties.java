@@ -24,6 +24,7 @@ public class ConfigurationProperties {
    public static final String DEFAULT_EXECUTOR_FACTORY_POOL_SIZE = "infinispan.client.hotrod.default_executor_factory.pool_size";
    public static final String TCP_NO_DELAY = "infinispan.client.hotrod.tcp_no_delay";
    public static final String TCP_KEEP_ALIVE = "infinispan.client.hotrod.tcp_keep_alive";
+   public static final String MULTIPLEXED_TRANSPORT = "infinispan.client.hotrod.multiplexed_transport";
    @Deprecated
    public static final String PING_ON_STARTUP = "infinispan.client.hotrod.ping_on_startup";
    public static final String REQUEST_BALANCING_STRATEGY = "infinispan.client.hotrod.request_balancing_strategy";
@@ -116,6 +117,10 @@ public boolean getTcpKeepAlive() {
       return props.getBooleanProperty(TCP_KEEP_ALIVE, false);
    }
 
+   public boolean getMultiplexedTransport() {
+      return props.getBooleanProperty(MULTIPLEXED_TRANSPORT, false);
+   }
+
    public String getRequestBalancingStrategy() {
       return props.getProperty(REQUEST_BALANCING_STRATEGY, RoundRobinBalancingStrategy.class.getName());
    }
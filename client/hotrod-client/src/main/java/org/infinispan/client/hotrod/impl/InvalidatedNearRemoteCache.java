@@ -6,6 +6,7 @@
 import org.infinispan.client.hotrod.near.NearCacheService;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -44,6 +45,22 @@ public VersionedValue<V> getVersioned(K key) {
       return nearValue;
    }
 
+   @Override
+   public CompletableFuture<V> getAsync(K key) {
+      VersionedValue<V> nearValue = nearcache.get(key);
+      if (nearValue == null) {
+         return getVersionedAsync(key).thenApply(remoteValue -> {
+            if (remoteValue == null)
+               return null;
+
+            nearcache.putIfAbsent(key, remoteValue);
+            return remoteValue.getValue();
+         });
+      }
+
+      return CompletableFuture.completedFuture(nearValue.getValue());
+   }
+
    @Override
    public V put(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
       V ret = super.put(key, value, lifespan, lifespanUnit, maxIdleTime, maxIdleTimeUnit);
@@ -51,6 +68,21 @@ public V put(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxIdleT
       return ret;
    }
 
+   @Override
+   public CompletableFuture<V> putAsync(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxIdle, TimeUnit maxIdleUnit) {
+      return super.putAsync(key, value, lifespan, lifespanUnit, maxIdle, maxIdleUnit).thenApply(ret -> {
+         nearcache.remove(key);
+         return ret;
+      });
+   }
+
+   @Override
+   public V compute(K key, String functionName, Object argument, long lifespan, TimeUnit lifespanUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
+      V ret = super.compute(key, functionName, argument, lifespan, lifespanUnit, maxIdleTime, maxIdleTimeUnit);
+      nearcache.remove(key); // Eager invalidation to avoid race
+      return ret;
+   }
+
    @Override
    public void putAll(Map<? extends K, ? extends V> map, long lifespan, TimeUnit lifespanUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
       super.putAll(map, lifespan, lifespanUnit, maxIdleTime, maxIdleTimeUnit);
@@ -65,6 +97,15 @@ public V replace(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxI
       return prev;
    }
 
+   @Override
+   public CompletableFuture<V> replaceAsync(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxIdle, TimeUnit maxIdleUnit) {
+      boolean hasForceReturnValue = operationsFactory.hasFlag(Flag.FORCE_RETURN_VALUE);
+      return super.replaceAsync(key, value, lifespan, lifespanUnit, maxIdle, maxIdleUnit).thenApply(prev -> {
+         invalidateNearCacheIfNeeded(hasForceReturnValue, key, prev);
+         return prev;
+      });
+   }
+
    @Override
    public boolean replaceWithVersion(K key, V newValue, long version, long lifespan, TimeUnit lifespanTimeUnit, long maxIdle, TimeUnit maxIdleTimeUnit) {
       boolean replaced = super.replaceWithVersion(key, newValue, version, lifespan, lifespanTimeUnit, maxIdle, maxIdleTimeUnit);
@@ -72,6 +113,14 @@ public boolean replaceWithVersion(K key, V newValue, long version, long lifespan
       return replaced;
    }
 
+   @Override
+   public CompletableFuture<Boolean> replaceWithVersionAsync(K key, V newValue, long version, int lifespanSeconds, int maxIdleSeconds) {
+      return super.replaceWithVersionAsync(key, newValue, version, lifespanSeconds, maxIdleSeconds).thenApply(replaced -> {
+         if (replaced) nearcache.remove(key);
+         return replaced;
+      });
+   }
+
    @Override
    public V remove(Object key) {
       boolean hasForceReturnValue = operationsFactory.hasFlag(Flag.FORCE_RETURN_VALUE);
@@ -80,6 +129,15 @@ public V remove(Object key) {
       return prev;
    }
 
+   @Override
+   public CompletableFuture<V> removeAsync(Object key) {
+      boolean hasForceReturnValue = operationsFactory.hasFlag(Flag.FORCE_RETURN_VALUE);
+      return super.removeAsync(key).thenApply(prev -> {
+         invalidateNearCacheIfNeeded(hasForceReturnValue, key, prev);
+         return prev;
+      });
+   }
+
    @Override
    public boolean removeWithVersion(K key, long version) {
       boolean removed = super.removeWithVersion(key, version);
@@ -87,6 +145,14 @@ public boolean removeWithVersion(K key, long version) {
       return removed;
    }
 
+   @Override
+   public CompletableFuture<Boolean> removeWithVersionAsync(K key, long version) {
+      return super.removeWithVersionAsync(key, version).thenApply(removed -> {
+         if (removed) nearcache.remove(key); // Eager invalidation to avoid race
+         return removed;
+      });
+   }
+
    @Override
    public void clear() {
       super.clear();
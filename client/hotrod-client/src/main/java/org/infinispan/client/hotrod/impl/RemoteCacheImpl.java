@@ -31,6 +31,7 @@
 import org.infinispan.client.hotrod.impl.operations.BulkGetKeysOperation;
 import org.infinispan.client.hotrod.impl.operations.BulkGetOperation;
 import org.infinispan.client.hotrod.impl.operations.ClearOperation;
+import org.infinispan.client.hotrod.impl.operations.ComputeOperation;
 import org.infinispan.client.hotrod.impl.operations.ContainsKeyOperation;
 import org.infinispan.client.hotrod.impl.operations.ExecuteOperation;
 import org.infinispan.client.hotrod.impl.operations.GetAllParallelOperation;
@@ -112,7 +113,9 @@ public boolean removeWithVersion(K key, long version) {
    @Override
    public CompletableFuture<Boolean> removeWithVersionAsync(final K key, final long version) {
       assertRemoteCacheManagerIsStarted();
-      return CompletableFuture.supplyAsync(() -> removeWithVersion(key, version), executorService);
+      RemoveIfUnmodifiedOperation<V> op = operationsFactory.newRemoveIfUnmodifiedOperation(
+         compatKeyIfNeeded(key), obj2bytes(key, true), version);
+      return op.executeAsync(executorService).thenApply(response -> response.getCode().isUpdated());
    }
 
    @Override
@@ -132,8 +135,10 @@ public boolean replaceWithVersion(K key, V newValue, long version, long lifespan
    @Override
    public CompletableFuture<Boolean> replaceWithVersionAsync(final K key, final V newValue, final long version, final int lifespanSeconds, final int maxIdleSeconds) {
       assertRemoteCacheManagerIsStarted();
-      return CompletableFuture.supplyAsync(() ->
-              replaceWithVersion(key, newValue, version, lifespanSeconds, maxIdleSeconds), executorService);
+      ReplaceIfUnmodifiedOperation op = operationsFactory.newReplaceIfUnmodifiedOperation(
+         compatKeyIfNeeded(key), obj2bytes(key, true), obj2bytes(newValue, false), lifespanSeconds, TimeUnit.SECONDS, maxIdleSeconds, TimeUnit.SECONDS, version);
+      CompletableFuture<VersionedOperationResponse> response = op.executeAsync(executorService);
+      return response.thenApply(r -> r.getCode().isUpdated());
    }
 
    @Override
@@ -201,6 +206,21 @@ public VersionedValue<V> getVersioned(K key) {
       }
    }
 
+   protected CompletableFuture<VersionedValue<V>> getVersionedAsync(K key) {
+      assertRemoteCacheManagerIsStarted();
+      if (ConfigurationProperties.isVersionPre12(remoteCacheManager.getConfiguration())) {
+         GetWithVersionOperation<V> op = operationsFactory.newGetWithVersionOperation(
+               compatKeyIfNeeded(key), obj2bytes(key, true));
+         return op.executeAsync(executorService);
+      } else {
+         GetWithMetadataOperation<V> op = operationsFactory.newGetWithMetadataOperation(
+               compatKeyIfNeeded(key), obj2bytes(key, true));
+         return op.executeAsync(executorService).thenApply(result -> result != null
+               ? new VersionedValueImpl<>(result.getVersion(), result.getValue())
+               : null);
+      }
+   }
+
    @Override
    public MetadataValue<V> getWithMetadata(K key) {
       assertRemoteCacheManagerIsStarted();
@@ -290,12 +310,9 @@ public V replace(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxI
    @Override
    public CompletableFuture<V> putAsync(final K key, final V value, final long lifespan, final TimeUnit lifespanUnit, final long maxIdle, final TimeUnit maxIdleUnit) {
       assertRemoteCacheManagerIsStarted();
-      int flags = operationsFactory.flags();
-      return CompletableFuture.supplyAsync(() -> {
-         if (flags != 0)
-            operationsFactory.setFlags(flags);
-         return put(key, value, lifespan, lifespanUnit, maxIdle, maxIdleUnit);
-      }, executorService);
+      PutOperation<V> op = operationsFactory.newPutKeyValueOperation(compatKeyIfNeeded(key),
+         obj2bytes(key, true), obj2bytes(value, false), lifespan, lifespanUnit, maxIdle, maxIdleUnit);
+      return op.executeAsync(executorService);
    }
 
    @Override
@@ -307,34 +324,24 @@ public CompletableFuture<Void> clearAsync() {
    @Override
    public CompletableFuture<V> putIfAbsentAsync(final K key,final V value,final long lifespan,final TimeUnit lifespanUnit,final long maxIdle,final TimeUnit maxIdleUnit) {
       assertRemoteCacheManagerIsStarted();
-      int flags = operationsFactory.flags();
-      return CompletableFuture.supplyAsync(() -> {
-         if (flags != 0)
-            operationsFactory.setFlags(flags);
-         return putIfAbsent(key, value, lifespan, lifespanUnit, maxIdle, maxIdleUnit);
-      }, executorService);
+      PutIfAbsentOperation<V> op = operationsFactory.newPutIfAbsentOperation(compatKeyIfNeeded(key),
+         obj2bytes(key, true), obj2bytes(value, false), lifespan, lifespanUnit, maxIdle, maxIdleUnit);
+      return op.executeAsync(executorService);
    }
 
    @Override
    public CompletableFuture<V> removeAsync(final Object key) {
       assertRemoteCacheManagerIsStarted();
-      int flags = operationsFactory.flags();
-      return CompletableFuture.supplyAsync(() -> {
-         if (flags != 0)
-            operationsFactory.setFlags(flags);
-         return remove(key);
-      }, executorService);
+      RemoveOperation<V> op = operationsFactory.newRemoveOperation(compatKeyIfNeeded(key), obj2bytes(key, true));
+      return op.executeAsync(executorService);
    }
 
    @Override
    public CompletableFuture<V> replaceAsync(final K key,final V value,final long lifespan,final TimeUnit lifespanUnit,final long maxIdle,final TimeUnit maxIdleUnit) {
       assertRemoteCacheManagerIsStarted();
-      int flags = operationsFactory.flags();
-      return CompletableFuture.supplyAsync(() -> {
-         if (flags != 0)
-            operationsFactory.setFlags(flags);
-         return replace(key, value, lifespan, lifespanUnit, maxIdle, maxIdleUnit);
-      }, executorService);
+      ReplaceOperation<V> op = operationsFactory.newReplaceOperation(compatKeyIfNeeded(key),
+         obj2bytes(key, true), obj2bytes(value, false), lifespan, lifespanUnit, maxIdle, maxIdleUnit);
+      return op.executeAsync(executorService);
    }
 
    @Override
@@ -482,7 +489,8 @@ public RemoteCache<K, V> withFlags(Flag... flags) {
    @Override
    public CompletableFuture<V> getAsync(final K key) {
       assertRemoteCacheManagerIsStarted();
-      return CompletableFuture.supplyAsync(() -> get(key), executorService);
+      GetOperation<V> op = operationsFactory.newGetKeyOperation(compatKeyIfNeeded(key), obj2bytes(key, true));
+      return op.executeAsync(executorService);
    }
 
    public PingOperation.PingResult ping() {
@@ -540,6 +548,17 @@ public <T> T execute(String taskName, Map<String, ?> params) {
       return op.execute();
    }
 
+   @Override
+   public V compute(K key, String functionName, Object argument, long lifespan, TimeUnit lifespanUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
+      assertRemoteCacheManagerIsStarted();
+      if (trace) {
+         log.tracef("About to compute key %s with function %s lifespan:%d, maxIdle:%d", key, functionName, lifespan, maxIdleTime);
+      }
+      ComputeOperation<V> op = operationsFactory.newComputeOperation(compatKeyIfNeeded(key), obj2bytes(key, true),
+         functionName, obj2bytes(argument, false), lifespan, lifespanUnit, maxIdleTime, maxIdleTimeUnit);
+      return op.execute();
+   }
+
    @Override
    public CacheTopologyInfo getCacheTopologyInfo() {
       return operationsFactory.getCacheTopologyInfo();
@@ -79,6 +79,11 @@ public V put(K key, V value) {
       return put(key, value, defaultLifespan, MILLISECONDS, defaultMaxIdleTime, MILLISECONDS);
    };
 
+   @Override
+   public V compute(K key, String functionName, Object argument) {
+      return compute(key, functionName, argument, defaultLifespan, MILLISECONDS, defaultMaxIdleTime, MILLISECONDS);
+   }
+
    /**
     * This is intentionally a non-public method meant as an integration point for bytecode manipulation. Don't remove or
     * alter the signature even if it might look like unreachable code. Implementors should perform a put operation but
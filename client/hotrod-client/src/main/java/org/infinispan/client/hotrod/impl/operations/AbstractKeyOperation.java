@@ -2,15 +2,21 @@
 
 import java.net.SocketAddress;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import net.jcip.annotations.Immutable;
+import org.infinispan.client.hotrod.exceptions.RemoteIllegalLifecycleStateException;
+import org.infinispan.client.hotrod.exceptions.RemoteNodeSuspectException;
+import org.infinispan.client.hotrod.exceptions.TransportException;
 import org.infinispan.client.hotrod.impl.VersionedOperationResponse;
 import org.infinispan.client.hotrod.impl.protocol.Codec;
 import org.infinispan.client.hotrod.impl.protocol.HeaderParams;
 import org.infinispan.client.hotrod.impl.protocol.HotRodConstants;
 import org.infinispan.client.hotrod.impl.transport.Transport;
 import org.infinispan.client.hotrod.impl.transport.TransportFactory;
+import org.infinispan.client.hotrod.impl.transport.netty.MultiplexedChannelFactory;
 import org.infinispan.client.hotrod.logging.LogFactory;
 import org.jboss.logging.BasicLogger;
 
@@ -21,9 +27,10 @@
  * @since 4.1
  */
 @Immutable
-public abstract class AbstractKeyOperation<T> extends RetryOnFailureOperation<T> {
+public abstract class AbstractKeyOperation<T> extends RetryOnFailureOperation<T> implements MultiplexedOperation<T> {
 
    private static final BasicLogger log = LogFactory.getLog(AbstractKeyOperation.class);
+   private static final boolean trace = log.isTraceEnabled();
 
    protected final Object key;
    protected final byte[] keyBytes;
@@ -44,14 +51,55 @@ protected Transport getTransport(int retryCount, Set<SocketAddress> failedServer
       }
    }
 
-   protected short sendKeyOperation(byte[] key, Transport transport, byte opCode, byte opRespCode) {
-      // 1) write [header][key length][key]
-      HeaderParams params = writeHeader(transport, opCode);
-      transport.writeArray(key);
+   @Override
+   protected T executeOperation(Transport transport) {
+      HeaderParams params = writeRequest(transport);
       transport.flush();
+      return readResponse(transport, params);
+   }
 
-      // 2) now read the header
-      return readHeaderAndValidate(transport, params);
+   /**
+    * Executes this operation without blocking the caller. When a multiplexed transport is configured the request is
+    * sent over the channel shared with the other in-flight requests for the owner of the key, otherwise (or if that
+    * fails in a way that can be retried) the blocking {@link #execute()} is run on the given executor.
+    */
+   public CompletableFuture<T> executeAsync(ExecutorService executorService) {
+      MultiplexedChannelFactory channelFactory = transportFactory.getMultiplexedChannelFactory();
+      if (channelFactory == null) {
+         return CompletableFuture.supplyAsync(this::execute, executorService);
+      }
+      SocketAddress server = transportFactory.getServerAddress(key == null ? keyBytes : key, null, cacheName);
+      CompletableFuture<T> result = new CompletableFuture<>();
+      channelFactory.execute(server, this).whenComplete((value, throwable) -> {
+         if (throwable == null) {
+            result.complete(value);
+         } else if (isRetriable(throwable)) {
+            if (trace)
+               log.tracef(throwable, "Multiplexed request to %s failed, retrying with a pooled transport", server);
+            CompletableFuture.supplyAsync(this::execute, executorService).whenComplete((retried, t) -> {
+               if (t == null) {
+                  result.complete(retried);
+               } else {
+                  result.completeExceptionally(t);
+               }
+            });
+         } else {
+            result.completeExceptionally(throwable);
+         }
+      });
+      return result;
+   }
+
+   private static boolean isRetriable(Throwable t) {
+      return t instanceof TransportException || t instanceof RemoteIllegalLifecycleStateException
+            || t instanceof RemoteNodeSuspectException;
+   }
+
+   protected HeaderParams writeKeyRequest(Transport transport, short opCode) {
+      // [header][key length][key]
+      HeaderParams params = writeHeader(transport, opCode);
+      transport.writeArray(keyBytes);
+      return params;
    }
 
    protected T returnPossiblePrevValue(Transport transport, short status) {
@@ -0,0 +1,50 @@
+package org.infinispan.client.hotrod.impl.operations;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jcip.annotations.Immutable;
+
+import org.infinispan.client.hotrod.impl.protocol.Codec;
+import org.infinispan.client.hotrod.impl.protocol.HeaderParams;
+import org.infinispan.client.hotrod.impl.protocol.HotRodConstants;
+import org.infinispan.client.hotrod.impl.transport.Transport;
+import org.infinispan.client.hotrod.impl.transport.TransportFactory;
+
+/**
+ * Updates an entry by applying a function registered in the server, which returns the new value.
+ *
+ * @since 9.0
+ */
+@Immutable
+public class ComputeOperation<V> extends AbstractKeyValueOperation<V> {
+
+   private final String functionName;
+
+   public ComputeOperation(Codec codec, TransportFactory transportFactory,
+                           Object key, byte[] keyBytes, byte[] cacheName, AtomicInteger topologyId,
+                           int flags, String functionName, byte[] argument,
+                           long lifespan, TimeUnit lifespanTimeUnit, long maxIdle, TimeUnit maxIdleTimeUnit) {
+      super(codec, transportFactory, key, keyBytes, cacheName, topologyId,
+         flags, argument, lifespan, lifespanTimeUnit, maxIdle, maxIdleTimeUnit);
+      this.functionName = functionName;
+   }
+
+   //[header][key length][key][lifespan][max idle][argument length][argument][function name]
+   @Override
+   public HeaderParams writeRequest(Transport transport) {
+      HeaderParams params = writePutRequest(transport, COMPUTE_REQUEST);
+      transport.writeString(functionName);
+      return params;
+   }
+
+   @Override
+   public V readResponse(Transport transport, HeaderParams params) {
+      short status = readHeaderAndValidate(transport, params);
+      if (HotRodConstants.isSuccess(status)) {
+         return codec.readUnmarshallByteArray(transport, status);
+      }
+      // The function removed the entry
+      return null;
+   }
+}
@@ -2,6 +2,7 @@
 
 import net.jcip.annotations.Immutable;
 import org.infinispan.client.hotrod.impl.protocol.Codec;
+import org.infinispan.client.hotrod.impl.protocol.HeaderParams;
 import org.infinispan.client.hotrod.impl.protocol.HotRodConstants;
 import org.infinispan.client.hotrod.impl.transport.Transport;
 import org.infinispan.client.hotrod.impl.transport.TransportFactory;
@@ -23,9 +24,14 @@ public ContainsKeyOperation(Codec codec, TransportFactory transportFactory,
    }
 
    @Override
-   protected Boolean executeOperation(Transport transport) {
+   public HeaderParams writeRequest(Transport transport) {
+      return writeKeyRequest(transport, CONTAINS_KEY_REQUEST);
+   }
+
+   @Override
+   public Boolean readResponse(Transport transport, HeaderParams params) {
       boolean containsKey = false;
-      short status = sendKeyOperation(keyBytes, transport, CONTAINS_KEY_REQUEST, CONTAINS_KEY_RESPONSE);
+      short status = readHeaderAndValidate(transport, params);
       if (HotRodConstants.isNotExist(status)) {
          containsKey = false;
       } else if (HotRodConstants.isSuccess(status)) {
@@ -0,0 +1,26 @@
+package org.infinispan.client.hotrod.impl.operations;
+
+import org.infinispan.client.hotrod.impl.protocol.HeaderParams;
+import org.infinispan.client.hotrod.impl.transport.Transport;
+
+/**
+ * An operation whose request and response can be handled separately, so that it can share a connection with other
+ * in-flight operations. The response is matched to the request through the message id in the header.
+ *
+ * @since 9.0
+ */
+public interface MultiplexedOperation<T> {
+
+   /**
+    * Writes the request, header included, to the given transport without flushing it.
+    */
+   HeaderParams writeRequest(Transport transport);
+
+   /**
+    * Reads the response, header included, to a request previously written with {@link #writeRequest(Transport)}.
+    * Reading may fail part way through if the transport does not yet hold the whole response, so implementations
+    * must not have side effects other than those of the codec.
+    */
+   T readResponse(Transport transport, HeaderParams params);
+
+}
@@ -117,6 +117,13 @@ codec, transportFactory, key, keyBytes, cacheNameBytes, topologyId, flags(lifesp
             value, lifespan, lifespanTimeUnit, maxIdle, maxIdleTimeUnit);
    }
 
+   public <V> ComputeOperation<V> newComputeOperation(Object key, byte[] keyBytes, String functionName, byte[] argument,
+          long lifespan, TimeUnit lifespanTimeUnit, long maxIdle, TimeUnit maxIdleTimeUnit) {
+      return new ComputeOperation<V>(
+            codec, transportFactory, key, keyBytes, cacheNameBytes, topologyId, flags(lifespan, maxIdle),
+            functionName, argument, lifespan, lifespanTimeUnit, maxIdle, maxIdleTimeUnit);
+   }
+
    public PutAllParallelOperation newPutAllOperation(Map<byte[], byte[]> map,
                                                      long lifespan, TimeUnit lifespanTimeUnit, long maxIdle, TimeUnit maxIdleTimeUnit) {
       return new PutAllParallelOperation(
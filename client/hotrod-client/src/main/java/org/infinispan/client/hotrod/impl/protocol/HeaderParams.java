@@ -63,6 +63,10 @@ public HeaderParams topologyAge(int topologyAge) {
       return this;
    }
 
+   public long getMessageId() {
+      return messageId;
+   }
+
    private short toOpRespCode(short opCode) {
       switch (opCode) {
          case HotRodConstants.PUT_REQUEST:
@@ -119,6 +123,8 @@ private short toOpRespCode(short opCode) {
             return HotRodConstants.ITERATION_NEXT_RESPONSE;
          case HotRodConstants.ITERATION_END_REQUEST:
             return HotRodConstants.ITERATION_END_RESPONSE;
+         case HotRodConstants.COMPUTE_REQUEST:
+            return HotRodConstants.COMPUTE_RESPONSE;
          default:
             throw new IllegalStateException("Unknown operation code: " + opCode);
       }
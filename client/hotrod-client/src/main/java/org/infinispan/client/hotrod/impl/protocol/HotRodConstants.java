@@ -52,6 +52,7 @@ public interface HotRodConstants {
    static final byte ITERATION_START_REQUEST = 0x31;
    static final byte ITERATION_NEXT_REQUEST = 0x33;
    static final byte ITERATION_END_REQUEST = 0x35;
+   static final byte COMPUTE_REQUEST = 0x37;
 
    //responses
    static final byte PUT_RESPONSE = 0x02;
@@ -81,6 +82,7 @@ public interface HotRodConstants {
    static final byte ITERATION_START_RESPONSE = 0x32;
    static final byte ITERATION_NEXT_RESPONSE = 0x34;
    static final byte ITERATION_END_RESPONSE = 0x36;
+   static final byte COMPUTE_RESPONSE = 0x38;
    static final byte ERROR_RESPONSE = 0x50;
    static final byte CACHE_ENTRY_CREATED_EVENT_RESPONSE = 0x60;
    static final byte CACHE_ENTRY_MODIFIED_EVENT_RESPONSE = 0x61;
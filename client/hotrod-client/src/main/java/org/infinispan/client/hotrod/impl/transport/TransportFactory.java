@@ -13,6 +13,7 @@
 import org.infinispan.client.hotrod.impl.consistenthash.ConsistentHash;
 import org.infinispan.client.hotrod.impl.consistenthash.ConsistentHashFactory;
 import org.infinispan.client.hotrod.impl.protocol.Codec;
+import org.infinispan.client.hotrod.impl.transport.netty.MultiplexedChannelFactory;
 import org.infinispan.client.hotrod.impl.transport.tcp.TcpTransportFactory.ClusterSwitchStatus;
 import org.infinispan.commons.marshall.Marshaller;
 
@@ -30,6 +31,16 @@ public interface TransportFactory {
 
    SocketAddress getSocketAddress(Object key, byte[] cacheName);
 
+   /**
+    * Returns the server that owns the given key, or the next server of the balancer if the owner is not known.
+    */
+   SocketAddress getServerAddress(Object key, Set<SocketAddress> failedServers, byte[] cacheName);
+
+   /**
+    * Returns the factory of the multiplexed channels, or {@code null} if the multiplexed transport is not in use.
+    */
+   MultiplexedChannelFactory getMultiplexedChannelFactory();
+
    void releaseTransport(Transport transport);
 
    void start(Codec codec, Configuration configuration, AtomicInteger topologyId, ClientListenerNotifier listenerNotifier);
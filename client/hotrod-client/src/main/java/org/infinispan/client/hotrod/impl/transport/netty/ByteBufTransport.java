@@ -0,0 +1,159 @@
+package org.infinispan.client.hotrod.impl.transport.netty;
+
+import java.net.SocketAddress;
+
+import io.netty.buffer.ByteBuf;
+import org.infinispan.client.hotrod.impl.transport.AbstractTransport;
+import org.infinispan.client.hotrod.impl.transport.TransportFactory;
+import org.infinispan.commons.io.SignedNumeric;
+
+/**
+ * Transport writing to and reading from a Netty {@link ByteBuf}. It lets the operations and the codec encode requests
+ * and decode responses for a {@link MultiplexedChannel} without knowing about Netty.
+ * <p>
+ * Reads never block: if the buffer does not hold enough bytes yet, {@link NotEnoughDataException} is thrown and the
+ * caller is expected to reset the reader index and retry once more bytes arrived.
+ *
+ * @since 9.0
+ */
+class ByteBufTransport extends AbstractTransport {
+
+   private final SocketAddress serverAddress;
+   private ByteBuf buf;
+
+   ByteBufTransport(ByteBuf buf, TransportFactory transportFactory, SocketAddress serverAddress) {
+      super(transportFactory);
+      this.buf = buf;
+      this.serverAddress = serverAddress;
+   }
+
+   void setBuffer(ByteBuf buf) {
+      this.buf = buf;
+   }
+
+   @Override
+   protected void writeBytes(byte[] toAppend) {
+      buf.writeBytes(toAppend);
+   }
+
+   @Override
+   public void writeByte(short toWrite) {
+      buf.writeByte(toWrite);
+   }
+
+   @Override
+   public void writeVInt(int vint) {
+      while ((vint & ~0x7F) != 0) {
+         buf.writeByte((vint & 0x7F) | 0x80);
+         vint >>>= 7;
+      }
+      buf.writeByte(vint);
+   }
+
+   @Override
+   public void writeSignedVInt(int toWrite) {
+      writeVInt(SignedNumeric.encode(toWrite));
+   }
+
+   @Override
+   public void writeVLong(long l) {
+      while ((l & ~0x7F) != 0) {
+         buf.writeByte((int) ((l & 0x7F) | 0x80));
+         l >>>= 7;
+      }
+      buf.writeByte((int) l);
+   }
+
+   @Override
+   public long readVLong() {
+      byte b = readRawByte();
+      long l = b & 0x7F;
+      for (int shift = 7; (b & 0x80) != 0; shift += 7) {
+         b = readRawByte();
+         l |= (b & 0x7FL) << shift;
+      }
+      return l;
+   }
+
+   @Override
+   public int readVInt() {
+      byte b = readRawByte();
+      int i = b & 0x7F;
+      for (int shift = 7; (b & 0x80) != 0; shift += 7) {
+         b = readRawByte();
+         i |= (b & 0x7F) << shift;
+      }
+      return i;
+   }
+
+   @Override
+   public short readByte() {
+      return (short) (readRawByte() & 0xFF);
+   }
+
+   private byte readRawByte() {
+      if (!buf.isReadable()) {
+         throw NotEnoughDataException.INSTANCE;
+      }
+      return buf.readByte();
+   }
+
+   @Override
+   public byte[] readByteArray(int size) {
+      if (!buf.isReadable(size)) {
+         throw NotEnoughDataException.INSTANCE;
+      }
+      byte[] bytes = new byte[size];
+      buf.readBytes(bytes);
+      return bytes;
+   }
+
+   @Override
+   public void flush() {
+      // Written bytes are sent by the channel
+   }
+
+   @Override
+   public void release() {
+      // Nothing to release, the buffer is owned by the channel
+   }
+
+   @Override
+   public byte[] dumpStream() {
+      byte[] bytes = new byte[buf.readableBytes()];
+      buf.getBytes(buf.readerIndex(), bytes);
+      return bytes;
+   }
+
+   @Override
+   public SocketAddress getRemoteSocketAddress() {
+      return serverAddress;
+   }
+
+   @Override
+   public void invalidate() {
+      // The validity of the connection is tracked by the channel
+   }
+
+   @Override
+   public boolean isValid() {
+      return true;
+   }
+
+   @Override
+   public String toString() {
+      return "ByteBufTransport{serverAddress=" + serverAddress + '}';
+   }
+
+   /**
+    * Signals that a response could not be decoded because not all of its bytes were received yet. A single instance
+    * without stack trace is used, as this is part of the normal decoding flow.
+    */
+   static final class NotEnoughDataException extends RuntimeException {
+      static final NotEnoughDataException INSTANCE = new NotEnoughDataException();
+
+      private NotEnoughDataException() {
+         super(null, null, false, false);
+      }
+   }
+}
@@ -0,0 +1,208 @@
+package org.infinispan.client.hotrod.impl.transport.netty;
+
+import java.net.SocketAddress;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import org.infinispan.client.hotrod.exceptions.HotRodClientException;
+import org.infinispan.client.hotrod.exceptions.InvalidResponseException;
+import org.infinispan.client.hotrod.exceptions.TransportException;
+import org.infinispan.client.hotrod.impl.operations.MultiplexedOperation;
+import org.infinispan.client.hotrod.impl.protocol.HeaderParams;
+import org.infinispan.client.hotrod.impl.transport.TransportFactory;
+import org.infinispan.client.hotrod.impl.transport.netty.ByteBufTransport.NotEnoughDataException;
+import org.infinispan.client.hotrod.logging.Log;
+import org.infinispan.client.hotrod.logging.LogFactory;
+
+/**
+ * A single connection to a server shared by any number of in-flight requests. Requests are written as soon as they
+ * are issued and the responses, which the server may send in any order, are matched to them by their message id.
+ *
+ * @since 9.0
+ */
+class MultiplexedChannel {
+
+   private static final Log log = LogFactory.getLog(MultiplexedChannel.class, Log.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   private final SocketAddress server;
+   private final TransportFactory transportFactory;
+   private final ConcurrentMap<Long, Request<?>> requests = new ConcurrentHashMap<>();
+   private volatile ChannelFuture connectFuture;
+
+   MultiplexedChannel(SocketAddress server, TransportFactory transportFactory) {
+      this.server = server;
+      this.transportFactory = transportFactory;
+   }
+
+   void setConnectFuture(ChannelFuture connectFuture) {
+      this.connectFuture = connectFuture;
+      connectFuture.addListener(f -> {
+         if (!f.isSuccess()) {
+            failAll(new TransportException("Could not connect to server: " + server, f.cause(), server));
+         }
+      });
+   }
+
+   SocketAddress getServer() {
+      return server;
+   }
+
+   /**
+    * A channel that is still connecting or is connected can take new requests.
+    */
+   boolean isUsable() {
+      ChannelFuture future = connectFuture;
+      return !future.isDone() || future.channel().isActive();
+   }
+
+   <T> CompletableFuture<T> execute(MultiplexedOperation<T> operation) {
+      Request<T> request = new Request<>(operation);
+      if (connectFuture.isDone()) {
+         write(request);
+      } else {
+         connectFuture.addListener(f -> write(request));
+      }
+      return request;
+   }
+
+   private <T> void write(Request<T> request) {
+      if (!connectFuture.isSuccess()) {
+         request.completeExceptionally(new TransportException("Could not connect to server: " + server,
+               connectFuture.cause(), server));
+         return;
+      }
+      Channel channel = connectFuture.channel();
+      ByteBuf buf = channel.alloc().buffer();
+      try {
+         request.params = request.operation.writeRequest(new ByteBufTransport(buf, transportFactory, server));
+      } catch (Throwable t) {
+         buf.release();
+         request.completeExceptionally(t);
+         return;
+      }
+      long messageId = request.params.getMessageId();
+      requests.put(messageId, request);
+      if (!channel.isActive()) {
+         // The channel might have been closed before the request was registered, so nobody else would fail it
+         buf.release();
+         fail(messageId, new TransportException("Connection to server was closed", server));
+         return;
+      }
+      int soTimeout = transportFactory.getSoTimeout();
+      if (soTimeout > 0) {
+         request.timeout = channel.eventLoop().schedule(() -> {
+            // The request stays registered, so that a late response can still be read and skipped
+            request.completeExceptionally(new TransportException(String.format(
+                  "Request with messageId=%d timed out after %d ms", messageId, soTimeout), server));
+         }, soTimeout, TimeUnit.MILLISECONDS);
+      }
+      channel.writeAndFlush(buf).addListener(f -> {
+         if (!f.isSuccess()) {
+            fail(messageId, new TransportException(f.cause(), server));
+         }
+      });
+   }
+
+   /**
+    * Decodes the response with the given message id from the transport. It is the caller's responsibility to reset the
+    * reader index if {@link NotEnoughDataException} is thrown.
+    */
+   void readResponse(long messageId, ByteBufTransport transport) {
+      Request<?> request = requests.get(messageId);
+      if (request == null) {
+         log.unknownMultiplexedResponse(server, messageId);
+         close();
+         return;
+      }
+      request.readResponse(transport);
+      requests.remove(messageId);
+   }
+
+   private void fail(long messageId, Throwable t) {
+      Request<?> request = requests.remove(messageId);
+      if (request != null) {
+         request.cancelTimeout();
+         request.completeExceptionally(t);
+      }
+   }
+
+   void failAll(Throwable t) {
+      for (Iterator<Request<?>> it = requests.values().iterator(); it.hasNext(); ) {
+         Request<?> request = it.next();
+         it.remove();
+         request.cancelTimeout();
+         request.completeExceptionally(t);
+      }
+   }
+
+   void close() {
+      ChannelFuture future = connectFuture;
+      if (future != null) {
+         future.channel().close();
+      }
+   }
+
+   @Override
+   public String toString() {
+      return "MultiplexedChannel{server=" + server + ", inFlight=" + requests.size() + '}';
+   }
+
+   private final class Request<T> extends CompletableFuture<T> {
+      final MultiplexedOperation<T> operation;
+      HeaderParams params;
+      volatile ScheduledFuture<?> timeout;
+
+      Request(MultiplexedOperation<T> operation) {
+         this.operation = operation;
+      }
+
+      void readResponse(ByteBufTransport transport) {
+         T result;
+         try {
+            result = operation.readResponse(transport, params);
+         } catch (NotEnoughDataException e) {
+            throw e;
+         } catch (InvalidResponseException e) {
+            // The rest of the response has not been read, so the stream cannot be trusted anymore
+            completeResponse(null, e);
+            close();
+            return;
+         } catch (HotRodClientException e) {
+            // Error responses are read in full before being reported
+            completeResponse(null, e);
+            return;
+         } catch (Throwable t) {
+            completeResponse(null, t);
+            close();
+            return;
+         }
+         completeResponse(result, null);
+      }
+
+      private void completeResponse(T result, Throwable t) {
+         cancelTimeout();
+         if (trace)
+            log.tracef("Received response for messageId=%d from %s", params.getMessageId(), server);
+         if (t == null) {
+            complete(result);
+         } else {
+            completeExceptionally(t);
+         }
+      }
+
+      void cancelTimeout() {
+         ScheduledFuture<?> timeout = this.timeout;
+         if (timeout != null) {
+            timeout.cancel(false);
+         }
+      }
+   }
+}
@@ -0,0 +1,73 @@
+package org.infinispan.client.hotrod.impl.transport.netty;
+
+import java.net.SocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.infinispan.client.hotrod.impl.operations.MultiplexedOperation;
+import org.infinispan.client.hotrod.impl.transport.TransportFactory;
+import org.infinispan.client.hotrod.logging.Log;
+import org.infinispan.client.hotrod.logging.LogFactory;
+
+/**
+ * Keeps one {@link MultiplexedChannel} per server and sends {@link MultiplexedOperation}s over them without blocking
+ * the caller. Connections are opened lazily on first use and reopened if they get closed.
+ *
+ * @since 9.0
+ */
+public class MultiplexedChannelFactory {
+
+   private static final Log log = LogFactory.getLog(MultiplexedChannelFactory.class, Log.class);
+
+   private final TransportFactory transportFactory;
+   private final EventLoopGroup eventLoopGroup;
+   private final Bootstrap bootstrap;
+   private final ConcurrentMap<SocketAddress, MultiplexedChannel> channels = new ConcurrentHashMap<>();
+
+   public MultiplexedChannelFactory(TransportFactory transportFactory) {
+      this.transportFactory = transportFactory;
+      this.eventLoopGroup = new NioEventLoopGroup(0, new DefaultThreadFactory("HotRod-client-multiplexed", true));
+      this.bootstrap = new Bootstrap()
+            .group(eventLoopGroup)
+            .channel(NioSocketChannel.class)
+            .option(ChannelOption.TCP_NODELAY, transportFactory.isTcpNoDelay())
+            .option(ChannelOption.SO_KEEPALIVE, transportFactory.isTcpKeepAlive())
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, transportFactory.getConnectTimeout());
+   }
+
+   public <T> CompletableFuture<T> execute(SocketAddress server, MultiplexedOperation<T> operation) {
+      return getChannel(server).execute(operation);
+   }
+
+   private MultiplexedChannel getChannel(SocketAddress server) {
+      MultiplexedChannel channel = channels.get(server);
+      if (channel != null && channel.isUsable()) {
+         return channel;
+      }
+      return channels.compute(server, (address, existing) ->
+            existing != null && existing.isUsable() ? existing : connect(address));
+   }
+
+   private MultiplexedChannel connect(SocketAddress server) {
+      log.debugf("Opening multiplexed channel to %s", server);
+      MultiplexedChannel channel = new MultiplexedChannel(server, transportFactory);
+      channel.setConnectFuture(bootstrap.clone()
+            .handler(new ResponseDecoder(channel, transportFactory))
+            .connect(server));
+      return channel;
+   }
+
+   public void stop() {
+      channels.values().forEach(MultiplexedChannel::close);
+      channels.clear();
+      eventLoopGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS);
+   }
+}
@@ -0,0 +1,65 @@
+package org.infinispan.client.hotrod.impl.transport.netty;
+
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import org.infinispan.client.hotrod.exceptions.TransportException;
+import org.infinispan.client.hotrod.impl.transport.TransportFactory;
+import org.infinispan.client.hotrod.impl.transport.netty.ByteBufTransport.NotEnoughDataException;
+
+/**
+ * Decodes the responses received by a {@link MultiplexedChannel}.
+ * <p>
+ * Hot Rod responses are not length prefixed, so the only way to find out where one ends is to decode it. The message
+ * id is peeked from the header to find the request the response belongs to, and that request's operation decodes the
+ * whole response. If the bytes received so far are not enough, decoding is attempted again from the start of the
+ * response when more bytes arrive.
+ *
+ * @since 9.0
+ */
+class ResponseDecoder extends ByteToMessageDecoder {
+
+   private final MultiplexedChannel channel;
+   private final ByteBufTransport transport;
+
+   ResponseDecoder(MultiplexedChannel channel, TransportFactory transportFactory) {
+      this.channel = channel;
+      this.transport = new ByteBufTransport(null, transportFactory, channel.getServer());
+   }
+
+   @Override
+   protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+      if (!ctx.channel().isActive()) {
+         // The channel was closed because the stream could not be trusted anymore
+         in.skipBytes(in.readableBytes());
+         return;
+      }
+      transport.setBuffer(in);
+      int start = in.readerIndex();
+      try {
+         // Magic | Message Id
+         transport.readByte();
+         long messageId = transport.readVLong();
+         in.readerIndex(start);
+         channel.readResponse(messageId, transport);
+      } catch (NotEnoughDataException e) {
+         in.readerIndex(start);
+      } finally {
+         transport.setBuffer(null);
+      }
+   }
+
+   @Override
+   public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+      channel.failAll(new TransportException("Connection to server was closed", channel.getServer()));
+      super.channelInactive(ctx);
+   }
+
+   @Override
+   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+      channel.failAll(new TransportException(cause, channel.getServer()));
+      ctx.close();
+   }
+}
@@ -34,6 +34,7 @@
 import org.infinispan.client.hotrod.impl.protocol.HotRodConstants;
 import org.infinispan.client.hotrod.impl.transport.Transport;
 import org.infinispan.client.hotrod.impl.transport.TransportFactory;
+import org.infinispan.client.hotrod.impl.transport.netty.MultiplexedChannelFactory;
 import org.infinispan.client.hotrod.logging.Log;
 import org.infinispan.client.hotrod.logging.LogFactory;
 import org.infinispan.commons.equivalence.AnyEquivalence;
@@ -73,6 +74,7 @@ public class TcpTransportFactory implements TransportFactory {
    private volatile int maxRetries;
    private volatile SSLContext sslContext;
    private volatile ClientListenerNotifier listenerNotifier;
+   private volatile MultiplexedChannelFactory multiplexedChannelFactory;
    @GuardedBy("lock")
    private volatile TopologyInfo topologyInfo;
 
@@ -145,6 +147,13 @@ public void start(Codec codec, Configuration configuration, AtomicInteger defaul
          createAndPreparePool(poolFactory);
          balancers = CollectionFactory.makeMap(ByteArrayEquivalence.INSTANCE, AnyEquivalence.getInstance());
          addBalancer(RemoteCacheManager.cacheNameBytes());
+         if (configuration.multiplexedTransport()) {
+            if (sslContext != null || configuration.security().authentication().enabled()) {
+               log.multiplexedTransportNotSupportedWithSecurity();
+            } else {
+               multiplexedChannelFactory = new MultiplexedChannelFactory(this);
+            }
+         }
 
          pingServersIgnoreException();
       }
@@ -199,6 +208,10 @@ private void createAndPreparePool(PropsKeyedObjectPoolFactory<SocketAddress, Tcp
    @Override
    public void destroy() {
       synchronized (lock) {
+         if (multiplexedChannelFactory != null) {
+            multiplexedChannelFactory.stop();
+            multiplexedChannelFactory = null;
+         }
          connectionPool.clear();
          try {
             connectionPool.close();
@@ -269,13 +282,21 @@ public SocketAddress getSocketAddress(Object key, byte[] cacheName) {
       return topologyInfo.getHashAwareServer(key, cacheName).orElse(null);
    }
 
-   public Transport getTransport(Object key, Set<SocketAddress> failedServers, byte[] cacheName) {
-      SocketAddress server;
+   @Override
+   public SocketAddress getServerAddress(Object key, Set<SocketAddress> failedServers, byte[] cacheName) {
       synchronized (lock) {
          Optional<SocketAddress> hashAwareServer = topologyInfo.getHashAwareServer(key, cacheName);
-         server = hashAwareServer.orElse(getNextServer(failedServers, cacheName));
+         return hashAwareServer.orElse(getNextServer(failedServers, cacheName));
       }
-      return borrowTransportFromPool(server);
+   }
+
+   public Transport getTransport(Object key, Set<SocketAddress> failedServers, byte[] cacheName) {
+      return borrowTransportFromPool(getServerAddress(key, failedServers, cacheName));
+   }
+
+   @Override
+   public MultiplexedChannelFactory getMultiplexedChannelFactory() {
+      return multiplexedChannelFactory;
    }
 
    @Override
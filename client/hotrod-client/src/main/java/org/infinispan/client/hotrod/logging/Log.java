@@ -245,4 +245,12 @@ public interface Log extends BasicLogger {
    @Message(value = "Classpath does not look correct. Make sure you are not mixing uber and jars", id = 4065)
    void warnAboutUberJarDuplicates();
 
+   @LogMessage(level = WARN)
+   @Message(value = "The multiplexed transport cannot be used together with SSL or authentication, asynchronous operations will use pooled connections", id = 4066)
+   void multiplexedTransportNotSupportedWithSecurity();
+
+   @LogMessage(level = WARN)
+   @Message(value = "Closing multiplexed channel to %s after receiving a response with unknown message id %d", id = 4067)
+   void unknownMultiplexedResponse(SocketAddress server, long messageId);
+
 }
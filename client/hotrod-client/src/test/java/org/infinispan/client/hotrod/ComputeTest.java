@@ -0,0 +1,110 @@
+package org.infinispan.client.hotrod;
+
+import static org.infinispan.server.hotrod.test.HotRodTestingUtil.hotRodCacheConfiguration;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.client.hotrod.exceptions.HotRodClientException;
+import org.infinispan.client.hotrod.test.MultiHotRodServersTest;
+import org.infinispan.commons.marshall.jboss.GenericJBossMarshaller;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.server.hotrod.HotRodServer;
+import org.infinispan.server.hotrod.ServerComputeFunction;
+import org.testng.annotations.Test;
+
+/**
+ * Tests updating entries with functions registered in the servers.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "client.hotrod.ComputeTest")
+public class ComputeTest extends MultiHotRodServersTest {
+
+   private static final int NUM_SERVERS = 3;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      createHotRodServers(NUM_SERVERS, hotRodCacheConfiguration(getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false)));
+      for (HotRodServer server : servers) {
+         server.addComputeFunction("add", new AddFunction());
+         server.addComputeFunction("remove", (key, currentValue, argument) -> null);
+      }
+   }
+
+   public void testComputeAbsentEntry() {
+      RemoteCache<String, Long> cache = client(0).getCache();
+      assertEquals(5L, (long) cache.compute("absent", "add", 5L));
+      assertEquals(5L, (long) client(1).<String, Long>getCache().get("absent"));
+   }
+
+   public void testComputeRemovesEntry() {
+      RemoteCache<String, Long> cache = client(0).getCache();
+      cache.put("removed", 1L);
+      assertNull(cache.compute("removed", "remove", 0L));
+      assertFalse(client(1).getCache().containsKey("removed"));
+   }
+
+   public void testComputeKeepsVersioning() {
+      RemoteCache<String, Long> cache = client(0).getCache();
+      cache.compute("versioned", "add", 1L);
+      long version = cache.getWithMetadata("versioned").getVersion();
+      cache.compute("versioned", "add", 1L);
+      long newVersion = cache.getWithMetadata("versioned").getVersion();
+      assertFalse(version == newVersion);
+      assertFalse(cache.replaceWithVersion("versioned", 0L, version));
+      assertEquals(2L, (long) cache.get("versioned"));
+   }
+
+   public void testComputeWithLifespan() {
+      RemoteCache<String, Long> cache = client(0).getCache();
+      cache.compute("mortal", "add", 1L, 10, TimeUnit.MINUTES, -1, TimeUnit.SECONDS);
+      assertEquals(TimeUnit.MINUTES.toSeconds(10), cache.getWithMetadata("mortal").getLifespan());
+   }
+
+   public void testConcurrentComputeOnSameKey() throws Exception {
+      int threads = 10;
+      int increments = 50;
+      List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+         RemoteCache<String, Long> cache = client(i % NUM_SERVERS).getCache();
+         futures.add(fork((Callable<Void>) () -> {
+            for (int j = 0; j < increments; j++) {
+               cache.compute("counter", "add", 1L);
+            }
+            return null;
+         }));
+      }
+      for (Future<Void> future : futures) {
+         future.get(30, TimeUnit.SECONDS);
+      }
+      assertEquals(threads * increments, (long) client(0).<String, Long>getCache().get("counter"));
+   }
+
+   @Test(expectedExceptions = HotRodClientException.class, expectedExceptionsMessageRegExp = ".*Compute function 'nonExistent' not found.*")
+   public void testMissingFunction() {
+      client(0).getCache().compute("key", "nonExistent", 1L);
+   }
+
+   /**
+    * Adds the argument to the current value, both marshalled by the client as longs.
+    */
+   static class AddFunction implements ServerComputeFunction {
+      @Override
+      public byte[] apply(byte[] key, byte[] currentValue, byte[] argument) {
+         GenericJBossMarshaller marshaller = new GenericJBossMarshaller();
+         try {
+            long current = currentValue == null ? 0 : (Long) marshaller.objectFromByteBuffer(currentValue);
+            return marshaller.objectToByteBuffer(current + (Long) marshaller.objectFromByteBuffer(argument));
+         } catch (Exception e) {
+            throw new IllegalStateException(e);
+         }
+      }
+   }
+}
@@ -0,0 +1,62 @@
+package org.infinispan.client.hotrod;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.client.hotrod.configuration.ConfigurationBuilder;
+import org.infinispan.client.hotrod.test.InternalRemoteCacheManager;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the asynchronous API tests over the multiplexed transport.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "client.hotrod.RemoteAsyncMultiplexedAPITest")
+public class RemoteAsyncMultiplexedAPITest extends RemoteAsyncAPITest {
+
+   @Override
+   protected RemoteCacheManager getRemoteCacheManager() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.forceReturnValues(isForceReturnValuesViaConfiguration());
+      builder.multiplexedTransport(true);
+      builder.addServer().host("127.0.0.1").port(hotrodServer.getPort());
+      return new InternalRemoteCacheManager(builder.build());
+   }
+
+   public void testMultiplexedTransportInUse() {
+      assertNotNull(((InternalRemoteCacheManager) remoteCacheManager).getTransportFactory().getMultiplexedChannelFactory());
+   }
+
+   public void testManyConcurrentRequests() throws Exception {
+      int count = 1000;
+      List<CompletableFuture<String>> puts = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+         puts.add(remote().putAsync("k" + i, "v" + i));
+      }
+      CompletableFuture.allOf(puts.toArray(new CompletableFuture[count])).get(30, TimeUnit.SECONDS);
+
+      List<CompletableFuture<String>> gets = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+         gets.add(remote().getAsync("k" + i));
+      }
+      for (int i = 0; i < count; i++) {
+         assertEquals("v" + i, gets.get(i).get(30, TimeUnit.SECONDS));
+      }
+   }
+
+   public void testLargeValue() throws Exception {
+      StringBuilder sb = new StringBuilder();
+      for (int i = 0; i < 100000; i++) {
+         sb.append((char) ('a' + i % 26));
+      }
+      String value = sb.toString();
+      remote().putAsync("large", value).get(30, TimeUnit.SECONDS);
+      assertEquals(value, remote().getAsync("large").get(30, TimeUnit.SECONDS));
+   }
+}
@@ -81,6 +81,7 @@
 import org.infinispan.util.concurrent.locks.LockManager;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
+import org.jboss.logging.NDC;
 
 import javax.transaction.InvalidTransactionException;
 import javax.transaction.SystemException;
@@ -1586,6 +1587,17 @@ CompletableFuture<V> getAsync(final K key, final long explicitFlags, final Class
       // Optimization to not start a new thread only when the operation is cheap:
       if (asyncSkipsThread(explicitFlags, key)) {
          return wrapInFuture(get(key, explicitFlags, explicitClassLoader));
+      } else if (asyncReadSkipsThread()) {
+         // The remote get doesn't block, so the future completes when the response is received
+         assertKeyNotNull(key);
+         InvocationContext ctx = getInvocationContextForRead(explicitClassLoader, 1);
+         GetKeyValueCommand command = commandsFactory.buildGetKeyValueCommand(key, explicitFlags);
+         int ndcDepth = NDC.getDepth();
+         CompletableFuture<V> future = (CompletableFuture<V>) invoker.invokeAsync(ctx, command);
+         // The return handlers may run on another thread, so they can't clean up the NDC and the context of this one
+         NDC.setMaxDepth(ndcDepth);
+         icc.clearThreadLocal();
+         return future;
       } else {
          return CompletableFuture.supplyAsync(() -> get(key, explicitFlags, explicitClassLoader), asyncExecutor);
       }
@@ -1634,6 +1646,19 @@ private boolean asyncSkipsThread(long flags, K key) {
       return distributionManager.getLocality(key).isLocal();
    }
 
+   /**
+    * Encodes the cases in which no interceptor blocks while reading a key, so that an asyncGet operation can walk the
+    * interceptor chain without a thread of its own.
+    *
+    * @return true if the chain completes the read asynchronously
+    */
+   private boolean asyncReadSkipsThread() {
+      return config.clustering().cacheMode().isDistributed()
+            && !config.transaction().transactionMode().isTransactional()
+            && !config.persistence().usingStores()
+            && !config.clustering().l1().enabled();
+   }
+
    private boolean isSkipLoader(EnumSet<Flag> flags) {
       boolean hasCacheLoaderConfig = !config.persistence().stores().isEmpty();
       return !hasCacheLoaderConfig
@@ -105,13 +105,7 @@ public Map<K, V> getAll(Set<?> keys) {
          for (V value : map.values()) {
             if (value != null) hits++;
          }
-         int misses = requests - hits;
-         if (hits > 0) {
-            statsCollector.recordHits(hits, hits * (end - start) / requests);
-         }
-         if (misses > 0) {
-            statsCollector.recordMisses(misses, misses * (end - start) / requests);
-         }
+         statsCollector.recordReads(hits, requests - hits, end - start);
       }
       return map;
    }
@@ -131,13 +125,7 @@ public Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys) {
          for (CacheEntry<K, V> entry : map.values()) {
             if (entry != null && entry.getValue() != null) hits++;
          }
-         int misses = requests - hits;
-         if (hits > 0) {
-            statsCollector.recordHits(hits, hits * (end - start) / requests);
-         }
-         if (misses > 0) {
-            statsCollector.recordMisses(misses, misses * (end - start) / requests);
-         }
+         statsCollector.recordReads(hits, requests - hits, end - start);
       }
       return map;
    }
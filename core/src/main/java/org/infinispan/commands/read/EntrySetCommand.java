@@ -23,6 +23,9 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Command implementation for {@link java.util.Map#entrySet()} functionality.
@@ -131,16 +134,25 @@ private ConsistentHash getConsistentHash(Cache<K, V> cache) {
          return null;
       }
 
+      private Stream<CacheEntry<K, V>> segmentStream(ConsistentHash ch, Set<Integer> segments) {
+         DataContainer<K, V> dc = cache.getAdvancedCache().getDataContainer();
+         Iterator<CacheEntry<K, V>> iterator = new DataContainerRemoveIterator<>(cache, dc.iterator(segments, ch::getSegment));
+         return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                 Spliterator.CONCURRENT | Spliterator.NONNULL | Spliterator.DISTINCT), false);
+      }
+
       @Override
       public CacheStream<CacheEntry<K, V>> stream() {
-         return new LocalCacheStream<>(new EntryStreamSupplier<>(cache, getConsistentHash(cache),
-                 () -> super.stream()), false, cache.getAdvancedCache().getComponentRegistry());
+         ConsistentHash ch = getConsistentHash(cache);
+         return new LocalCacheStream<>(new EntryStreamSupplier<>(cache, ch, () -> super.stream(),
+                 segments -> segmentStream(ch, segments)), false, cache.getAdvancedCache().getComponentRegistry());
       }
 
       @Override
       public CacheStream<CacheEntry<K, V>> parallelStream() {
-         return new LocalCacheStream<>(new EntryStreamSupplier<>(cache, getConsistentHash(cache),
-                 () -> super.stream()), true, cache.getAdvancedCache().getComponentRegistry());
+         ConsistentHash ch = getConsistentHash(cache);
+         return new LocalCacheStream<>(new EntryStreamSupplier<>(cache, ch, () -> super.stream(),
+                 segments -> segmentStream(ch, segments)), true, cache.getAdvancedCache().getComponentRegistry());
       }
    }
 
@@ -13,6 +13,7 @@
 import org.infinispan.context.Flag;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.stream.impl.local.KeyStreamSupplier;
 import org.infinispan.stream.impl.local.LocalCacheStream;
 import org.infinispan.util.DataContainerRemoveIterator;
@@ -21,6 +22,7 @@
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -98,19 +100,29 @@ public boolean remove(Object o) {
          return cache.remove(o) != null;
       }
 
+      private Stream<K> segmentStream(ConsistentHash ch, Set<Integer> segments) {
+         DataContainer<K, V> dc = cache.getAdvancedCache().getDataContainer();
+         Iterator<K> iterator = new EntryToKeyIterator<>(new DataContainerRemoveIterator<>(cache,
+                 dc.iterator(segments, ch::getSegment)));
+         return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                 Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+      }
+
       @Override
       public CacheStream<K> stream() {
          DistributionManager dm = cache.getAdvancedCache().getDistributionManager();
-         return new LocalCacheStream<>(new KeyStreamSupplier<>(cache, dm != null ? dm.getConsistentHash() : null,
-                 () -> StreamSupport.stream(spliterator(), false)), false,
+         ConsistentHash ch = dm != null ? dm.getConsistentHash() : null;
+         return new LocalCacheStream<>(new KeyStreamSupplier<>(cache, ch,
+                 () -> StreamSupport.stream(spliterator(), false), segments -> segmentStream(ch, segments)), false,
                  cache.getAdvancedCache().getComponentRegistry());
       }
 
       @Override
       public CacheStream<K> parallelStream() {
          DistributionManager dm = cache.getAdvancedCache().getDistributionManager();
-         return new LocalCacheStream<>(new KeyStreamSupplier<>(cache, dm != null ? dm.getConsistentHash() : null,
-                 () -> StreamSupport.stream(spliterator(), false)), true,
+         ConsistentHash ch = dm != null ? dm.getConsistentHash() : null;
+         return new LocalCacheStream<>(new KeyStreamSupplier<>(cache, ch,
+                 () -> StreamSupport.stream(spliterator(), false), segments -> segmentStream(ch, segments)), true,
                  cache.getAdvancedCache().getComponentRegistry());
       }
    }
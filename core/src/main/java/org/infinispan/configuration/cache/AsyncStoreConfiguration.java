@@ -15,14 +15,19 @@ public class AsyncStoreConfiguration {
    public static final AttributeDefinition<Boolean> ENABLED = AttributeDefinition.builder("enabled", false).immutable().build();
    public static final AttributeDefinition<Integer> MODIFICATION_QUEUE_SIZE  = AttributeDefinition.builder("modificationQueueSize", 1024).immutable().build();
    public static final AttributeDefinition<Integer> THREAD_POOL_SIZE = AttributeDefinition.builder("threadPoolSize", 1).immutable().build();
+   public static final AttributeDefinition<Long> FLUSH_INTERVAL = AttributeDefinition.builder("flushInterval", 0L).immutable().build();
+   public static final AttributeDefinition<Long> MODIFICATION_QUEUE_MEMORY = AttributeDefinition.builder("modificationQueueMemory", 0L).immutable().build();
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(AsyncStoreConfiguration.class, ENABLED, MODIFICATION_QUEUE_SIZE, THREAD_POOL_SIZE);
+      return new AttributeSet(AsyncStoreConfiguration.class, ENABLED, MODIFICATION_QUEUE_SIZE, THREAD_POOL_SIZE,
+            FLUSH_INTERVAL, MODIFICATION_QUEUE_MEMORY);
    }
 
    private final Attribute<Boolean> enabled;
    private final Attribute<Integer> modificationQueueSize;
    private final Attribute<Integer> threadPoolSize;
+   private final Attribute<Long> flushInterval;
+   private final Attribute<Long> modificationQueueMemory;
 
    private final AttributeSet attributes;
 
@@ -31,6 +36,8 @@ static AttributeSet attributeDefinitionSet() {
       enabled = attributes.attribute(ENABLED);
       modificationQueueSize = attributes.attribute(MODIFICATION_QUEUE_SIZE);
       threadPoolSize = attributes.attribute(THREAD_POOL_SIZE);
+      flushInterval = attributes.attribute(FLUSH_INTERVAL);
+      modificationQueueMemory = attributes.attribute(MODIFICATION_QUEUE_MEMORY);
    }
 
    /**
@@ -89,6 +96,24 @@ public int threadPoolSize() {
       return threadPoolSize.get();
    }
 
+   /**
+    * The maximum time, in milliseconds, the modifications wait in the queue so that more of them are coalesced and
+    * written in the same batch. The queue is flushed earlier when it is full. If 0, the modifications are flushed as
+    * soon as the previous batch has been handed over to the store.
+    */
+   public long flushInterval() {
+      return flushInterval.get();
+   }
+
+   /**
+    * The maximum size, in bytes, of the marshalled entries held by the modification queue, including the ones being
+    * written to the store. When it's reached, writers block until the store catches up. If 0, only the number of
+    * modifications is bounded, by {@link #modificationQueueSize()}.
+    */
+   public long modificationQueueMemory() {
+      return modificationQueueMemory.get();
+   }
+
    public AttributeSet attributes() {
       return attributes;
    }
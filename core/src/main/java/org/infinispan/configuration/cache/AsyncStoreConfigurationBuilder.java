@@ -7,6 +7,8 @@
 import org.infinispan.commons.configuration.Builder;
 import org.infinispan.commons.configuration.attributes.AttributeSet;
 import org.infinispan.configuration.global.GlobalConfiguration;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
 
 /**
  * Configuration for the async cache store. If enabled, this provides you with asynchronous writes
@@ -16,6 +18,7 @@
  *
  */
 public class AsyncStoreConfigurationBuilder<S> extends AbstractStoreConfigurationChildBuilder<S> implements Builder<AsyncStoreConfiguration> {
+   private static final Log log = LogFactory.getLog(AsyncStoreConfigurationBuilder.class, Log.class);
    private final AttributeSet attributes;
 
    AsyncStoreConfigurationBuilder(AbstractStoreConfigurationBuilder<? extends AbstractStoreConfiguration, ?> builder) {
@@ -92,9 +95,40 @@ public AsyncStoreConfigurationBuilder<S> threadPoolSize(int i) {
       return this;
    }
 
+   /**
+    * The maximum time, in milliseconds, the modifications wait in the queue so that more of them are coalesced and
+    * written in the same batch. The queue is flushed earlier when it is full. Defaults to 0, i.e. the modifications
+    * are flushed as soon as the previous batch has been handed over to the store.
+    */
+   public AsyncStoreConfigurationBuilder<S> flushInterval(long l) {
+      attributes.attribute(FLUSH_INTERVAL).set(l);
+      return this;
+   }
+
+   /**
+    * The maximum time the modifications wait in the queue before they are flushed.
+    */
+   public AsyncStoreConfigurationBuilder<S> flushInterval(long l, TimeUnit unit) {
+      return flushInterval(unit.toMillis(l));
+   }
+
+   /**
+    * The maximum size, in bytes, of the marshalled entries held by the modification queue, including the ones being
+    * written to the store. When it's reached, writers block until the store catches up. Defaults to 0, i.e. only
+    * the number of modifications is bounded.
+    */
+   public AsyncStoreConfigurationBuilder<S> modificationQueueMemory(long bytes) {
+      attributes.attribute(MODIFICATION_QUEUE_MEMORY).set(bytes);
+      return this;
+   }
+
    @Override
    public
    void validate() {
+      long flushInterval = attributes.attribute(FLUSH_INTERVAL).get();
+      long modificationQueueMemory = attributes.attribute(MODIFICATION_QUEUE_MEMORY).get();
+      if (flushInterval < 0 || modificationQueueMemory < 0)
+         throw log.invalidAsyncStoreFlushing(flushInterval, modificationQueueMemory);
    }
 
    @Override
@@ -16,9 +16,11 @@ public class BackupConfiguration {
    public static final AttributeDefinition<String> FAILURE_POLICY_CLASS = AttributeDefinition.builder("failurePolicyClass", null, String.class).immutable().build();
    public static final AttributeDefinition<Boolean> USE_TWO_PHASE_COMMIT = AttributeDefinition.builder("useTwoPhaseCommit", false).immutable().build();
    public static final AttributeDefinition<Boolean> ENABLED = AttributeDefinition.builder("enabled", true).immutable().build();
+   public static final AttributeDefinition<Long> COALESCE_WINDOW = AttributeDefinition.builder("coalesceWindow", 0L).immutable().build();
+   public static final AttributeDefinition<Integer> COALESCE_MAX_KEYS = AttributeDefinition.builder("coalesceMaxKeys", 10000).immutable().build();
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(BackupConfiguration.class, SITE, STRATEGY, REPLICATION_TIMEOUT, FAILURE_POLICY,  FAILURE_POLICY_CLASS, USE_TWO_PHASE_COMMIT, ENABLED);
+      return new AttributeSet(BackupConfiguration.class, SITE, STRATEGY, REPLICATION_TIMEOUT, FAILURE_POLICY,  FAILURE_POLICY_CLASS, USE_TWO_PHASE_COMMIT, ENABLED, COALESCE_WINDOW, COALESCE_MAX_KEYS);
    }
 
    private final Attribute<String> site;
@@ -28,6 +30,8 @@ static AttributeSet attributeDefinitionSet() {
    private final Attribute<String> failurePolicyClass;
    private final Attribute<Boolean> useTwoPhaseCommit;
    private final Attribute<Boolean> enabled;
+   private final Attribute<Long> coalesceWindow;
+   private final Attribute<Integer> coalesceMaxKeys;
    private final AttributeSet attributes;
    private final TakeOfflineConfiguration takeOfflineConfiguration;
    private final XSiteStateTransferConfiguration xSiteStateTransferConfiguration ;
@@ -43,6 +47,8 @@ public BackupConfiguration(AttributeSet attributes, TakeOfflineConfiguration tak
       this.failurePolicyClass = attributes.attribute(FAILURE_POLICY_CLASS);
       this.useTwoPhaseCommit = attributes.attribute(USE_TWO_PHASE_COMMIT);
       this.enabled = attributes.attribute(ENABLED);
+      this.coalesceWindow = attributes.attribute(COALESCE_WINDOW);
+      this.coalesceMaxKeys = attributes.attribute(COALESCE_MAX_KEYS);
    }
 
    /**
@@ -103,6 +109,27 @@ public boolean enabled() {
       return enabled.get();
    }
 
+   /**
+    * @see BackupConfigurationBuilder#coalesceWindow(long)
+    */
+   public long coalesceWindow() {
+      return coalesceWindow.get();
+   }
+
+   /**
+    * @see BackupConfigurationBuilder#coalesceMaxKeys(int)
+    */
+   public int coalesceMaxKeys() {
+      return coalesceMaxKeys.get();
+   }
+
+   /**
+    * Whether the writes backed up to this site are buffered and sent in batches.
+    */
+   public boolean isCoalescing() {
+      return coalesceWindow() > 0;
+   }
+
    public XSiteStateTransferConfiguration stateTransfer() {
       return xSiteStateTransferConfiguration;
    }
@@ -114,6 +114,25 @@ public BackupConfigurationBuilder enabled(boolean isEnabled) {
       return this;
    }
 
+   /**
+    * Enables coalescing for an asynchronous backup: the writes are buffered for up to this many milliseconds, only the
+    * last write of each key is kept, and the buffered writes are sent to the site in a single command. Defaults to 0,
+    * which sends every write to the site as soon as it is applied locally.
+    */
+   public BackupConfigurationBuilder coalesceWindow(long coalesceWindow) {
+      attributes.attribute(COALESCE_WINDOW).set(coalesceWindow);
+      return this;
+   }
+
+   /**
+    * The maximum number of keys buffered by a coalescing backup. When it is reached, the buffered writes are sent by
+    * the thread doing the write, which slows down the writers if the site can't keep up. Defaults to 10000.
+    */
+   public BackupConfigurationBuilder coalesceMaxKeys(int coalesceMaxKeys) {
+      attributes.attribute(COALESCE_MAX_KEYS).set(coalesceMaxKeys);
+      return this;
+   }
+
    public XSiteStateTransferConfigurationBuilder stateTransfer() {
       return this.stateTransferBuilder;
    }
@@ -130,6 +149,14 @@ public void validate() {
       if (attributes.attribute(USE_TWO_PHASE_COMMIT).get() && attributes.attribute(STRATEGY).get() == BackupConfiguration.BackupStrategy.ASYNC) {
          throw log.twoPhaseCommitAsyncBackup();
       }
+      long coalesceWindow = attributes.attribute(COALESCE_WINDOW).get();
+      int coalesceMaxKeys = attributes.attribute(COALESCE_MAX_KEYS).get();
+      if (coalesceWindow < 0 || coalesceMaxKeys <= 0) {
+         throw log.invalidBackupCoalescing(coalesceWindow, coalesceMaxKeys);
+      }
+      if (coalesceWindow > 0 && attributes.attribute(STRATEGY).get() == BackupConfiguration.BackupStrategy.SYNC) {
+         throw log.coalesceWindowSyncBackup();
+      }
    }
 
    @Override
@@ -17,12 +17,19 @@ public class ClusteringConfiguration {
    public static final AttributeDefinition<CacheMode> CACHE_MODE = AttributeDefinition.builder("cacheMode",  CacheMode.LOCAL).immutable().build();
    public static final AttributeDefinition<Long> REMOTE_TIMEOUT =
          AttributeDefinition.builder("remoteTimeout", TimeUnit.SECONDS.toMillis(15)).build();
+   public static final AttributeDefinition<Integer> CLUSTER_EVENT_BATCH_SIZE =
+         AttributeDefinition.builder("clusterEventBatchSize", 0).immutable().build();
+   public static final AttributeDefinition<Long> CLUSTER_EVENT_BATCH_WINDOW =
+         AttributeDefinition.builder("clusterEventBatchWindow", 0L).immutable().build();
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(ClusteringConfiguration.class, CACHE_MODE);
+      return new AttributeSet(ClusteringConfiguration.class, CACHE_MODE, CLUSTER_EVENT_BATCH_SIZE,
+            CLUSTER_EVENT_BATCH_WINDOW);
    }
 
    private final Attribute<CacheMode> cacheMode;
+   private final Attribute<Integer> clusterEventBatchSize;
+   private final Attribute<Long> clusterEventBatchWindow;
    private final HashConfiguration hashConfiguration;
    private final L1Configuration l1Configuration;
    private final StateTransferConfiguration stateTransferConfiguration;
@@ -35,6 +42,8 @@ static AttributeSet attributeDefinitionSet() {
          PartitionHandlingConfiguration partitionHandlingStrategy) {
       this.attributes = attributes.checkProtection();
       this.cacheMode = attributes.attribute(CACHE_MODE);
+      this.clusterEventBatchSize = attributes.attribute(CLUSTER_EVENT_BATCH_SIZE);
+      this.clusterEventBatchWindow = attributes.attribute(CLUSTER_EVENT_BATCH_WINDOW);
       this.hashConfiguration = hashConfiguration;
       this.l1Configuration = l1Configuration;
       this.stateTransferConfiguration = stateTransferConfiguration;
@@ -65,6 +74,22 @@ public void remoteTimeout(long timeoutMillis) {
       syncConfiguration.replTimeout(timeoutMillis);
    }
 
+   /**
+    * The maximum number of cluster listener events sent to a node in a single batch, or 0 if the events raised by
+    * different operations are not batched.
+    */
+   public int clusterEventBatchSize() {
+      return clusterEventBatchSize.get();
+   }
+
+   /**
+    * The time, in milliseconds, the events for asynchronous cluster listeners can wait for other events before they
+    * are sent as a batch.
+    */
+   public long clusterEventBatchWindow() {
+      return clusterEventBatchWindow.get();
+   }
+
    /**
     * Configures cluster's behaviour in the presence of partitions or node failures.
     */
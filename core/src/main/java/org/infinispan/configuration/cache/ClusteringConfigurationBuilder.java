@@ -10,6 +10,8 @@
 import java.util.concurrent.TimeUnit;
 
 import static org.infinispan.configuration.cache.ClusteringConfiguration.CACHE_MODE;
+import static org.infinispan.configuration.cache.ClusteringConfiguration.CLUSTER_EVENT_BATCH_SIZE;
+import static org.infinispan.configuration.cache.ClusteringConfiguration.CLUSTER_EVENT_BATCH_WINDOW;
 import static org.infinispan.configuration.cache.ClusteringConfiguration.REMOTE_TIMEOUT;
 
 /**
@@ -68,6 +70,26 @@ public ClusteringConfigurationBuilder remoteTimeout(long l, TimeUnit unit) {
       return remoteTimeout(unit.toMillis(l));
    }
 
+   /**
+    * Enables batching of the events sent to cluster listeners on other nodes. The events raised by all the operations
+    * for the listeners of a node are gathered while a batch is in flight to that node, and sent in batches of up to
+    * this many events. Defaults to 0, which sends the events of every operation on their own.
+    */
+   public ClusteringConfigurationBuilder clusterEventBatchSize(int batchSize) {
+      attributes.attribute(CLUSTER_EVENT_BATCH_SIZE).set(batchSize);
+      return this;
+   }
+
+   /**
+    * The time, in milliseconds, the events for asynchronous cluster listeners can wait for other events before they
+    * are sent as a batch. Only used if {@link #clusterEventBatchSize(int)} is set. Defaults to 0, which sends them as
+    * soon as no batch is in flight.
+    */
+   public ClusteringConfigurationBuilder clusterEventBatchWindow(long window, TimeUnit unit) {
+      attributes.attribute(CLUSTER_EVENT_BATCH_WINDOW).set(unit.toMillis(window));
+      return this;
+   }
+
 
    /**
     * Configure hash sub element
@@ -110,6 +132,11 @@ public PartitionHandlingConfigurationBuilder partitionHandling() {
    @Override
    public
    void validate() {
+      int batchSize = attributes.attribute(CLUSTER_EVENT_BATCH_SIZE).get();
+      long batchWindow = attributes.attribute(CLUSTER_EVENT_BATCH_WINDOW).get();
+      if (batchSize < 0 || batchWindow < 0) {
+         throw log.invalidClusterEventBatching(batchSize, batchWindow);
+      }
       for (Builder<?> validatable : Arrays.asList(hashConfigurationBuilder, l1ConfigurationBuilder,
                           syncConfigurationBuilder, stateTransferConfigurationBuilder, partitionHandlingConfigurationBuilder)) {
          validatable.validate();
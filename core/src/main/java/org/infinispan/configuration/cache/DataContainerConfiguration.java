@@ -22,21 +22,25 @@ public class DataContainerConfiguration extends AbstractTypedPropertiesConfigura
          .<Equivalence> builder("keyEquivalence", AnyEquivalence.getInstance()).copier(IdentityAttributeCopier.INSTANCE).immutable().build();
    public static final AttributeDefinition<Equivalence> VALUE_EQUIVALENCE = AttributeDefinition
          .<Equivalence> builder("valueEquivalence", AnyEquivalence.getInstance()).copier(IdentityAttributeCopier.INSTANCE).immutable().build();
+   public static final AttributeDefinition<StorageType> STORAGE_TYPE = AttributeDefinition
+         .builder("storageType", StorageType.OBJECT).immutable().build();
 
    static public AttributeSet attributeDefinitionSet() {
       return new AttributeSet(DataContainerConfiguration.class, AbstractTypedPropertiesConfiguration.attributeSet(),
-            DATA_CONTAINER, KEY_EQUIVALENCE, VALUE_EQUIVALENCE);
+            DATA_CONTAINER, KEY_EQUIVALENCE, VALUE_EQUIVALENCE, STORAGE_TYPE);
    }
 
    private final Attribute<DataContainer> dataContainer;
    private final Attribute<Equivalence> keyEquivalence;
    private final Attribute<Equivalence> valueEquivalence;
+   private final Attribute<StorageType> storageType;
 
    DataContainerConfiguration(AttributeSet attributes) {
       super(attributes);
       dataContainer = attributes.attribute(DATA_CONTAINER);
       keyEquivalence = attributes.attribute(KEY_EQUIVALENCE);
       valueEquivalence = attributes.attribute(VALUE_EQUIVALENCE);
+      storageType = attributes.attribute(STORAGE_TYPE);
    }
 
    /**
@@ -59,6 +63,13 @@ public <V> Equivalence<V> valueEquivalence() {
       return valueEquivalence.get();
    }
 
+   /**
+    * Where the entries of the cache are kept
+    */
+   public StorageType storageType() {
+      return storageType.get();
+   }
+
    public AttributeSet attributes() {
       return attributes;
    }
@@ -3,6 +3,7 @@
 import static org.infinispan.commons.configuration.AbstractTypedPropertiesConfiguration.PROPERTIES;
 import static org.infinispan.configuration.cache.DataContainerConfiguration.DATA_CONTAINER;
 import static org.infinispan.configuration.cache.DataContainerConfiguration.KEY_EQUIVALENCE;
+import static org.infinispan.configuration.cache.DataContainerConfiguration.STORAGE_TYPE;
 import static org.infinispan.configuration.cache.DataContainerConfiguration.VALUE_EQUIVALENCE;
 
 import java.util.Properties;
@@ -13,6 +14,8 @@
 import org.infinispan.commons.util.TypedProperties;
 import org.infinispan.configuration.global.GlobalConfiguration;
 import org.infinispan.container.DataContainer;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
 
 /**
  * Controls the data container for the cache.
@@ -21,6 +24,7 @@
  *
  */
 public class DataContainerConfigurationBuilder extends AbstractConfigurationChildBuilder implements Builder<DataContainerConfiguration> {
+   private static final Log log = LogFactory.getLog(DataContainerConfigurationBuilder.class);
 
    private AttributeSet attributes;
 
@@ -95,8 +99,25 @@ public <V> DataContainerConfigurationBuilder valueEquivalence(Equivalence<V> val
       return this;
    }
 
+   /**
+    * Set where the entries of the cache are kept. With {@link StorageType#OFF_HEAP} keys, values and metadata are
+    * serialized outside of the Java heap, which reduces the number of objects the garbage collector has to scan.
+    * Memory based eviction then accounts for the off-heap bytes used by the entries. Only the
+    * {@link org.infinispan.eviction.EvictionStrategy#UNORDERED} eviction strategy is supported.
+    *
+    * @param storageType the storage type
+    * @return this configuration builder
+    */
+   public DataContainerConfigurationBuilder storageType(StorageType storageType) {
+      attributes.attribute(STORAGE_TYPE).set(storageType);
+      return this;
+   }
+
    @Override
    public void validate() {
+      if (attributes.attribute(STORAGE_TYPE).get() == StorageType.OFF_HEAP && attributes.attribute(DATA_CONTAINER).get() != null) {
+         throw log.offHeapWithCustomDataContainer();
+      }
    }
 
    @Override
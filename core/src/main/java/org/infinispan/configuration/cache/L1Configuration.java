@@ -16,14 +16,16 @@ public class L1Configuration {
    public static final AttributeDefinition<Integer> INVALIDATION_THRESHOLD = AttributeDefinition.builder("invalidationThreshold", 0).immutable().build();
    public static final AttributeDefinition<Long> LIFESPAN = AttributeDefinition.builder("lifespan", TimeUnit.MINUTES.toMillis(10)).immutable().build();
    public static final AttributeDefinition<Long> CLEANUP_TASK_FREQUENCY = AttributeDefinition.builder("cleanupTaskFrequency", TimeUnit.MINUTES.toMillis(1)).immutable().build();
+   public static final AttributeDefinition<Integer> REQUESTOR_FILTER_SIZE = AttributeDefinition.builder("requestorFilterSize", 0).immutable().build();
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(L1Configuration.class, ENABLED, INVALIDATION_THRESHOLD, LIFESPAN, CLEANUP_TASK_FREQUENCY);
+      return new AttributeSet(L1Configuration.class, ENABLED, INVALIDATION_THRESHOLD, LIFESPAN, CLEANUP_TASK_FREQUENCY, REQUESTOR_FILTER_SIZE);
    }
 
    private final Attribute<Boolean> enabled;
    private final Attribute<Integer> invalidationThreshold;
    private final Attribute<Long> lifespan;
    private final Attribute<Long> cleanupTaskFrequency;
+   private final Attribute<Integer> requestorFilterSize;
    private final AttributeSet attributes;
 
    L1Configuration(AttributeSet attributes) {
@@ -32,6 +34,7 @@ static AttributeSet attributeDefinitionSet() {
       invalidationThreshold = attributes.attribute(INVALIDATION_THRESHOLD);
       lifespan = attributes.attribute(LIFESPAN);
       cleanupTaskFrequency = attributes.attribute(CLEANUP_TASK_FREQUENCY);
+      requestorFilterSize = attributes.attribute(REQUESTOR_FILTER_SIZE);
    }
 
    public boolean enabled() {
@@ -63,6 +66,14 @@ public long cleanupTaskFrequency() {
       return cleanupTaskFrequency.get();
    }
 
+   /**
+    * The number of bits of the Bloom filters tracking, per segment and per node, the keys the node may keep in its L1
+    * cache. If 0, the default, the nodes keeping each key are tracked in a map instead, which is exact but grows with
+    * the number of keys read remotely.
+    */
+   public int requestorFilterSize() {
+      return requestorFilterSize.get();
+   }
 
    /**
     * Maximum lifespan of an entry placed in the L1 cache. Default 10 minutes.
@@ -75,6 +75,17 @@ public L1ConfigurationBuilder cleanupTaskFrequency(long frequencyMillis, TimeUni
       return cleanupTaskFrequency(unit.toMillis(frequencyMillis));
    }
 
+   /**
+    * Tracks the nodes that may keep a key in their L1 cache with Bloom filters of the given number of bits, per segment
+    * and per node, instead of a map of the nodes keeping each key. The memory used no longer grows with the number of
+    * keys read remotely, at the cost of some unneeded invalidations. The filters are discarded after two L1 lifespans,
+    * so {@link #cleanupTaskFrequency(long)} is not used. 0, the default, uses the map.
+    */
+   public L1ConfigurationBuilder requestorFilterSize(int bits) {
+      attributes.attribute(REQUESTOR_FILTER_SIZE).set(bits);
+      return this;
+   }
+
    public L1ConfigurationBuilder enable() {
       attributes.attribute(ENABLED).set(true);
       return this;
@@ -99,6 +110,9 @@ public void validate() {
          if (attributes.attribute(LIFESPAN).get() < 1)
             throw log.l1InvalidLifespan();
 
+         if (attributes.attribute(REQUESTOR_FILTER_SIZE).get() < 0)
+            throw log.l1InvalidRequestorFilterSize(attributes.attribute(REQUESTOR_FILTER_SIZE).get());
+
       }
    }
 
@@ -17,15 +17,17 @@ public class StateTransferConfiguration {
    public static final AttributeDefinition<Boolean> FETCH_IN_MEMORY_STATE = AttributeDefinition.builder("fetchInMemoryState", true).immutable().build();
    public static final AttributeDefinition<Long> TIMEOUT = AttributeDefinition.builder("timeout", TimeUnit.MINUTES.toMillis(4)).immutable().build();
    public static final AttributeDefinition<Integer> CHUNK_SIZE = AttributeDefinition.builder("chunkSize", 512).immutable().build();
+   public static final AttributeDefinition<Integer> MAX_IN_FLIGHT_CHUNKS = AttributeDefinition.builder("maxInFlightChunks", 4).immutable().build();
 
    static final AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(StoreAsBinaryConfiguration.class, FETCH_IN_MEMORY_STATE, TIMEOUT, CHUNK_SIZE, AWAIT_INITIAL_TRANSFER);
+      return new AttributeSet(StoreAsBinaryConfiguration.class, FETCH_IN_MEMORY_STATE, TIMEOUT, CHUNK_SIZE, MAX_IN_FLIGHT_CHUNKS, AWAIT_INITIAL_TRANSFER);
    }
 
    private final Attribute<Boolean> awaitInitialTransfer;
    private final Attribute<Boolean> fetchInMemoryState;
    private final Attribute<Long> timeout;
    private final Attribute<Integer> chunkSize;
+   private final Attribute<Integer> maxInFlightChunks;
    private final AttributeSet attributes;
 
    StateTransferConfiguration(AttributeSet attributes) {
@@ -34,6 +36,7 @@ static final AttributeSet attributeDefinitionSet() {
       fetchInMemoryState = attributes.attribute(FETCH_IN_MEMORY_STATE);
       timeout = attributes.attribute(TIMEOUT);
       chunkSize = attributes.attribute(CHUNK_SIZE);
+      maxInFlightChunks = attributes.attribute(MAX_IN_FLIGHT_CHUNKS);
    }
 
    /**
@@ -73,6 +76,14 @@ public int chunkSize() {
       return chunkSize.get();
    }
 
+   /**
+    * The maximum number of chunks sent to a node which can be waiting for an acknowledgement at the same time. The
+    * sender stops reading entries while this many chunks are in flight.
+    */
+   public int maxInFlightChunks() {
+      return maxInFlightChunks.get();
+   }
+
    /**
     * If {@code true}, this will cause the first call to method {@code CacheManager.getCache()} on the joiner node to
     * block and wait until the joining is complete and the cache has finished receiving state from neighboring caches
@@ -60,6 +60,15 @@ public StateTransferConfigurationBuilder chunkSize(int i) {
       return this;
    }
 
+   /**
+    * The maximum number of chunks sent to a node which can be waiting for an acknowledgement at the same time. The
+    * sender stops reading entries while this many chunks are in flight.
+    */
+   public StateTransferConfigurationBuilder maxInFlightChunks(int i) {
+      attributes.attribute(MAX_IN_FLIGHT_CHUNKS).set(i);
+      return this;
+   }
+
    /**
     * This is the maximum amount of time - in milliseconds - to wait for state from neighboring
     * caches, before throwing an exception and aborting startup.
@@ -82,6 +91,9 @@ public void validate() {
       if (attributes.attribute(CHUNK_SIZE).get() <= 0) {
          throw new CacheConfigurationException("chunkSize can not be <= 0");
       }
+      if (attributes.attribute(MAX_IN_FLIGHT_CHUNKS).get() <= 0) {
+         throw new CacheConfigurationException("maxInFlightChunks can not be <= 0");
+      }
 
       Attribute<Boolean> awaitInitialTransfer = attributes.attribute(AWAIT_INITIAL_TRANSFER);
       if (awaitInitialTransfer.isModified() && awaitInitialTransfer.get()
@@ -0,0 +1,17 @@
+package org.infinispan.configuration.cache;
+
+/**
+ * Where the data container keeps the entries of a cache.
+ *
+ * @since 9.0
+ */
+public enum StorageType {
+   /**
+    * Entries are kept on the heap as regular objects.
+    */
+   OBJECT,
+   /**
+    * Keys, values and metadata are serialized and kept outside the Java heap.
+    */
+   OFF_HEAP,
+}
@@ -31,6 +31,10 @@ public enum Attribute {
     CHUNK_SIZE("chunk-size"),
     CLASS("class"),
     CLUSTER("cluster"),
+    CLUSTER_EVENT_BATCH_SIZE("cluster-event-batch-size"),
+    CLUSTER_EVENT_BATCH_WINDOW("cluster-event-batch-window"),
+    COALESCE_MAX_KEYS("coalesce-max-keys"),
+    COALESCE_WINDOW("coalesce-window"),
     COMPLETED_TX_TIMEOUT("complete-timeout"),
     CONCURRENCY_LEVEL("concurrency-level"),
     CONFIGURATION("configuration"),
@@ -46,6 +50,7 @@ public enum Attribute {
     FAILURE_POLICY_CLASS("failure-policy-class"),
     FETCH_STATE("fetch-state"),
     @Deprecated
+    FLUSH_INTERVAL("flush-interval"),
     FLUSH_LOCK_TIMEOUT("flush-lock-timeout"),
     GROUP_NAME("group-name"),
     ID("id"),
@@ -61,6 +66,7 @@ public enum Attribute {
     KEY_EQUIVALENCE("key-equivalence"),
     KEY_PARTITIONER("key-partitioner"),
     L1_LIFESPAN("l1-lifespan"),
+    L1_REQUESTOR_FILTER_SIZE("l1-requestor-filter-size"),
     LIFESPAN("lifespan"),
     LISTENER_EXECUTOR("listener-executor"),
     LOCATION("location"),
@@ -71,11 +77,13 @@ public enum Attribute {
     MARSHALLER_CLASS("marshaller"),
     MAX_ENTRIES("max-entries"),
     MAX_IDLE("max-idle"),
+    MAX_IN_FLIGHT_CHUNKS("max-in-flight-chunks"),
     MAX_RETRIES("max-retries"),
     MAX_THREADS("max-threads"),
     MBEAN_SERVER_LOOKUP("mbean-server-lookup"),
     MODE("mode"),
     NODE_NAME("node-name"),
+    MODIFICATION_QUEUE_MEMORY("modification-queue-memory"),
     MODIFICATION_QUEUE_SIZE("modification-queue-size"),
     MODULE("module"),
     NAME("name"),
@@ -122,6 +130,7 @@ public enum Attribute {
     STATISTICS_AVAILABLE("statistics-available"),
     START("start"),
     STATE_TRANSFER_EXECUTOR("state-transfer-executor"),
+    STORAGE_TYPE("storage-type"),
     STORE_KEYS_AS_BINARY("keys"),
     STORE_VALUES_AS_BINARY("values"),
     STRATEGY("strategy"),
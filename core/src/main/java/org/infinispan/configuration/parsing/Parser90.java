@@ -27,6 +27,7 @@
 import org.infinispan.configuration.cache.PartitionHandlingConfigurationBuilder;
 import org.infinispan.configuration.cache.SecurityConfigurationBuilder;
 import org.infinispan.configuration.cache.SingleFileStoreConfigurationBuilder;
+import org.infinispan.configuration.cache.StorageType;
 import org.infinispan.configuration.cache.StoreConfigurationBuilder;
 import org.infinispan.configuration.cache.VersioningScheme;
 import org.infinispan.configuration.global.GlobalAuthorizationConfigurationBuilder;
@@ -1271,6 +1272,14 @@ private void parseBackup(XMLExtendedStreamReader reader, ConfigurationBuilder bu
                backup.failurePolicyClass(value);
                break;
             }
+            case COALESCE_WINDOW: {
+               backup.coalesceWindow(Long.parseLong(value));
+               break;
+            }
+            case COALESCE_MAX_KEYS: {
+               backup.coalesceMaxKeys(Integer.parseInt(value));
+               break;
+            }
             default: {
                throw ParseUtils.unexpectedAttribute(reader, i);
             }
@@ -1496,6 +1505,9 @@ private void parseDataContainer(final XMLExtendedStreamReader reader, final Conf
             case VALUE_EQUIVALENCE:
                builder.dataContainer().valueEquivalence(Util.<Equivalence>getInstance(value, holder.getClassLoader()));
                break;
+            case STORAGE_TYPE:
+               builder.dataContainer().storageType(StorageType.valueOf(value));
+               break;
             default:
                throw ParseUtils.unexpectedAttribute(reader, i);
          }
@@ -1822,6 +1834,14 @@ private void parseClusteredCacheAttribute(XMLExtendedStreamReader reader,
             builder.clustering().remoteTimeout(Long.parseLong(value));
             break;
          }
+         case CLUSTER_EVENT_BATCH_SIZE: {
+            builder.clustering().clusterEventBatchSize(Integer.parseInt(value));
+            break;
+         }
+         case CLUSTER_EVENT_BATCH_WINDOW: {
+            builder.clustering().clusterEventBatchWindow(Long.parseLong(value), TimeUnit.MILLISECONDS);
+            break;
+         }
          default: {
             this.parseCacheAttribute(reader, index, attribute, value, builder);
          }
@@ -1891,6 +1911,10 @@ private void parseStateTransfer(XMLExtendedStreamReader reader, ConfigurationBui
                builder.clustering().stateTransfer().chunkSize(Integer.parseInt(value));
                break;
             }
+            case MAX_IN_FLIGHT_CHUNKS: {
+               builder.clustering().stateTransfer().maxInFlightChunks(Integer.parseInt(value));
+               break;
+            }
             default: {
                throw ParseUtils.unexpectedAttribute(reader, i);
             }
@@ -1929,6 +1953,10 @@ private void parseDistributedCache(XMLExtendedStreamReader reader, Configuration
                builder.clustering().l1().cleanupTaskFrequency(Long.parseLong(value));
                break;
             }
+            case L1_REQUESTOR_FILTER_SIZE: {
+               builder.clustering().l1().requestorFilterSize(Integer.parseInt(value));
+               break;
+            }
             case CAPACITY_FACTOR: {
                builder.clustering().hash().capacityFactor(Float.parseFloat(value));
                break;
@@ -2172,10 +2200,18 @@ public static void parseStoreWriteBehind(XMLExtendedStreamReader reader, AsyncSt
          String value = replaceProperties(reader.getAttributeValue(i));
          Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
          switch (attribute) {
+            case FLUSH_INTERVAL: {
+               storeBuilder.flushInterval(Long.parseLong(value));
+               break;
+            }
             case FLUSH_LOCK_TIMEOUT: {
                storeBuilder.flushLockTimeout(Long.parseLong(value));
                break;
             }
+            case MODIFICATION_QUEUE_MEMORY: {
+               storeBuilder.modificationQueueMemory(Long.parseLong(value));
+               break;
+            }
             case MODIFICATION_QUEUE_SIZE: {
                storeBuilder.modificationQueueSize(Integer.parseInt(value));
                break;
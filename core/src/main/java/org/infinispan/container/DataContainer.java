@@ -3,9 +3,13 @@
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
+import java.util.stream.StreamSupport;
 
 import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.expiration.ExpirationManager;
 import org.infinispan.factories.annotations.Stop;
 import org.infinispan.factories.scopes.Scope;
@@ -189,6 +193,57 @@
     */
    Iterator<InternalCacheEntry<K, V>> iteratorIncludingExpired();
 
+   /**
+    * Returns the entries which may be expired at the given wall clock time. Used by the expiration reaper, which still
+    * has to check whether each returned entry is expired.
+    * <p>The default implementation returns {@link #iteratorIncludingExpired()}, i.e. the whole container is traversed.
+    * Containers which index their mortal and transient entries can return only the entries that are due.</p>
+    *
+    * @param wallClockTime the current wall clock time, in milliseconds
+    * @return iterator over the entries which may have expired
+    * @since 9.0
+    */
+   default Iterator<InternalCacheEntry<K, V>> expirationCandidates(long wallClockTime) {
+      return iteratorIncludingExpired();
+   }
+
+   /**
+    * Same as {@link DataContainer#iterator()} except that only entries whose key maps to one of the given segments are
+    * returned.
+    * <p>
+    * The default implementation traverses the whole container and maps every key with {@code keyPartitioner}.
+    * Segmented implementations only visit the requested segments, so the cost is proportional to the number of entries
+    * in them. They map the keys with the cache's {@link KeyPartitioner} when the entries are stored, so
+    * {@code keyPartitioner} must map keys to the same segments.
+    *
+    * @param segments the segments to iterate over
+    * @param keyPartitioner maps the keys to segments
+    * @return iterator that doesn't produce expired entries
+    */
+   default Iterator<InternalCacheEntry<K, V>> iterator(Set<Integer> segments, KeyPartitioner keyPartitioner) {
+      Spliterator<InternalCacheEntry<K, V>> spliterator =
+            Spliterators.spliteratorUnknownSize(iterator(), Spliterator.CONCURRENT);
+      return StreamSupport.stream(spliterator, false)
+            .filter(e -> segments.contains(keyPartitioner.getSegment(e.getKey())))
+            .iterator();
+   }
+
+   /**
+    * Same as {@link DataContainer#iterator(Set, KeyPartitioner)} except that is also returns expired entries.
+    *
+    * @param segments the segments to iterate over
+    * @param keyPartitioner maps the keys to segments
+    * @return iterator that returns all entries of the given segments including expired ones
+    */
+   default Iterator<InternalCacheEntry<K, V>> iteratorIncludingExpired(Set<Integer> segments,
+                                                                      KeyPartitioner keyPartitioner) {
+      Spliterator<InternalCacheEntry<K, V>> spliterator =
+            Spliterators.spliteratorUnknownSize(iteratorIncludingExpired(), Spliterator.CONCURRENT);
+      return StreamSupport.stream(spliterator, false)
+            .filter(e -> segments.contains(keyPartitioner.getSegment(e.getKey())))
+            .iterator();
+   }
+
    interface ComputeAction<K, V> {
 
       /**
@@ -58,6 +58,7 @@
    private static final boolean trace = log.isTraceEnabled();
 
    private final ConcurrentMap<K, InternalCacheEntry<K, V>> entries;
+   private final ExpirationIndex<K> expirationIndex;
    protected InternalEntryFactory entryFactory;
    private EvictionManager evictionManager;
    private PassivationManager passivator;
@@ -70,12 +71,14 @@
    public DefaultDataContainer(int concurrencyLevel) {
       // If no comparing implementations passed, could fallback on JDK CHM
       entries = CollectionFactory.makeConcurrentParallelMap(128, concurrencyLevel);
+      expirationIndex = new ExpirationIndex<>();
    }
 
    public DefaultDataContainer(int concurrencyLevel,
          Equivalence<? super K> keyEq) {
       // If at least one comparing implementation give, use ComparingCHMv8
       entries = CollectionFactory.makeConcurrentParallelMap(128, concurrencyLevel, keyEq, AnyEquivalence.getInstance());
+      expirationIndex = new ExpirationIndex<>(keyEq, ExpirationIndex.DEFAULT_BUCKET_MILLIS);
    }
 
    protected DefaultDataContainer(int concurrencyLevel, long thresholdSize,
@@ -114,6 +117,7 @@ protected DefaultDataContainer(int concurrencyLevel, long thresholdSize,
 
       entries = new BoundedEquivalentConcurrentHashMapV8<>(thresholdSize, eviction, evictionListener, keyEquivalence,
               AnyEquivalence.getInstance(), sizeCalculator);
+      expirationIndex = new ExpirationIndex<>(keyEquivalence, ExpirationIndex.DEFAULT_BUCKET_MILLIS);
    }
 
    protected DefaultDataContainer(int concurrencyLevel, long thresholdSize,
@@ -135,6 +139,7 @@ protected DefaultDataContainer(int concurrencyLevel, long thresholdSize,
 
       entries = new BoundedEquivalentConcurrentHashMapV8<>(thresholdSize, Eviction.LRU, evictionListener, keyEquivalence,
               AnyEquivalence.getInstance(), calc);
+      expirationIndex = new ExpirationIndex<>(keyEquivalence, ExpirationIndex.DEFAULT_BUCKET_MILLIS);
    }
 
    @Inject
@@ -225,6 +230,7 @@ public void put(K k, V v, Metadata metadata) {
 
       entries.compute(copy.getKey(), (key, entry) -> {
          activator.onUpdate(key, entry == null);
+         expirationIndex.add(copy);
          return copy;
       });
    }
@@ -234,6 +240,7 @@ public boolean containsKey(Object k) {
       InternalCacheEntry<K, V> ice = peek(k);
       if (ice != null && ice.canExpire() && ice.isExpired(timeService.wallClockTime())) {
          entries.remove(k);
+         expirationIndex.remove(ice);
          ice = null;
       }
       return ice != null;
@@ -244,6 +251,7 @@ public InternalCacheEntry<K, V> remove(Object k) {
       final InternalCacheEntry<K,V>[] reference = new InternalCacheEntry[1];
       entries.compute((K) k, (key, entry) -> {
          activator.onRemove(key, entry == null);
+         expirationIndex.remove(key);
          reference[0] = entry;
          return null;
       });
@@ -287,6 +295,7 @@ public int sizeIncludingExpired() {
    public void clear() {
       log.tracef("Clearing data container");
       entries.clear();
+      expirationIndex.clear();
    }
 
    @Override
@@ -314,6 +323,7 @@ public void purgeExpired() {
    public void evict(K key) {
       entries.computeIfPresent(key, (o, entry) -> {
          passivator.passivate(entry);
+         expirationIndex.remove(o);
          return null;
       });
    }
@@ -326,11 +336,13 @@ public InternalCacheEntry<K, V> compute(K key, ComputeAction<K, V> action) {
             return oldEntry;
          } else if (newEntry == null) {
             activator.onRemove(k, false);
+            expirationIndex.remove(k);
             return null;
          }
          activator.onUpdate(k, oldEntry == null);
          if (trace)
             log.tracef("Store %s in container", newEntry);
+         expirationIndex.add(newEntry);
          return newEntry;
       });
    }
@@ -345,6 +357,16 @@ public Iterator<InternalCacheEntry<K, V>> iteratorIncludingExpired() {
       return new EntryIterator(entries.values().iterator(), true);
    }
 
+   /**
+    * {@inheritDoc}
+    * <p>Mortal and transient entries are indexed by expiration time when they are stored, so only the entries which
+    * are due are returned.</p>
+    */
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> expirationCandidates(long wallClockTime) {
+      return expirationIndex.expired(wallClockTime, this::peek);
+   }
+
    private final class DefaultEvictionListener implements EvictionListener<K, InternalCacheEntry<K, V>> {
 
       @Override
@@ -354,6 +376,7 @@ public void onEntryEviction(Map<K, InternalCacheEntry<K, V>> evicted) {
 
       @Override
       public void onEntryChosenForEviction(Entry<K, InternalCacheEntry<K, V>> entry) {
+         expirationIndex.remove(entry.getValue());
          passivator.passivate(entry.getValue());
       }
 
@@ -0,0 +1,239 @@
+package org.infinispan.container;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+import org.infinispan.commons.equivalence.AnyEquivalence;
+import org.infinispan.commons.equivalence.Equivalence;
+import org.infinispan.commons.util.CollectionFactory;
+import org.infinispan.container.entries.InternalCacheEntry;
+
+/**
+ * Index of the keys of the mortal and transient entries of a data container, bucketed by expiration time, so that
+ * the expiration reaper only needs to look at the entries which are due instead of traversing the whole container.
+ * <p>
+ * Each key is indexed at most once: storing an entry moves its key to the bucket of the new expiration time, and
+ * removing or evicting the entry unindexes it. The index is still only a hint, e.g. reading a transient entry moves
+ * its expiration time without updating the index. When a bucket is due, each of its keys is looked up in the
+ * container again: keys which are gone or whose entry can no longer expire are dropped, entries whose expiration
+ * moved to the future are indexed again, and expired entries are returned to the reaper. Expired keys stay in the
+ * index until the entry is actually removed from the container, so an expiration that fails or is skipped is retried
+ * by the next run of the reaper. A bucket is only discarded once all its keys have been processed.
+ *
+ * @since 9.0
+ */
+final class ExpirationIndex<K> {
+
+   static final long DEFAULT_BUCKET_MILLIS = 1000;
+
+   private final ConcurrentSkipListMap<Long, Bucket<K>> buckets = new ConcurrentSkipListMap<>();
+   // the bucket each key was last indexed in
+   private final ConcurrentMap<K, Long> indexed;
+   private final Equivalence<? super K> keyEquivalence;
+   private final long bucketMillis;
+
+   ExpirationIndex() {
+      this(AnyEquivalence.getInstance(), DEFAULT_BUCKET_MILLIS);
+   }
+
+   ExpirationIndex(Equivalence<? super K> keyEquivalence, long bucketMillis) {
+      if (bucketMillis <= 0) {
+         throw new IllegalArgumentException("bucketMillis must be greater than 0");
+      }
+      this.keyEquivalence = keyEquivalence;
+      this.bucketMillis = bucketMillis;
+      this.indexed = CollectionFactory.makeConcurrentMap(keyEquivalence, AnyEquivalence.getInstance());
+   }
+
+   /**
+    * Indexes the entry if it can expire, or unindexes its key otherwise.
+    */
+   void add(InternalCacheEntry<K, ?> entry) {
+      if (entry == null) {
+         return;
+      }
+      if (entry.canExpire()) {
+         add(entry.getKey(), entry.getExpiryTime());
+      } else {
+         remove(entry.getKey());
+      }
+   }
+
+   void add(K key, long expiryTime) {
+      if (expiryTime < 0) {
+         return;
+      }
+      Long bucketId = expiryTime / bucketMillis;
+      Long previous = indexed.put(key, bucketId);
+      if (previous != null && !previous.equals(bucketId)) {
+         removeFromBucket(previous, key);
+      }
+      while (true) {
+         Bucket<K> bucket = buckets.computeIfAbsent(bucketId, id -> new Bucket<>(keyEquivalence));
+         if (bucket.add(key)) {
+            return;
+         }
+         // the reaper is discarding the bucket, it may or may not have seen the key
+      }
+   }
+
+   /**
+    * Unindexes the key, e.g. because its entry was removed from the container.
+    */
+   void remove(Object key) {
+      Long bucketId = indexed.remove(key);
+      if (bucketId != null) {
+         removeFromBucket(bucketId, key);
+      }
+   }
+
+   /**
+    * Unindexes the key of the entry only if it is still indexed with the expiration time of the entry. Used when the
+    * entry is removed without holding the lock of the key, e.g. by eviction, so that a newer entry stays indexed.
+    */
+   void remove(InternalCacheEntry<K, ?> entry) {
+      if (entry != null && entry.canExpire()) {
+         K key = entry.getKey();
+         Long bucketId = entry.getExpiryTime() / bucketMillis;
+         if (indexed.remove(key, bucketId)) {
+            removeFromBucket(bucketId, key);
+         }
+      }
+   }
+
+   private void removeFromBucket(Long bucketId, Object key) {
+      Bucket<K> bucket = buckets.get(bucketId);
+      if (bucket != null) {
+         bucket.keys.remove(key);
+      }
+   }
+
+   void clear() {
+      buckets.clear();
+      indexed.clear();
+   }
+
+   /**
+    * @return the number of keys currently indexed.
+    */
+   int size() {
+      int size = 0;
+      for (Bucket<K> bucket : buckets.values()) {
+         size += bucket.keys.size();
+      }
+      return size;
+   }
+
+   /**
+    * Returns the entries which are expired at the given wall clock time. Only the buckets that are due when this
+    * method is invoked are visited; keys indexed again while iterating are left for the next invocation.
+    *
+    * @param wallClockTime the current wall clock time, in milliseconds
+    * @param lookup function returning the current entry for a key, without touching it
+    */
+   <V> Iterator<InternalCacheEntry<K, V>> expired(long wallClockTime,
+                                                  Function<? super K, InternalCacheEntry<K, V>> lookup) {
+      Map<Long, Bucket<K>> due = buckets.headMap(wallClockTime / bucketMillis, true);
+      if (due.isEmpty()) {
+         return Collections.emptyIterator();
+      }
+      return new ExpiredIterator<>(new ArrayList<>(due.keySet()), wallClockTime, lookup);
+   }
+
+   private final class ExpiredIterator<V> implements Iterator<InternalCacheEntry<K, V>> {
+      private final Iterator<Long> dueBuckets;
+      private final long wallClockTime;
+      private final Function<? super K, InternalCacheEntry<K, V>> lookup;
+      private Long bucketId;
+      private Bucket<K> bucket;
+      private Iterator<K> keys = Collections.emptyIterator();
+      private InternalCacheEntry<K, V> next;
+
+      ExpiredIterator(List<Long> dueBuckets, long wallClockTime, Function<? super K, InternalCacheEntry<K, V>> lookup) {
+         this.dueBuckets = dueBuckets.iterator();
+         this.wallClockTime = wallClockTime;
+         this.lookup = lookup;
+      }
+
+      @Override
+      public boolean hasNext() {
+         while (next == null) {
+            if (keys.hasNext()) {
+               K key = keys.next();
+               InternalCacheEntry<K, V> entry = lookup.apply(key);
+               if (entry == null || !entry.canExpire()) {
+                  // removed or updated without passing through the index, e.g. cleared with a segment
+                  bucket.keys.remove(key);
+                  indexed.remove(key, bucketId);
+               } else if (entry.isExpired(wallClockTime)) {
+                  // stays indexed until the reaper actually removes it from the container
+                  next = entry;
+               } else {
+                  add(key, entry.getExpiryTime());
+               }
+            } else {
+               if (bucket != null) {
+                  discardIfEmpty(bucketId, bucket);
+                  bucket = null;
+               }
+               if (!dueBuckets.hasNext()) {
+                  return false;
+               }
+               bucketId = dueBuckets.next();
+               bucket = buckets.get(bucketId);
+               if (bucket != null) {
+                  keys = bucket.keys.keySet().iterator();
+               }
+            }
+         }
+         return true;
+      }
+
+      @Override
+      public InternalCacheEntry<K, V> next() {
+         if (!hasNext()) {
+            throw new NoSuchElementException();
+         }
+         InternalCacheEntry<K, V> entry = next;
+         next = null;
+         return entry;
+      }
+   }
+
+   private void discardIfEmpty(Long bucketId, Bucket<K> bucket) {
+      if (!bucket.keys.isEmpty()) {
+         return;
+      }
+      bucket.sealed = true;
+      if (bucket.keys.isEmpty()) {
+         buckets.remove(bucketId, bucket);
+      } else {
+         // a key was added concurrently, keep the bucket for the next run
+         bucket.sealed = false;
+      }
+   }
+
+   private static final class Bucket<K> {
+      private final ConcurrentMap<K, Boolean> keys;
+      private volatile boolean sealed;
+
+      Bucket(Equivalence<? super K> keyEquivalence) {
+         keys = CollectionFactory.makeConcurrentMap(keyEquivalence, AnyEquivalence.getInstance());
+      }
+
+      /**
+       * @return {@code false} if the reaper is discarding the bucket, in which case the key must be added again.
+       */
+      boolean add(K key) {
+         keys.put(key, Boolean.TRUE);
+         return !sealed;
+      }
+   }
+}
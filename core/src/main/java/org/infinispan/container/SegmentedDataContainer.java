@@ -0,0 +1,500 @@
+package org.infinispan.container;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.infinispan.commons.equivalence.AnyEquivalence;
+import org.infinispan.commons.equivalence.Equivalence;
+import org.infinispan.commons.logging.Log;
+import org.infinispan.commons.logging.LogFactory;
+import org.infinispan.commons.util.CollectionFactory;
+import org.infinispan.commons.util.concurrent.ParallelIterableMap;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.distribution.ch.KeyPartitioner;
+import org.infinispan.eviction.ActivationManager;
+import org.infinispan.eviction.PassivationManager;
+import org.infinispan.expiration.ExpirationManager;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.filter.KeyFilter;
+import org.infinispan.filter.KeyValueFilter;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.metadata.impl.L1Metadata;
+import org.infinispan.util.CoreImmutables;
+import org.infinispan.util.TimeService;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Unbounded data container that keeps a separate map for every hash segment.
+ * <p>
+ * Keys are mapped to segments with the cache's {@link KeyPartitioner}, so the segment of a key is the same one the
+ * consistent hash uses. Iterating over some segments ({@link #iterator(Set, KeyPartitioner)},
+ * {@link #iteratorIncludingExpired(Set, KeyPartitioner)}) only visits the maps of those segments, which makes state
+ * transfer and segment filtered streams cost time in proportion to the data they actually touch.
+ *
+ * @since 9.0
+ */
+@ThreadSafe
+public class SegmentedDataContainer<K, V> implements DataContainer<K, V> {
+
+   private static final Log log = LogFactory.getLog(SegmentedDataContainer.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   private final ConcurrentMap<K, InternalCacheEntry<K, V>>[] maps;
+   private final ExpirationIndex<K> expirationIndex;
+   protected InternalEntryFactory entryFactory;
+   private PassivationManager passivator;
+   private ActivationManager activator;
+   private TimeService timeService;
+   private ExpirationManager<K, V> expirationManager;
+   private KeyPartitioner keyPartitioner;
+
+   @SuppressWarnings("unchecked")
+   public SegmentedDataContainer(int concurrencyLevel, int numSegments, Equivalence<? super K> keyEq) {
+      if (numSegments <= 0) {
+         throw new IllegalArgumentException("numSegments must be greater than 0");
+      }
+      maps = new ConcurrentMap[numSegments];
+      for (int i = 0; i < numSegments; ++i) {
+         maps[i] = CollectionFactory.makeConcurrentParallelMap(16, concurrencyLevel, keyEq, AnyEquivalence.getInstance());
+      }
+      expirationIndex = new ExpirationIndex<>(keyEq, ExpirationIndex.DEFAULT_BUCKET_MILLIS);
+   }
+
+   @Inject
+   public void initialize(PassivationManager passivator, InternalEntryFactory entryFactory,
+                          ActivationManager activator, TimeService timeService,
+                          ExpirationManager<K, V> expirationManager, KeyPartitioner keyPartitioner) {
+      this.passivator = passivator;
+      this.entryFactory = entryFactory;
+      this.activator = activator;
+      this.timeService = timeService;
+      this.expirationManager = expirationManager;
+      this.keyPartitioner = keyPartitioner;
+   }
+
+   public int getNumSegments() {
+      return maps.length;
+   }
+
+   private ConcurrentMap<K, InternalCacheEntry<K, V>> mapForKey(Object key) {
+      return maps[keyPartitioner.getSegment(key)];
+   }
+
+   @Override
+   public InternalCacheEntry<K, V> peek(Object key) {
+      return mapForKey(key).get(key);
+   }
+
+   @Override
+   public InternalCacheEntry<K, V> get(Object k) {
+      InternalCacheEntry<K, V> e = mapForKey(k).get(k);
+      if (e != null && e.canExpire()) {
+         long currentTimeMillis = timeService.wallClockTime();
+         if (e.isExpired(currentTimeMillis)) {
+            expirationManager.handleInMemoryExpiration(e, currentTimeMillis);
+            e = null;
+         } else {
+            e.touch(currentTimeMillis);
+         }
+      }
+      return e;
+   }
+
+   @Override
+   public void put(K k, V v, Metadata metadata) {
+      boolean l1Entry = false;
+      if (metadata instanceof L1Metadata) {
+         metadata = ((L1Metadata) metadata).metadata();
+         l1Entry = true;
+      }
+      ConcurrentMap<K, InternalCacheEntry<K, V>> map = mapForKey(k);
+      InternalCacheEntry<K, V> e = map.get(k);
+
+      if (trace) {
+         log.tracef("Creating new ICE for writing. Existing=%s, metadata=%s, new value=%s", e, metadata, v);
+      }
+      final InternalCacheEntry<K, V> copy;
+      if (l1Entry) {
+         copy = entryFactory.createL1(k, v, metadata);
+      } else if (e != null) {
+         copy = entryFactory.update(e, v, metadata);
+      } else {
+         // this is a brand-new entry
+         copy = entryFactory.create(k, v, metadata);
+      }
+
+      if (trace)
+         log.tracef("Store %s in container", copy);
+
+      map.compute(copy.getKey(), (key, entry) -> {
+         activator.onUpdate(key, entry == null);
+         expirationIndex.add(copy);
+         return copy;
+      });
+   }
+
+   @Override
+   public boolean containsKey(Object k) {
+      ConcurrentMap<K, InternalCacheEntry<K, V>> map = mapForKey(k);
+      InternalCacheEntry<K, V> ice = map.get(k);
+      if (ice != null && ice.canExpire() && ice.isExpired(timeService.wallClockTime())) {
+         map.remove(k);
+         expirationIndex.remove(ice);
+         ice = null;
+      }
+      return ice != null;
+   }
+
+   @Override
+   public InternalCacheEntry<K, V> remove(Object k) {
+      final InternalCacheEntry<K,V>[] reference = new InternalCacheEntry[1];
+      mapForKey(k).compute((K) k, (key, entry) -> {
+         activator.onRemove(key, entry == null);
+         expirationIndex.remove(key);
+         reference[0] = entry;
+         return null;
+      });
+      InternalCacheEntry<K, V> e = reference[0];
+      return e == null || (e.canExpire() && e.isExpired(timeService.wallClockTime())) ? null : e;
+   }
+
+   @Override
+   public int size() {
+      int size = 0;
+      // We have to loop through to make sure to remove expired entries
+      for (Iterator<InternalCacheEntry<K, V>> iter = iterator(); iter.hasNext(); ) {
+         iter.next();
+         if (++size == Integer.MAX_VALUE) return Integer.MAX_VALUE;
+      }
+      return size;
+   }
+
+   @Override
+   public int sizeIncludingExpired() {
+      long size = 0;
+      for (ConcurrentMap<K, InternalCacheEntry<K, V>> map : maps) {
+         size += map.size();
+      }
+      return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+   }
+
+   @Override
+   public void clear() {
+      log.tracef("Clearing data container");
+      for (ConcurrentMap<K, InternalCacheEntry<K, V>> map : maps) {
+         map.clear();
+      }
+      expirationIndex.clear();
+   }
+
+   @Override
+   public Set<K> keySet() {
+      return new KeySet();
+   }
+
+   @Override
+   public Collection<V> values() {
+      return new Values();
+   }
+
+   @Override
+   public Set<InternalCacheEntry<K, V>> entrySet() {
+      return new EntrySet();
+   }
+
+   @Override
+   public void purgeExpired() {
+      // Just calls to expiration manager to handle this
+      expirationManager.processExpiration();
+   }
+
+   @Override
+   public void evict(K key) {
+      mapForKey(key).computeIfPresent(key, (o, entry) -> {
+         passivator.passivate(entry);
+         expirationIndex.remove(o);
+         return null;
+      });
+   }
+
+   @Override
+   public InternalCacheEntry<K, V> compute(K key, ComputeAction<K, V> action) {
+      return mapForKey(key).compute(key, (k, oldEntry) -> {
+         InternalCacheEntry<K, V> newEntry = action.compute(k, oldEntry, entryFactory);
+         if (newEntry == oldEntry) {
+            return oldEntry;
+         } else if (newEntry == null) {
+            activator.onRemove(k, false);
+            expirationIndex.remove(k);
+            return null;
+         }
+         activator.onUpdate(k, oldEntry == null);
+         if (trace)
+            log.tracef("Store %s in container", newEntry);
+         expirationIndex.add(newEntry);
+         return newEntry;
+      });
+   }
+
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> iterator() {
+      return new EntryIterator(allSegments(), false);
+   }
+
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> iteratorIncludingExpired() {
+      return new EntryIterator(allSegments(), true);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>Mortal and transient entries are indexed by expiration time when they are stored, so only the entries which
+    * are due are returned.</p>
+    */
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> expirationCandidates(long wallClockTime) {
+      return expirationIndex.expired(wallClockTime, this::peek);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>The keys were mapped to segments with the cache's {@link KeyPartitioner} when they were stored, so only the maps
+    * of the requested segments are visited and {@code keyPartitioner} is not used.</p>
+    */
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> iterator(Set<Integer> segments, KeyPartitioner keyPartitioner) {
+      return new EntryIterator(segments.iterator(), false);
+   }
+
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> iteratorIncludingExpired(Set<Integer> segments,
+                                                                      KeyPartitioner keyPartitioner) {
+      return new EntryIterator(segments.iterator(), true);
+   }
+
+   @Override
+   public void executeTask(final KeyFilter<? super K> filter, final BiConsumer<? super K, InternalCacheEntry<K, V>> action)
+         throws InterruptedException {
+      if (filter == null)
+         throw new IllegalArgumentException("No filter specified");
+      if (action == null)
+         throw new IllegalArgumentException("No action specified");
+
+      for (ConcurrentMap<K, InternalCacheEntry<K, V>> entries : maps) {
+         ParallelIterableMap<K, InternalCacheEntry<K, V>> map = (ParallelIterableMap<K, InternalCacheEntry<K, V>>) entries;
+         map.forEach(32, (K key, InternalCacheEntry<K, V> value) -> {
+            if (filter.accept(key)) {
+               action.accept(key, value);
+            }
+         });
+         if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+         }
+      }
+   }
+
+   @Override
+   public void executeTask(final KeyValueFilter<? super K, ? super V> filter, final BiConsumer<? super K, InternalCacheEntry<K, V>> action)
+         throws InterruptedException {
+      if (filter == null)
+         throw new IllegalArgumentException("No filter specified");
+      if (action == null)
+         throw new IllegalArgumentException("No action specified");
+
+      for (ConcurrentMap<K, InternalCacheEntry<K, V>> entries : maps) {
+         ParallelIterableMap<K, InternalCacheEntry<K, V>> map = (ParallelIterableMap<K, InternalCacheEntry<K, V>>) entries;
+         map.forEach(32, (K key, InternalCacheEntry<K, V> value) -> {
+            if (filter.accept(key, value.getValue(), value.getMetadata())) {
+               action.accept(key, value);
+            }
+         });
+         if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+         }
+      }
+   }
+
+   private PrimitiveIterator.OfInt allSegments() {
+      return IntStream.range(0, maps.length).iterator();
+   }
+
+   /**
+    * Iterates over the maps of the given segments one after the other, only looking up the next map when the
+    * current one is exhausted.
+    */
+   private class SegmentsIterator<T> implements Iterator<T> {
+      private final Iterator<Integer> segments;
+      private final Function<ConcurrentMap<K, InternalCacheEntry<K, V>>, Iterator<T>> iteratorFunction;
+      private Iterator<T> current = Collections.emptyIterator();
+
+      SegmentsIterator(Iterator<Integer> segments,
+                       Function<ConcurrentMap<K, InternalCacheEntry<K, V>>, Iterator<T>> iteratorFunction) {
+         this.segments = segments;
+         this.iteratorFunction = iteratorFunction;
+      }
+
+      @Override
+      public boolean hasNext() {
+         while (!current.hasNext()) {
+            if (!segments.hasNext()) {
+               return false;
+            }
+            current = iteratorFunction.apply(maps[segments.next()]);
+         }
+         return true;
+      }
+
+      @Override
+      public T next() {
+         if (!hasNext()) {
+            throw new NoSuchElementException();
+         }
+         return current.next();
+      }
+   }
+
+   private class EntryIterator implements Iterator<InternalCacheEntry<K, V>> {
+
+      private final Iterator<InternalCacheEntry<K, V>> it;
+      private final boolean includeExpired;
+
+      private InternalCacheEntry<K, V> next;
+
+      EntryIterator(Iterator<Integer> segments, boolean includeExpired) {
+         this.it = new SegmentsIterator<>(segments, map -> map.values().iterator());
+         this.includeExpired = includeExpired;
+      }
+
+      private InternalCacheEntry<K, V> getNext() {
+         boolean initializedTime = false;
+         long now = 0;
+         while (it.hasNext()) {
+            InternalCacheEntry<K, V> entry = it.next();
+            if (includeExpired || !entry.canExpire()) {
+               return entry;
+            } else {
+               if (!initializedTime) {
+                  now = timeService.wallClockTime();
+                  initializedTime = true;
+               }
+               if (!entry.isExpired(now)) {
+                  return entry;
+               }
+            }
+         }
+         return null;
+      }
+
+      @Override
+      public InternalCacheEntry<K, V> next() {
+         if (next == null) {
+            next = getNext();
+         }
+         if (next == null) {
+            throw new NoSuchElementException();
+         }
+         InternalCacheEntry<K, V> toReturn = next;
+         next = null;
+         return toReturn;
+      }
+
+      @Override
+      public boolean hasNext() {
+         if (next == null) {
+            next = getNext();
+         }
+         return next != null;
+      }
+   }
+
+   /**
+    * Minimal implementation needed for unmodifiable Set
+    */
+   private class KeySet extends AbstractSet<K> {
+
+      @Override
+      public boolean contains(Object o) {
+         return mapForKey(o).containsKey(o);
+      }
+
+      @Override
+      public Iterator<K> iterator() {
+         return new SegmentsIterator<>(allSegments(), map -> map.keySet().iterator());
+      }
+
+      @Override
+      public int size() {
+         return sizeIncludingExpired();
+      }
+   }
+
+   /**
+    * Minimal implementation needed for unmodifiable Set
+    */
+   private class EntrySet extends AbstractSet<InternalCacheEntry<K, V>> {
+
+      @Override
+      public boolean contains(Object o) {
+         if (!(o instanceof Map.Entry)) {
+            return false;
+         }
+
+         @SuppressWarnings("rawtypes")
+         Map.Entry e = (Map.Entry) o;
+         InternalCacheEntry ice = mapForKey(e.getKey()).get(e.getKey());
+         if (ice == null) {
+            return false;
+         }
+         return ice.getValue().equals(e.getValue());
+      }
+
+      @Override
+      public Iterator<InternalCacheEntry<K, V>> iterator() {
+         Iterator<InternalCacheEntry<K, V>> it = new SegmentsIterator<>(allSegments(), map -> map.values().iterator());
+         return new Iterator<InternalCacheEntry<K, V>>() {
+            @Override
+            public boolean hasNext() {
+               return it.hasNext();
+            }
+
+            @Override
+            public InternalCacheEntry<K, V> next() {
+               return CoreImmutables.immutableInternalCacheEntry(it.next());
+            }
+         };
+      }
+
+      @Override
+      public int size() {
+         return sizeIncludingExpired();
+      }
+   }
+
+   /**
+    * Minimal implementation needed for unmodifiable Collection
+    */
+   private class Values extends AbstractCollection<V> {
+      @Override
+      public Iterator<V> iterator() {
+         return new SegmentsIterator<>(allSegments(),
+               map -> map.values().stream().map(InternalCacheEntry::getValue).iterator());
+      }
+
+      @Override
+      public int size() {
+         return sizeIncludingExpired();
+      }
+   }
+}
@@ -0,0 +1,892 @@
+package org.infinispan.container.offheap;
+
+import static org.infinispan.factories.KnownComponentNames.CACHE_MARSHALLER;
+
+import java.io.IOException;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.infinispan.commons.CacheException;
+import org.infinispan.commons.marshall.StreamingMarshaller;
+import org.infinispan.container.DataContainer;
+import org.infinispan.container.InternalEntryFactory;
+import org.infinispan.container.entries.ExpiryHelper;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.container.entries.metadata.MetadataAware;
+import org.infinispan.eviction.ActivationManager;
+import org.infinispan.eviction.EvictionManager;
+import org.infinispan.eviction.EvictionType;
+import org.infinispan.eviction.PassivationManager;
+import org.infinispan.expiration.ExpirationManager;
+import org.infinispan.factories.annotations.ComponentName;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.annotations.Stop;
+import org.infinispan.filter.KeyFilter;
+import org.infinispan.filter.KeyValueFilter;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.metadata.impl.L1Metadata;
+import org.infinispan.util.CoreImmutables;
+import org.infinispan.util.TimeService;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * Data container that keeps keys, values and metadata serialized outside of the Java heap.
+ * <p>
+ * Every entry is a single block of native memory holding a fixed size header followed by the marshalled key, metadata
+ * and value. The hash index is an array of block addresses, one per bucket, with the entries of a bucket chained
+ * through the header. Since the index only holds primitive addresses the garbage collector does not have to scan any
+ * object per entry.
+ * <p>
+ * Keys are compared by their marshalled form. Entries are materialized as regular {@link InternalCacheEntry}
+ * instances only when they are read; expiration checks, size calculation and eviction only look at the header. When
+ * the container is bounded by {@link EvictionType#MEMORY} the limit applies to the off-heap bytes used by the entries.
+ * <p>
+ * All the native memory is released when the container is stopped, so it must not be used by another thread at that
+ * point.
+ *
+ * @since 9.0
+ */
+@ThreadSafe
+public class OffHeapDataContainer<K, V> implements DataContainer<K, V> {
+
+   private static final Log log = LogFactory.getLog(OffHeapDataContainer.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   // Entry header layout
+   private static final int NEXT_OFFSET = 0;
+   private static final int HASH_OFFSET = 8;
+   private static final int KEY_LENGTH_OFFSET = 12;
+   private static final int METADATA_LENGTH_OFFSET = 16;
+   private static final int VALUE_LENGTH_OFFSET = 20;
+   private static final int CREATED_OFFSET = 24;
+   private static final int LAST_USED_OFFSET = 32;
+   private static final int LIFESPAN_OFFSET = 40;
+   private static final int MAX_IDLE_OFFSET = 48;
+   private static final int HEADER_SIZE = 56;
+
+   private static final int INITIAL_BUCKETS = 1 << 10;
+   private static final int MAX_BUCKETS = 1 << 30;
+
+   private final ReadWriteLock[] locks;
+   private final int lockMask;
+   private final long maxSize;
+   private final EvictionType evictionType;
+   private final AtomicLong count = new AtomicLong();
+   private final AtomicLong usedBytes = new AtomicLong();
+   private final AtomicInteger evictionCursor = new AtomicInteger();
+
+   // Only replaced while holding all the write locks
+   private volatile long[] buckets = new long[INITIAL_BUCKETS];
+
+   private StreamingMarshaller marshaller;
+   private InternalEntryFactory entryFactory;
+   private EvictionManager evictionManager;
+   private PassivationManager passivator;
+   private ActivationManager activator;
+   private TimeService timeService;
+   private ExpirationManager<K, V> expirationManager;
+
+   /**
+    * Creates an unbounded off-heap container.
+    */
+   public OffHeapDataContainer(int concurrencyLevel) {
+      this(concurrencyLevel, -1, EvictionType.COUNT);
+   }
+
+   /**
+    * Creates an off-heap container that evicts entries when the number of entries or the number of off-heap bytes,
+    * depending on {@code evictionType}, exceeds {@code maxSize}.
+    */
+   public OffHeapDataContainer(int concurrencyLevel, long maxSize, EvictionType evictionType) {
+      int lockCount = Math.min(INITIAL_BUCKETS, Integer.highestOneBit(Math.max(1, concurrencyLevel) * 2 - 1));
+      locks = new ReadWriteLock[lockCount];
+      for (int i = 0; i < lockCount; ++i) {
+         locks[i] = new ReentrantReadWriteLock();
+      }
+      lockMask = lockCount - 1;
+      this.maxSize = maxSize;
+      this.evictionType = evictionType;
+   }
+
+   @Inject
+   public void initialize(@ComponentName(CACHE_MARSHALLER) StreamingMarshaller marshaller,
+                          EvictionManager evictionManager, PassivationManager passivator,
+                          InternalEntryFactory entryFactory, ActivationManager activator, TimeService timeService,
+                          ExpirationManager<K, V> expirationManager) {
+      this.marshaller = marshaller;
+      this.evictionManager = evictionManager;
+      this.passivator = passivator;
+      this.entryFactory = entryFactory;
+      this.activator = activator;
+      this.timeService = timeService;
+      this.expirationManager = expirationManager;
+   }
+
+   /**
+    * Releases the native memory of all the entries. Unlike the heap based containers nothing would reclaim it once the
+    * container is discarded, and the cache may be restarted with the same container instance.
+    */
+   @Stop(priority = 999)
+   public void stop() {
+      if (trace) log.tracef("Releasing %d off-heap entries using %d bytes", count.get(), usedBytes.get());
+      clear();
+   }
+
+   /**
+    * @return the number of off-heap bytes currently used by the entries
+    */
+   public long offHeapMemoryUsed() {
+      return usedBytes.get();
+   }
+
+   @Override
+   public InternalCacheEntry<K, V> peek(Object k) {
+      byte[] keyBytes = marshall(k);
+      int hash = hash(keyBytes);
+      Lock lock = lockFor(hash).readLock();
+      lock.lock();
+      try {
+         long address = find(hash, keyBytes);
+         return address == 0 ? null : materialize(address, (K) k);
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   @Override
+   public InternalCacheEntry<K, V> get(Object k) {
+      byte[] keyBytes = marshall(k);
+      int hash = hash(keyBytes);
+      InternalCacheEntry<K, V> e;
+      long now = 0;
+      Lock lock = lockFor(hash).readLock();
+      lock.lock();
+      try {
+         long address = find(hash, keyBytes);
+         if (address == 0) {
+            return null;
+         }
+         if (canExpire(address)) {
+            now = timeService.wallClockTime();
+            if (!isExpired(address, now) && UnsafeMemory.getLong(address + MAX_IDLE_OFFSET) > -1) {
+               touch(address, now);
+            }
+         }
+         e = materialize(address, (K) k);
+      } finally {
+         lock.unlock();
+      }
+      if (now != 0 && e.isExpired(now)) {
+         expirationManager.handleInMemoryExpiration(e, now);
+         return null;
+      }
+      return e;
+   }
+
+   @Override
+   public void put(K k, V v, Metadata metadata) {
+      boolean l1Entry = false;
+      if (metadata instanceof L1Metadata) {
+         metadata = ((L1Metadata) metadata).metadata();
+         l1Entry = true;
+      }
+      final Metadata m = metadata;
+      final boolean l1 = l1Entry;
+      compute(k, (key, oldEntry, factory) -> {
+         if (trace) {
+            log.tracef("Creating new ICE for writing. Existing=%s, metadata=%s, new value=%s", oldEntry, m, v);
+         }
+         if (l1) {
+            return factory.createL1(key, v, m);
+         } else if (oldEntry != null) {
+            return factory.update(oldEntry, v, m);
+         } else {
+            // this is a brand-new entry
+            return factory.create(key, v, m);
+         }
+      });
+   }
+
+   @Override
+   public boolean containsKey(Object k) {
+      byte[] keyBytes = marshall(k);
+      int hash = hash(keyBytes);
+      boolean expired;
+      Lock lock = lockFor(hash).readLock();
+      lock.lock();
+      try {
+         long address = find(hash, keyBytes);
+         if (address == 0) {
+            return false;
+         }
+         expired = canExpire(address) && isExpired(address, timeService.wallClockTime());
+      } finally {
+         lock.unlock();
+      }
+      if (expired) {
+         removeInternal(k, false);
+         return false;
+      }
+      return true;
+   }
+
+   @Override
+   public InternalCacheEntry<K, V> remove(Object k) {
+      InternalCacheEntry<K, V> e = removeInternal(k, true);
+      return e == null || (e.canExpire() && e.isExpired(timeService.wallClockTime())) ? null : e;
+   }
+
+   private InternalCacheEntry<K, V> removeInternal(Object k, boolean notifyActivator) {
+      byte[] keyBytes = marshall(k);
+      int hash = hash(keyBytes);
+      Lock lock = lockFor(hash).writeLock();
+      lock.lock();
+      try {
+         long address = unlink(hash, keyBytes);
+         if (notifyActivator) {
+            activator.onRemove(k, address == 0);
+         }
+         if (address == 0) {
+            return null;
+         }
+         InternalCacheEntry<K, V> e = materialize(address, (K) k);
+         release(address);
+         return e;
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   @Override
+   public int size() {
+      long now = timeService.wallClockTime();
+      long size = 0;
+      for (int i = 0; i < buckets.length; ++i) {
+         Lock lock = lockFor(i).readLock();
+         lock.lock();
+         try {
+            long[] table = buckets;
+            if (i >= table.length) break;
+            for (long address = table[i]; address != 0; address = UnsafeMemory.getLong(address + NEXT_OFFSET)) {
+               if (!canExpire(address) || !isExpired(address, now)) {
+                  size++;
+               }
+            }
+         } finally {
+            lock.unlock();
+         }
+      }
+      return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+   }
+
+   @Override
+   public int sizeIncludingExpired() {
+      long size = count.get();
+      return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+   }
+
+   @Override
+   public void clear() {
+      log.tracef("Clearing data container");
+      lockAll();
+      try {
+         long[] table = buckets;
+         for (int i = 0; i < table.length; ++i) {
+            long address = table[i];
+            while (address != 0) {
+               long next = UnsafeMemory.getLong(address + NEXT_OFFSET);
+               release(address);
+               address = next;
+            }
+            table[i] = 0;
+         }
+      } finally {
+         unlockAll();
+      }
+   }
+
+   @Override
+   public Set<K> keySet() {
+      return new KeySet();
+   }
+
+   @Override
+   public Collection<V> values() {
+      return new Values();
+   }
+
+   @Override
+   public Set<InternalCacheEntry<K, V>> entrySet() {
+      return new EntrySet();
+   }
+
+   @Override
+   public void purgeExpired() {
+      // Just calls to expiration manager to handle this
+      expirationManager.processExpiration();
+   }
+
+   @Override
+   public void evict(K key) {
+      byte[] keyBytes = marshall(key);
+      int hash = hash(keyBytes);
+      InternalCacheEntry<K, V> entry = null;
+      Lock lock = lockFor(hash).writeLock();
+      lock.lock();
+      try {
+         long address = unlink(hash, keyBytes);
+         if (address != 0) {
+            entry = materialize(address, key);
+            release(address);
+         }
+      } finally {
+         lock.unlock();
+      }
+      // Passivation writes to the stores, so it must not block the other entries of the bucket
+      if (entry != null) {
+         passivator.passivate(entry);
+      }
+   }
+
+   @Override
+   public InternalCacheEntry<K, V> compute(K key, ComputeAction<K, V> action) {
+      byte[] keyBytes = marshall(key);
+      int hash = hash(keyBytes);
+      InternalCacheEntry<K, V> newEntry;
+      Lock lock = lockFor(hash).writeLock();
+      lock.lock();
+      try {
+         long address = find(hash, keyBytes);
+         InternalCacheEntry<K, V> oldEntry = address == 0 ? null : materialize(address, key);
+         newEntry = action.compute(key, oldEntry, entryFactory);
+         if (newEntry == null) {
+            if (oldEntry != null) {
+               activator.onRemove(key, false);
+               release(unlink(hash, keyBytes));
+            }
+            return null;
+         }
+         // The old entry is a copy, so even if the action returned it it may have been modified and must be written back
+         if (newEntry != oldEntry) {
+            activator.onUpdate(key, oldEntry == null);
+         }
+         if (trace)
+            log.tracef("Store %s in container", newEntry);
+         long newAddress = allocate(hash, keyBytes, newEntry);
+         if (address != 0) {
+            release(unlink(hash, keyBytes));
+         }
+         long[] table = buckets;
+         int index = hash & (table.length - 1);
+         UnsafeMemory.putLong(newAddress + NEXT_OFFSET, table[index]);
+         table[index] = newAddress;
+         count.incrementAndGet();
+      } finally {
+         lock.unlock();
+      }
+      ensureCapacity();
+      return newEntry;
+   }
+
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> iterator() {
+      return new EntryIterator(false);
+   }
+
+   @Override
+   public Iterator<InternalCacheEntry<K, V>> iteratorIncludingExpired() {
+      return new EntryIterator(true);
+   }
+
+   @Override
+   public void executeTask(KeyFilter<? super K> filter, BiConsumer<? super K, InternalCacheEntry<K, V>> action)
+         throws InterruptedException {
+      if (filter == null)
+         throw new IllegalArgumentException("No filter specified");
+      if (action == null)
+         throw new IllegalArgumentException("No action specified");
+
+      for (Iterator<InternalCacheEntry<K, V>> it = iteratorIncludingExpired(); it.hasNext(); ) {
+         InternalCacheEntry<K, V> entry = it.next();
+         if (filter.accept(entry.getKey())) {
+            action.accept(entry.getKey(), entry);
+         }
+         if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+         }
+      }
+   }
+
+   @Override
+   public void executeTask(KeyValueFilter<? super K, ? super V> filter, BiConsumer<? super K, InternalCacheEntry<K, V>> action)
+         throws InterruptedException {
+      if (filter == null)
+         throw new IllegalArgumentException("No filter specified");
+      if (action == null)
+         throw new IllegalArgumentException("No action specified");
+
+      for (Iterator<InternalCacheEntry<K, V>> it = iteratorIncludingExpired(); it.hasNext(); ) {
+         InternalCacheEntry<K, V> entry = it.next();
+         if (filter.accept(entry.getKey(), entry.getValue(), entry.getMetadata())) {
+            action.accept(entry.getKey(), entry);
+         }
+         if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+         }
+      }
+   }
+
+   @Override
+   public long capacity() {
+      if (maxSize < 0) {
+         throw new UnsupportedOperationException();
+      }
+      return maxSize;
+   }
+
+   private ReadWriteLock lockFor(int hash) {
+      // The lock only depends on the low bits of the hash, so it doesn't change when the table is resized
+      return locks[hash & lockMask];
+   }
+
+   private void lockAll() {
+      for (ReadWriteLock lock : locks) {
+         lock.writeLock().lock();
+      }
+   }
+
+   private void unlockAll() {
+      for (int i = locks.length - 1; i >= 0; --i) {
+         locks[i].writeLock().unlock();
+      }
+   }
+
+   private static int hash(byte[] keyBytes) {
+      int h = Arrays.hashCode(keyBytes);
+      return h ^ (h >>> 16);
+   }
+
+   /**
+    * Must be called while holding the lock of the hash.
+    */
+   private long find(int hash, byte[] keyBytes) {
+      long[] table = buckets;
+      for (long address = table[hash & (table.length - 1)]; address != 0;
+           address = UnsafeMemory.getLong(address + NEXT_OFFSET)) {
+         if (matches(address, hash, keyBytes)) {
+            return address;
+         }
+      }
+      return 0;
+   }
+
+   /**
+    * Removes the entry from its bucket without releasing the memory. Must be called while holding the write lock of
+    * the hash.
+    */
+   private long unlink(int hash, byte[] keyBytes) {
+      long[] table = buckets;
+      int index = hash & (table.length - 1);
+      long prev = 0;
+      for (long address = table[index]; address != 0; address = UnsafeMemory.getLong(address + NEXT_OFFSET)) {
+         if (matches(address, hash, keyBytes)) {
+            long next = UnsafeMemory.getLong(address + NEXT_OFFSET);
+            if (prev == 0) {
+               table[index] = next;
+            } else {
+               UnsafeMemory.putLong(prev + NEXT_OFFSET, next);
+            }
+            return address;
+         }
+         prev = address;
+      }
+      return 0;
+   }
+
+   private static boolean matches(long address, int hash, byte[] keyBytes) {
+      return UnsafeMemory.getInt(address + HASH_OFFSET) == hash
+            && UnsafeMemory.getInt(address + KEY_LENGTH_OFFSET) == keyBytes.length
+            && UnsafeMemory.equals(address + HEADER_SIZE, keyBytes);
+   }
+
+   private static long blockSize(long address) {
+      int metadataLength = UnsafeMemory.getInt(address + METADATA_LENGTH_OFFSET);
+      return HEADER_SIZE + UnsafeMemory.getInt(address + KEY_LENGTH_OFFSET) + Math.max(0, metadataLength)
+            + UnsafeMemory.getInt(address + VALUE_LENGTH_OFFSET);
+   }
+
+   private long allocate(int hash, byte[] keyBytes, InternalCacheEntry<K, V> entry) {
+      // Metadata is only kept if the entry type relies on it, otherwise lifespan and max idle in the header suffice
+      byte[] metadataBytes = entry instanceof MetadataAware ? marshall(entry.getMetadata()) : null;
+      byte[] valueBytes = marshall(entry.getValue());
+      int metadataLength = metadataBytes == null ? 0 : metadataBytes.length;
+      long size = HEADER_SIZE + keyBytes.length + metadataLength + valueBytes.length;
+      long address = UnsafeMemory.allocate(size);
+      UnsafeMemory.putLong(address + NEXT_OFFSET, 0);
+      UnsafeMemory.putInt(address + HASH_OFFSET, hash);
+      UnsafeMemory.putInt(address + KEY_LENGTH_OFFSET, keyBytes.length);
+      UnsafeMemory.putInt(address + METADATA_LENGTH_OFFSET, metadataBytes == null ? -1 : metadataLength);
+      UnsafeMemory.putInt(address + VALUE_LENGTH_OFFSET, valueBytes.length);
+      UnsafeMemory.putLong(address + CREATED_OFFSET, entry.getCreated());
+      UnsafeMemory.putLong(address + LAST_USED_OFFSET, entry.getLastUsed());
+      UnsafeMemory.putLong(address + LIFESPAN_OFFSET, entry.getLifespan());
+      UnsafeMemory.putLong(address + MAX_IDLE_OFFSET, entry.getMaxIdle());
+      UnsafeMemory.putBytes(address + HEADER_SIZE, keyBytes);
+      if (metadataBytes != null) {
+         UnsafeMemory.putBytes(address + HEADER_SIZE + keyBytes.length, metadataBytes);
+      }
+      UnsafeMemory.putBytes(address + HEADER_SIZE + keyBytes.length + metadataLength, valueBytes);
+      usedBytes.addAndGet(size);
+      return address;
+   }
+
+   private void release(long address) {
+      usedBytes.addAndGet(-blockSize(address));
+      count.decrementAndGet();
+      UnsafeMemory.free(address);
+   }
+
+   /**
+    * Updates the last used time of the entry. Readers only hold the read lock, so the time is only ever moved forward
+    * with a compare and swap.
+    */
+   private static void touch(long address, long now) {
+      long lastUsed;
+      do {
+         lastUsed = UnsafeMemory.getLongVolatile(address + LAST_USED_OFFSET);
+      } while (lastUsed < now && !UnsafeMemory.compareAndSwapLong(address + LAST_USED_OFFSET, lastUsed, now));
+   }
+
+   private static boolean canExpire(long address) {
+      return UnsafeMemory.getLong(address + LIFESPAN_OFFSET) > -1 || UnsafeMemory.getLong(address + MAX_IDLE_OFFSET) > -1;
+   }
+
+   private static boolean isExpired(long address, long now) {
+      return ExpiryHelper.isExpiredTransientMortal(UnsafeMemory.getLong(address + MAX_IDLE_OFFSET),
+            UnsafeMemory.getLongVolatile(address + LAST_USED_OFFSET), UnsafeMemory.getLong(address + LIFESPAN_OFFSET),
+            UnsafeMemory.getLong(address + CREATED_OFFSET), now);
+   }
+
+   /**
+    * Creates an on-heap entry from the off-heap block. The key is only unmarshalled if it is not provided. Must be
+    * called while holding the lock of the entry.
+    */
+   private InternalCacheEntry<K, V> materialize(long address, K key) {
+      int keyLength = UnsafeMemory.getInt(address + KEY_LENGTH_OFFSET);
+      int metadataLength = UnsafeMemory.getInt(address + METADATA_LENGTH_OFFSET);
+      int valueLength = UnsafeMemory.getInt(address + VALUE_LENGTH_OFFSET);
+      long dataAddress = address + HEADER_SIZE;
+      if (key == null) {
+         key = (K) unmarshall(UnsafeMemory.getBytes(dataAddress, keyLength));
+      }
+      dataAddress += keyLength;
+      Metadata metadata = null;
+      if (metadataLength >= 0) {
+         metadata = (Metadata) unmarshall(UnsafeMemory.getBytes(dataAddress, metadataLength));
+         dataAddress += metadataLength;
+      }
+      V value = (V) unmarshall(UnsafeMemory.getBytes(dataAddress, valueLength));
+      return entryFactory.create(key, value, metadata, UnsafeMemory.getLong(address + CREATED_OFFSET),
+            UnsafeMemory.getLong(address + LIFESPAN_OFFSET), UnsafeMemory.getLongVolatile(address + LAST_USED_OFFSET),
+            UnsafeMemory.getLong(address + MAX_IDLE_OFFSET));
+   }
+
+   private byte[] marshall(Object o) {
+      try {
+         return marshaller.objectToByteBuffer(o);
+      } catch (IOException e) {
+         throw new CacheException(e);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new CacheException(e);
+      }
+   }
+
+   private Object unmarshall(byte[] bytes) {
+      try {
+         return marshaller.objectFromByteBuffer(bytes);
+      } catch (IOException | ClassNotFoundException e) {
+         throw new CacheException(e);
+      }
+   }
+
+   private boolean isOverCapacity() {
+      if (maxSize < 0) {
+         return false;
+      }
+      return (evictionType == EvictionType.MEMORY ? usedBytes.get() : count.get()) > maxSize;
+   }
+
+   /**
+    * Grows the hash index when the chains get too long, and evicts entries when the container is over its limit.
+    * Must not be called while holding any lock.
+    */
+   private void ensureCapacity() {
+      long[] table = buckets;
+      if (count.get() > table.length * 3L / 4 && table.length < MAX_BUCKETS) {
+         resize(table.length);
+      }
+      if (isOverCapacity()) {
+         evictUntilBelowCapacity();
+      }
+   }
+
+   private void resize(int expectedLength) {
+      lockAll();
+      try {
+         long[] table = buckets;
+         if (table.length != expectedLength) {
+            // somebody else resized already
+            return;
+         }
+         long[] newTable = new long[table.length << 1];
+         int mask = newTable.length - 1;
+         for (long head : table) {
+            long address = head;
+            while (address != 0) {
+               long next = UnsafeMemory.getLong(address + NEXT_OFFSET);
+               int index = UnsafeMemory.getInt(address + HASH_OFFSET) & mask;
+               UnsafeMemory.putLong(address + NEXT_OFFSET, newTable[index]);
+               newTable[index] = address;
+               address = next;
+            }
+         }
+         buckets = newTable;
+         if (trace) log.tracef("Resized off-heap hash index to %d buckets", newTable.length);
+      } finally {
+         unlockAll();
+      }
+   }
+
+   /**
+    * Evicts the tail of the buckets in round robin order. New and updated entries are always linked at the head of
+    * their bucket, so the tail is the entry of the bucket that was written the longest time ago. The order is only
+    * kept per bucket, which is why the container only supports {@link org.infinispan.eviction.EvictionStrategy#UNORDERED}.
+    */
+   private void evictUntilBelowCapacity() {
+      Map<K, InternalCacheEntry<K, V>> evicted = new HashMap<>();
+      while (isOverCapacity() && count.get() > 0) {
+         InternalCacheEntry<K, V> entry = removeTail(evictionCursor.getAndIncrement());
+         if (entry != null) {
+            // Passivation writes to the stores, so it must not block the other entries of the bucket
+            passivator.passivate(entry);
+            evicted.put(entry.getKey(), entry);
+         }
+      }
+      if (!evicted.isEmpty()) {
+         evictionManager.onEntryEviction(evicted);
+      }
+   }
+
+   /**
+    * Removes the tail entry of the bucket and returns a copy of it, or {@code null} if the bucket is empty.
+    */
+   private InternalCacheEntry<K, V> removeTail(int bucket) {
+      Lock lock = lockFor(bucket).writeLock();
+      lock.lock();
+      try {
+         long[] table = buckets;
+         int index = bucket & (table.length - 1);
+         long address = table[index];
+         if (address == 0) {
+            return null;
+         }
+         long prev = 0;
+         for (long next = UnsafeMemory.getLong(address + NEXT_OFFSET); next != 0;
+              next = UnsafeMemory.getLong(address + NEXT_OFFSET)) {
+            prev = address;
+            address = next;
+         }
+         if (prev == 0) {
+            table[index] = 0;
+         } else {
+            UnsafeMemory.putLong(prev + NEXT_OFFSET, 0);
+         }
+         InternalCacheEntry<K, V> entry = materialize(address, null);
+         release(address);
+         return entry;
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   /**
+    * Iterates over the buckets one at a time, copying the entries of a bucket while holding its lock and
+    * materializing them only when they are returned.
+    */
+   private class EntryIterator implements Iterator<InternalCacheEntry<K, V>> {
+      private final boolean includeExpired;
+      private int bucket;
+      private final List<InternalCacheEntry<K, V>> current = new ArrayList<>();
+      private int position;
+
+      EntryIterator(boolean includeExpired) {
+         this.includeExpired = includeExpired;
+      }
+
+      @Override
+      public boolean hasNext() {
+         while (position >= current.size()) {
+            current.clear();
+            position = 0;
+            if (!loadNextBucket()) {
+               return false;
+            }
+         }
+         return true;
+      }
+
+      private boolean loadNextBucket() {
+         long now = includeExpired ? 0 : timeService.wallClockTime();
+         int length = buckets.length;
+         while (bucket < length) {
+            int index = bucket++;
+            Lock lock = lockFor(index).readLock();
+            lock.lock();
+            try {
+               long[] table = buckets;
+               if (index >= table.length) {
+                  return false;
+               }
+               for (long address = table[index]; address != 0; address = UnsafeMemory.getLong(address + NEXT_OFFSET)) {
+                  if (includeExpired || !canExpire(address) || !isExpired(address, now)) {
+                     current.add(materialize(address, null));
+                  }
+               }
+            } finally {
+               lock.unlock();
+            }
+            if (!current.isEmpty()) {
+               return true;
+            }
+         }
+         return false;
+      }
+
+      @Override
+      public InternalCacheEntry<K, V> next() {
+         if (!hasNext()) {
+            throw new NoSuchElementException();
+         }
+         return current.get(position++);
+      }
+   }
+
+   /**
+    * Minimal implementation needed for unmodifiable Set
+    */
+   private class KeySet extends AbstractSet<K> {
+
+      @Override
+      public boolean contains(Object o) {
+         return peek(o) != null;
+      }
+
+      @Override
+      public Iterator<K> iterator() {
+         Iterator<InternalCacheEntry<K, V>> it = iteratorIncludingExpired();
+         return new Iterator<K>() {
+            @Override
+            public boolean hasNext() {
+               return it.hasNext();
+            }
+
+            @Override
+            public K next() {
+               return it.next().getKey();
+            }
+         };
+      }
+
+      @Override
+      public int size() {
+         return sizeIncludingExpired();
+      }
+   }
+
+   /**
+    * Minimal implementation needed for unmodifiable Set
+    */
+   private class EntrySet extends AbstractSet<InternalCacheEntry<K, V>> {
+
+      @Override
+      public boolean contains(Object o) {
+         if (!(o instanceof Map.Entry)) {
+            return false;
+         }
+
+         @SuppressWarnings("rawtypes")
+         Map.Entry e = (Map.Entry) o;
+         InternalCacheEntry ice = peek(e.getKey());
+         if (ice == null) {
+            return false;
+         }
+         return ice.getValue().equals(e.getValue());
+      }
+
+      @Override
+      public Iterator<InternalCacheEntry<K, V>> iterator() {
+         Iterator<InternalCacheEntry<K, V>> it = iteratorIncludingExpired();
+         return new Iterator<InternalCacheEntry<K, V>>() {
+            @Override
+            public boolean hasNext() {
+               return it.hasNext();
+            }
+
+            @Override
+            public InternalCacheEntry<K, V> next() {
+               return CoreImmutables.immutableInternalCacheEntry(it.next());
+            }
+         };
+      }
+
+      @Override
+      public int size() {
+         return sizeIncludingExpired();
+      }
+   }
+
+   /**
+    * Minimal implementation needed for unmodifiable Collection
+    */
+   private class Values extends AbstractCollection<V> {
+      @Override
+      public Iterator<V> iterator() {
+         Iterator<InternalCacheEntry<K, V>> it = iteratorIncludingExpired();
+         return new Iterator<V>() {
+            @Override
+            public boolean hasNext() {
+               return it.hasNext();
+            }
+
+            @Override
+            public V next() {
+               return it.next().getValue();
+            }
+         };
+      }
+
+      @Override
+      public int size() {
+         return sizeIncludingExpired();
+      }
+   }
+}
@@ -0,0 +1,92 @@
+package org.infinispan.container.offheap;
+
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+
+import sun.misc.Unsafe;
+
+/**
+ * Thin wrapper around {@link Unsafe} for allocating and accessing memory outside of the Java heap.
+ * <p>
+ * No bounds checking is performed, callers are responsible for only touching memory they allocated and for freeing it
+ * exactly once.
+ *
+ * @since 9.0
+ */
+final class UnsafeMemory {
+
+   private static final Unsafe UNSAFE = getUnsafe();
+   private static final long BYTE_ARRAY_BASE_OFFSET = UNSAFE.arrayBaseOffset(byte[].class);
+
+   private UnsafeMemory() {
+   }
+
+   static long allocate(long size) {
+      return UNSAFE.allocateMemory(size);
+   }
+
+   static void free(long address) {
+      UNSAFE.freeMemory(address);
+   }
+
+   static long getLong(long address) {
+      return UNSAFE.getLong(address);
+   }
+
+   static void putLong(long address, long value) {
+      UNSAFE.putLong(address, value);
+   }
+
+   static long getLongVolatile(long address) {
+      return UNSAFE.getLongVolatile(null, address);
+   }
+
+   /**
+    * Atomically sets the long at {@code address} to {@code value} if it is {@code expected}. The address must be
+    * 8-byte aligned.
+    */
+   static boolean compareAndSwapLong(long address, long expected, long value) {
+      return UNSAFE.compareAndSwapLong(null, address, expected, value);
+   }
+
+   static int getInt(long address) {
+      return UNSAFE.getInt(address);
+   }
+
+   static void putInt(long address, int value) {
+      UNSAFE.putInt(address, value);
+   }
+
+   static void putBytes(long address, byte[] bytes) {
+      UNSAFE.copyMemory(bytes, BYTE_ARRAY_BASE_OFFSET, null, address, bytes.length);
+   }
+
+   static byte[] getBytes(long address, int length) {
+      byte[] bytes = new byte[length];
+      UNSAFE.copyMemory(null, address, bytes, BYTE_ARRAY_BASE_OFFSET, length);
+      return bytes;
+   }
+
+   static boolean equals(long address, byte[] bytes) {
+      for (int i = 0; i < bytes.length; ++i) {
+         if (UNSAFE.getByte(address + i) != bytes[i]) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   private static Unsafe getUnsafe() {
+      try {
+         return AccessController.doPrivileged((PrivilegedExceptionAction<Unsafe>) () -> {
+            Field f = Unsafe.class.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            return (Unsafe) f.get(null);
+         });
+      } catch (PrivilegedActionException e) {
+         throw new RuntimeException("Could not access sun.misc.Unsafe", e.getCause());
+      }
+   }
+}
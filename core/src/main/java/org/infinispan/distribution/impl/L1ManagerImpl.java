@@ -11,6 +11,7 @@
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.distribution.L1Manager;
 import org.infinispan.distribution.RemoteValueRetrievedListener;
+import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.Start;
 import org.infinispan.factories.annotations.Stop;
@@ -53,6 +54,10 @@ public class L1ManagerImpl implements L1Manager, RemoteValueRetrievedListener {
    private ScheduledExecutorService scheduledExecutor;
    private ScheduledFuture<?> scheduledRequestorsCleanupTask;
    private TimeService timeService;
+   private KeyPartitioner keyPartitioner;
+   // Replaces the requestors map if set
+   private L1RequestorBloomFilter requestorFilter;
+   private ScheduledFuture<?> scheduledRequestorFilterRotateTask;
 
    private RpcOptions syncIgnoreLeaversRpcOptions;
 
@@ -64,19 +69,27 @@ public L1ManagerImpl() {
    @Inject
    public void init(Configuration configuration, RpcManager rpcManager, CommandsFactory commandsFactory,
                     @ComponentName(KnownComponentNames.EXPIRATION_SCHEDULED_EXECUTOR) ScheduledExecutorService scheduledExecutor,
-                    TimeService timeService) {
+                    TimeService timeService, KeyPartitioner keyPartitioner) {
       this.rpcManager = rpcManager;
       this.commandsFactory = commandsFactory;
       this.configuration = configuration;
       this.scheduledExecutor = scheduledExecutor;
       this.timeService = timeService;
+      this.keyPartitioner = keyPartitioner;
    }
 
    @Start (priority = 3)
    public void start() {
       this.threshold = configuration.clustering().l1().invalidationThreshold();
       this.l1Lifespan = configuration.clustering().l1().lifespan();
-      if (configuration.clustering().l1().cleanupTaskFrequency() > 0) {
+      int requestorFilterSize = configuration.clustering().l1().requestorFilterSize();
+      if (requestorFilterSize > 0) {
+         requestorFilter = new L1RequestorBloomFilter(configuration.clustering().hash().numSegments(),
+                                                      requestorFilterSize);
+         // The keys are tracked for at least one lifespan, i.e. for as long as they may be in the requestors L1 cache
+         scheduledRequestorFilterRotateTask = scheduledExecutor.scheduleAtFixedRate(requestorFilter::rotate,
+               l1Lifespan, l1Lifespan, TimeUnit.MILLISECONDS);
+      } else if (configuration.clustering().l1().cleanupTaskFrequency() > 0) {
          scheduledRequestorsCleanupTask = scheduledExecutor.scheduleAtFixedRate(new Runnable() {
             @Override
             public void run() {
@@ -96,6 +109,7 @@ public void run() {
    @Stop (priority = 3)
    public void stop() {
       if (scheduledRequestorsCleanupTask != null) scheduledRequestorsCleanupTask.cancel(true);
+      if (scheduledRequestorFilterRotateTask != null) scheduledRequestorFilterRotateTask.cancel(true);
    }
 
    private void cleanUpRequestors() {
@@ -116,6 +130,11 @@ private void prune(ConcurrentMap<Address, Long> reqs, long expiryTime) {
 
    @Override
    public void addRequestor(Object key, Address origin) {
+      if (requestorFilter != null) {
+         if (trace) log.tracef("Registering requestor %s for key '%s' in the requestor filter", origin, key);
+         requestorFilter.add(key, keyPartitioner.getSegment(key), origin);
+         return;
+      }
       //we do a plain get first as that's likely to be enough
       ConcurrentMap<Address, Long> as = requestors.get(key);
       log.tracef("Registering requestor %s for key '%s'", origin, key);
@@ -162,6 +181,9 @@ public Future<?> flushCache(Collection<Object> keys, Address origin, boolean ass
    }
 
    private Collection<Address> buildInvalidationAddressList(Collection<Object> keys, Address origin, boolean assumeOriginKeptEntryInL1) {
+      if (requestorFilter != null) {
+         return buildInvalidationAddressListFromFilter(keys, origin, assumeOriginKeptEntryInL1);
+      }
       Collection<Address> addresses = new HashSet<Address>(2);
       boolean originIsInRequestorsList = false;
       for (Object key : keys) {
@@ -181,6 +203,17 @@ private Collection<Address> buildInvalidationAddressList(Collection<Object> keys
       return addresses;
    }
 
+   private Collection<Address> buildInvalidationAddressListFromFilter(Collection<Object> keys, Address origin,
+                                                                      boolean assumeOriginKeptEntryInL1) {
+      Set<Address> addresses = new HashSet<>(2);
+      for (Object key : keys) {
+         requestorFilter.addRequestors(key, keyPartitioner.getSegment(key), addresses);
+      }
+      // The keys are never removed from the filter, so the origin is still tracked if it keeps the entry in L1
+      if (assumeOriginKeptEntryInL1 && origin != null) addresses.remove(origin);
+      return addresses;
+   }
+
    private boolean isUseMulticast(int nodes) {
       // User has requested unicast only
       if (threshold == -1) return false;
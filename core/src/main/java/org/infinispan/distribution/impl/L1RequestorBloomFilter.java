@@ -0,0 +1,136 @@
+package org.infinispan.distribution.impl;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.infinispan.commons.hash.MurmurHash3;
+import org.infinispan.commons.util.CollectionFactory;
+import org.infinispan.remoting.transport.Address;
+
+/**
+ * Tracks the nodes that may hold a key in their L1 cache with Bloom filters, instead of keeping the requestors of each
+ * key.
+ * <p>
+ * There is a filter per segment and per requestor, created when the requestor reads the first key of the segment. A
+ * filter never reports a key read by its requestor as absent, but it may report a key that wasn't read as present, so
+ * a few more invalidations than needed are sent. The memory used doesn't depend on the number of keys read.
+ * <p>
+ * Since a key can't be removed from a filter, the filters are rotated instead: the keys are added to the filters of
+ * the current generation, which becomes the previous generation on {@link #rotate()} and is discarded on the next one.
+ * Rotating every L1 lifespan, a key is tracked for at least as long as the requestor may keep it in its L1 cache.
+ *
+ * @since 9.0
+ */
+final class L1RequestorBloomFilter {
+
+   private static final int HASH_FUNCTIONS = 3;
+   private static final MurmurHash3 HASH = MurmurHash3.getInstance();
+
+   private final int numSegments;
+   private final int bits;
+   private volatile Generation current;
+   private volatile Generation previous;
+
+   /**
+    * @param numSegments the number of segments of the cache
+    * @param bits the number of bits of each filter, rounded up to a multiple of 64
+    */
+   L1RequestorBloomFilter(int numSegments, int bits) {
+      this.numSegments = numSegments;
+      this.bits = (bits + 63) & ~63;
+      this.current = new Generation();
+      this.previous = new Generation();
+   }
+
+   /**
+    * Records that {@code requestor} may keep {@code key}, mapped to {@code segment}, in its L1 cache.
+    */
+   void add(Object key, int segment, Address requestor) {
+      int h1 = HASH.hash(key.hashCode());
+      int h2 = HASH.hash(h1);
+      AtomicLongArray filter = current.filter(requestor, segment);
+      for (int i = 0; i < HASH_FUNCTIONS; i++) {
+         setBit(filter, index(h1, h2, i));
+      }
+   }
+
+   /**
+    * Adds the nodes that may keep {@code key}, mapped to {@code segment}, in their L1 cache to {@code requestors}.
+    */
+   void addRequestors(Object key, int segment, Set<Address> requestors) {
+      int h1 = HASH.hash(key.hashCode());
+      int h2 = HASH.hash(h1);
+      current.addRequestors(h1, h2, segment, requestors);
+      previous.addRequestors(h1, h2, segment, requestors);
+   }
+
+   /**
+    * Discards the previous generation of filters, and starts a new one.
+    */
+   void rotate() {
+      previous = current;
+      current = new Generation();
+   }
+
+   private int index(int h1, int h2, int i) {
+      return ((h1 + i * h2) & Integer.MAX_VALUE) % bits;
+   }
+
+   private static void setBit(AtomicLongArray filter, int index) {
+      int word = index >>> 6;
+      long mask = 1L << index;
+      long value;
+      do {
+         value = filter.get(word);
+         if ((value & mask) != 0) {
+            return;
+         }
+      } while (!filter.compareAndSet(word, value, value | mask));
+   }
+
+   private static boolean isBitSet(AtomicLongArray filter, int index) {
+      return (filter.get(index >>> 6) & (1L << index)) != 0;
+   }
+
+   private final class Generation {
+      private final ConcurrentMap<Address, AtomicReferenceArray<AtomicLongArray>> filters =
+            CollectionFactory.makeConcurrentMap();
+
+      AtomicLongArray filter(Address requestor, int segment) {
+         AtomicReferenceArray<AtomicLongArray> segmentFilters = filters.get(requestor);
+         if (segmentFilters == null) {
+            segmentFilters = filters.computeIfAbsent(requestor, k -> new AtomicReferenceArray<>(numSegments));
+         }
+         AtomicLongArray filter = segmentFilters.get(segment);
+         if (filter == null) {
+            AtomicLongArray newFilter = new AtomicLongArray(bits >>> 6);
+            filter = segmentFilters.compareAndSet(segment, null, newFilter) ? newFilter : segmentFilters.get(segment);
+         }
+         return filter;
+      }
+
+      void addRequestors(int h1, int h2, int segment, Set<Address> requestors) {
+         for (Map.Entry<Address, AtomicReferenceArray<AtomicLongArray>> entry : filters.entrySet()) {
+            if (requestors.contains(entry.getKey())) {
+               continue;
+            }
+            AtomicLongArray filter = entry.getValue().get(segment);
+            if (filter != null && mightContain(filter, h1, h2)) {
+               requestors.add(entry.getKey());
+            }
+         }
+      }
+
+      private boolean mightContain(AtomicLongArray filter, int h1, int h2) {
+         for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            if (!isBitSet(filter, index(h1, h2, i))) {
+               return false;
+            }
+         }
+         return true;
+      }
+   }
+}
@@ -53,6 +53,16 @@ public void checkForReadyTasks() {
       }
    }
 
+   @Override
+   public int getBlockedTaskCount() {
+      return delegate == null ? 0 : delegate.getBlockedTaskCount();
+   }
+
+   @Override
+   public long getBlockedTimePercentile(double fraction, TimeUnit unit) {
+      return delegate == null ? 0 : delegate.getBlockedTimePercentile(fraction, unit);
+   }
+
    @Override
    public void shutdown() {
       if (delegate != null) delegate.shutdown();
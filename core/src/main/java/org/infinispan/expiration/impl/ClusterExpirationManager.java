@@ -4,7 +4,6 @@
 import org.infinispan.AdvancedCache;
 import org.infinispan.commands.CommandsFactory;
 import org.infinispan.commands.write.RemoveExpiredCommand;
-import org.infinispan.commons.util.Util;
 import org.infinispan.container.entries.ExpiryHelper;
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.context.InvocationContext;
@@ -23,7 +22,6 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Allows for cluster based expirations to occur.  This provides guarantees that when an entry is expired that it will
@@ -56,29 +54,30 @@ public void inject(AdvancedCache<K, V> cache,
 
    @Override
    public void processExpiration() {
-      long start = 0;
       if (!Thread.currentThread().isInterrupted()) {
          try {
             if (trace) {
                log.trace("Purging data container of expired entries");
-               start = timeService.time();
             }
+            long start = timeService.time();
             long currentTimeMillis = timeService.wallClockTime();
-            for (Iterator<InternalCacheEntry<K, V>> purgeCandidates = dataContainer.iteratorIncludingExpired();
+            long visited = 0;
+            long expired = 0;
+            for (Iterator<InternalCacheEntry<K, V>> purgeCandidates = dataContainer.expirationCandidates(currentTimeMillis);
                  purgeCandidates.hasNext();) {
                InternalCacheEntry<K, V> e = purgeCandidates.next();
+               visited++;
                if (e.canExpire()) {
                   if (ExpiryHelper.isExpiredMortal(e.getLifespan(), e.getCreated(), currentTimeMillis)) {
                      handleLifespanExpireEntry(e, true);
+                     expired++;
                   } else if (ExpiryHelper.isExpiredTransient(e.getMaxIdle(), e.getLastUsed(), currentTimeMillis)) {
                      super.handleInMemoryExpiration(e, currentTimeMillis);
+                     expired++;
                   }
                }
             }
-            if (trace) {
-               log.tracef("Purging data container completed in %s",
-                       Util.prettyPrintTime(timeService.timeDuration(start, TimeUnit.MILLISECONDS)));
-            }
+            reaperCompleted(start, visited, expired);
          } catch (Exception e) {
             log.exceptionPurgingDataContainer(e);
          }
@@ -91,7 +90,9 @@ public void processExpiration() {
 
    void handleLifespanExpireEntry(InternalCacheEntry<K, V> entry, boolean sync) {
       K key = entry.getKey();
-      // The most used case will be a miss so no extra read before
+      // The most used case will be a miss so no extra read before. If another expiration of the key is in flight the
+      // key is skipped, but the data container keeps it indexed until it is removed, so if that removal fails the key
+      // is reaped again by the next run.
       if (expiring.putIfAbsent(key, key) == null) {
          long lifespan = entry.getLifespan();
          if (trace) {
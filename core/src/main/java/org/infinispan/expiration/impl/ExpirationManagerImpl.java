@@ -13,6 +13,11 @@
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.Start;
 import org.infinispan.factories.annotations.Stop;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Units;
 import org.infinispan.marshall.core.MarshalledEntry;
 import org.infinispan.metadata.Metadata;
 import org.infinispan.notifications.cachelistener.CacheNotifier;
@@ -26,8 +31,10 @@
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 @ThreadSafe
+@MBean(objectName = "ExpirationManager", description = "Component that removes expired entries from memory and from the stores.")
 public class ExpirationManagerImpl<K, V> implements ExpirationManager<K, V> {
    protected static final Log log = LogFactory.getLog(ExpirationManagerImpl.class);
    protected static final boolean trace = log.isTraceEnabled();
@@ -51,6 +58,13 @@
     */
    protected ConcurrentMap<K, Object> expiring;
 
+   private final LongAdder reaperRuns = new LongAdder();
+   private final LongAdder reaperTotalNanos = new LongAdder();
+   private final LongAdder reaperVisitedEntries = new LongAdder();
+   private final LongAdder reaperExpiredEntries = new LongAdder();
+   private volatile long lastReaperNanos;
+   private volatile long lastReaperVisitedEntries;
+
    @Inject
    public void initialize(@ComponentName(KnownComponentNames.EXPIRATION_SCHEDULED_EXECUTOR)
          ScheduledExecutorService executor, Cache<K, V> cache, Configuration cfg, DataContainer<K, V> dataContainer,
@@ -95,25 +109,25 @@ public void start() {
 
    @Override
    public void processExpiration() {
-      long start = 0;
       if (!Thread.currentThread().isInterrupted()) {
          try {
             if (trace) {
                log.trace("Purging data container of expired entries");
-               start = timeService.time();
             }
+            long start = timeService.time();
             long currentTimeMillis = timeService.wallClockTime();
-            for (Iterator<InternalCacheEntry<K, V>> purgeCandidates = dataContainer.iteratorIncludingExpired();
+            long visited = 0;
+            long expired = 0;
+            for (Iterator<InternalCacheEntry<K, V>> purgeCandidates = dataContainer.expirationCandidates(currentTimeMillis);
                  purgeCandidates.hasNext();) {
                InternalCacheEntry<K, V> e = purgeCandidates.next();
+               visited++;
                if (e.isExpired(currentTimeMillis)) {
                   handleInMemoryExpiration(e, currentTimeMillis);
+                  expired++;
                }
             }
-            if (trace) {
-               log.tracef("Purging data container completed in %s",
-                          Util.prettyPrintTime(timeService.timeDuration(start, TimeUnit.MILLISECONDS)));
-            }
+            reaperCompleted(start, visited, expired);
          } catch (Exception e) {
             log.exceptionPurgingDataContainer(e);
          }
@@ -124,6 +138,94 @@ public void processExpiration() {
       }
    }
 
+   /**
+    * Records the cost of a run of the reaper over the data container.
+    *
+    * @param start the {@link TimeService#time()} when the run started
+    * @param visited the number of entries the reaper looked at
+    * @param expired the number of entries the reaper found expired
+    */
+   protected void reaperCompleted(long start, long visited, long expired) {
+      long duration = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
+      reaperRuns.increment();
+      reaperTotalNanos.add(duration);
+      reaperVisitedEntries.add(visited);
+      reaperExpiredEntries.add(expired);
+      lastReaperNanos = duration;
+      lastReaperVisitedEntries = visited;
+      if (trace) {
+         log.tracef("Purging data container completed in %s, %d entries visited and %d expired",
+                    Util.prettyPrintTime(TimeUnit.NANOSECONDS.toMillis(duration)), visited, expired);
+      }
+   }
+
+   @ManagedAttribute(
+         description = "Number of times the expiration reaper processed the data container",
+         displayName = "Number of expiration reaper runs",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getReaperRuns() {
+      return reaperRuns.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Total time spent by the expiration reaper looking for expired entries in the data container",
+         displayName = "Total expiration reaper time",
+         units = Units.MILLISECONDS,
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getReaperTotalTime() {
+      return TimeUnit.NANOSECONDS.toMillis(reaperTotalNanos.sum());
+   }
+
+   @ManagedAttribute(
+         description = "Time spent by the last run of the expiration reaper",
+         displayName = "Last expiration reaper time",
+         units = Units.MILLISECONDS
+   )
+   public long getLastReaperTime() {
+      return TimeUnit.NANOSECONDS.toMillis(lastReaperNanos);
+   }
+
+   @ManagedAttribute(
+         description = "Number of entries looked at by the expiration reaper",
+         displayName = "Number of entries visited by the expiration reaper",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getReaperVisitedEntries() {
+      return reaperVisitedEntries.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Number of entries looked at by the last run of the expiration reaper",
+         displayName = "Number of entries visited by the last expiration reaper run"
+   )
+   public long getLastReaperVisitedEntries() {
+      return lastReaperVisitedEntries;
+   }
+
+   @ManagedAttribute(
+         description = "Number of expired entries found by the expiration reaper",
+         displayName = "Number of entries expired by the expiration reaper",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getReaperExpiredEntries() {
+      return reaperExpiredEntries.sum();
+   }
+
+   @ManagedOperation(
+         description = "Resets statistics gathered by this component",
+         displayName = "Reset statistics"
+   )
+   public void resetStatistics() {
+      reaperRuns.reset();
+      reaperTotalNanos.reset();
+      reaperVisitedEntries.reset();
+      reaperExpiredEntries.reset();
+      lastReaperNanos = 0;
+      lastReaperVisitedEntries = 0;
+   }
+
    @Override
    public boolean isEnabled() {
       return enabled;
@@ -3,14 +3,20 @@
 import org.infinispan.commons.equivalence.Equivalence;
 import org.infinispan.commons.CacheConfigurationException;
 import org.infinispan.commons.util.concurrent.jdk8backported.EntrySizeCalculator;
+import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.configuration.cache.EvictionConfiguration;
+import org.infinispan.configuration.cache.StorageType;
 import org.infinispan.container.DataContainer;
 import org.infinispan.container.DefaultDataContainer;
 import org.infinispan.container.entries.MarshalledValueEntrySizeCalculator;
+import org.infinispan.container.SegmentedDataContainer;
 import org.infinispan.container.entries.PrimitiveEntrySizeCalculator;
+import org.infinispan.container.offheap.OffHeapDataContainer;
 import org.infinispan.eviction.EvictionStrategy;
 import org.infinispan.eviction.EvictionType;
 import org.infinispan.factories.annotations.DefaultFactoryFor;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
 
 /**
  * Constructs the data container
@@ -22,6 +28,7 @@
 @DefaultFactoryFor(classes = DataContainer.class)
 public class DataContainerFactory extends AbstractNamedCacheComponentFactory implements
          AutoInstantiableFactory {
+   private static final Log log = LogFactory.getLog(DataContainerFactory.class);
 
    @Override
    @SuppressWarnings("unchecked")
@@ -35,18 +42,19 @@ public <T> T construct(Class<T> componentType) {
 
          long thresholdSize = configuration.eviction().size();
 
+         if (configuration.dataContainer().storageType() == StorageType.OFF_HEAP) {
+            return (T) offHeapDataContainer(level, st, thresholdSize);
+         }
 
          //handle case when < 0 value signifies unbounded container
          if(thresholdSize < 0) {
-            return (T) DefaultDataContainer.unBoundedDataContainer(
-                    level, keyEquivalence);
+            return (T) unBoundedDataContainer(level, keyEquivalence);
          }
 
          DefaultDataContainer dataContainer;
          switch (st) {
             case NONE:
-               return (T) DefaultDataContainer.unBoundedDataContainer(
-                     level, keyEquivalence);
+               return (T) unBoundedDataContainer(level, keyEquivalence);
             case UNORDERED:
             case LRU:
 
@@ -79,4 +87,30 @@ public <T> T construct(Class<T> componentType) {
          return (T) dataContainer;
       }
    }
+
+   private DataContainer offHeapDataContainer(int level, EvictionStrategy st, long thresholdSize) {
+      if (configuration.clustering().l1().enabled()) {
+         throw log.offHeapWithL1();
+      }
+      switch (st) {
+         case NONE:
+            return new OffHeapDataContainer(level);
+         case UNORDERED:
+            // memory based eviction accounts for the actual off-heap bytes, no size calculator is needed
+            return thresholdSize < 0 ? new OffHeapDataContainer(level) :
+                  new OffHeapDataContainer(level, thresholdSize, configuration.eviction().type());
+         default:
+            // the container doesn't keep a global access or insertion order
+            throw log.offHeapUnsupportedEvictionStrategy(st);
+      }
+   }
+
+   private DataContainer unBoundedDataContainer(int level, Equivalence keyEquivalence) {
+      CacheMode cacheMode = configuration.clustering().cacheMode();
+      if (cacheMode.needsStateTransfer()) {
+         // state transfer and segment filtered operations only need to visit the segments they are interested in
+         return new SegmentedDataContainer(level, configuration.clustering().hash().numSegments(), keyEquivalence);
+      }
+      return DefaultDataContainer.unBoundedDataContainer(level, keyEquivalence);
+   }
 }
@@ -1,12 +1,15 @@
 package org.infinispan.functional.impl;
 
+import org.infinispan.commons.api.functional.EntryVersion.NumericEntryVersion;
 import org.infinispan.commons.api.functional.MetaParam;
+import org.infinispan.commons.api.functional.MetaParam.MetaEntryVersion;
 import org.infinispan.commons.api.functional.MetaParam.MetaLifespan;
 import org.infinispan.commons.api.functional.MetaParam.MetaMaxIdle;
 import org.infinispan.commons.marshall.AbstractExternalizer;
 import org.infinispan.commons.util.Experimental;
 import org.infinispan.commons.util.Util;
 import org.infinispan.container.versioning.EntryVersion;
+import org.infinispan.container.versioning.NumericVersion;
 import org.infinispan.marshall.core.Ids;
 import org.infinispan.metadata.InternalMetadata;
 import org.infinispan.metadata.Metadata;
@@ -69,7 +72,12 @@ public long maxIdle() {
 
    @Override
    public EntryVersion version() {
-      return null;  // TODO: Customise this generated block
+      // Numeric versions are exposed like the ones in embedded metadata, e.g. for Hot Rod
+      return params.find(MetaEntryVersion.class)
+            .map(MetaEntryVersion::get)
+            .filter(version -> version instanceof NumericEntryVersion)
+            .map(version -> (EntryVersion) new NumericVersion(((NumericEntryVersion) version).get()))
+            .orElse(null);
    }
 
    @Override
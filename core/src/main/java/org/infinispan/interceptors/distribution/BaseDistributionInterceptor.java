@@ -1,7 +1,6 @@
 package org.infinispan.interceptors.distribution;
 
 import org.infinispan.commands.FlagAffectedCommand;
-import org.infinispan.commands.ReplicableCommand;
 import org.infinispan.commands.functional.ReadOnlyManyCommand;
 import org.infinispan.commands.read.AbstractDataCommand;
 import org.infinispan.commands.read.GetAllCommand;
@@ -45,6 +44,7 @@
 import org.infinispan.statetransfer.OutdatedTopologyException;
 import org.infinispan.topology.CacheTopology;
 import org.infinispan.transaction.xa.GlobalTransaction;
+import org.infinispan.util.concurrent.CompletableFutures;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
@@ -56,6 +56,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.infinispan.commons.util.Util.toStr;
 
@@ -131,88 +132,133 @@ public final CompletableFuture<Void> visitClearCommand(InvocationContext ctx, Cl
    }
 
    protected final InternalCacheEntry retrieveFromRemoteSource(Object key, InvocationContext ctx, boolean acquireRemoteLock, FlagAffectedCommand command, boolean isWrite) throws Exception {
+      // The RPCs are invoked synchronously, so the future is already completed
+      CompletableFuture<InternalCacheEntry> future =
+            retrieveFromRemoteSource(key, ctx, acquireRemoteLock, command, isWrite, true);
+      try {
+         return CompletableFutures.await(future);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new CacheException("Thread interrupted while invoking RPC", e);
+      } catch (ExecutionException e) {
+         Throwable cause = e.getCause();
+         if (cause instanceof CacheException) {
+            throw (CacheException) cause;
+         } else {
+            throw new CacheException("Unexpected exception replicating command", cause);
+         }
+      }
+   }
+
+   /**
+    * Retrieves the entry from the owners of the key without blocking the calling thread.
+    *
+    * @return a future completed with the entry, or with {@code null} if no owner has it, in the thread receiving the
+    * response
+    */
+   protected final CompletableFuture<InternalCacheEntry> retrieveFromRemoteSourceAsync(Object key, InvocationContext ctx,
+         boolean acquireRemoteLock, FlagAffectedCommand command, boolean isWrite) {
+      return retrieveFromRemoteSource(key, ctx, acquireRemoteLock, command, isWrite, false);
+   }
+
+   private CompletableFuture<InternalCacheEntry> retrieveFromRemoteSource(Object key, InvocationContext ctx,
+         boolean acquireRemoteLock, FlagAffectedCommand command, boolean isWrite, boolean sync) {
       GlobalTransaction gtx = ctx.isInTxScope() ? ((TxInvocationContext)ctx).getGlobalTransaction() : null;
       ClusteredGetCommand get = cf.buildClusteredGetCommand(key, command.getFlagsBitSet(), acquireRemoteLock, gtx);
       get.setWrite(isWrite);
 
       RpcOptionsBuilder rpcOptionsBuilder = rpcManager.getRpcOptionsBuilder(ResponseMode.WAIT_FOR_VALID_RESPONSE, DeliverOrder.NONE);
-      int lastTopologyId = -1;
-      InternalCacheEntry value = null;
-      while (value == null) {
-         final CacheTopology cacheTopology = stateTransferManager.getCacheTopology();
-         final int currentTopologyId = cacheTopology.getTopologyId();
+      return remoteGet(key, get, rpcOptionsBuilder, -1, sync);
+   }
 
-         if (trace) {
-            log.tracef("Perform remote get for key %s. topologyId=%s, currentTopologyId=%s",
-                       key, lastTopologyId, currentTopologyId);
-         }
-         List<Address> targets;
-         if (lastTopologyId < currentTopologyId) {
-            // Cache topology has changed or it is the first time.
-            lastTopologyId = currentTopologyId;
-            targets = new ArrayList<>(cacheTopology.getReadConsistentHash().locateOwners(key));
-         } else if (lastTopologyId == currentTopologyId && cacheTopology.getPendingCH() != null) {
-            // Same topologyId, but the owners could have already installed the next topology
-            // Lets try with pending consistent owners (the read owners in the next topology)
-            lastTopologyId = currentTopologyId + 1;
-            targets = new ArrayList<>(cacheTopology.getPendingCH().locateOwners(key));
-            // Remove already contacted nodes
-            targets.removeAll(cacheTopology.getReadConsistentHash().locateOwners(key));
-            if (targets.isEmpty()) {
-               if (trace) {
-                  log.tracef("No valid values found for key '%s' (topologyId=%s).", key, currentTopologyId);
-               }
-               break;
-            }
-         } else { // lastTopologyId > currentTopologyId || cacheTopology.getPendingCH() == null
-            // We have not received a valid value from the pending CH owners either, and the topology id hasn't changed
+   private CompletableFuture<InternalCacheEntry> remoteGet(Object key, ClusteredGetCommand get,
+         RpcOptionsBuilder rpcOptionsBuilder, int lastTopologyId, boolean sync) {
+      final CacheTopology cacheTopology = stateTransferManager.getCacheTopology();
+      final int currentTopologyId = cacheTopology.getTopologyId();
+
+      if (trace) {
+         log.tracef("Perform remote get for key %s. topologyId=%s, currentTopologyId=%s",
+                    key, lastTopologyId, currentTopologyId);
+      }
+      List<Address> targets;
+      final int nextTopologyId;
+      if (lastTopologyId < currentTopologyId) {
+         // Cache topology has changed or it is the first time.
+         nextTopologyId = currentTopologyId;
+         targets = new ArrayList<>(cacheTopology.getReadConsistentHash().locateOwners(key));
+      } else if (lastTopologyId == currentTopologyId && cacheTopology.getPendingCH() != null) {
+         // Same topologyId, but the owners could have already installed the next topology
+         // Lets try with pending consistent owners (the read owners in the next topology)
+         nextTopologyId = currentTopologyId + 1;
+         targets = new ArrayList<>(cacheTopology.getPendingCH().locateOwners(key));
+         // Remove already contacted nodes
+         targets.removeAll(cacheTopology.getReadConsistentHash().locateOwners(key));
+         if (targets.isEmpty()) {
             if (trace) {
                log.tracef("No valid values found for key '%s' (topologyId=%s).", key, currentTopologyId);
             }
-            break;
+            return CompletableFuture.completedFuture(null);
+         }
+      } else { // lastTopologyId > currentTopologyId || cacheTopology.getPendingCH() == null
+         // We have not received a valid value from the pending CH owners either, and the topology id hasn't changed
+         if (trace) {
+            log.tracef("No valid values found for key '%s' (topologyId=%s).", key, currentTopologyId);
          }
+         return CompletableFuture.completedFuture(null);
+      }
 
-         value = invokeClusterGetCommandRemotely(targets, rpcOptionsBuilder, get, key);
+      return invokeClusterGetCommandRemotely(targets, rpcOptionsBuilder, get, key, sync).thenCompose(value -> {
          if (trace) {
             log.tracef("Remote get of key '%s' (topologyId=%s) returns %s", key, currentTopologyId, value);
          }
-      }
-      return value;
+         return value != null ? CompletableFuture.completedFuture(value) :
+               remoteGet(key, get, rpcOptionsBuilder, nextTopologyId, sync);
+      });
    }
 
-   private InternalCacheEntry invokeClusterGetCommandRemotely(List<Address> targets, RpcOptionsBuilder rpcOptionsBuilder,
-                                                      ClusteredGetCommand get, Object key) {
+   private CompletableFuture<InternalCacheEntry> invokeClusterGetCommandRemotely(List<Address> targets,
+         RpcOptionsBuilder rpcOptionsBuilder, ClusteredGetCommand get, Object key, boolean sync) {
       ResponseFilter filter = new ClusteredGetResponseValidityFilter(targets, rpcManager.getAddress());
       RpcOptions options = rpcOptionsBuilder.responseFilter(filter).build();
-      Map<Address, Response> responses = rpcManager.invokeRemotely(targets, get, options);
-
-      if (!responses.isEmpty()) {
-         for (Response r : responses.values()) {
-            if (r instanceof SuccessfulResponse) {
-
-               // The response value might be null.
-               SuccessfulResponse response = (SuccessfulResponse) r;
-               Object responseValue = response.getResponseValue();
-               if (responseValue == null) {
-                  continue;
-               }
+      CompletableFuture<Map<Address, Response>> responsesFuture = sync ?
+            CompletableFuture.completedFuture(rpcManager.invokeRemotely(targets, get, options)) :
+            rpcManager.invokeRemotelyAsync(targets, get, options);
+      return responsesFuture.thenApply(responses -> {
+         if (!responses.isEmpty()) {
+            for (Response r : responses.values()) {
+               if (r instanceof SuccessfulResponse) {
+
+                  // The response value might be null.
+                  SuccessfulResponse response = (SuccessfulResponse) r;
+                  Object responseValue = response.getResponseValue();
+                  if (responseValue == null) {
+                     continue;
+                  }
 
-               InternalCacheValue cacheValue = (InternalCacheValue) responseValue;
-               InternalCacheEntry ice = cacheValue.toInternalCacheEntry(key);
-               if (rvrl != null) {
-                  rvrl.remoteValueFound(ice);
+                  InternalCacheValue cacheValue = (InternalCacheValue) responseValue;
+                  InternalCacheEntry ice = cacheValue.toInternalCacheEntry(key);
+                  if (rvrl != null) {
+                     rvrl.remoteValueFound(ice);
+                  }
+                  return ice;
                }
-               return ice;
             }
          }
-      }
-      if (rvrl != null) {
-         rvrl.remoteValueNotFound(key);
-      }
-      return null;
+         if (rvrl != null) {
+            rvrl.remoteValueNotFound(key);
+         }
+         return null;
+      });
    }
 
-   protected Map<Object, InternalCacheEntry> retrieveFromRemoteSources(Set<?> requestedKeys, InvocationContext ctx, long flagsBitSet) throws Throwable {
+   /**
+    * Retrieves the entries from the primary owners of the keys without blocking the calling thread. One command is
+    * sent to each owner, and the values of each owner are merged into the result as soon as its response arrives.
+    *
+    * @return a future completed with the merged entries once every owner has answered
+    */
+   protected CompletableFuture<Map<Object, InternalCacheEntry>> retrieveFromRemoteSources(Set<?> requestedKeys,
+         InvocationContext ctx, long flagsBitSet) {
       GlobalTransaction gtx = ctx.isInTxScope() ? ((TxInvocationContext)ctx).getGlobalTransaction() : null;
       CacheTopology cacheTopology = stateTransferManager.getCacheTopology();
       ConsistentHash ch = cacheTopology.getReadConsistentHash();
@@ -227,25 +273,30 @@ protected Map<Object, InternalCacheEntry> retrieveFromRemoteSources(Set<?> reque
          requestedKeysFromNode.add(key);
       }
 
-      Map<Address, ReplicableCommand> commands = new HashMap<>();
-      for (Map.Entry<Address, List<Object>> entry : ownerKeys.entrySet()) {
-         List<Object> keys = entry.getValue();
-         ClusteredGetAllCommand remoteGetAll = cf.buildClusteredGetAllCommand(keys, flagsBitSet, gtx);
-         commands.put(entry.getKey(), remoteGetAll);
-      }
-
       RpcOptionsBuilder rpcOptionsBuilder = rpcManager.getRpcOptionsBuilder(
             ResponseMode.SYNCHRONOUS_IGNORE_LEAVERS, DeliverOrder.NONE);
       RpcOptions options = rpcOptionsBuilder.build();
-      Map<Address, Response> responses = rpcManager.invokeRemotely(commands, options);
-
-      Map<Object, InternalCacheEntry> entries = new HashMap<>();
-      for (Map.Entry<Address, Response> entry : responses.entrySet()) {
-         updateWithValues(((ClusteredGetAllCommand) commands.get(entry.getKey())).getKeys(),
-               entry.getValue(), entries);
+      // Send one command per owner and merge every response as soon as it arrives, so the slowest owner
+      // only delays its own keys instead of the processing of the whole batch
+      Map<Object, InternalCacheEntry> entries = new HashMap<>(requestedKeys.size());
+      CompletableFuture<?>[] futures = new CompletableFuture[ownerKeys.size()];
+      int i = 0;
+      for (Map.Entry<Address, List<Object>> entry : ownerKeys.entrySet()) {
+         Address owner = entry.getKey();
+         List<Object> keys = entry.getValue();
+         ClusteredGetAllCommand remoteGetAll = cf.buildClusteredGetAllCommand(keys, flagsBitSet, gtx);
+         futures[i++] = rpcManager.invokeRemotelyAsync(Collections.singletonList(owner), remoteGetAll, options)
+               .thenAccept(responses -> {
+                  Response response = responses.get(owner);
+                  if (response != null) {
+                     synchronized (entries) {
+                        updateWithValues(keys, response, entries);
+                     }
+                  }
+               });
       }
 
-      return entries;
+      return CompletableFuture.allOf(futures).thenApply(ignored -> entries);
    }
 
    private void updateWithValues(List<?> keys, Response r, Map<Object, InternalCacheEntry> entries) {
@@ -466,33 +517,32 @@ public CompletableFuture<Void> visitGetAllCommand(InvocationContext ctx, GetAllC
             }
          }
 
-         boolean missingRemoteValues = false;
          if (!requestedKeys.isEmpty()) {
             if (trace) {
                log.tracef("Fetching entries for keys %s from remote nodes", requestedKeys);
             }
-
-            Map<Object, InternalCacheEntry> justRetrieved = retrieveFromRemoteSources(
-                  requestedKeys, ctx, command.getFlagsBitSet());
-            Map<Object, InternalCacheEntry> previouslyFetched = command.getRemotelyFetched();
-            if (previouslyFetched != null) {
-               previouslyFetched.putAll(justRetrieved);
-            } else {
-               command.setRemotelyFetched(justRetrieved);
-            }
-            for (Object key : requestedKeys) {
-               if (!justRetrieved.containsKey(key)) {
-                  missingRemoteValues = true;
+            // Continue the invocation when the last owner replies, without blocking the thread
+            return retrieveFromRemoteSources(requestedKeys, ctx, command.getFlagsBitSet()).thenAccept(justRetrieved -> {
+               Map<Object, InternalCacheEntry> previouslyFetched = command.getRemotelyFetched();
+               if (previouslyFetched != null) {
+                  previouslyFetched.putAll(justRetrieved);
                } else {
-                  InternalCacheEntry remoteEntry = justRetrieved.get(key);
-                  entryFactory.wrapExternalEntry(ctx, key, remoteEntry, EntryFactory.Wrap.WRAP_NON_NULL,
-                                                 false);
+                  command.setRemotelyFetched(justRetrieved);
                }
-            }
-         }
-
-         if (missingRemoteValues) {
-            throw new OutdatedTopologyException("Remote values are missing because of a topology change");
+               boolean missingRemoteValues = false;
+               for (Object key : requestedKeys) {
+                  if (!justRetrieved.containsKey(key)) {
+                     missingRemoteValues = true;
+                  } else {
+                     InternalCacheEntry remoteEntry = justRetrieved.get(key);
+                     entryFactory.wrapExternalEntry(ctx, key, remoteEntry, EntryFactory.Wrap.WRAP_NON_NULL,
+                                                    false);
+                  }
+               }
+               if (missingRemoteValues) {
+                  throw new OutdatedTopologyException("Remote values are missing because of a topology change");
+               }
+            });
          }
          return ctx.continueInvocation();
       } else { // remote
@@ -560,33 +610,32 @@ public CompletableFuture<Void> visitReadOnlyManyCommand(InvocationContext ctx, R
             }
          }
 
-         boolean missingRemoteValues = false;
          if (!requestedKeys.isEmpty()) {
             if (trace) {
                log.tracef("Fetching entries for keys %s from remote nodes", requestedKeys);
             }
-
-            Map<Object, InternalCacheEntry> justRetrieved = retrieveFromRemoteSources(
-               requestedKeys, ctx, command.getFlagsBitSet());
-            Map<Object, InternalCacheEntry> previouslyFetched = command.getRemotelyFetched();
-            if (previouslyFetched != null) {
-               previouslyFetched.putAll(justRetrieved);
-            } else {
-               command.setRemotelyFetched(justRetrieved);
-            }
-            for (Object key : requestedKeys) {
-               if (!justRetrieved.containsKey(key)) {
-                  missingRemoteValues = true;
+            // Continue the invocation when the last owner replies, without blocking the thread
+            return retrieveFromRemoteSources(requestedKeys, ctx, command.getFlagsBitSet()).thenAccept(justRetrieved -> {
+               Map<Object, InternalCacheEntry> previouslyFetched = command.getRemotelyFetched();
+               if (previouslyFetched != null) {
+                  previouslyFetched.putAll(justRetrieved);
                } else {
-                  InternalCacheEntry remoteEntry = justRetrieved.get(key);
-                  entryFactory.wrapExternalEntry(ctx, key, remoteEntry, EntryFactory.Wrap.WRAP_NON_NULL,
-                                                 false);
+                  command.setRemotelyFetched(justRetrieved);
                }
-            }
-         }
-
-         if (missingRemoteValues) {
-            throw new OutdatedTopologyException("Remote values are missing because of a topology change");
+               boolean missingRemoteValues = false;
+               for (Object key : requestedKeys) {
+                  if (!justRetrieved.containsKey(key)) {
+                     missingRemoteValues = true;
+                  } else {
+                     InternalCacheEntry remoteEntry = justRetrieved.get(key);
+                     entryFactory.wrapExternalEntry(ctx, key, remoteEntry, EntryFactory.Wrap.WRAP_NON_NULL,
+                                                    false);
+                  }
+               }
+               if (missingRemoteValues) {
+                  throw new OutdatedTopologyException("Remote values are missing because of a topology change");
+               }
+            });
          }
          return ctx.continueInvocation();
       } else { // remote
@@ -86,29 +86,34 @@ private <T extends AbstractDataCommand & RemoteFetchingCommand> CompletableFutur
          CacheEntry entry = ctx.lookupEntry(key);
          if (valueIsMissing(entry)) {
             // First try to fetch from remote owners
-            InternalCacheEntry remoteEntry = null;
             if (readNeedsRemoteValue(ctx, command)) {
                if (trace) log.tracef("Doing a remote get for key %s", key);
-               remoteEntry = retrieveFromRemoteSource(key, ctx, false, command, false);
-               command.setRemotelyFetchedValue(remoteEntry);
-               if (remoteEntry != null) {
-                  entryFactory.wrapExternalEntry(ctx, key, remoteEntry, EntryFactory.Wrap.STORE, false);
-               }
-            }
-            if (remoteEntry == null) {
-               // Then search for the entry in the local data container, in case we became an owner after
-               // EntryWrappingInterceptor and the local node is now the only owner.
-               // TODO Check fails if the entry was passivated
-               InternalCacheEntry localEntry = fetchValueLocallyIfAvailable(dm.getReadConsistentHash(), key);
-               if (localEntry != null) {
-                  entryFactory.wrapExternalEntry(ctx, key, localEntry, EntryFactory.Wrap.STORE, false);
-               }
+               // Continue the invocation when the owners reply, without blocking the thread
+               return retrieveFromRemoteSourceAsync(key, ctx, false, command, false).thenAccept(remoteEntry -> {
+                  command.setRemotelyFetchedValue(remoteEntry);
+                  if (remoteEntry != null) {
+                     entryFactory.wrapExternalEntry(ctx, key, remoteEntry, EntryFactory.Wrap.STORE, false);
+                  } else {
+                     wrapLocalEntryIfAvailable(ctx, key);
+                  }
+               });
             }
+            wrapLocalEntryIfAvailable(ctx, key);
          }
       }
       return ctx.continueInvocation();
    }
 
+   private void wrapLocalEntryIfAvailable(InvocationContext ctx, Object key) {
+      // Search for the entry in the local data container, in case we became an owner after
+      // EntryWrappingInterceptor and the local node is now the only owner.
+      // TODO Check fails if the entry was passivated
+      InternalCacheEntry localEntry = fetchValueLocallyIfAvailable(dm.getReadConsistentHash(), key);
+      if (localEntry != null) {
+         entryFactory.wrapExternalEntry(ctx, key, localEntry, EntryFactory.Wrap.STORE, false);
+      }
+   }
+
    @Override
    public CompletableFuture<Void> visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command) throws Throwable {
       return handleNonTxWriteCommand(ctx, command);
@@ -13,6 +13,7 @@
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * This base class implements the {@link org.infinispan.context.SequentialInvocationContext} methods.
@@ -165,8 +166,20 @@ private void invokeNext(VisitableCommand command, Object returnValue, Throwable
                   if (EXTRA_LOGS && trace)
                      log.tracef("Interceptor %s continues asynchronously", interceptor);
                   final VisitableCommand finalCommand = command;
-                  nextFuture.whenComplete(
-                        (rv1, throwable1) -> invokeNextWithContext(finalCommand, rv1, throwable1));
+                  nextFuture.whenComplete((rv1, throwable1) -> {
+                     if (throwable1 != null) {
+                        // Skip the remaining interceptors, like when the interceptor throws an exception
+                        nextInterceptor = null;
+                        action = INVOKE_NEXT;
+                        if (throwable1 instanceof CompletionException && throwable1.getCause() != null) {
+                           throwable1 = throwable1.getCause();
+                        }
+                        if (trace)
+                           log.tracef("Interceptor %s failed asynchronously with exception %s", className(interceptor),
+                                 throwable1);
+                     }
+                     invokeNextWithContext(finalCommand, rv1, throwable1);
+                  });
                   return;
                }
             } catch (Throwable t) {
@@ -204,8 +217,19 @@ private void invokeNext(VisitableCommand command, Object returnValue, Throwable
                      if (EXTRA_LOGS && trace)
                         log.tracef("Return handler %s continues asynchronously", returnHandler);
                      final VisitableCommand finalCommand1 = command;
-                     handlerFuture.whenComplete(
-                           (rv1, throwable1) -> invokeNextWithContext(finalCommand1, rv1, throwable1));
+                     handlerFuture.whenComplete((rv1, throwable1) -> {
+                        if (throwable1 != null) {
+                           // Skip the remaining interceptors, like when the return handler throws an exception
+                           nextInterceptor = null;
+                           if (throwable1 instanceof CompletionException && throwable1.getCause() != null) {
+                              throwable1 = throwable1.getCause();
+                           }
+                           if (trace)
+                              log.tracef("Return handler %s failed asynchronously with exception %s",
+                                    className(returnHandler), throwable1);
+                        }
+                        invokeNextWithContext(finalCommand1, rv1, throwable1);
+                     });
                      return;
                   }
                }
@@ -215,6 +239,10 @@ private void invokeNext(VisitableCommand command, Object returnValue, Throwable
                // Reset the return value to avoid confusion
                returnValue = null;
                throwable = t;
+               if (t instanceof CompletionException && t.getCause() != null) {
+                  // The future returned by the return handler was already failed
+                  throwable = t.getCause();
+               }
                // In case this was a fork return handler and nextInterceptor got reset
                // Skip the remaining interceptors
                interceptorNode = null;
@@ -266,8 +294,13 @@ private Object doInvokeNextSync(VisitableCommand command, InterceptorListNode in
       } else {
          nextVisitFuture = interceptor.visitCommand(this, command);
       }
-      if (!nextVisitFuture.isDone()) {
-         CompletableFutures.await(nextVisitFuture);
+      if (!nextVisitFuture.isDone() || nextVisitFuture.isCompletedExceptionally()) {
+         try {
+            CompletableFutures.await(nextVisitFuture);
+         } catch (ExecutionException e) {
+            // The interceptor failed asynchronously
+            throw e.getCause();
+         }
       }
       return this.handleActionSync(command, interceptorNode);
    }
@@ -331,8 +364,13 @@ private Object handleForkActionSync(ForkInfo forkInfo,
       }
       CompletableFuture<Void> handlerFuture =
             forkInfo.forkReturnHandler.handle(this, forkInfo.savedCommand, returnValue, throwable);
-      if (!handlerFuture.isDone()) {
-         CompletableFutures.await(handlerFuture);
+      if (!handlerFuture.isDone() || handlerFuture.isCompletedExceptionally()) {
+         try {
+            CompletableFutures.await(handlerFuture);
+         } catch (ExecutionException e) {
+            // The fork return handler failed asynchronously
+            throw e.getCause();
+         }
       }
       return handleActionSync(forkInfo.savedCommand, interceptorNode);
    }
@@ -7,6 +7,8 @@
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.distribution.group.GroupManager;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.factories.annotations.ComponentName;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.interceptors.DDSequentialInterceptor;
 import org.infinispan.remoting.RemoteException;
@@ -15,9 +17,12 @@
 import org.infinispan.statetransfer.StateTransferLock;
 import org.infinispan.statetransfer.StateTransferManager;
 import org.infinispan.topology.CacheTopology;
+import org.infinispan.util.concurrent.TimeoutException;
 import org.infinispan.util.logging.Log;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -36,6 +41,7 @@ public abstract class BaseStateTransferInterceptor extends DDSequentialIntercept
    private StateTransferLock stateTransferLock;
    private GroupManager groupManager;
    private long transactionDataTimeout;
+   private ScheduledExecutorService timeoutExecutor;
 
    @Inject
    public void init(StateTransferLock stateTransferLock, Configuration configuration,
@@ -46,6 +52,11 @@ public void init(StateTransferLock stateTransferLock, Configuration configuratio
       transactionDataTimeout = configuration.clustering().remoteTimeout();
    }
 
+   @Inject
+   public void injectTimeoutExecutor(@ComponentName(KnownComponentNames.TIMEOUT_SCHEDULE_EXECUTOR) ScheduledExecutorService timeoutExecutor) {
+      this.timeoutExecutor = timeoutExecutor;
+   }
+
    @Override
    public CompletableFuture<Void> visitGetKeysInGroupCommand(InvocationContext ctx, GetKeysInGroupCommand command) throws Throwable {
       final String groupName = command.getGroupName();
@@ -102,6 +113,34 @@ protected final void waitForTopology(int topologyId) throws InterruptedException
       stateTransferLock.waitForTopology(topologyId, transactionDataTimeout, TimeUnit.MILLISECONDS);
    }
 
+   /**
+    * The asynchronous version of {@link #waitForTopology(int)}.
+    *
+    * @return a future completed once the topology is installed, or failed with a {@link TimeoutException} if it is
+    *         not installed in time, or with an {@link org.infinispan.IllegalLifecycleStateException} if the cache is
+    *         stopped
+    */
+   protected final CompletableFuture<Void> topologyFuture(int topologyId) {
+      CompletableFuture<Void> topologyFuture = stateTransferLock.topologyFuture(topologyId);
+      if (topologyFuture.isDone()) {
+         return topologyFuture;
+      }
+      // The topology future is shared with the other waiters, so it can't be failed on timeout
+      CompletableFuture<Void> future = new CompletableFuture<>();
+      ScheduledFuture<?> timeoutFuture = timeoutExecutor.schedule(
+            () -> future.completeExceptionally(new TimeoutException("Timed out waiting for topology " + topologyId)),
+            transactionDataTimeout, TimeUnit.MILLISECONDS);
+      topologyFuture.whenComplete((v, t) -> {
+         timeoutFuture.cancel(false);
+         if (t != null) {
+            future.completeExceptionally(t);
+         } else {
+            future.complete(v);
+         }
+      });
+      return future;
+   }
+
    protected final void updateTopologyId(TopologyAffectedCommand command) throws InterruptedException {
       // set the topology id if it was not set before (ie. this is local command)
       // TODO Make tx commands extend FlagAffectedCommand so we can use CACHE_MODE_LOCAL in TransactionTable.cleanupStaleTransactions
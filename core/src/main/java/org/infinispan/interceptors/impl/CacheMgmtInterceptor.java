@@ -22,6 +22,7 @@
 import org.infinispan.jmx.annotations.ManagedOperation;
 import org.infinispan.jmx.annotations.MeasurementType;
 import org.infinispan.jmx.annotations.Units;
+import org.infinispan.stats.impl.LatencyHistogram;
 import org.infinispan.util.TimeService;
 
 import java.util.Map;
@@ -51,6 +52,9 @@ public class CacheMgmtInterceptor extends JmxStatsCommandInterceptor {
    private final AtomicLong resetNanoseconds = new AtomicLong(0);
    private final LongAdder removeHits = new LongAdder();
    private final LongAdder removeMisses = new LongAdder();
+   private final LatencyHistogram readLatencies = new LatencyHistogram();
+   private final LatencyHistogram writeLatencies = new LatencyHistogram();
+   private final LatencyHistogram removeLatencies = new LatencyHistogram();
 
    private DataContainer dataContainer;
    private TimeService timeService;
@@ -86,25 +90,25 @@ public final CompletableFuture<Void> visitGetCacheEntryCommand(InvocationContext
       return visitDataReadCommand(ctx, command);
    }
    private CompletableFuture<Void> visitDataReadCommand(InvocationContext ctx, AbstractDataCommand command) throws Throwable {
-      long start = 0;
-      boolean statisticsEnabled = getStatisticsEnabled(command);
-      if (statisticsEnabled)
-         start = timeService.time();
-
-      Object retval = ctx.forkInvocationSync(command);
-
-      if (statisticsEnabled && ctx.isOriginLocal()) {
-         long intervalMilliseconds = timeService.timeDuration(start, TimeUnit.MILLISECONDS);
-         if (retval == null) {
-            missTimes.add(intervalMilliseconds);
-            misses.increment();
-         } else {
-            hitTimes.add(intervalMilliseconds);
-            hits.increment();
-         }
+      if (!getStatisticsEnabled(command) || !ctx.isOriginLocal()) {
+         return ctx.continueInvocation();
       }
-
-      return ctx.shortCircuit(retval);
+      long start = timeService.time();
+      // The read may complete asynchronously, so record it in a return handler
+      return ctx.onReturn((rCtx, rCommand, rv, t) -> {
+         if (t == null) {
+            long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
+            readLatencies.record(intervalNanoseconds);
+            if (rv == null) {
+               missTimes.add(intervalNanoseconds);
+               misses.increment();
+            } else {
+               hitTimes.add(intervalNanoseconds);
+               hits.increment();
+            }
+         }
+         return null;
+      });
    }
 
    @SuppressWarnings("unchecked")
@@ -118,7 +122,8 @@ public CompletableFuture<Void> visitGetAllCommand(InvocationContext ctx, GetAllC
       Object retval = ctx.forkInvocationSync(command);
 
       if (statisticsEnabled && ctx.isOriginLocal()) {
-         long intervalMilliseconds = timeService.timeDuration(start, TimeUnit.MILLISECONDS);
+         long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
+         readLatencies.record(intervalNanoseconds);
          int requests = command.getKeys().size();
          int hitCount = 0;
          for (Entry<Object, Object> entry : ((Map<Object, Object>) retval).entrySet()) {
@@ -130,11 +135,11 @@ public CompletableFuture<Void> visitGetAllCommand(InvocationContext ctx, GetAllC
          int missCount = requests - hitCount;
          if (hitCount > 0) {
             hits.add(hitCount);
-            hitTimes.add(intervalMilliseconds * hitCount / requests);
+            hitTimes.add(intervalNanoseconds * hitCount / requests);
          }
          if (missCount > 0) {
             misses.add(missCount);
-            missTimes.add(intervalMilliseconds * missCount / requests);
+            missTimes.add(intervalNanoseconds * missCount / requests);
          }
       }
 
@@ -151,11 +156,12 @@ public CompletableFuture<Void> visitPutMapCommand(InvocationContext ctx, PutMapC
       final Object retval = ctx.forkInvocationSync(command);
 
       if (statisticsEnabled && ctx.isOriginLocal()) {
-         final long intervalMilliseconds = timeService.timeDuration(start, TimeUnit.MILLISECONDS);
+         final long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
          final Map<Object, Object> data = command.getMap();
          if (data != null && !data.isEmpty()) {
-            storeTimes.add(intervalMilliseconds);
+            storeTimes.add(intervalNanoseconds);
             stores.add(data.size());
+            writeLatencies.record(intervalNanoseconds);
          }
       }
 
@@ -182,9 +188,10 @@ private CompletableFuture<Void> updateStoreStatistics(InvocationContext ctx, Wri
       Object retval = ctx.forkInvocationSync(command);
 
       if (statisticsEnabled && ctx.isOriginLocal() && command.isSuccessful()) {
-         long intervalMilliseconds = timeService.timeDuration(start, TimeUnit.MILLISECONDS);
-         storeTimes.add(intervalMilliseconds);
+         long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
+         storeTimes.add(intervalNanoseconds);
          stores.increment();
+         writeLatencies.record(intervalNanoseconds);
       }
 
       return ctx.shortCircuit(retval);
@@ -217,9 +224,10 @@ public CompletableFuture<Void> visitRemoveCommand(InvocationContext ctx, RemoveC
    }
 
    private void increaseRemoveHits(long start) {
-      long intervalMilliseconds = timeService.timeDuration(start, TimeUnit.MILLISECONDS);
-      removeTimes.add(intervalMilliseconds);
+      long intervalNanoseconds = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
+      removeTimes.add(intervalNanoseconds);
       removeHits.increment();
+      removeLatencies.record(intervalNanoseconds);
    }
 
    private void increaseRemoveMisses() {
@@ -327,7 +335,7 @@ public long getAverageReadTime() {
       long total = hits.sum() + misses.sum();
       if (total == 0)
          return 0;
-      return (hitTimes.sum() + missTimes.sum()) / total;
+      return TimeUnit.NANOSECONDS.toMillis((hitTimes.sum() + missTimes.sum()) / total);
    }
 
    @ManagedAttribute(
@@ -341,7 +349,7 @@ public long getAverageWriteTime() {
       long sum = stores.sum();
       if (sum == 0)
          return 0;
-      return (storeTimes.sum()) / sum;
+      return TimeUnit.NANOSECONDS.toMillis(storeTimes.sum() / sum);
    }
 
    @ManagedAttribute(
@@ -355,7 +363,97 @@ public long getAverageRemoveTime() {
       long removes = getRemoveHits();
       if (removes == 0)
          return 0;
-      return (removeTimes.sum()) / removes;
+      return TimeUnit.NANOSECONDS.toMillis(removeTimes.sum() / removes);
+   }
+
+   @ManagedAttribute(
+         description = "50th percentile of the number of nanoseconds for a read operation in the cache",
+         displayName = "Read time 50th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getReadTimeP50() {
+      return readLatencies.percentile(0.5);
+   }
+
+   @ManagedAttribute(
+         description = "99th percentile of the number of nanoseconds for a read operation in the cache",
+         displayName = "Read time 99th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getReadTimeP99() {
+      return readLatencies.percentile(0.99);
+   }
+
+   @ManagedAttribute(
+         description = "99.9th percentile of the number of nanoseconds for a read operation in the cache",
+         displayName = "Read time 99.9th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getReadTimeP999() {
+      return readLatencies.percentile(0.999);
+   }
+
+   @ManagedAttribute(
+         description = "50th percentile of the number of nanoseconds for a write operation in the cache",
+         displayName = "Write time 50th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getWriteTimeP50() {
+      return writeLatencies.percentile(0.5);
+   }
+
+   @ManagedAttribute(
+         description = "99th percentile of the number of nanoseconds for a write operation in the cache",
+         displayName = "Write time 99th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getWriteTimeP99() {
+      return writeLatencies.percentile(0.99);
+   }
+
+   @ManagedAttribute(
+         description = "99.9th percentile of the number of nanoseconds for a write operation in the cache",
+         displayName = "Write time 99.9th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getWriteTimeP999() {
+      return writeLatencies.percentile(0.999);
+   }
+
+   @ManagedAttribute(
+         description = "50th percentile of the number of nanoseconds for a remove operation in the cache",
+         displayName = "Remove time 50th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getRemoveTimeP50() {
+      return removeLatencies.percentile(0.5);
+   }
+
+   @ManagedAttribute(
+         description = "99th percentile of the number of nanoseconds for a remove operation in the cache",
+         displayName = "Remove time 99th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getRemoveTimeP99() {
+      return removeLatencies.percentile(0.99);
+   }
+
+   @ManagedAttribute(
+         description = "99.9th percentile of the number of nanoseconds for a remove operation in the cache",
+         displayName = "Remove time 99.9th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getRemoveTimeP999() {
+      return removeLatencies.percentile(0.999);
    }
 
    @ManagedAttribute(
@@ -424,6 +522,9 @@ public void resetStatistics() {
       removeHits.reset();
       removeTimes.reset();
       removeMisses.reset();
+      readLatencies.reset();
+      writeLatencies.reset();
+      removeLatencies.reset();
       resetNanoseconds.set(timeService.time());
    }
 
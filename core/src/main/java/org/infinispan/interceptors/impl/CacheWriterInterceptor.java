@@ -39,6 +39,7 @@
 import org.infinispan.jmx.annotations.ManagedAttribute;
 import org.infinispan.jmx.annotations.ManagedOperation;
 import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.marshall.core.MarshalledEntry;
 import org.infinispan.marshall.core.MarshalledEntryImpl;
 import org.infinispan.metadata.EmbeddedMetadata;
 import org.infinispan.metadata.Metadata;
@@ -51,8 +52,13 @@
 import javax.transaction.SystemException;
 import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -205,11 +211,13 @@ public CompletableFuture<Void> visitPutMapCommand(InvocationContext ctx, PutMapC
       if (!isStoreEnabled(command) || ctx.isInTxScope()) return ctx.shortCircuit(returnValue);
 
       Map<Object, Object> map = command.getMap();
+      List<Object> keys = new ArrayList<>(map.size());
       for (Object key : map.keySet()) {
          if (isProperWriter(ctx, command, key)) {
-            storeEntry(ctx, key, command);
+            keys.add(key);
          }
       }
+      storeEntries(ctx, keys, command);
       if (getStatisticsEnabled()) cacheStores.getAndAdd(map.size());
       return ctx.shortCircuit(returnValue);
    }
@@ -299,6 +307,7 @@ protected final void store(TxInvocationContext ctx) throws Throwable {
             cacheCommand.acceptVisitor(ctx, modsBuilder);
          }
       }
+      modsBuilder.flush();
       if (getStatisticsEnabled() && modsBuilder.putCount > 0) {
          cacheStores.getAndAdd(modsBuilder.putCount);
       }
@@ -323,10 +332,17 @@ protected boolean isProperWriter(InvocationContext ctx, FlagAffectedCommand comm
       return true;
    }
 
+   /**
+    * Collects the modifications of a transaction and writes them to the stores in batches when {@link #flush()} is
+    * invoked. Only the last modification of each key is kept.
+    */
    public class Updater extends AbstractVisitor {
 
       protected final boolean generateStatistics;
       int putCount;
+      private final Map<Object, MarshalledEntry> privatePuts = new LinkedHashMap<>();
+      private final Map<Object, MarshalledEntry> sharedPuts = new LinkedHashMap<>();
+      private final Set<Object> removes = new LinkedHashSet<>();
 
       public Updater(boolean generateStatistics) {
          this.generateStatistics = generateStatistics;
@@ -352,7 +368,7 @@ public Object visitApplyDeltaCommand(InvocationContext ctx, ApplyDeltaCommand co
                ice = entryFactory.create(entry);
             }
             MarshalledEntryImpl marshalledEntry = new MarshalledEntryImpl(ice.getKey(), ice.getValue(), internalMetadata(ice), marshaller);
-            persistenceManager.writeToAllStores(marshalledEntry, command.hasFlag(Flag.SKIP_SHARED_CACHE_STORE) ? PRIVATE : BOTH);
+            addPut(marshalledEntry, command);
          }
          return null;
       }
@@ -365,8 +381,13 @@ public Object visitReplaceCommand(InvocationContext ctx, ReplaceCommand command)
       @Override
       public Object visitPutMapCommand(InvocationContext ctx, PutMapCommand command) throws Throwable {
          Map<Object, Object> map = command.getMap();
-         for (Object key : map.keySet())
-            visitSingleStore(ctx, command, key);
+         for (Object key : map.keySet()) {
+            if (isProperWriter(ctx, command, key)) {
+               if (generateStatistics) putCount++;
+               InternalCacheValue sv = getStoredValue(key, ctx);
+               addPut(new MarshalledEntryImpl(key, sv.getValue(), internalMetadata(sv), marshaller), command);
+            }
+         }
          return null;
       }
 
@@ -374,13 +395,17 @@ public Object visitPutMapCommand(InvocationContext ctx, PutMapCommand command) t
       public Object visitRemoveCommand(InvocationContext ctx, RemoveCommand command) throws Throwable {
          Object key = command.getKey();
          if (isProperWriter(ctx, command, key)) {
-            persistenceManager.deleteFromAllStores(key, BOTH);
+            privatePuts.remove(key);
+            sharedPuts.remove(key);
+            removes.add(key);
          }
          return null;
       }
 
       @Override
       public Object visitClearCommand(InvocationContext ctx, ClearCommand command) throws Throwable {
+         // the modifications before the clear must not be applied after it
+         flush();
          persistenceManager.clearAllStores(ctx.isOriginLocal() ? PRIVATE : BOTH);
          return null;
       }
@@ -390,10 +415,40 @@ protected Object visitSingleStore(InvocationContext ctx, FlagAffectedCommand com
             if (generateStatistics) putCount++;
             InternalCacheValue sv = getStoredValue(key, ctx);
             MarshalledEntryImpl me = new MarshalledEntryImpl(key, sv.getValue(), internalMetadata(sv), marshaller);
-            persistenceManager.writeToAllStores(me, command.hasFlag(Flag.SKIP_SHARED_CACHE_STORE) ? PRIVATE : BOTH);
+            addPut(me, command);
          }
          return null;
       }
+
+      private void addPut(MarshalledEntry entry, FlagAffectedCommand command) {
+         Object key = entry.getKey();
+         removes.remove(key);
+         if (command.hasFlag(Flag.SKIP_SHARED_CACHE_STORE)) {
+            sharedPuts.remove(key);
+            privatePuts.put(key, entry);
+         } else {
+            privatePuts.remove(key);
+            sharedPuts.put(key, entry);
+         }
+      }
+
+      /**
+       * Writes the collected modifications to the stores, one batch per kind of modification.
+       */
+      public void flush() {
+         if (!removes.isEmpty()) {
+            persistenceManager.deleteBatchFromAllStores(new ArrayList<>(removes), BOTH);
+            removes.clear();
+         }
+         if (!privatePuts.isEmpty()) {
+            persistenceManager.writeBatchToAllStores(new ArrayList<>(privatePuts.values()), PRIVATE);
+            privatePuts.clear();
+         }
+         if (!sharedPuts.isEmpty()) {
+            persistenceManager.writeBatchToAllStores(new ArrayList<>(sharedPuts.values()), BOTH);
+            sharedPuts.clear();
+         }
+      }
    }
 
    @Override
@@ -421,6 +476,28 @@ void storeEntry(InvocationContext ctx, Object key, FlagAffectedCommand command)
       if (trace) getLog().tracef("Stored entry %s under key %s", sv, key);
    }
 
+   /**
+    * Stores the entries of all the given keys, handing them over to the stores as (at most) two batches: one for the
+    * keys which must also be written to the shared stores and one for the keys which must only go to the private ones.
+    */
+   void storeEntries(InvocationContext ctx, Collection<Object> keys, FlagAffectedCommand command) {
+      if (keys.isEmpty()) return;
+      List<MarshalledEntry> allStores = new ArrayList<>(keys.size());
+      List<MarshalledEntry> privateStores = new ArrayList<>();
+      for (Object key : keys) {
+         InternalCacheValue sv = getStoredValue(key, ctx);
+         MarshalledEntry me = new MarshalledEntryImpl(key, sv.getValue(), internalMetadata(sv), marshaller);
+         if (skipSharedStores(ctx, key, command)) {
+            privateStores.add(me);
+         } else {
+            allStores.add(me);
+         }
+      }
+      if (!allStores.isEmpty()) persistenceManager.writeBatchToAllStores(allStores, BOTH);
+      if (!privateStores.isEmpty()) persistenceManager.writeBatchToAllStores(privateStores, PRIVATE);
+      if (trace) getLog().tracef("Stored entries under keys %s", keys);
+   }
+
    protected boolean skipSharedStores(InvocationContext ctx, Object key, FlagAffectedCommand command) {
       return !ctx.isOriginLocal() || command.hasFlag(Flag.SKIP_SHARED_CACHE_STORE);
    }
@@ -16,6 +16,8 @@
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -86,7 +88,7 @@ public CompletableFuture<Void> visitPutMapCommand(InvocationContext ctx, PutMapC
       if (!isStoreEnabled(command) || ctx.isInTxScope()) return ctx.shortCircuit(returnValue);
 
       Map<Object, Object> map = command.getMap();
-      int count = 0;
+      List<Object> keys = new ArrayList<>(map.size());
       for (Object key : map.keySet()) {
          // In non-tx mode, a node may receive the same forwarded PutMapCommand many times - but each time
          // it must write only the keys locked on the primary owner that forwarded the command
@@ -94,11 +96,11 @@ public CompletableFuture<Void> visitPutMapCommand(InvocationContext ctx, PutMapC
             continue;
 
          if (isProperWriter(ctx, command, key)) {
-            storeEntry(ctx, key, command);
-            count++;
+            keys.add(key);
          }
       }
-      if (getStatisticsEnabled()) cacheStores.getAndAdd(count);
+      storeEntries(ctx, keys, command);
+      if (getStatisticsEnabled()) cacheStores.getAndAdd(keys.size());
       return ctx.shortCircuit(returnValue);
    }
 
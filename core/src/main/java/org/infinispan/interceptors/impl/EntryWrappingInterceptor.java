@@ -87,6 +87,10 @@ public class EntryWrappingInterceptor extends DDSequentialInterceptor {
    private StateTransferLock stateTransferLock;
    private XSiteStateConsumer xSiteStateConsumer;
    private GroupManager groupManager;
+   private final ReturnHandler dataReadReturnHandler = (rCtx, rCommand, rv, t) -> {
+      afterDataRead(rCtx, (AbstractDataCommand) rCommand);
+      return null;
+   };
 
    private static final Log log = LogFactory.getLog(EntryWrappingInterceptor.class);
    private static final boolean trace = log.isTraceEnabled();
@@ -150,16 +154,22 @@ public final CompletableFuture<Void> visitGetCacheEntryCommand(InvocationContext
    private CompletableFuture<Void> visitDataReadCommand(InvocationContext ctx, AbstractDataCommand command) throws Throwable {
       try {
          entryFactory.wrapEntryForReading(ctx, command.getKey(), null);
-         return ctx.shortCircuit(ctx.forkInvocationSync(command));
-      } finally {
-         //needed because entries might be added in L1
-         if (!ctx.isInTxScope())
-            commitContextEntries(ctx, command, null);
-         else {
-            CacheEntry entry = ctx.lookupEntry(command.getKey());
-            if (entry != null) {
-               entry.setSkipLookup(true);
-            }
+      } catch (Throwable t) {
+         afterDataRead(ctx, command);
+         throw t;
+      }
+      // The remote get may complete asynchronously, so release the entries in a return handler
+      return ctx.onReturn(dataReadReturnHandler);
+   }
+
+   private void afterDataRead(InvocationContext ctx, AbstractDataCommand command) {
+      //needed because entries might be added in L1
+      if (!ctx.isInTxScope())
+         commitContextEntries(ctx, command, null);
+      else {
+         CacheEntry entry = ctx.lookupEntry(command.getKey());
+         if (entry != null) {
+            entry.setSkipLookup(true);
          }
       }
    }
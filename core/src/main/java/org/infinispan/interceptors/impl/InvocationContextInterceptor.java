@@ -71,78 +71,93 @@ public void init(TransactionManager tm, ComponentRegistry componentRegistry, Tra
 
    @Override
    public CompletableFuture<Void> handleDefault(InvocationContext ctx, VisitableCommand command) throws Throwable {
-      return ctx.shortCircuit(handleAll(ctx, command));
+      return handleAll(ctx, command, null);
    }
 
    @Override
    public CompletableFuture<Void> visitLockControlCommand(TxInvocationContext ctx, LockControlCommand lcc) throws Throwable {
-      Object retval = handleAll(ctx, lcc);
-      return ctx.shortCircuit(retval == null ? false : retval);
+      return handleAll(ctx, lcc, false);
    }
 
-   private Object handleAll(InvocationContext ctx, VisitableCommand command) throws Throwable {
-      try {
-         ComponentStatus status = componentRegistry.getStatus();
-         if (command.ignoreCommandOnStatus(status)) {
-            log.debugf("Status: %s : Ignoring %s command", status, command);
-            return null;
-         }
+   /**
+    * The command may complete asynchronously, so the exceptions are handled in a return handler. The NDC and the thread
+    * local context are only cleared by the return handler if it runs on the invoking thread.
+    *
+    * @param defaultReturnValue the value to return instead of {@code null}
+    */
+   private CompletableFuture<Void> handleAll(InvocationContext ctx, VisitableCommand command,
+         Object defaultReturnValue) throws Throwable {
+      ComponentStatus status = componentRegistry.getStatus();
+      if (command.ignoreCommandOnStatus(status)) {
+         log.debugf("Status: %s : Ignoring %s command", status, command);
+         return ctx.shortCircuit(defaultReturnValue);
+      }
 
-         if (status.isTerminated()) {
-            throw log.cacheIsTerminated(getCacheNamePrefix());
-         } else if (stoppingAndNotAllowed(status, ctx)) {
-            throw log.cacheIsStopping(getCacheNamePrefix());
-         }
+      if (status.isTerminated()) {
+         throw log.cacheIsTerminated(getCacheNamePrefix());
+      } else if (stoppingAndNotAllowed(status, ctx)) {
+         throw log.cacheIsStopping(getCacheNamePrefix());
+      }
 
-         LogFactory.pushNDC(componentRegistry.getCacheName(), trace);
+      if (trace) log.tracef("Invoked with command %s and InvocationContext [%s]", command, ctx);
+      if (ctx == null) throw new IllegalStateException("Null context not allowed!!");
 
-         invocationContextContainer.setThreadLocal(ctx);
+      LogFactory.pushNDC(componentRegistry.getCacheName(), trace);
+      invocationContextContainer.setThreadLocal(ctx);
+      Thread invokingThread = Thread.currentThread();
+      return ctx.onReturn((rCtx, rCommand, rv, t) -> {
          try {
-            if (trace) log.tracef("Invoked with command %s and InvocationContext [%s]", command, ctx);
-            if (ctx == null) throw new IllegalStateException("Null context not allowed!!");
-
-            try {
-               return ctx.forkInvocationSync(command);
-            } catch (InvalidCacheUsageException ex) {
-               throw ex; // Propagate back client usage errors regardless of flag
-            } catch (Throwable th) {
-               // Only check for fail silently if there's a failure :)
-               boolean suppressExceptions = (command instanceof FlagAffectedCommand)
-                     && ((FlagAffectedCommand) command).hasFlag(Flag.FAIL_SILENTLY);
-               // If we are shutting down there is every possibility that the invocation fails.
-               suppressExceptions = suppressExceptions || shuttingDown;
-               if (suppressExceptions) {
-                  if (shuttingDown)
-                     log.trace("Exception while executing code, but we're shutting down so failing silently.", th);
-                  else
-                     log.trace("Exception while executing code, failing silently...", th);
-                  return null;
-               } else {
-                  if (th instanceof WriteSkewException) {
-                     // We log this as DEBUG rather than ERROR - see ISPN-2076
-                     log.debug("Exception executing call", th);
-                  } else if (th instanceof OutdatedTopologyException) {
-                     log.outdatedTopology(th);
-                  } else if (th instanceof RetryPrepareException) {
-                     log.debugf("Retrying total order prepare command for transaction %s, affected keys %s",
-                           ctx.getLockOwner(), extractWrittenKeys(ctx, command));
-                  } else {
-                     Collection<Object> affectedKeys = extractWrittenKeys(ctx, command);
-                     log.executionError(command.getClass().getSimpleName(), affectedKeys, th);
-                  }
-                  if (ctx.isInTxScope() && ctx.isOriginLocal()) {
-                     if (trace) log.trace("Transaction marked for rollback as exception was received.");
-                     markTxForRollbackAndRethrow(ctx, th);
-                     throw new IllegalStateException("This should not be reached");
-                  }
-                  throw th;
-               }
+            if (t != null) {
+               rv = handleException(rCtx, rCommand, t);
             }
          } finally {
-            LogFactory.popNDC(trace);
+            // If the command completed asynchronously, the caller of invokeAsync cleans up its own thread
+            if (Thread.currentThread() == invokingThread) {
+               LogFactory.popNDC(trace);
+               invocationContextContainer.clearThreadLocal();
+            }
+         }
+         if (rv == null && defaultReturnValue != null) {
+            return CompletableFuture.completedFuture(defaultReturnValue);
+         }
+         return t == null ? null : CompletableFuture.completedFuture(rv);
+      });
+   }
+
+   private Object handleException(InvocationContext ctx, VisitableCommand command, Throwable th) throws Throwable {
+      if (th instanceof InvalidCacheUsageException) {
+         throw th; // Propagate back client usage errors regardless of flag
+      }
+      // Only check for fail silently if there's a failure :)
+      boolean suppressExceptions = (command instanceof FlagAffectedCommand)
+            && ((FlagAffectedCommand) command).hasFlag(Flag.FAIL_SILENTLY);
+      // If we are shutting down there is every possibility that the invocation fails.
+      suppressExceptions = suppressExceptions || shuttingDown;
+      if (suppressExceptions) {
+         if (shuttingDown)
+            log.trace("Exception while executing code, but we're shutting down so failing silently.", th);
+         else
+            log.trace("Exception while executing code, failing silently...", th);
+         return null;
+      } else {
+         if (th instanceof WriteSkewException) {
+            // We log this as DEBUG rather than ERROR - see ISPN-2076
+            log.debug("Exception executing call", th);
+         } else if (th instanceof OutdatedTopologyException) {
+            log.outdatedTopology(th);
+         } else if (th instanceof RetryPrepareException) {
+            log.debugf("Retrying total order prepare command for transaction %s, affected keys %s",
+                  ctx.getLockOwner(), extractWrittenKeys(ctx, command));
+         } else {
+            Collection<Object> affectedKeys = extractWrittenKeys(ctx, command);
+            log.executionError(command.getClass().getSimpleName(), affectedKeys, th);
+         }
+         if (ctx.isInTxScope() && ctx.isOriginLocal()) {
+            if (trace) log.trace("Transaction marked for rollback as exception was received.");
+            markTxForRollbackAndRethrow(ctx, th);
+            throw new IllegalStateException("This should not be reached");
          }
-      } finally {
-         invocationContextContainer.clearThreadLocal();
+         throw th;
       }
    }
 
@@ -20,6 +20,11 @@ public class NonTransactionalLockingInterceptor extends AbstractLockingIntercept
 
    private static final Log log = LogFactory.getLog(NonTransactionalLockingInterceptor.class);
 
+   private final ReturnHandler unlockAllReturnHandler = (rCtx, rCommand, rv, t) -> {
+      lockManager.unlockAll(rCtx);//possibly needed because of L1 locks being acquired
+      return null;
+   };
+
    @Override
    protected Log getLog() {
       return log;
@@ -28,11 +33,7 @@ protected Log getLog() {
    @Override
    protected final CompletableFuture<Void> visitDataReadCommand(InvocationContext ctx, DataCommand command) throws Throwable {
       assertNonTransactional(ctx);
-      try {
-         return ctx.shortCircuit(ctx.forkInvocationSync(command));
-      } finally {
-         lockManager.unlockAll(ctx);//possibly needed because of L1 locks being acquired
-      }
+      return ctx.onReturn(unlockAllReturnHandler);
    }
 
    @Override
@@ -1,7 +1,7 @@
 package org.infinispan.jmx.annotations;
 
 public enum Units {
-   NONE, MILLISECONDS, SECONDS, PERCENTAGE;
+   NONE, MILLISECONDS, SECONDS, PERCENTAGE, NANOSECONDS;
 
    @Override
    public String toString() {
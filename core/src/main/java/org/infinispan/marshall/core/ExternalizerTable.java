@@ -376,6 +376,7 @@ private void loadInternalMarshallables() {
 
       // TODO: Add other MetaParam externalizers
       addInternalExternalizer(new MetaParamExternalizers.LifespanExternalizer());
+      addInternalExternalizer(new MetaParamExternalizers.MaxIdleExternalizer());
       addInternalExternalizer(new MetaParamExternalizers.EntryVersionParamExternalizer());
       addInternalExternalizer(new MetaParamExternalizers.NumericEntryVersionExternalizer());
 
@@ -4,6 +4,7 @@
 import org.infinispan.commons.api.functional.EntryVersion.NumericEntryVersion;
 import org.infinispan.commons.api.functional.MetaParam.MetaEntryVersion;
 import org.infinispan.commons.api.functional.MetaParam.MetaLifespan;
+import org.infinispan.commons.api.functional.MetaParam.MetaMaxIdle;
 import org.infinispan.commons.marshall.AbstractExternalizer;
 import org.infinispan.commons.util.Util;
 import org.infinispan.marshall.core.Ids;
@@ -41,6 +42,28 @@ public Integer getId() {
       }
    }
 
+   public static final class MaxIdleExternalizer extends AbstractExternalizer<MetaMaxIdle> {
+      @Override
+      public void writeObject(ObjectOutput output, MetaMaxIdle object) throws IOException {
+         output.writeLong(object.get());
+      }
+
+      @Override
+      public MetaMaxIdle readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+         return new MetaMaxIdle(input.readLong());
+      }
+
+      @Override
+      public Set<Class<? extends MetaMaxIdle>> getTypeClasses() {
+         return Util.<Class<? extends MetaMaxIdle>>asSet(MetaMaxIdle.class);
+      }
+
+      @Override
+      public Integer getId() {
+         return Ids.META_MAX_IDLE;
+      }
+   }
+
    public static final class EntryVersionParamExternalizer extends AbstractExternalizer<MetaEntryVersion> {
       @Override
       public void writeObject(ObjectOutput output, MetaEntryVersion object) throws IOException {
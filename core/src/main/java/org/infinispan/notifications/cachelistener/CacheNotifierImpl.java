@@ -23,6 +23,7 @@
 import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.annotations.Start;
 import org.infinispan.filter.CacheFilters;
 import org.infinispan.filter.KeyFilter;
 import org.infinispan.interceptors.SequentialInterceptorChain;
@@ -189,9 +190,8 @@ void injectDependencies(Cache<K, V> cache, ClusteringDependentLogic clusteringDe
       this.keyEquivalence = config.dataContainer().keyEquivalence();
    }
 
-   @Override
+   @Start(priority = 9)
    public void start() {
-      super.start();
       SequentialInterceptorChain interceptorChain = SecurityActions.getSequentialInterceptorChain(cache);
       if (interceptorChain != null && !interceptorChain.getInterceptors().isEmpty()) {
          this.distExecutorService = SecurityActions.getDefaultExecutorService(cache);
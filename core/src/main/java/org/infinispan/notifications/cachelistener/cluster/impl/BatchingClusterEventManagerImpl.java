@@ -1,20 +1,38 @@
 package org.infinispan.notifications.cachelistener.cluster.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
 
 import org.infinispan.Cache;
 import org.infinispan.commons.CacheException;
+import org.infinispan.commons.util.CollectionFactory;
+import org.infinispan.configuration.cache.ClusteringConfiguration;
 import org.infinispan.distexec.DistributedExecutionCompletionService;
 import org.infinispan.distexec.DistributedExecutorService;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.factories.annotations.ComponentName;
+import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.Start;
+import org.infinispan.factories.annotations.Stop;
+import org.infinispan.notifications.Listener;
 import org.infinispan.notifications.cachelistener.cluster.ClusterEvent;
 import org.infinispan.notifications.cachelistener.cluster.ClusterEventCallable;
 import org.infinispan.notifications.cachelistener.cluster.ClusterEventManager;
 import org.infinispan.notifications.cachelistener.cluster.MultiClusterEventCallable;
+import org.infinispan.notifications.cachemanagerlistener.CacheManagerNotifier;
+import org.infinispan.notifications.cachemanagerlistener.annotation.Merged;
+import org.infinispan.notifications.cachemanagerlistener.annotation.ViewChanged;
+import org.infinispan.notifications.cachemanagerlistener.event.ViewChangedEvent;
 import org.infinispan.remoting.transport.Address;
 
 public class BatchingClusterEventManagerImpl<K, V> implements ClusterEventManager<K, V>{
@@ -23,14 +41,47 @@
    private DistributedExecutorService distExecService;
    
    private final ThreadLocal<EventContext<K, V>> localContext = new ThreadLocal<>();
+
+   private ScheduledExecutorService timeoutExecutor;
+   private CacheManagerNotifier cacheManagerNotifier;
+   private int batchSize;
+   private long batchWindow;
+   private final ConcurrentMap<Address, ClusterEventBatcher<K, V>> batchers = CollectionFactory.makeConcurrentMap();
+   private final Function<Address, ClusterEventBatcher<K, V>> batcherFactory = this::createBatcher;
+   private final ViewListener viewListener = new ViewListener();
    
    public BatchingClusterEventManagerImpl(Cache<K, V> cache) {
       this.cache = cache;
    }
+
+   @Inject
+   public void injectTimeoutExecutor(@ComponentName(KnownComponentNames.TIMEOUT_SCHEDULE_EXECUTOR) ScheduledExecutorService timeoutExecutor) {
+      this.timeoutExecutor = timeoutExecutor;
+   }
+
+   @Inject
+   public void injectCacheManagerNotifier(CacheManagerNotifier cacheManagerNotifier) {
+      this.cacheManagerNotifier = cacheManagerNotifier;
+   }
    
    @Start
    public void start() {
       distExecService = SecurityActions.getDefaultExecutorService(cache);
+      ClusteringConfiguration clustering = cache.getCacheConfiguration().clustering();
+      batchSize = clustering.clusterEventBatchSize();
+      batchWindow = clustering.clusterEventBatchWindow();
+      if (batchSize > 0) {
+         cacheManagerNotifier.addListener(viewListener);
+      }
+   }
+
+   @Stop
+   public void stop() {
+      cacheManagerNotifier.removeListener(viewListener);
+      for (ClusterEventBatcher<K, V> batcher : batchers.values()) {
+         batcher.flush();
+      }
+      batchers.clear();
    }
    
    @Override
@@ -47,8 +98,15 @@ public void addEvents(Address target, UUID identifier, Collection<ClusterEvent<K
    public void sendEvents() {
       EventContext<K, V> ctx = localContext.get();
       if (ctx != null) {
-         ctx.sendToTargets(distExecService);
-         localContext.remove();
+         try {
+            if (batchSize > 0) {
+               ctx.sendToBatchers(address -> batchers.computeIfAbsent(address, batcherFactory));
+            } else {
+               ctx.sendToTargets(distExecService);
+            }
+         } finally {
+            localContext.remove();
+         }
       }
    }
    
@@ -56,11 +114,28 @@ public void sendEvents() {
    public void dropEvents() {
       localContext.remove();
    }
+
+   private ClusterEventBatcher<K, V> createBatcher(Address target) {
+      return new ClusterEventBatcher<>(target, batchSize, batchWindow, timeoutExecutor,
+            (address, events) -> distExecService.submit(address, new MultiClusterEventCallable<>(events)));
+   }
    
+   @Listener(sync = true)
+   public class ViewListener {
+      @Merged
+      @ViewChanged
+      public void handleViewChange(ViewChangedEvent e) {
+         // The events still queued for the nodes that left fail to be sent, the batchers are just not reused
+         batchers.keySet().retainAll(e.getNewMembers());
+      }
+   }
+
    private static interface EventContext<K, V> {
       public void addTargets(Address address, UUID identifier, Collection<ClusterEvent<K, V>> events, boolean sync);
       
       public void sendToTargets(DistributedExecutorService service);
+
+      public void sendToBatchers(Function<Address, ClusterEventBatcher<K, V>> batchers);
    }
    
    protected static class UnicastEventContext<K, V> implements EventContext<K, V> {
@@ -119,6 +194,30 @@ public void sendToTargets(DistributedExecutorService service) {
             throw new CacheException("Interrupted while waiting for event notifications to complete.", e);
          }
       }
+
+      @Override
+      public void sendToBatchers(Function<Address, ClusterEventBatcher<K, V>> batchers) {
+         List<CompletableFuture<Void>> syncFutures = new ArrayList<>();
+         try {
+            for (Entry<Address, TargetEvents<K, V>> entry : targets.entrySet()) {
+               TargetEvents<K, V> value = entry.getValue();
+               if (!value.events.isEmpty()) {
+                  CompletableFuture<Void> future = batchers.apply(entry.getKey()).add(value.events, value.sync);
+                  if (value.sync) {
+                     syncFutures.add(future);
+                  }
+               }
+            }
+            for (CompletableFuture<Void> future : syncFutures) {
+               future.get();
+            }
+         } catch (InterruptedException e) {
+            throw new CacheException("Interrupted while waiting for event notifications to complete.", e);
+         } catch (ExecutionException e) {
+            // The batcher logs the failures and always completes the futures normally
+            throw new CacheException(e.getCause());
+         }
+      }
    }
    
    private static class TargetEvents<K, V> {
@@ -0,0 +1,187 @@
+package org.infinispan.notifications.cachelistener.cluster.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.notifications.cachelistener.cluster.ClusterEvent;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * Sends the cluster events raised by all the threads to the cluster listeners of a single node in batches.
+ * <p>
+ * Only one batch is in flight to the node at a time, so the node receives the events in the order they were added
+ * and the ordering per key is kept. The events added while a batch is in flight are gathered in the next batch, which
+ * is sent when the batch in flight completes. If there is no batch in flight, synchronous events are sent right away,
+ * and asynchronous events are sent once the window expires or the batch holds {@code batchSize} events. Once the next
+ * batch is full, the threads adding events wait for the batch in flight to complete, so they are slowed down if the
+ * node can't keep up.
+ *
+ * @since 9.0
+ */
+final class ClusterEventBatcher<K, V> {
+
+   private static final Log log = LogFactory.getLog(ClusterEventBatcher.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   /**
+    * Sends a batch of events to the cluster listeners of a node.
+    */
+   interface BatchSender<K, V> {
+      CompletableFuture<Void> send(Address target, Map<UUID, Collection<ClusterEvent<K, V>>> events);
+   }
+
+   private final Address target;
+   private final int batchSize;
+   private final long window;
+   private final ScheduledExecutorService scheduler;
+   private final BatchSender<K, V> sender;
+
+   // All guarded by this
+   private Batch<K, V> next;
+   private boolean inFlight;
+   private ScheduledFuture<?> scheduledFlush;
+
+   ClusterEventBatcher(Address target, int batchSize, long window, ScheduledExecutorService scheduler,
+                       BatchSender<K, V> sender) {
+      this.target = target;
+      this.batchSize = batchSize;
+      this.window = window;
+      this.scheduler = scheduler;
+      this.sender = sender;
+   }
+
+   /**
+    * Adds the events of an operation to the next batch, waiting if it is full.
+    *
+    * @return a future completed once the batch holding the events is processed by the node, or failed to be sent
+    */
+   CompletableFuture<Void> add(Map<UUID, Collection<ClusterEvent<K, V>>> events, boolean sync)
+         throws InterruptedException {
+      Batch<K, V> batch;
+      Batch<K, V> toSend = null;
+      synchronized (this) {
+         while (inFlight && next != null && next.size >= batchSize) {
+            wait();
+         }
+         if (next == null) {
+            next = new Batch<>();
+         }
+         batch = next;
+         batch.add(events, sync);
+         if (!inFlight) {
+            if (batch.sync || window == 0 || batch.size >= batchSize) {
+               toSend = takeNext();
+            } else if (scheduledFlush == null) {
+               scheduledFlush = scheduler.schedule(this::flushScheduled, window, TimeUnit.MILLISECONDS);
+            }
+         }
+      }
+      if (toSend != null) {
+         send(toSend);
+      }
+      return batch.completion;
+   }
+
+   /**
+    * Sends the next batch, if any, as soon as the batch in flight completes.
+    */
+   void flush() {
+      Batch<K, V> toSend = null;
+      synchronized (this) {
+         if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+         }
+         if (!inFlight && next != null) {
+            toSend = takeNext();
+         }
+      }
+      if (toSend != null) {
+         send(toSend);
+      }
+   }
+
+   private void flushScheduled() {
+      Batch<K, V> toSend = null;
+      synchronized (this) {
+         scheduledFlush = null;
+         // If a batch is in flight, the next one is sent when it completes
+         if (!inFlight && next != null) {
+            toSend = takeNext();
+         }
+      }
+      if (toSend != null) {
+         send(toSend);
+      }
+   }
+
+   private Batch<K, V> takeNext() {
+      Batch<K, V> batch = next;
+      next = null;
+      inFlight = true;
+      if (scheduledFlush != null) {
+         scheduledFlush.cancel(false);
+         scheduledFlush = null;
+      }
+      // The threads waiting for room can add their events to a new batch
+      notifyAll();
+      return batch;
+   }
+
+   private void send(Batch<K, V> batch) {
+      if (trace) log.tracef("Sending %d cluster event(s) to %s", batch.size, target);
+      CompletableFuture<Void> future;
+      try {
+         future = sender.send(target, batch.events);
+      } catch (Throwable t) {
+         future = new CompletableFuture<>();
+         future.completeExceptionally(t);
+      }
+      future.whenComplete((v, t) -> {
+         if (t != null) {
+            log.failedSendingClusterEvents(target, t);
+         }
+         completed(batch);
+      });
+   }
+
+   private void completed(Batch<K, V> batch) {
+      Batch<K, V> toSend = null;
+      synchronized (this) {
+         inFlight = false;
+         // The events of the next batch were added while this one was in flight, they have waited long enough
+         if (next != null) {
+            toSend = takeNext();
+         }
+         notifyAll();
+      }
+      batch.completion.complete(null);
+      if (toSend != null) {
+         send(toSend);
+      }
+   }
+
+   private static final class Batch<K, V> {
+      final Map<UUID, Collection<ClusterEvent<K, V>>> events = new LinkedHashMap<>();
+      final CompletableFuture<Void> completion = new CompletableFuture<>();
+      int size;
+      boolean sync;
+
+      void add(Map<UUID, Collection<ClusterEvent<K, V>>> listenerEvents, boolean sync) {
+         for (Map.Entry<UUID, Collection<ClusterEvent<K, V>>> entry : listenerEvents.entrySet()) {
+            events.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).addAll(entry.getValue());
+            size += entry.getValue().size();
+         }
+         this.sync |= sync;
+      }
+   }
+}
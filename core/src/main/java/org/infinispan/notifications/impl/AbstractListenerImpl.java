@@ -5,21 +5,25 @@
 import org.infinispan.factories.KnownComponentNames;
 import org.infinispan.factories.annotations.ComponentName;
 import org.infinispan.factories.annotations.Inject;
-import org.infinispan.factories.annotations.Start;
 import org.infinispan.factories.annotations.Stop;
 import org.infinispan.notifications.IncorrectListenerException;
 import org.infinispan.notifications.Listener;
 import org.infinispan.security.Security;
-import org.infinispan.util.concurrent.WithinThreadExecutor;
 import org.infinispan.util.logging.Log;
 
 import javax.security.auth.Subject;
 import javax.transaction.Transaction;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
@@ -106,8 +110,7 @@ public AbstractInvocationBuilder setSubject(Subject subject) {
 
    }
 
-   // two separate executor services, one for sync and one for async listeners
-   protected ExecutorService syncProcessor;
+   // sync listeners are invoked in the calling thread, async listeners with this executor
    protected ExecutorService asyncProcessor;
 
    @Inject
@@ -116,11 +119,6 @@ void injectExecutor(@ComponentName(KnownComponentNames.ASYNC_NOTIFICATION_EXECUT
       this.asyncProcessor = executor;
    }
 
-   @Start(priority = 9)
-   public void start() {
-      syncProcessor = new WithinThreadExecutor();
-   }
-
    /**
     * Removes all listeners from the notifier
     */
@@ -129,8 +127,6 @@ public void stop() {
       for (List<L> list : listenersMap.values()) {
          if (list != null) list.clear();
       }
-
-      if (syncProcessor != null) syncProcessor.shutdownNow();
    }
 
    protected abstract Log getLog();
@@ -169,7 +165,7 @@ public Set<Object> getListeners() {
 
    /**
     * Loops through all valid methods on the object passed in, and caches the relevant methods as {@link
-    * ListenerInvocation} for invocation by reflection.
+    * ListenerInvocation}s, which compile them into direct invocations.
     * The builder provided will be used to create the listener invocations.  This method will set the target, subject
     * sync, and methods as needed.  If other values are needed to be set they should be invoked before passing to this method.
     *
@@ -246,6 +242,9 @@ protected static void testListenerMethodValidity(Method m, Class<?> allowedParam
    /**
     * Class that encapsulates a valid invocation for a given registered listener - containing a reference to the method
     * to be invoked as well as the target object.
+    * <p>
+    * The method is compiled into a {@link ListenerMethodInvoker} when the invocation is created, so no reflection is
+    * involved when an event is delivered.
     */
    protected class ListenerInvocationImpl<A> implements ListenerInvocation<A> {
       public final Object target;
@@ -253,6 +252,7 @@ protected static void testListenerMethodValidity(Method m, Class<?> allowedParam
       public final boolean sync;
       public final WeakReference<ClassLoader> classLoader;
       public final Subject subject;
+      private final ListenerMethodInvoker invoker;
 
       public ListenerInvocationImpl(Object target, Method method, boolean sync, ClassLoader classLoader, Subject subject) {
          this.target = target;
@@ -260,66 +260,64 @@ public ListenerInvocationImpl(Object target, Method method, boolean sync, ClassL
          this.sync = sync;
          this.classLoader = new WeakReference<ClassLoader>(classLoader);
          this.subject = subject;
+         this.invoker = compileInvoker(method);
       }
 
       @Override
       public void invoke(final A event) {
-         Runnable r = new Runnable() {
-
-            @Override
-            public void run() {
-               ClassLoader contextClassLoader = null;
-               Transaction transaction = suspendIfNeeded();
-               if (classLoader.get() != null) {
-                  contextClassLoader = SecurityActions.setContextClassLoader(classLoader.get());
-               }
+         if (sync) {
+            // the sync processor runs the task in the calling thread anyway
+            invokeListener(event);
+         } else {
+            asyncProcessor.execute(() -> invokeListener(event));
+         }
+      }
+
+      private void invokeListener(A event) {
+         ClassLoader contextClassLoader = null;
+         Transaction transaction = suspendIfNeeded();
+         ClassLoader listenerClassLoader = classLoader.get();
+         if (listenerClassLoader != null) {
+            contextClassLoader = SecurityActions.setContextClassLoader(listenerClassLoader);
+         }
+         try {
+            if (subject != null) {
                try {
-                  if (subject != null) {
-                     try {
-                        Security.doAs(subject, new PrivilegedExceptionAction<Void>() {
-                           @Override
-                           public Void run() throws Exception {
-                              method.invoke(target, event);
-                              return null;
-                           }
-                        });
-                     } catch (PrivilegedActionException e) {
-                        Throwable cause = e.getCause();
-                        if (cause instanceof InvocationTargetException) {
-                           throw (InvocationTargetException)cause;
-                        } else if (cause instanceof IllegalAccessException) {
-                           throw (IllegalAccessException)cause;
-                        } else {
-                           throw new InvocationTargetException(cause);
-                        }
-                     }
-                  } else {
-                     method.invoke(target, event);
-                  }
-               } catch (InvocationTargetException exception) {
-                  Throwable cause = getRealException(exception);
-                  if (sync) {
-                     throw getLog().exceptionInvokingListener(
-                           cause.getClass().getName(), method, target, cause);
-                  } else {
-                     getLog().unableToInvokeListenerMethod(method, target, cause);
-                  }
-               } catch (IllegalAccessException exception) {
-                  getLog().unableToInvokeListenerMethodAndRemoveListener(method, target, exception);
-                  removeListener(target);
-               } finally {
-                  if (classLoader.get() != null) {
-                     SecurityActions.setContextClassLoader(contextClassLoader);
-                  }
-                  resumeIfNeeded(transaction);
+                  Security.doAs(subject, (PrivilegedExceptionAction<Void>) () -> {
+                     invokeMethod(event);
+                     return null;
+                  });
+               } catch (PrivilegedActionException e) {
+                  throw ((ListenerMethodException) e.getCause());
                }
+            } else {
+               invokeMethod(event);
+            }
+         } catch (ListenerMethodException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException || cause instanceof Error) {
+               cause = getRealException(cause);
+            }
+            if (sync) {
+               throw getLog().exceptionInvokingListener(
+                     cause.getClass().getName(), method, target, cause);
+            } else {
+               getLog().unableToInvokeListenerMethod(method, target, cause);
+            }
+         } finally {
+            if (listenerClassLoader != null) {
+               SecurityActions.setContextClassLoader(contextClassLoader);
             }
-         };
+            resumeIfNeeded(transaction);
+         }
+      }
 
-         if (sync)
-            syncProcessor.execute(r);
-         else
-            asyncProcessor.execute(r);
+      private void invokeMethod(A event) throws ListenerMethodException {
+         try {
+            invoker.invoke(target, event);
+         } catch (Throwable t) {
+            throw new ListenerMethodException(t);
+         }
       }
 
       @Override
@@ -328,6 +326,71 @@ public Object getTarget() {
       }
    }
 
+   /**
+    * Calls a listener method on a target object.
+    */
+   interface ListenerMethodInvoker {
+      void invoke(Object target, Object event) throws Throwable;
+   }
+
+   /**
+    * Wraps the exception thrown by a listener method, like {@link InvocationTargetException} does for reflection.
+    */
+   private static class ListenerMethodException extends Exception {
+      ListenerMethodException(Throwable cause) {
+         super(null, cause, false, false);
+      }
+   }
+
+   private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+   /**
+    * Compiles a listener method into a {@link ListenerMethodInvoker}. If the method can be linked from this class, the
+    * invoker is generated with {@link LambdaMetafactory} and calls the method directly. Otherwise, e.g. if the listener
+    * class isn't public or isn't visible from the Infinispan class loader, the invoker calls a method handle.
+    */
+   static ListenerMethodInvoker compileInvoker(Method method) {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      MethodHandle handle;
+      try {
+         // the method was made accessible when the listener was validated
+         handle = lookup.unreflect(method);
+      } catch (IllegalAccessException e) {
+         throw new IncorrectListenerException("Listener method " + method + " is not accessible: " + e.getMessage());
+      }
+      if (Modifier.isStatic(method.getModifiers())) {
+         handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      } else if (isLinkable(method)) {
+         try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "invoke",
+                  MethodType.methodType(ListenerMethodInvoker.class), INVOKER_TYPE, handle, handle.type());
+            return (ListenerMethodInvoker) site.getTarget().invokeExact();
+         } catch (Throwable t) {
+            // fall back to the method handle
+         }
+      }
+      MethodHandle invokerHandle = handle.asType(INVOKER_TYPE);
+      return (target, event) -> {
+         invokerHandle.invokeExact(target, event);
+      };
+   }
+
+   private static boolean isLinkable(Method method) {
+      return Modifier.isPublic(method.getModifiers()) && isLinkable(method.getDeclaringClass())
+            && isLinkable(method.getParameterTypes()[0]);
+   }
+
+   private static boolean isLinkable(Class<?> clazz) {
+      if (!Modifier.isPublic(clazz.getModifiers())) {
+         return false;
+      }
+      try {
+         return Class.forName(clazz.getName(), false, AbstractListenerImpl.class.getClassLoader()) == clazz;
+      } catch (ClassNotFoundException | LinkageError e) {
+         return false;
+      }
+   }
+
    private Throwable getRealException(Throwable re) {
       if (re.getCause() == null) return re;
       Throwable cause = re.getCause();
@@ -22,14 +22,17 @@ public void purge(Executor threadPool, PurgeListener task) {
 
    @Override
    public void clear() {
+      State discarded = null;
       stateLock.writeLock(0);
       try {
          assertNotStopped();
-         state.set(newState(true, state.get().next));
+         discarded = state.get();
+         state.set(newState(true, discarded.next));
       } finally {
          stateLock.reset(1);
          stateLock.writeUnlock();
       }
+      releaseMemory(discarded.modifications.values());
    }
 
    @Override
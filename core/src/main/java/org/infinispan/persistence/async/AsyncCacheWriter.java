@@ -10,15 +10,19 @@
 import org.infinispan.persistence.modifications.Remove;
 import org.infinispan.persistence.modifications.Store;
 import org.infinispan.commons.CacheException;
+import org.infinispan.commons.io.ByteBuffer;
 import org.infinispan.commons.util.CollectionFactory;
 import org.infinispan.persistence.spi.CacheWriter;
 import org.infinispan.persistence.spi.InitializationContext;
 import org.infinispan.marshall.core.MarshalledEntry;
 import org.infinispan.persistence.support.DelegatingCacheWriter;
+import org.infinispan.stats.impl.LatencyHistogram;
+import org.infinispan.util.TimeService;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
@@ -49,6 +53,11 @@
  * <p/>
  * Write operations affecting same key are now coalesced so that only the final state is actually stored.
  * <p/>
+ * The modifications are flushed to the store in batches, as soon as the previous batch has been handed over to the
+ * store, or after {@link AsyncStoreConfiguration#flushInterval()} milliseconds, or earlier if the queue is full. The
+ * queue is bounded by {@link AsyncStoreConfiguration#modificationQueueSize()} modifications, and optionally by
+ * {@link AsyncStoreConfiguration#modificationQueueMemory()} bytes: writers block when either limit is reached.
+ * <p/>
  *
  * @author Manik Surtani
  * @author Galder Zamarreño
@@ -66,6 +75,9 @@ public class AsyncCacheWriter extends DelegatingCacheWriter {
    private Thread coordinator;
    private int concurrencyLevel;
    private String cacheName;
+   private TimeService timeService;
+   private boolean memoryLimited;
+   private final LatencyHistogram flushLatencies = new LatencyHistogram();
 
    protected BufferLock stateLock;
    @GuardedBy("stateLock")
@@ -88,6 +100,7 @@ public void init(InitializationContext ctx) {
       Configuration cacheCfg = cache != null ? cache.getCacheConfiguration() : null;
       concurrencyLevel = cacheCfg != null ? cacheCfg.locking().concurrencyLevel() : 16;
       cacheName = cache != null ? cache.getName() : null;
+      timeService = ctx.getTimeService();
    }
 
    @Override
@@ -95,7 +108,8 @@ public void start() {
       log.debugf("Async cache loader starting %s", this);
       state.set(newState(false, null));
       stopped = false;
-      stateLock = new BufferLock(asyncConfiguration.modificationQueueSize());
+      memoryLimited = asyncConfiguration.modificationQueueMemory() > 0;
+      stateLock = new BufferLock(asyncConfiguration.modificationQueueSize(), asyncConfiguration.modificationQueueMemory());
 
       // Create a thread pool with unbounded work queue, so that all work is accepted and eventually
       // executed. A bounded queue could throw RejectedExecutionException and thus lose data.
@@ -121,6 +135,8 @@ public void stop() {
       stateLock.writeLock(0);
       stopped = true;
       stateLock.writeUnlock();
+      // don't wait for the flush interval
+      stateLock.requestFlush();
       try {
          // It is safe to wait without timeout because the thread pool uses an unbounded work queue (i.e.
          // all work handed to the pool will be accepted and eventually executed) and AsyncStoreProcessors
@@ -151,19 +167,38 @@ public boolean delete(Object key) {
       return true;
    }
 
+   @Override
+   public void writeBatch(Iterable entries) {
+      for (Object entry : entries)
+         write((MarshalledEntry) entry);
+   }
+
+   @Override
+   public void deleteBatch(Iterable keys) {
+      for (Object key : keys)
+         delete(key);
+   }
+
    protected void applyModificationsSync(List<Modification> mods) throws PersistenceException {
+      // the modifications are already coalesced per key, so they can be handed over to the store as two batches
+      List<MarshalledEntry> stores = new ArrayList<>(mods.size());
+      List<Object> removes = new ArrayList<>();
       for (Modification m : mods) {
          switch (m.getType()) {
             case STORE:
-               actual.write(((Store) m).getStoredValue());
+               stores.add(((Store) m).getStoredValue());
                break;
             case REMOVE:
-               actual.delete(((Remove) m).getKey());
+               removes.add(((Remove) m).getKey());
                break;
             default:
                throw new IllegalArgumentException("Unknown modification type " + m.getType());
          }
       }
+      if (!removes.isEmpty())
+         actual.deleteBatch(removes);
+      if (!stores.isEmpty())
+         actual.writeBatch(stores);
    }
 
 
@@ -178,22 +213,81 @@ void assertNotStopped() throws CacheException {
    }
 
    private void put(Modification mod, int count) {
-      stateLock.writeLock(count);
+      long bytes = memoryLimited ? memorySize(mod) : 0;
+      Modification replaced = null;
+      boolean queued = false;
+      stateLock.writeLock(count, bytes);
       try {
          if (trace)
             log.tracef("Queue modification: %s", mod);
 
          assertNotStopped();
-         state.get().put(mod);
+         replaced = state.get().put(mod);
+         queued = true;
       } finally {
          stateLock.writeUnlock();
+         if (memoryLimited) {
+            // the memory of a coalesced modification is released right away, as it will never be written
+            if (!queued)
+               stateLock.releaseMemory(bytes);
+            else if (replaced != null)
+               stateLock.releaseMemory(memorySize(replaced));
+         }
+      }
+   }
+
+   /**
+    * Releases the memory held by modifications that were written or discarded.
+    */
+   protected void releaseMemory(Collection<Modification> modifications) {
+      if (memoryLimited) {
+         long bytes = 0;
+         for (Modification mod : modifications)
+            bytes += memorySize(mod);
+         stateLock.releaseMemory(bytes);
       }
    }
 
+   private static long memorySize(Modification mod) {
+      if (mod.getType() != Modification.Type.STORE)
+         return 0;
+      MarshalledEntry entry = ((Store) mod).getStoredValue();
+      return length(entry.getKeyBytes()) + length(entry.getValueBytes()) + length(entry.getMetadataBytes());
+   }
+
+   private static long length(ByteBuffer buffer) {
+      return buffer != null ? buffer.getLength() : 0;
+   }
+
    public AtomicReference<State> getState() {
       return state;
    }
 
+   /**
+    * @return the number of modifications that are queued or being written to the store
+    */
+   public int getQueueSize() {
+      int size = 0;
+      for (State s = state.get(); s != null; s = s.next)
+         size += s.modifications.size();
+      return size;
+   }
+
+   /**
+    * @return the number of bytes of the modifications that are queued or being written to the store, or 0 if the
+    * memory of the queue is not limited
+    */
+   public long getQueueMemory() {
+      return stateLock.usedMemory();
+   }
+
+   /**
+    * @return the time taken by each batch of modifications to be written to the store
+    */
+   public LatencyHistogram getFlushLatencies() {
+      return flushLatencies;
+   }
+
    protected void clearStore() {
       // No-op, not supported for async
    }
@@ -204,9 +298,15 @@ private class AsyncStoreCoordinator implements Runnable {
       public void run() {
          LogFactory.pushNDC(cacheName, trace);
          try {
+            long flushInterval = TimeUnit.MILLISECONDS.toNanos(asyncConfiguration.flushInterval());
             for (;;) {
                final State s, head, tail;
                final boolean shouldStop;
+               if (flushInterval > 0) {
+                  // give the writers some time to coalesce more modifications in the same batch
+                  stateLock.awaitAvailable();
+                  stateLock.awaitFull(flushInterval);
+               }
                stateLock.readLock();
                try {
                   s = state.get();
@@ -312,6 +412,7 @@ public void run() {
             retryWork(3);
 
          } finally {
+            releaseMemory(modifications);
             // decrement active worker threads and disconnect myState if this was the last one
             myState.workerThreads.countDown();
             if (myState.workerThreads.getCount() == 0 && myState.next == null)
@@ -327,7 +428,9 @@ private void retryWork(int maxRetries) {
                log.debugf("Retrying due to previous failure. %s attempts left.", maxRetries - attempt);
 
             try {
+               long start = timeService.time();
                AsyncCacheWriter.this.applyModificationsSync(modifications);
+               flushLatencies.record(timeService.timeDuration(start, TimeUnit.NANOSECONDS));
                return;
             } catch (Exception e) {
                if (log.isDebugEnabled())
@@ -1,6 +1,8 @@
 package org.infinispan.persistence.async;
 
+import java.util.concurrent.locks.AbstractQueuedLongSynchronizer;
 import java.util.concurrent.locks.AbstractQueuedSynchronizer;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * A custom reader-writer-lock combined with a bounded buffer size counter.
@@ -9,8 +11,9 @@
  * data is being written to the current state when the AsyncStoreCoordinator thread hands the
  * data off to the back-end store.
  * <p/>
- * Additionally, {@link #writeLock(int)} blocks if the buffer is full, and {@link #readLock()}
- * blocks if no data is available.
+ * Additionally, {@link #writeLock(int, long)} blocks if the buffer is full, and {@link #readLock()}
+ * blocks if no data is available. The buffer is full when it holds the maximum number of items,
+ * or the maximum number of bytes if a memory limit is set.
  * <p/>
  * This lock implementation is <em>not</em> reentrant!
  *
@@ -53,6 +56,52 @@ protected boolean tryReleaseShared(int state) {
          setState(state);
          return state < size;
       }
+
+      boolean isFull() {
+         return getState() >= size;
+      }
+   }
+
+   /**
+    * AQS state is the number of bytes held by the buffer, including the ones of the items that are
+    * being written. AcquireShared blocks if the limit is reached. Unlike {@link Counter}, it is
+    * never reset: the bytes are released once they are written.
+    */
+   private static class Memory extends AbstractQueuedLongSynchronizer {
+      private static final long serialVersionUID = -2383409880618470426L;
+      private final long limit;
+
+      Memory(long limit) {
+         this.limit = limit;
+      }
+
+      @Override
+      protected long tryAcquireShared(long bytes) {
+         for (;;) {
+            long state = getState();
+            if (state >= limit)
+               return -1;
+            if (compareAndSetState(state, state + bytes))
+               return state + bytes >= limit ? 0 : 1;
+         }
+      }
+
+      @Override
+      protected boolean tryReleaseShared(long bytes) {
+         for (;;) {
+            long state = getState();
+            if (compareAndSetState(state, state - bytes))
+               return state - bytes < limit;
+         }
+      }
+
+      long used() {
+         return getState();
+      }
+
+      boolean isFull() {
+         return getState() >= limit;
+      }
    }
 
    /**
@@ -119,7 +168,10 @@ protected boolean tryReleaseShared(int unused) {
 
    private final Sync sync;
    private final Counter counter;
+   private final Memory memory;
    private final Available available;
+   private volatile Thread flushWaiter;
+   private volatile boolean flushRequested;
 
    /**
     * Create a new BufferLock with the specified buffer size.
@@ -128,8 +180,21 @@ protected boolean tryReleaseShared(int unused) {
     *           the buffer size
     */
    BufferLock(int size) {
+      this(size, 0);
+   }
+
+   /**
+    * Create a new BufferLock with the specified buffer size and memory limit.
+    *
+    * @param size
+    *           the buffer size
+    * @param memoryLimit
+    *           the maximum number of bytes held by the buffer, or 0 if unlimited
+    */
+   BufferLock(int size, long memoryLimit) {
       sync = new Sync();
       counter = size > 0 ? new Counter(size) : null;
+      memory = memoryLimit > 0 ? new Memory(memoryLimit) : null;
       available = new Available();
    }
 
@@ -141,8 +206,24 @@ protected boolean tryReleaseShared(int unused) {
     *           number of items the caller intends to write
     */
    void writeLock(int count) {
+      writeLock(count, 0);
+   }
+
+   /**
+    * Acquires the write lock and consumes the specified amount of buffer space and memory. Blocks
+    * if the object is currently locked for reading, or if the buffer is full and count is greater
+    * than 0.
+    *
+    * @param count
+    *           number of items the caller intends to write
+    * @param bytes
+    *           number of bytes the caller intends to write, released with {@link #releaseMemory(long)}
+    */
+   void writeLock(int count, long bytes) {
       if (count > 0 && counter != null)
          counter.acquireShared(count);
+      if (count > 0 && memory != null)
+         memory.acquireShared(bytes);
       sync.acquireShared(1);
    }
 
@@ -152,6 +233,71 @@ void writeLock(int count) {
    void writeUnlock() {
       sync.releaseShared(1);
       available.releaseShared(1);
+      Thread waiter = flushWaiter;
+      if (waiter != null && isFull())
+         LockSupport.unpark(waiter);
+   }
+
+   /**
+    * Releases the memory of items that were written or discarded.
+    *
+    * @param bytes
+    *           number of bytes to release
+    */
+   void releaseMemory(long bytes) {
+      if (memory != null && bytes != 0)
+         memory.releaseShared(bytes);
+   }
+
+   /**
+    * @return the number of bytes held by the buffer, or 0 if it has no memory limit
+    */
+   long usedMemory() {
+      return memory != null ? memory.used() : 0;
+   }
+
+   boolean isFull() {
+      return (counter != null && counter.isFull()) || (memory != null && memory.isFull());
+   }
+
+   /**
+    * Blocks until data is available, without acquiring the read lock.
+    */
+   void awaitAvailable() {
+      available.acquireShared(1);
+   }
+
+   /**
+    * Waits until the buffer is full, {@link #requestFlush()} is called, or the timeout expires.
+    * Only one thread may wait at a time.
+    *
+    * @param timeoutNanos
+    *           the maximum time to wait
+    */
+   void awaitFull(long timeoutNanos) {
+      long deadline = System.nanoTime() + timeoutNanos;
+      flushWaiter = Thread.currentThread();
+      try {
+         while (!flushRequested && !isFull()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+               return;
+            LockSupport.parkNanos(this, remaining);
+         }
+      } finally {
+         flushWaiter = null;
+         flushRequested = false;
+      }
+   }
+
+   /**
+    * Makes a thread waiting in {@link #awaitFull(long)} return immediately.
+    */
+   void requestFlush() {
+      flushRequested = true;
+      Thread waiter = flushWaiter;
+      if (waiter != null)
+         LockSupport.unpark(waiter);
    }
 
    /**
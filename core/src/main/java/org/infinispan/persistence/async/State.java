@@ -71,19 +71,18 @@ else if (state.clear)
     *
     * @param mod
     *           the Modification to add, supports modification types STORE, REMOVE and LIST
+    * @return the Modification of the same key it replaced, if any (always <code>null</code> for LIST)
     */
-   void put(Modification mod) {
+   Modification put(Modification mod) {
       switch (mod.getType()) {
          case STORE:
-            modifications.put(((Store) mod).getKey(), mod);
-            break;
+            return modifications.put(((Store) mod).getKey(), mod);
          case REMOVE:
-            modifications.put(((Remove) mod).getKey(), mod);
-            break;
+            return modifications.put(((Remove) mod).getKey(), mod);
          case LIST:
             for (Modification m : ((ModificationsList) mod).getList())
                put(m);
-            break;
+            return null;
          default:
             throw new IllegalArgumentException("Unknown modification type " + mod.getType());
       }
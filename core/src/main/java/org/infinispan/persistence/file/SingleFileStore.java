@@ -33,9 +33,11 @@
 import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
-import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -61,7 +63,9 @@
  * source.
  * <p/>
  * This class is fully thread safe, yet allows for concurrent load / store
- * of individual cache entries.
+ * of individual cache entries. Loads don't take any lock: a reader pins the
+ * {@link FileEntry} it reads, and the space of a freed entry is only reused
+ * (or truncated) once it's not pinned by any reader.
  *
  * @author Karsten Blees
  * @author Mircea Markus
@@ -85,10 +89,10 @@
    private FileChannel channel;
    private Map<K, FileEntry> entries;
    private SortedSet<FileEntry> freeList;
-   private long filePos = MAGIC.length;
+   private final AtomicLong filePos = new AtomicLong(MAGIC.length);
    private File file;
    private float fragmentationFactor = .75f;
-   // Prevent clear() from truncating the file after a write() allocated the entry but before it wrote the data
+   // Prevent clear() and purge() from truncating the file after a write() allocated the entry but before it wrote the data
    private ReadWriteLock resizeLock = new ReentrantReadWriteLock();
    private TimeService timeService;
 
@@ -118,7 +122,7 @@ public void start() {
 
          // initialize data structures
          entries = newEntryMap();
-         freeList = Collections.synchronizedSortedSet(new TreeSet<FileEntry>());
+         freeList = new ConcurrentSkipListSet<>();
 
          // check file format and read persistent state if enabled for the cache
          byte[] header = new byte[MAGIC.length];
@@ -138,16 +142,14 @@ public void start() {
 
    private <Key> Map<Key, FileEntry> newEntryMap() {
       // only use LinkedHashMap (LRU) for entries when cache store is bounded
-      final Map<Key, FileEntry> entryMap;
+      // reads modify its access order, so it can't be read without holding its lock
       Equivalence<Object> keyEq = ctx.getCache().getCacheConfiguration().dataContainer().keyEquivalence();
       if (configuration.maxEntries() > 0)
-         entryMap = CollectionFactory.makeLinkedMap(16, 0.75f,
+         return Collections.synchronizedMap(CollectionFactory.makeLinkedMap(16, 0.75f,
                EquivalentLinkedHashMap.IterationOrder.ACCESS_ORDER,
-               keyEq, AnyEquivalence.<FileEntry>getInstance());
+               keyEq, AnyEquivalence.<FileEntry>getInstance()));
       else
-         entryMap = CollectionFactory.makeMap(keyEq, AnyEquivalence.<FileEntry>getInstance());
-
-      return Collections.synchronizedMap(entryMap);
+         return CollectionFactory.makeConcurrentMap(keyEq, AnyEquivalence.<FileEntry>getInstance());
    }
 
    @Override
@@ -161,7 +163,7 @@ public void stop() {
             channel = null;
             entries = null;
             freeList = null;
-            filePos = MAGIC.length;
+            filePos.set(MAGIC.length);
          }
       } catch (Exception e) {
          throw new PersistenceException(e);
@@ -173,13 +175,16 @@ public void stop() {
     */
    private void rebuildIndex() throws Exception {
       ByteBuffer buf = ByteBuffer.allocate(KEY_POS);
+      long filePos = this.filePos.get();
       for (; ; ) {
          // read FileEntry fields from file (size, keyLen etc.)
          buf.clear().limit(KEY_POS);
          channel.read(buf, filePos);
          // return if end of file is reached
-         if (buf.remaining() > 0)
+         if (buf.remaining() > 0) {
+            this.filePos.set(filePos);
             return;
+         }
          buf.flip();
 
          // initialize FileEntry from buffer
@@ -235,34 +240,22 @@ public boolean contains(Object key) {
     * @return allocated file position and length as FileEntry object
     */
    private FileEntry allocate(int len) {
-      synchronized (freeList) {
-         // lookup a free entry of sufficient size
-         SortedSet<FileEntry> candidates = freeList.tailSet(new FileEntry(0, len));
-         for (Iterator<FileEntry> it = candidates.iterator(); it.hasNext(); ) {
-            FileEntry free = it.next();
-            // ignore entries that are still in use by concurrent readers
-            if (free.isLocked())
-               continue;
-
-            // There's no race condition risk between locking the entry on
-            // loading and checking whether it's locked (or store allocation),
-            // because for the entry to be lockable, it needs to be in the
-            // entries collection, in which case it's not in the free list.
-            // The only way an entry can be found in the free list is if it's
-            // been removed, and to remove it, lock on "entries" needs to be
-            // acquired, which is also a pre-requisite for loading data.
-
-            // found one, remove from freeList
-            it.remove();
-            return allocateExistingEntry(free, len);
-         }
+      // lookup a free entry of sufficient size
+      for (FileEntry free : freeList.tailSet(new FileEntry(0, len))) {
+         // ignore entries that are still in use by concurrent readers, or that were claimed by a concurrent allocate()
+         if (!free.tryClaim())
+            continue;
 
-         // no appropriate free section available, append at end of file
-         FileEntry fe = new FileEntry(filePos, len);
-         filePos += len;
-         if (trace) log.tracef("New entry allocated at %d:%d, %d free entries, file size is %d", fe.offset, fe.size, freeList.size(), filePos);
-         return fe;
+         // found one, remove from freeList
+         // once claimed, no reader can pin the entry, and its space is ours to reuse
+         freeList.remove(free);
+         return allocateExistingEntry(free, len);
       }
+
+      // no appropriate free section available, append at end of file
+      FileEntry fe = new FileEntry(filePos.getAndAdd(len), len);
+      if (trace) log.tracef("New entry allocated at %d:%d, %d free entries, file size is %d", fe.offset, fe.size, freeList.size(), filePos.get());
+      return fe;
    }
 
    private FileEntry allocateExistingEntry(FileEntry free, int len) {
@@ -372,6 +365,85 @@ public void write(MarshalledEntry<? extends K, ? extends V> marshalledEntry) {
       }
    }
 
+   /**
+    * Writes all the entries with a single file write: the space for the whole batch is appended at the end of the
+    * file, each entry keeping its own header so that it can later be freed and reused independently.
+    */
+   @Override
+   public void writeBatch(Iterable<MarshalledEntry<? extends K, ? extends V>> marshalledEntries) {
+      try {
+         List<MarshalledEntry<? extends K, ? extends V>> batch = new ArrayList<>();
+         int totalLen = 0;
+         for (MarshalledEntry<? extends K, ? extends V> marshalledEntry : marshalledEntries) {
+            org.infinispan.commons.io.ByteBuffer metadata = marshalledEntry.getMetadataBytes();
+            int metadataLength = metadata == null ? 0 : metadata.getLength();
+            totalLen += KEY_POS + marshalledEntry.getKeyBytes().getLength() + marshalledEntry.getValueBytes().getLength() + metadataLength;
+            batch.add(marshalledEntry);
+         }
+         if (batch.isEmpty())
+            return;
+
+         resizeLock.readLock().lock();
+         try {
+            long offset = filePos.getAndAdd(totalLen);
+            if (trace) log.tracef("New batch of %d entries allocated at %d:%d", batch.size(), offset, totalLen);
+
+            ByteBuffer buf = ByteBuffer.allocate(totalLen);
+            FileEntry[] newEntries = new FileEntry[batch.size()];
+            for (int i = 0; i < newEntries.length; i++) {
+               MarshalledEntry<? extends K, ? extends V> marshalledEntry = batch.get(i);
+               org.infinispan.commons.io.ByteBuffer key = marshalledEntry.getKeyBytes();
+               org.infinispan.commons.io.ByteBuffer data = marshalledEntry.getValueBytes();
+               org.infinispan.commons.io.ByteBuffer metadata = marshalledEntry.getMetadataBytes();
+               int metadataLength = metadata == null ? 0 : metadata.getLength();
+               int len = KEY_POS + key.getLength() + data.getLength() + metadataLength;
+               long expiryTime = metadata != null ? marshalledEntry.getMetadata().expiryTime() : -1;
+               FileEntry newEntry = new FileEntry(offset + buf.position(), len, key.getLength(), data.getLength(), metadataLength, expiryTime);
+               buf.putInt(newEntry.size);
+               buf.putInt(newEntry.keyLen);
+               buf.putInt(newEntry.dataLen);
+               buf.putInt(newEntry.metadataLen);
+               buf.putLong(newEntry.expiryTime);
+               buf.put(key.getBuf(), key.getOffset(), key.getLength());
+               buf.put(data.getBuf(), data.getOffset(), data.getLength());
+               if (metadata != null)
+                  buf.put(metadata.getBuf(), metadata.getOffset(), metadata.getLength());
+               newEntries[i] = newEntry;
+            }
+            buf.flip();
+            while (buf.hasRemaining()) {
+               channel.write(buf, offset + buf.position());
+            }
+
+            // only publish the entries to the in-memory index once all of them are on disk
+            for (int i = 0; i < newEntries.length; i++) {
+               FileEntry oldEntry = entries.put(batch.get(i).getKey(), newEntries[i]);
+               if (oldEntry == null)
+                  oldEntry = evict();
+               free(oldEntry);
+            }
+         } finally {
+            resizeLock.readLock().unlock();
+         }
+      } catch (Exception e) {
+         throw new PersistenceException(e);
+      }
+   }
+
+   @Override
+   public void deleteBatch(Iterable<Object> keys) {
+      resizeLock.readLock().lock();
+      try {
+         for (Object key : keys) {
+            free(entries.remove(key));
+         }
+      } catch (Exception e) {
+         throw new PersistenceException(e);
+      } finally {
+         resizeLock.readLock().unlock();
+      }
+   }
+
    /**
     * Try to evict an entry if the capacity of the cache store is reached.
     *
@@ -396,23 +468,21 @@ public void clear() {
       resizeLock.writeLock().lock();
       try {
          synchronized (entries) {
-            synchronized (freeList) {
-               // wait until all readers are done reading file entries
-               for (FileEntry fe : entries.values())
-                  fe.waitUnlocked();
-               for (FileEntry fe : freeList)
-                  fe.waitUnlocked();
-
-               // clear in-memory state
-               entries.clear();
-               freeList.clear();
-
-               // reset file
-               if (trace) log.tracef("Truncating file, current size is %d", filePos);
-               channel.truncate(0);
-               channel.write(ByteBuffer.wrap(MAGIC), 0);
-               filePos = MAGIC.length;
-            }
+            // wait until all readers are done reading file entries, and prevent new readers from pinning them
+            for (FileEntry fe : entries.values())
+               fe.claimWhenUnlocked();
+            for (FileEntry fe : freeList)
+               fe.claimWhenUnlocked();
+
+            // clear in-memory state
+            entries.clear();
+            freeList.clear();
+
+            // reset file
+            if (trace) log.tracef("Truncating file, current size is %d", filePos.get());
+            channel.truncate(0);
+            channel.write(ByteBuffer.wrap(MAGIC), 0);
+            filePos.set(MAGIC.length);
          }
       } catch (Exception e) {
          throw new PersistenceException(e);
@@ -441,25 +511,22 @@ public MarshalledEntry<K, V> load(Object key) {
    }
 
    private MarshalledEntry<K, V> _load(Object key, boolean loadValue, boolean loadMetadata) {
-      final FileEntry fe;
-      resizeLock.readLock().lock();
-      try {
-         synchronized (entries) {
-            // lookup FileEntry of the key
-            fe = entries.get(key);
-            if (fe == null)
-               return null;
-
-            // Entries are removed due to expiration from {@link SingleFileStore#purge}
-            if (fe.isExpired(timeService.wallClockTime())) {
-               return null;
-            } else {
-               // lock entry for reading before releasing entries monitor
-               fe.lock();
-            }
-         }
-      } finally {
-         resizeLock.readLock().unlock();
+      FileEntry fe;
+      for (;;) {
+         // lookup FileEntry of the key
+         fe = entries.get(key);
+         if (fe == null)
+            return null;
+
+         // Entries are removed due to expiration from {@link SingleFileStore#purge}
+         if (fe.isExpired(timeService.wallClockTime()))
+            return null;
+
+         // pin the entry for reading, so that its space can't be reused or truncated
+         if (fe.tryLock())
+            break;
+
+         // the entry was replaced and its space was claimed for reuse in the meantime: look it up again
       }
 
       org.infinispan.commons.io.ByteBuffer valueBb = null;
@@ -478,7 +545,7 @@ private MarshalledEntry<K, V> _load(Object key, boolean loadValue, boolean loadM
       try {
          // load serialized data from disk
          data = new byte[fe.keyLen + fe.dataLen + (loadMetadata ? fe.metadataLen : 0)];
-         // The entry lock will prevent clear() from truncating the file at this point
+         // The entry lock will prevent clear() and purge() from truncating the file at this point
          channel.read(ByteBuffer.wrap(data), fe.offset + KEY_POS);
       } catch (Exception e) {
          throw new PersistenceException(e);
@@ -578,9 +645,9 @@ private void truncateFile(List<FileEntry> entries) {
          // Till we have free entries at the end of the file,
          // we can remove them and contract the file to release disk
          // space.
-         if (!fe.isLocked() && ((fe.offset + fe.size) == filePos)) {
+         if (((fe.offset + fe.size) == filePos.get()) && fe.tryClaim()) {
             truncateOffset = fe.offset;
-            filePos = fe.offset;
+            filePos.set(fe.offset);
             freeList.remove(fe);
             it.remove();
             reclaimedSpace += fe.size;
@@ -613,11 +680,14 @@ private void mergeFreeEntries(List<FileEntry> entries) {
       FileEntry lastEntry = null;
       FileEntry newEntry = null;
       int mergeCounter = 0;
+      List<FileEntry> claimed = new ArrayList<>(entries.size());
       for (Iterator<FileEntry> it = entries.iterator() ; it.hasNext(); ) {
          FileEntry fe = it.next();
-         if (fe.isLocked()) {
+         // claim the entry so that no reader can pin it while it's merged
+         if (!fe.tryClaim()) {
             continue;
          }
+         claimed.add(fe);
 
          // Merge any holes created (consecutive free entries) in the file
          if ((lastEntry != null) && (lastEntry.offset == (fe.offset + fe.size))) {
@@ -654,47 +724,67 @@ private void mergeFreeEntries(List<FileEntry> entries) {
          }
       }
 
+      // the entries that were not merged can be pinned and allocated again
+      for (FileEntry fe : claimed) {
+         if (freeList.contains(fe))
+            fe.releaseClaim();
+      }
+
       if (trace) log.tracef("Total time taken for mergeFreeEntries: " + (timeService.wallClockTime() - startTime) + " (ms)");
    }
    
    @Override
    public void purge(Executor threadPool, final PurgeListener task) {
       long now = timeService.wallClockTime();
-      List<KeyValuePair<Object, FileEntry>> entriesToPurge = new ArrayList<KeyValuePair<Object, FileEntry>>();
+      List<KeyValuePair<Object, FileEntry>> expiredEntries = new ArrayList<KeyValuePair<Object, FileEntry>>();
+      // the bounded entries map must be locked while iterating, but writers don't lock the unbounded one
       synchronized (entries) {
-         for (Iterator<Map.Entry<K, FileEntry>> it = entries.entrySet().iterator(); it.hasNext(); ) {
-            Map.Entry<K, FileEntry> next = it.next();
+         for (Map.Entry<K, FileEntry> next : entries.entrySet()) {
             FileEntry fe = next.getValue();
             if (fe.isExpired(now)) {
-               it.remove();
-               entriesToPurge.add(new KeyValuePair<Object, FileEntry>(next.getKey(), fe));
+               expiredEntries.add(new KeyValuePair<Object, FileEntry>(next.getKey(), fe));
             }
          }
       }
 
-      resizeLock.readLock().lock();
-      try {
-         for (Iterator<KeyValuePair<Object, FileEntry>> it = entriesToPurge.iterator(); it.hasNext(); ) {
-            KeyValuePair<Object, FileEntry> next = it.next();
-            FileEntry fe = next.getValue();
-            if (fe.isExpired(now)) {
-               it.remove();
-               try {
-                  free(fe);
-               } catch (Exception e) {
-                  throw new PersistenceException(e);
+      List<KeyValuePair<Object, FileEntry>> entriesToPurge = new ArrayList<KeyValuePair<Object, FileEntry>>(expiredEntries.size());
+      for (KeyValuePair<Object, FileEntry> next : expiredEntries) {
+         FileEntry fe = next.getValue();
+         // A writer may have replaced the entry and freed it in the meantime, then it's not ours to free.
+         // Pinning the entry prevents its space from being reused by an equal FileEntry before the removal.
+         if (fe.tryLock()) {
+            try {
+               if (entries.remove(next.getKey(), fe)) {
+                  entriesToPurge.add(next);
                }
-               if (task != null) task.entryPurged(next.getKey());
+            } finally {
+               fe.unlock();
             }
          }
+      }
 
-         // Disk space optimizations
-         synchronized (freeList) {
-           processFreeEntries();
+      resizeLock.readLock().lock();
+      try {
+         for (KeyValuePair<Object, FileEntry> next : entriesToPurge) {
+            try {
+               free(next.getValue());
+            } catch (Exception e) {
+               throw new PersistenceException(e);
+            }
+            if (task != null) task.entryPurged(next.getKey());
          }
       } finally {
          resizeLock.readLock().unlock();
       }
+
+      // Disk space optimizations
+      // Writers are blocked while the file is truncated, but readers are not
+      resizeLock.writeLock().lock();
+      try {
+         processFreeEntries();
+      } finally {
+         resizeLock.writeLock().unlock();
+      }
    }
 
    @Override
@@ -711,7 +801,7 @@ SortedSet<FileEntry> getFreeList() {
    }
 
    long getFileSize() {
-      return filePos;
+      return filePos.get();
    }
 
    public SingleFileStoreConfiguration getConfiguration() {
@@ -734,6 +824,10 @@ public SingleFileStoreConfiguration getConfiguration() {
     * </ul>
     */
    private static class FileEntry implements Comparable<FileEntry> {
+      private static final int CLAIMED = -1;
+      private static final AtomicIntegerFieldUpdater<FileEntry> READERS_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(FileEntry.class, "readers");
+
       /**
        * File offset of this block.
        */
@@ -765,9 +859,14 @@ private static class FileEntry implements Comparable<FileEntry> {
       private final long expiryTime;
 
       /**
-       * Number of current readers.
+       * Number of current readers, or {@link #CLAIMED} once the space of the entry is reused or truncated.
+       */
+      private volatile int readers = 0;
+
+      /**
+       * Whether a thread waits in {@link #claimWhenUnlocked()} for the readers to unpin the entry.
        */
-      private transient int readers = 0;
+      private volatile boolean claimWaiting;
 
       public FileEntry(long offset, int size) {
          this(offset, size, 0, 0, 0, -1);
@@ -786,27 +885,66 @@ public FileEntry(FileEntry fe, int keyLen, int dataLen, int metadataLen, long ex
          this(fe.offset, fe.size, keyLen, dataLen, metadataLen, expiryTime);
       }
 
-      public synchronized boolean isLocked() {
-         return readers > 0;
+      /**
+       * Pins the entry for reading.
+       *
+       * @return {@code false} if the space of the entry has been claimed for reuse, so it can't be read any more
+       */
+      public boolean tryLock() {
+         for (;;) {
+            int current = readers;
+            if (current == CLAIMED)
+               return false;
+            if (READERS_UPDATER.compareAndSet(this, current, current + 1))
+               return true;
+         }
       }
 
-      public synchronized void lock() {
-         readers++;
+      public void unlock() {
+         if (READERS_UPDATER.decrementAndGet(this) == 0 && claimWaiting) {
+            synchronized (this) {
+               notifyAll();
+            }
+         }
       }
 
-      public synchronized void unlock() {
-         readers--;
-         if (readers == 0)
-            notifyAll();
+      /**
+       * Claims the space of the entry for reuse, which prevents any reader from pinning it afterwards.
+       *
+       * @return {@code false} if the entry is pinned by a reader or was already claimed
+       */
+      public boolean tryClaim() {
+         return READERS_UPDATER.compareAndSet(this, 0, CLAIMED);
       }
 
-      public synchronized void waitUnlocked() {
-         while (readers > 0) {
-            try {
-               wait();
-            } catch (InterruptedException e) {
-               Thread.currentThread().interrupt();
+      /**
+       * Reverts {@link #tryClaim()} for an entry whose space was not reused.
+       */
+      public void releaseClaim() {
+         readers = 0;
+      }
+
+      /**
+       * Waits until all the readers unpinned the entry, and claims it.
+       * <p/>
+       * Readers only pin an entry while reading it from the file, so the wait is not interruptible.
+       */
+      public synchronized void claimWhenUnlocked() {
+         boolean interrupted = false;
+         claimWaiting = true;
+         try {
+            // the last reader checks claimWaiting after unpinning, and needs this monitor to wake us up
+            while (!tryClaim() && readers != CLAIMED) {
+               try {
+                  wait();
+               } catch (InterruptedException e) {
+                  interrupted = true;
+               }
             }
+         } finally {
+            claimWaiting = false;
+            if (interrupted)
+               Thread.currentThread().interrupt();
          }
       }
 
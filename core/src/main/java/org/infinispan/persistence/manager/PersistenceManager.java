@@ -58,6 +58,19 @@ public interface PersistenceManager extends Lifecycle {
 
    void writeToAllStores(MarshalledEntry marshalledEntry, AccessMode modes);
 
+   /**
+    * Writes all the entries to the stores allowed by the access mode, using
+    * {@link org.infinispan.persistence.spi.CacheWriter#writeBatch(Iterable)} so that each store can persist them in a
+    * single round trip.
+    */
+   void writeBatchToAllStores(Iterable<MarshalledEntry> entries, AccessMode mode);
+
+   /**
+    * Removes all the keys from the stores allowed by the access mode, using
+    * {@link org.infinispan.persistence.spi.CacheWriter#deleteBatch(Iterable)}.
+    */
+   void deleteBatchFromAllStores(Iterable<Object> keys, AccessMode mode);
+
    /**
     * Returns the store one configured with fetch persistent state, or null if none exist.
     */
@@ -9,6 +9,7 @@
 import org.infinispan.configuration.cache.EvictionConfigurationBuilder;
 import org.infinispan.configuration.cache.Index;
 import org.infinispan.configuration.cache.StoreConfiguration;
+import org.infinispan.container.DataContainer;
 import org.infinispan.context.Flag;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.eviction.EvictionType;
@@ -22,6 +23,12 @@
 import org.infinispan.interceptors.SequentialInterceptorChain;
 import org.infinispan.interceptors.impl.CacheLoaderInterceptor;
 import org.infinispan.interceptors.impl.CacheWriterInterceptor;
+import org.infinispan.jmx.annotations.DataType;
+import org.infinispan.jmx.annotations.DisplayType;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Units;
 import org.infinispan.marshall.core.MarshalledEntry;
 import org.infinispan.marshall.core.MarshalledEntryFactory;
 import org.infinispan.metadata.Metadata;
@@ -45,7 +52,6 @@
 import org.infinispan.persistence.support.DelegatingCacheWriter;
 import org.infinispan.persistence.support.SingletonCacheWriter;
 import org.infinispan.util.TimeService;
-import org.infinispan.util.concurrent.WithinThreadExecutor;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
@@ -57,6 +63,7 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -67,6 +74,7 @@
 import static org.infinispan.factories.KnownComponentNames.PERSISTENCE_EXECUTOR;
 import static org.infinispan.persistence.manager.PersistenceManager.AccessMode.BOTH;
 
+@MBean(objectName = "PersistenceManager", description = "Component that manages the stores of the cache.")
 public class PersistenceManagerImpl implements PersistenceManager {
 
    private static final Log log = LogFactory.getLog(PersistenceManagerImpl.class);
@@ -98,6 +106,10 @@ public class PersistenceManagerImpl implements PersistenceManager {
    private ByteBufferFactory byteBufferFactory;
    private MarshalledEntryFactory marshalledEntryFactory;
    private volatile boolean clearOnStop;
+   private final AtomicLong preloadedEntries = new AtomicLong(0);
+   private volatile boolean preloading;
+   private volatile long preloadStart;
+   private volatile long preloadTime;
 
    @Inject
    public void inject(AdvancedCache<Object, Object> cache, @ComponentName(CACHE_MARSHALLER) StreamingMarshaller marshaller,
@@ -227,24 +239,134 @@ public void preload() {
          return;
 
       long start = timeService.time();
-
-
-      final long maxEntries = getMaxEntries();
-      final AtomicInteger loadedEntries = new AtomicInteger(0);
-      final AdvancedCache<Object, Object> flaggedCache = getCacheForStateInsertion();
-      preloadCl.process(null, new AdvancedCacheLoader.CacheLoaderTask() {
-         @Override
-         public void processEntry(MarshalledEntry me, AdvancedCacheLoader.TaskContext taskContext) throws InterruptedException {
-            if (loadedEntries.getAndIncrement() >= maxEntries) {
-               taskContext.stop();
-               return;
+      preloadStart = start;
+      preloadedEntries.set(0);
+      preloading = true;
+
+      // The data container cannot hold more than Integer.MAX_VALUE entries
+      final int maxEntries = (int) Math.min(getMaxEntries(), Integer.MAX_VALUE);
+      final AtomicInteger reservedSlots = new AtomicInteger(0);
+      final boolean skipIndexing = preloadSkipsIndexing();
+      final AdvancedCache<Object, Object> flaggedCache = getCacheForStateInsertion(skipIndexing);
+      final DataContainer<Object, Object> dataContainer = canPreloadIntoDataContainer(skipIndexing) ?
+            cache.getAdvancedCache().getDataContainer() : null;
+      try {
+         // The store splits its entries between the threads of the persistence executor
+         preloadCl.process(null, new AdvancedCacheLoader.CacheLoaderTask() {
+            @Override
+            public void processEntry(MarshalledEntry me, AdvancedCacheLoader.TaskContext taskContext) throws InterruptedException {
+               // Reserve a slot before inserting, so the threads never insert more than maxEntries entries together
+               if (reservedSlots.getAndIncrement() >= maxEntries) {
+                  taskContext.stop();
+                  return;
+               }
+               Metadata metadata = me.getMetadata() != null ? ((InternalMetadataImpl)me.getMetadata()).actual() : null; //the downcast will go away with ISPN-3460
+               if (dataContainer != null) {
+                  dataContainer.put(me.getKey(), me.getValue(), metadata);
+               } else {
+                  preloadKey(flaggedCache, me.getKey(), me.getValue(), metadata);
+               }
+               preloadedEntries.incrementAndGet();
             }
-            Metadata metadata = me.getMetadata() != null ? ((InternalMetadataImpl)me.getMetadata()).actual() : null; //the downcast will go away with ISPN-3460
-            preloadKey(flaggedCache, me.getKey(), me.getValue(), metadata);
+         }, persistenceExecutor, true, true);
+      } finally {
+         preloading = false;
+         preloadTime = timeService.timeDuration(start, MILLISECONDS);
+      }
+
+      log.debugf("Preloaded %s keys in %s", preloadedEntries, Util.prettyPrintTime(preloadTime));
+   }
+
+   @ManagedAttribute(
+         description = "Number of entries loaded into memory by the current or last preload",
+         displayName = "Number of preloaded entries",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getPreloadedEntries() {
+      return preloadedEntries.get();
+   }
+
+   @ManagedAttribute(
+         description = "Whether the entries of the store are being loaded into memory",
+         displayName = "Preload in progress",
+         dataType = DataType.TRAIT
+   )
+   public boolean isPreloading() {
+      return preloading;
+   }
+
+   @ManagedAttribute(
+         description = "Time spent by the current or last preload",
+         displayName = "Preload time",
+         units = Units.MILLISECONDS
+   )
+   public long getPreloadTime() {
+      return preloading ? timeService.timeDuration(preloadStart, MILLISECONDS) : preloadTime;
+   }
+
+   @ManagedAttribute(
+         description = "Number of modifications waiting to be written to the asynchronous stores",
+         displayName = "Asynchronous store queue size",
+         measurementType = MeasurementType.DYNAMIC
+   )
+   public int getAsyncStoreQueueSize() {
+      int size = 0;
+      for (AsyncCacheWriter writer : getAsyncWriters())
+         size += writer.getQueueSize();
+      return size;
+   }
+
+   @ManagedAttribute(
+         description = "Bytes held by the modifications waiting to be written to the asynchronous stores with a modification queue memory limit",
+         displayName = "Asynchronous store queue memory",
+         measurementType = MeasurementType.DYNAMIC
+   )
+   public long getAsyncStoreQueueMemory() {
+      long memory = 0;
+      for (AsyncCacheWriter writer : getAsyncWriters())
+         memory += writer.getQueueMemory();
+      return memory;
+   }
+
+   @ManagedAttribute(
+         description = "Median time taken by the asynchronous stores to write a batch of modifications",
+         displayName = "Asynchronous store flush time (50th percentile)",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getAsyncStoreFlushTimeP50() {
+      return asyncStoreFlushTime(0.5);
+   }
+
+   @ManagedAttribute(
+         description = "99th percentile of the time taken by the asynchronous stores to write a batch of modifications",
+         displayName = "Asynchronous store flush time (99th percentile)",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getAsyncStoreFlushTimeP99() {
+      return asyncStoreFlushTime(0.99);
+   }
+
+   private long asyncStoreFlushTime(double fraction) {
+      long time = 0;
+      for (AsyncCacheWriter writer : getAsyncWriters())
+         time = Math.max(time, writer.getFlushLatencies().percentile(fraction));
+      return time;
+   }
+
+   private List<AsyncCacheWriter> getAsyncWriters() {
+      List<AsyncCacheWriter> asyncWriters = new ArrayList<>();
+      storesMutex.readLock().lock();
+      try {
+         for (CacheWriter writer : writers) {
+            if (writer instanceof AsyncCacheWriter)
+               asyncWriters.add((AsyncCacheWriter) writer);
          }
-      }, new WithinThreadExecutor(), true, true);
-
-      log.debugf("Preloaded %s keys in %s", loadedEntries, Util.prettyPrintTime(timeService.timeDuration(start, MILLISECONDS)));
+      } finally {
+         storesMutex.readLock().unlock();
+      }
+      return asyncWriters;
    }
 
    @Override
@@ -486,6 +608,34 @@ public void writeToAllStores(MarshalledEntry marshalledEntry, AccessMode mode) {
       }
    }
 
+   @Override
+   public void writeBatchToAllStores(Iterable<MarshalledEntry> entries, AccessMode mode) {
+      storesMutex.readLock().lock();
+      try {
+         for (CacheWriter w : writers) {
+            if (mode.canPerform(configMap.get(w))) {
+               w.writeBatch(entries);
+            }
+         }
+      } finally {
+         storesMutex.readLock().unlock();
+      }
+   }
+
+   @Override
+   public void deleteBatchFromAllStores(Iterable<Object> keys, AccessMode mode) {
+      storesMutex.readLock().lock();
+      try {
+         for (CacheWriter w : writers) {
+            if (mode.canPerform(configMap.get(w))) {
+               w.deleteBatch(keys);
+            }
+         }
+      } finally {
+         storesMutex.readLock().unlock();
+      }
+   }
+
    @Override
    public AdvancedCacheLoader getStateTransferProvider() {
       storesMutex.readLock().lock();
@@ -631,10 +781,22 @@ private CacheWriter undelegate(CacheWriter w) {
 
    }
 
-   private AdvancedCache<Object, Object> getCacheForStateInsertion() {
+   private AdvancedCache<Object, Object> getCacheForStateInsertion(boolean skipIndexing) {
       List<Flag> flags = new ArrayList<Flag>(Arrays.asList(
             CACHE_MODE_LOCAL, SKIP_OWNERSHIP_CHECK, IGNORE_RETURN_VALUES, SKIP_CACHE_STORE, SKIP_LOCKING));
 
+      if (skipIndexing)
+         flags.add(SKIP_INDEXING);
+
+      return cache.getAdvancedCache()
+            .withFlags(flags.toArray(new Flag[flags.size()]));
+   }
+
+   /**
+    * The preloaded entries are only indexed if the store is shared and the index is not: the other nodes have already
+    * indexed the entries in their own index.
+    */
+   private boolean preloadSkipsIndexing() {
       boolean hasShared = false;
       for (CacheWriter w : writers) {
          if (configMap.get(w).shared()) {
@@ -642,16 +804,21 @@ private AdvancedCache<Object, Object> getCacheForStateInsertion() {
             break;
          }
       }
+      return !hasShared || indexShareable();
+   }
 
-      if (hasShared) {
-         if (indexShareable())
-            flags.add(SKIP_INDEXING);
-      } else {
-         flags.add(SKIP_INDEXING);
-      }
-
-      return cache.getAdvancedCache()
-            .withFlags(flags.toArray(new Flag[flags.size()]));
+   /**
+    * The preloaded entries can be stored directly in the data container, bypassing the interceptor chain, unless an
+    * interceptor has to see them: to index them, wrap them in a transaction, or convert them to the stored format.
+    * <p>
+    * Skipping the chain also skips the listener notifications on purpose. Preload runs while the cache is starting,
+    * before any listener can be registered: the listeners are removed when the cache stops.
+    */
+   private boolean canPreloadIntoDataContainer(boolean skipIndexing) {
+      return (skipIndexing || !configuration.indexing().index().isEnabled()) &&
+            !configuration.transaction().transactionMode().isTransactional() &&
+            !configuration.storeAsBinary().enabled() &&
+            !configuration.compatibility().enabled();
    }
 
    private boolean localIndexingEnabled() {
@@ -81,6 +81,14 @@ public MarshalledEntry loadFromAllStores(Object key, InvocationContext context)
    public void writeToAllStores(MarshalledEntry marshalledEntry, AccessMode modes) {
    }
 
+   @Override
+   public void writeBatchToAllStores(Iterable<MarshalledEntry> entries, AccessMode mode) {
+   }
+
+   @Override
+   public void deleteBatchFromAllStores(Iterable<Object> keys, AccessMode mode) {
+   }
+
    @Override
    public AdvancedCacheLoader getStateTransferProvider() {
       return null;
@@ -1,9 +1,11 @@
 package org.infinispan.persistence.spi;
 
 import net.jcip.annotations.ThreadSafe;
+import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.filter.KeyFilter;
 import org.infinispan.marshall.core.MarshalledEntry;
 
+import java.util.Set;
 import java.util.concurrent.Executor;
 
 /**
@@ -39,6 +41,27 @@
     */
    void process(KeyFilter<? super K> filter, CacheLoaderTask<K, V> task, Executor executor, boolean fetchValue, boolean fetchMetadata);
 
+   /**
+    * Same as {@link #process(KeyFilter, CacheLoaderTask, Executor, boolean, boolean)}, except that only the entries
+    * whose key maps to one of the given <b>segments</b> are fed into the task.
+    * <p>
+    * The default implementation checks the segment of each key before the <b>filter</b>, so stores which keep their
+    * keys in memory or read them separately from the values never load the entries of the other segments. Stores
+    * which lay out their data by segment should override this method and only read the requested segments.
+    *
+    * @param segments       the segments to iterate over
+    * @param keyPartitioner maps the keys to segments
+    * @param filter         to validate which entries of the segments should be fed into the task. Might be null.
+    * @throws PersistenceException in case of an error, e.g. communicating with the external storage
+    * @since 9.0
+    */
+   default void process(Set<Integer> segments, KeyPartitioner keyPartitioner, KeyFilter<? super K> filter,
+                        CacheLoaderTask<K, V> task, Executor executor, boolean fetchValue, boolean fetchMetadata) {
+      KeyFilter<K> segmentFilter = key -> segments.contains(keyPartitioner.getSegment(key))
+            && (filter == null || filter.accept(key));
+      process(segmentFilter, task, executor, fetchValue, fetchMetadata);
+   }
+
    /**
     * Returns the number of elements in the store.
     *
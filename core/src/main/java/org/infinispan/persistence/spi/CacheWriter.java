@@ -35,4 +35,31 @@
     * @throws PersistenceException in case of an error, e.g. communicating with the external storage
     */
    boolean delete(Object key);
+
+   /**
+    * Persists all provided entries to the storage. The default implementation invokes {@link #write(MarshalledEntry)}
+    * for each entry; stores which can write several entries in a single round trip (e.g. a JDBC batch or a single file
+    * write) should override it.
+    *
+    * @param entries the entries to persist
+    * @throws PersistenceException in case of an error, e.g. communicating with the external storage
+    * @since 9.0
+    */
+   default void writeBatch(Iterable<MarshalledEntry<? extends K, ? extends V>> entries) {
+      for (MarshalledEntry<? extends K, ? extends V> entry : entries)
+         write(entry);
+   }
+
+   /**
+    * Removes all provided keys from the storage. The default implementation invokes {@link #delete(Object)} for each
+    * key; stores which can delete several keys in a single round trip should override it.
+    *
+    * @param keys the keys to remove
+    * @throws PersistenceException in case of an error, e.g. communicating with the external storage
+    * @since 9.0
+    */
+   default void deleteBatch(Iterable<Object> keys) {
+      for (Object key : keys)
+         delete(key);
+   }
 }
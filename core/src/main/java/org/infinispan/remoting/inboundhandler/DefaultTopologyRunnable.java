@@ -38,6 +38,21 @@ public boolean isReady() {
       }
    }
 
+   @Override
+   public boolean registerWakeUp(Runnable wakeUp) {
+      // The futures fail once the cache is stopped, the command must still run to reply
+      switch (topologyMode) {
+         case READY_TOPOLOGY:
+            handler.getStateTransferLock().topologyFuture(waitTopology()).whenComplete((v, t) -> wakeUp.run());
+            return true;
+         case READY_TX_DATA:
+            handler.getStateTransferLock().transactionDataFuture(waitTopology()).whenComplete((v, t) -> wakeUp.run());
+            return true;
+         default:
+            return false;
+      }
+   }
+
    @Override
    protected Response beforeInvoke() throws Exception {
       switch (topologyMode) {
@@ -106,13 +106,19 @@ private BlockingRunnable createReadyActionRunnable(CacheRpcCommand command, Repl
                                                               ReadyAction readyAction) {
       final TopologyMode topologyMode = TopologyMode.create(onExecutorService, waitTransactionalData);
       if (onExecutorService && readyAction != null) {
-         readyAction.addListener(remoteCommandsExecutor::checkForReadyTasks);
          return new DefaultTopologyRunnable(this, command, reply, topologyMode, commandTopologyId) {
             @Override
             public boolean isReady() {
                return super.isReady() && readyAction.isReady();
             }
 
+            @Override
+            public boolean registerWakeUp(Runnable wakeUp) {
+               super.registerWakeUp(wakeUp);
+               readyAction.addListener(wakeUp::run);
+               return true;
+            }
+
             @Override
             protected void onFinally() {
                super.onFinally();
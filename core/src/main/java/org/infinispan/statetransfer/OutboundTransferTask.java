@@ -22,15 +22,22 @@
 import org.infinispan.util.logging.LogFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Outbound state transfer task. Pushes data segments to another cluster member on request. Instances of
  * OutboundTransferTask are created and managed by StateTransferManagerImpl. There should be at most
  * one such task per destination at any time.
+ * <p>
+ * Entries are streamed from the data container and the state transfer provider store, only visiting the requested
+ * segments, and sent in chunks of {@code stateTransferChunkSize} entries. Up to {@code maxInFlightChunks} chunks can
+ * wait for an acknowledgement at the same time; when the limit is reached the task stops reading entries until one
+ * of them is acknowledged, so the memory used by a transfer is bounded regardless of the size of the segments.
  *
  * @author anistor@redhat.com
  * @since 5.2
@@ -51,6 +58,13 @@ public class OutboundTransferTask implements Runnable {
 
    private final int stateTransferChunkSize;
 
+   private final int maxInFlightChunks;
+
+   /**
+    * One permit for each chunk that can be sent without waiting for the acknowledgement of the previous ones.
+    */
+   private final Semaphore inFlightChunks;
+
    private final ConsistentHash readCh;
 
    private final DataContainer<Object, Object> dataContainer;
@@ -82,7 +96,8 @@ public class OutboundTransferTask implements Runnable {
    private InternalEntryFactory entryFactory;
 
    public OutboundTransferTask(Address destination, Set<Integer> segments, int stateTransferChunkSize,
-                               int topologyId, ConsistentHash readCh, StateProviderImpl stateProvider, DataContainer dataContainer,
+                               int maxInFlightChunks, int topologyId, ConsistentHash readCh,
+                               StateProviderImpl stateProvider, DataContainer dataContainer,
                                PersistenceManager persistenceManager, RpcManager rpcManager,
                                CommandsFactory commandsFactory, InternalEntryFactory ef, long timeout, String cacheName) {
       if (segments == null || segments.isEmpty()) {
@@ -94,10 +109,15 @@ public OutboundTransferTask(Address destination, Set<Integer> segments, int stat
       if (stateTransferChunkSize <= 0) {
          throw new IllegalArgumentException("stateTransferChunkSize must be greater than 0");
       }
+      if (maxInFlightChunks <= 0) {
+         throw new IllegalArgumentException("maxInFlightChunks must be greater than 0");
+      }
       this.stateProvider = stateProvider;
       this.destination = destination;
       this.segments.addAll(segments);
       this.stateTransferChunkSize = stateTransferChunkSize;
+      this.maxInFlightChunks = maxInFlightChunks;
+      this.inFlightChunks = new Semaphore(maxInFlightChunks);
       this.topologyId = topologyId;
       this.readCh = readCh;
       this.dataContainer = dataContainer;
@@ -140,10 +160,11 @@ public int getTopologyId() {
    //todo [anistor] check thread interrupt status in loops to implement faster cancellation
    public void run() {
       try {
-         // send data container entries
-         for (InternalCacheEntry ice : dataContainer) {
-            Object key = ice.getKey();  //todo [anistor] should we check for expired entries?
-            int segmentId = readCh.getSegment(key);
+         // send data container entries, only visiting the requested segments
+         for (Iterator<InternalCacheEntry<Object, Object>> it = dataContainer.iterator(segments, readCh::getSegment); it.hasNext(); ) {
+            InternalCacheEntry ice = it.next();
+            int segmentId = readCh.getSegment(ice.getKey());
+            // the segment might have been cancelled in the meantime
             if (segments.contains(segmentId)) {
                sendEntry(ice, segmentId);
             }
@@ -167,7 +188,8 @@ public void processEntry(MarshalledEntry me, AdvancedCacheLoader.TaskContext tas
                         }
                      }
                   };
-               stProvider.process(filter, task, new WithinThreadExecutor(), true, true);
+               // only the entries of the requested segments are loaded
+               stProvider.process(segments, readCh::getSegment, filter, task, new WithinThreadExecutor(), true, true);
             } catch (CacheException e) {
                log.failedLoadingKeysFromCacheStore(e);
             }
@@ -188,7 +210,7 @@ public void processEntry(MarshalledEntry me, AdvancedCacheLoader.TaskContext tas
       }
    }
 
-   private void sendEntry(InternalCacheEntry ice, int segmentId) {
+   private void sendEntry(InternalCacheEntry ice, int segmentId) throws InterruptedException {
       // send if we have a full chunk
       if (accumulatedEntries >= stateTransferChunkSize) {
          sendEntries(false);
@@ -204,21 +226,20 @@ private void sendEntry(InternalCacheEntry ice, int segmentId) {
       accumulatedEntries++;
    }
 
-   private void sendEntries(boolean isLast) {
+   private void sendEntries(boolean isLast) throws InterruptedException {
+      // the chunks take over the accumulated lists, the next entries of each segment go to a new list
       List<StateChunk> chunks = new ArrayList<StateChunk>();
-      for (Map.Entry<Integer, List<InternalCacheEntry>> e : entriesBySegment.entrySet()) {
-         List<InternalCacheEntry> entries = e.getValue();
-         if (!entries.isEmpty() || isLast) {
-            chunks.add(new StateChunk(e.getKey(), new ArrayList<InternalCacheEntry>(entries), isLast));
-            entries.clear();
-         }
-      }
-
       if (isLast) {
          for (int segmentId : segments) {
-            List<InternalCacheEntry> entries = entriesBySegment.get(segmentId);
-            if (entries == null) {
-               chunks.add(new StateChunk(segmentId, Collections.<InternalCacheEntry>emptyList(), true));
+            List<InternalCacheEntry> entries = entriesBySegment.remove(segmentId);
+            chunks.add(new StateChunk(segmentId, entries != null ? entries : Collections.<InternalCacheEntry>emptyList(), true));
+         }
+      } else {
+         for (Iterator<Map.Entry<Integer, List<InternalCacheEntry>>> it = entriesBySegment.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Integer, List<InternalCacheEntry>> e = it.next();
+            it.remove();
+            if (!e.getValue().isEmpty()) {
+               chunks.add(new StateChunk(e.getKey(), e.getValue(), false));
             }
          }
       }
@@ -228,27 +249,52 @@ private void sendEntries(boolean isLast) {
             if (isLast) {
                log.tracef("Sending last chunk containing %d cache entries from segments %s of cache %s to node %s", accumulatedEntries, segments, cacheName, destination);
             } else {
-               log.tracef("Sending %d cache entries from segments %s of cache %s to node %s", accumulatedEntries, entriesBySegment.keySet(), cacheName, destination);
+               log.tracef("Sending %d cache entries from %d segments of cache %s to node %s", accumulatedEntries, chunks.size(), cacheName, destination);
             }
          }
 
          StateResponseCommand cmd = commandsFactory.buildStateResponseCommand(rpcManager.getAddress(), topologyId, chunks);
-         // send synchronously, in order. it is important that the last chunk is received last in order to correctly detect completion of the stream of chunks
-         try {
-            rpcManager.invokeRemotely(Collections.singleton(destination), cmd, rpcOptions);
-         } catch (SuspectException e) {
-            log.debugf("Node %s left cache %s while we were sending state to it, cancelling transfer.", destination, cacheName);
-            cancel();
-         } catch (Exception e) {
-            if (isCancelled()) {
-               log.debugf("Stopping cancelled transfer of segments %s of cache %s to node %s", segments, cacheName, destination);
-            } else {
-               log.errorf(e, "Failed to send entries to node %s : %s", destination, e.getMessage());
+         if (isLast) {
+            // it is important that the last chunk is received last in order to correctly detect completion of the
+            // stream of chunks, so wait for all the chunks in flight to be acknowledged and send it synchronously
+            inFlightChunks.acquire(maxInFlightChunks);
+            try {
+               rpcManager.invokeRemotely(Collections.singleton(destination), cmd, rpcOptions);
+            } catch (Exception e) {
+               handleSendFailure(e);
+            } finally {
+               inFlightChunks.release(maxInFlightChunks);
+            }
+         } else {
+            inFlightChunks.acquire();
+            try {
+               rpcManager.invokeRemotelyAsync(Collections.singleton(destination), cmd, rpcOptions)
+                     .whenComplete((responses, throwable) -> {
+                        inFlightChunks.release();
+                        if (throwable != null) {
+                           handleSendFailure(throwable instanceof CompletionException && throwable.getCause() != null ?
+                                 throwable.getCause() : throwable);
+                        }
+                     });
+            } catch (Exception e) {
+               inFlightChunks.release();
+               handleSendFailure(e);
             }
          }
       }
    }
 
+   private void handleSendFailure(Throwable t) {
+      if (t instanceof SuspectException) {
+         log.debugf("Node %s left cache %s while we were sending state to it, cancelling transfer.", destination, cacheName);
+         cancel();
+      } else if (isCancelled()) {
+         log.debugf("Stopping cancelled transfer of segments %s of cache %s to node %s", segments, cacheName, destination);
+      } else {
+         log.errorf(t, "Failed to send entries to node %s : %s", destination, t.getMessage());
+      }
+   }
+
    /**
     * Cancel some of the segments. If all segments get cancelled then the whole task will be cancelled.
     *
@@ -288,6 +334,7 @@ public String toString() {
             ", destination=" + destination +
             ", segments=" + segments +
             ", stateTransferChunkSize=" + stateTransferChunkSize +
+            ", maxInFlightChunks=" + maxInFlightChunks +
             ", timeout=" + timeout +
             ", cacheName='" + cacheName + '\'' +
             '}';
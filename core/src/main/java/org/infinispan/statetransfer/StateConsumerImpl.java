@@ -931,13 +931,9 @@ private void removeStaleData(final Set<Integer> removedSegments) throws Interrup
       // Keys that we used to own, and need to be removed from the data container AND the cache stores
       final ConcurrentHashSet<Object> keysToRemove = new ConcurrentHashSet<Object>();
 
-      dataContainer.executeTask(KeyFilter.ACCEPT_ALL_FILTER, (o, ice) -> {
-         Object key = ice.getKey();
-         int keySegment = getSegment(key);
-         if (removedSegments.contains(keySegment)) {
-            keysToRemove.add(key);
-         }
-      });
+      for (Iterator<InternalCacheEntry<Object, Object>> it = dataContainer.iteratorIncludingExpired(removedSegments, this::getSegment); it.hasNext(); ) {
+         keysToRemove.add(it.next().getKey());
+      }
 
       // gather all keys from cache store that belong to the segments that are being removed/moved to L1
       if (!removedSegments.isEmpty()) {
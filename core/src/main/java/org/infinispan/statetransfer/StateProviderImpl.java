@@ -55,6 +55,7 @@ public class StateProviderImpl implements StateProvider {
    private InternalEntryFactory entryFactory;
    private long timeout;
    private int chunkSize;
+   private int maxInFlightChunks;
 
    private StateConsumer stateConsumer;
 
@@ -95,6 +96,7 @@ public void init(Cache cache,
       timeout = configuration.clustering().stateTransfer().timeout();
 
       this.chunkSize = configuration.clustering().stateTransfer().chunkSize();
+      this.maxInFlightChunks = configuration.clustering().stateTransfer().maxInFlightChunks();
    }
 
    public boolean isStateTransferInProgress() {
@@ -276,7 +278,7 @@ public void startOutboundTransfer(Address destination, int requestTopologyId, Se
       final CacheTopology cacheTopology = getCacheTopology(requestTopologyId, destination, false);
 
       // the destination node must already have an InboundTransferTask waiting for these segments
-      OutboundTransferTask outboundTransfer = new OutboundTransferTask(destination, segments, chunkSize, requestTopologyId,
+      OutboundTransferTask outboundTransfer = new OutboundTransferTask(destination, segments, chunkSize, maxInFlightChunks, requestTopologyId,
             cacheTopology.getReadConsistentHash(), this, dataContainer, persistenceManager, rpcManager, commandsFactory, entryFactory, timeout, cacheName);
       addTransfer(outboundTransfer);
       outboundTransfer.execute(executorService);
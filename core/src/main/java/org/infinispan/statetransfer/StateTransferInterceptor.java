@@ -179,24 +179,40 @@ private CompletableFuture<Void> visitReadCommand(InvocationContext ctx, FlagAffe
       CacheTopology beginTopology = stateTransferManager.getCacheTopology();
       consistentHashUpdater.accept(beginTopology.getReadConsistentHash());
       updateTopologyId(command);
-      try {
-         return ctx.shortCircuit(ctx.forkInvocationSync(command));
-      } catch (CacheException e) {
-         Throwable ce = e;
+      // The remote get may complete asynchronously, so retry it from a fork return handler
+      return ctx.forkInvocation(command, (rCtx, rCommand, rv, t) -> {
+         if (t == null) {
+            return rCtx.shortCircuit(rv);
+         }
+         if (!(t instanceof CacheException))
+            throw t;
+         Throwable ce = t;
          while (ce instanceof RemoteException) {
             ce = ce.getCause();
          }
          if (!(ce instanceof OutdatedTopologyException) && !(ce instanceof SuspectException))
-            throw e;
+            throw t;
 
          // We increment the topology id so that updateTopologyIdAndWaitForTransactionData waits for the next topology.
          // Without this, we could retry the command too fast and we could get the OutdatedTopologyException again.
          if (trace) log.tracef("Retrying command because of topology change, current topology is %d: %s", currentTopologyId(), command);
          int newTopologyId = Math.max(currentTopologyId(), command.getTopologyId() + 1);
          command.setTopologyId(newTopologyId);
-         waitForTopology(newTopologyId);
 
+         // Retry once the topology is installed, without blocking the thread that received the exception
+         return topologyFuture(newTopologyId).thenCompose(
+               ignored -> visitReadCommandUnchecked(rCtx, command, consistentHashUpdater));
+      });
+   }
+
+   private CompletableFuture<Void> visitReadCommandUnchecked(InvocationContext ctx, FlagAffectedCommand command,
+         Consumer<ConsistentHash> consistentHashUpdater) {
+      try {
          return visitReadCommand(ctx, command, consistentHashUpdater);
+      } catch (Throwable t) {
+         CompletableFuture<Void> future = new CompletableFuture<>();
+         future.completeExceptionally(t);
+         return future;
       }
    }
 
@@ -3,6 +3,7 @@
 import org.infinispan.factories.scopes.Scope;
 import org.infinispan.factories.scopes.Scopes;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -43,6 +44,12 @@ public interface StateTransferLock {
 
    boolean transactionDataReceived(int expectedTopologyId);
 
+   /**
+    * @return a future completed once the transaction data for the given topology, or a later one, is received, or
+    *         failed with an {@link org.infinispan.IllegalLifecycleStateException} once the cache is stopped
+    */
+   CompletableFuture<Void> transactionDataFuture(int expectedTopologyId);
+
    // topology installation latch
    // TODO move this to Cluster/LocalTopologyManagerImpl and don't start requesting state until every node has the jgroups view with the local node
    void notifyTopologyInstalled(int topologyId);
@@ -50,4 +57,10 @@ public interface StateTransferLock {
    void waitForTopology(int expectedTopologyId, long timeout, TimeUnit unit) throws InterruptedException;
 
    boolean topologyReceived(int expectedTopologyId);
+
+   /**
+    * @return a future completed once the given topology, or a later one, is installed, or failed with an
+    *         {@link org.infinispan.IllegalLifecycleStateException} once the cache is stopped
+    */
+   CompletableFuture<Void> topologyFuture(int expectedTopologyId);
 }
@@ -1,10 +1,15 @@
 package org.infinispan.statetransfer;
 
 import org.infinispan.IllegalLifecycleStateException;
+import org.infinispan.factories.annotations.Stop;
 import org.infinispan.util.concurrent.TimeoutException;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -23,18 +28,25 @@ public class StateTransferLockImpl implements StateTransferLock {
    private static final Log log = LogFactory.getLog(StateTransferLockImpl.class);
    private static final boolean trace = log.isTraceEnabled();
    private static final int TOPOLOGY_ID_STOPPED = Integer.MAX_VALUE;
+   private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
 
    private final ReadWriteLock ownershipLock = new ReentrantReadWriteLock();
 
    private volatile int topologyId = -1;
    private final Lock topologyLock = new ReentrantLock();
    private final Condition topologyCondition = topologyLock.newCondition();
+   private final ConcurrentNavigableMap<Integer, CompletableFuture<Void>> topologyFutures =
+         new ConcurrentSkipListMap<>();
 
    private volatile int transactionDataTopologyId = -1;
    private final Lock transactionDataLock = new ReentrantLock();
    private final Condition transactionDataCondition = transactionDataLock.newCondition();
+   private final ConcurrentNavigableMap<Integer, CompletableFuture<Void>> transactionDataFutures =
+         new ConcurrentSkipListMap<>();
 
+   @Stop
    public void stop() {
+      // Also fails the pending futures with an IllegalLifecycleStateException
       notifyTransactionDataReceived(TOPOLOGY_ID_STOPPED);
       notifyTopologyInstalled(TOPOLOGY_ID_STOPPED);
    }
@@ -77,6 +89,7 @@ public void notifyTransactionDataReceived(int topologyId) {
       } finally {
          transactionDataLock.unlock();
       }
+      completeFutures(transactionDataFutures, topologyId);
    }
 
    @Override
@@ -112,6 +125,21 @@ public boolean transactionDataReceived(int expectedTopologyId) {
       return transactionDataTopologyId >= expectedTopologyId;
    }
 
+   @Override
+   public CompletableFuture<Void> transactionDataFuture(int expectedTopologyId) {
+      if (transactionDataTopologyId == TOPOLOGY_ID_STOPPED) {
+         return stoppedFuture(expectedTopologyId);
+      }
+      if (transactionDataTopologyId >= expectedTopologyId) {
+         return COMPLETED;
+      }
+      CompletableFuture<Void> future = transactionDataFutures.computeIfAbsent(expectedTopologyId,
+            k -> new CompletableFuture<>());
+      // The transaction data may have been received before the future was added
+      completeFutures(transactionDataFutures, transactionDataTopologyId);
+      return future;
+   }
+
    @Override
    public void notifyTopologyInstalled(int topologyId) {
       if (topologyId < this.topologyId) {
@@ -129,6 +157,7 @@ public void notifyTopologyInstalled(int topologyId) {
       } finally {
          topologyLock.unlock();
       }
+      completeFutures(topologyFutures, topologyId);
    }
 
    @Override
@@ -159,7 +188,7 @@ private void reportErrorAfterWait(int expectedTopologyId, long timeoutNanos) {
          throw new TimeoutException("Timed out waiting for topology " + expectedTopologyId);
       }
       if (topologyId == TOPOLOGY_ID_STOPPED) {
-         throw new IllegalLifecycleStateException("Cache was stopped while waiting for topology " + expectedTopologyId);
+         throw stoppedException(expectedTopologyId);
       }
    }
 
@@ -167,4 +196,49 @@ private void reportErrorAfterWait(int expectedTopologyId, long timeoutNanos) {
    public boolean topologyReceived(int expectedTopologyId) {
       return topologyId >= expectedTopologyId;
    }
+
+   @Override
+   public CompletableFuture<Void> topologyFuture(int expectedTopologyId) {
+      if (topologyId == TOPOLOGY_ID_STOPPED) {
+         return stoppedFuture(expectedTopologyId);
+      }
+      if (topologyId >= expectedTopologyId) {
+         return COMPLETED;
+      }
+      CompletableFuture<Void> future = topologyFutures.computeIfAbsent(expectedTopologyId,
+            k -> new CompletableFuture<>());
+      // The topology may have been installed before the future was added
+      completeFutures(topologyFutures, topologyId);
+      return future;
+   }
+
+   /**
+    * Completes the futures waiting for a topology lower than or equal to {@code topologyId}, in order.
+    * <p>
+    * Once the cache is stopped, the futures fail with an {@link IllegalLifecycleStateException} instead, like
+    * {@link #waitForTopology(int, long, TimeUnit)}.
+    */
+   private static void completeFutures(ConcurrentNavigableMap<Integer, CompletableFuture<Void>> futures,
+                                       int topologyId) {
+      Map.Entry<Integer, CompletableFuture<Void>> entry;
+      while ((entry = futures.firstEntry()) != null && entry.getKey() <= topologyId) {
+         if (futures.remove(entry.getKey(), entry.getValue())) {
+            if (topologyId == TOPOLOGY_ID_STOPPED) {
+               entry.getValue().completeExceptionally(stoppedException(entry.getKey()));
+            } else {
+               entry.getValue().complete(null);
+            }
+         }
+      }
+   }
+
+   private static CompletableFuture<Void> stoppedFuture(int expectedTopologyId) {
+      CompletableFuture<Void> future = new CompletableFuture<>();
+      future.completeExceptionally(stoppedException(expectedTopologyId));
+      return future;
+   }
+
+   private static IllegalLifecycleStateException stoppedException(int expectedTopologyId) {
+      return new IllegalLifecycleStateException("Cache was stopped while waiting for topology " + expectedTopologyId);
+   }
 }
@@ -0,0 +1,103 @@
+package org.infinispan.stats.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of latencies in nanoseconds, used to report percentiles of the cache operations.
+ * <p>
+ * Values are counted in log-linear buckets: values below 16 have a bucket each, and every power of two above that is
+ * split into 16 buckets, so a percentile is reported with a relative error of at most 1/16. Values above
+ * {@link #MAX_VALUE} (about 68 seconds) are counted as {@link #MAX_VALUE}. Every bucket is a {@link LongAdder}, so
+ * recording a value never contends with other threads and the buckets are only summed when a percentile is read.
+ *
+ * @since 9.0
+ */
+public final class LatencyHistogram {
+   public static final long MAX_VALUE = (1L << 36) - 1;
+
+   private static final int SUB_BUCKET_BITS = 4;
+   private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+   private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+
+   private final LongAdder[] buckets = new LongAdder[bucketIndex(MAX_VALUE) + 1];
+
+   public LatencyHistogram() {
+      for (int i = 0; i < buckets.length; i++) {
+         buckets[i] = new LongAdder();
+      }
+   }
+
+   /**
+    * Records a latency.
+    *
+    * @param nanos the latency in nanoseconds; negative values are counted as 0
+    */
+   public void record(long nanos) {
+      buckets[bucketIndex(Math.max(0, Math.min(nanos, MAX_VALUE)))].increment();
+   }
+
+   /**
+    * @return the number of latencies recorded since the histogram was created or reset
+    */
+   public long count() {
+      long count = 0;
+      for (LongAdder bucket : buckets) {
+         count += bucket.sum();
+      }
+      return count;
+   }
+
+   /**
+    * Returns the latency below which the given fraction of the recorded latencies fall, rounded up to the highest
+    * value of its bucket.
+    *
+    * @param fraction the percentile as a fraction between 0 and 1, e.g. 0.99 for the 99th percentile
+    * @return the latency in nanoseconds, or 0 if nothing was recorded
+    */
+   public long percentile(double fraction) {
+      if (fraction < 0 || fraction > 1)
+         throw new IllegalArgumentException("Percentile must be between 0 and 1: " + fraction);
+      long[] counts = new long[buckets.length];
+      long total = 0;
+      for (int i = 0; i < buckets.length; i++) {
+         counts[i] = buckets[i].sum();
+         total += counts[i];
+      }
+      if (total == 0)
+         return 0;
+      long rank = Math.max(1, (long) Math.ceil(fraction * total));
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+         seen += counts[i];
+         if (seen >= rank)
+            return highestValue(i);
+      }
+      // The buckets were updated while summing them
+      return highestValue(counts.length - 1);
+   }
+
+   /**
+    * Clears all the recorded latencies. Latencies recorded concurrently may or may not be kept.
+    */
+   public void reset() {
+      for (LongAdder bucket : buckets) {
+         bucket.reset();
+      }
+   }
+
+   static int bucketIndex(long value) {
+      if (value < SUB_BUCKET_COUNT)
+         return (int) value;
+      int exponent = 63 - Long.numberOfLeadingZeros(value);
+      int shift = exponent - SUB_BUCKET_BITS;
+      return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & SUB_BUCKET_MASK);
+   }
+
+   static long highestValue(int index) {
+      if (index < SUB_BUCKET_COUNT)
+         return index;
+      int shift = (index >>> SUB_BUCKET_BITS) - 1;
+      long lowest = (long) (SUB_BUCKET_COUNT + (index & SUB_BUCKET_MASK)) << shift;
+      return lowest + (1L << shift) - 1;
+   }
+}
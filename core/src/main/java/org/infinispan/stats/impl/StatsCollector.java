@@ -39,6 +39,9 @@ public class StatsCollector implements Stats, JmxStatisticsExposer {
    private final AtomicLong resetNanoseconds = new AtomicLong(0);
    private final LongAdder removeHits = new LongAdder();
    private final LongAdder removeMisses = new LongAdder();
+   private final LatencyHistogram readLatencies = new LatencyHistogram();
+   private final LatencyHistogram writeLatencies = new LatencyHistogram();
+   private final LatencyHistogram removeLatencies = new LatencyHistogram();
 
    private TimeService timeService;
    private DataContainer dataContainer;
@@ -164,7 +167,7 @@ public long getAverageReadTime() {
       long total = hits.sum() + misses.sum();
       if (total == 0)
          return 0;
-      return (hitTimes.sum() + missTimes.sum()) / total;
+      return TimeUnit.NANOSECONDS.toMillis((hitTimes.sum() + missTimes.sum()) / total);
    }
 
    @ManagedAttribute(
@@ -178,7 +181,7 @@ public long getAverageWriteTime() {
       long sum = stores.sum();
       if (sum == 0)
          return 0;
-      return (storeTimes.sum()) / sum;
+      return TimeUnit.NANOSECONDS.toMillis(storeTimes.sum() / sum);
    }
 
    @ManagedAttribute(
@@ -192,7 +195,97 @@ public long getAverageRemoveTime() {
       long removes = getRemoveHits();
       if (removes == 0)
          return 0;
-      return (removeTimes.sum()) / removes;
+      return TimeUnit.NANOSECONDS.toMillis(removeTimes.sum() / removes);
+   }
+
+   @ManagedAttribute(
+         description = "50th percentile of the number of nanoseconds for a read operation in the cache",
+         displayName = "Read time 50th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getReadTimeP50() {
+      return readLatencies.percentile(0.5);
+   }
+
+   @ManagedAttribute(
+         description = "99th percentile of the number of nanoseconds for a read operation in the cache",
+         displayName = "Read time 99th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getReadTimeP99() {
+      return readLatencies.percentile(0.99);
+   }
+
+   @ManagedAttribute(
+         description = "99.9th percentile of the number of nanoseconds for a read operation in the cache",
+         displayName = "Read time 99.9th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getReadTimeP999() {
+      return readLatencies.percentile(0.999);
+   }
+
+   @ManagedAttribute(
+         description = "50th percentile of the number of nanoseconds for a write operation in the cache",
+         displayName = "Write time 50th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getWriteTimeP50() {
+      return writeLatencies.percentile(0.5);
+   }
+
+   @ManagedAttribute(
+         description = "99th percentile of the number of nanoseconds for a write operation in the cache",
+         displayName = "Write time 99th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getWriteTimeP99() {
+      return writeLatencies.percentile(0.99);
+   }
+
+   @ManagedAttribute(
+         description = "99.9th percentile of the number of nanoseconds for a write operation in the cache",
+         displayName = "Write time 99.9th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getWriteTimeP999() {
+      return writeLatencies.percentile(0.999);
+   }
+
+   @ManagedAttribute(
+         description = "50th percentile of the number of nanoseconds for a remove operation in the cache",
+         displayName = "Remove time 50th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getRemoveTimeP50() {
+      return removeLatencies.percentile(0.5);
+   }
+
+   @ManagedAttribute(
+         description = "99th percentile of the number of nanoseconds for a remove operation in the cache",
+         displayName = "Remove time 99th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getRemoveTimeP99() {
+      return removeLatencies.percentile(0.99);
+   }
+
+   @ManagedAttribute(
+         description = "99.9th percentile of the number of nanoseconds for a remove operation in the cache",
+         displayName = "Remove time 99.9th percentile",
+         units = Units.NANOSECONDS,
+         displayType = DisplayType.SUMMARY
+   )
+   public long getRemoveTimeP999() {
+      return removeLatencies.percentile(0.999);
    }
 
    @Override
@@ -265,17 +358,39 @@ public void resetStatistics() {
       removeHits.reset();
       removeTimes.reset();
       removeMisses.reset();
+      readLatencies.reset();
+      writeLatencies.reset();
+      removeLatencies.reset();
       resetNanoseconds.set(timeService.time());
    }
 
    public void recordMisses(int misses, long time) {
       this.misses.add(misses);
       this.missTimes.add(time);
+      readLatencies.record(time);
    }
 
    public void recordHits(int hits, long time) {
       this.hits.add(hits);
       this.hitTimes.add(time);
+      readLatencies.record(time);
+   }
+
+   /**
+    * Records a read of several keys, e.g. a getAll, as a single latency sample. The time is attributed to the hits
+    * and the misses in proportion to their number.
+    */
+   public void recordReads(int hits, int misses, long time) {
+      int requests = hits + misses;
+      if (hits > 0) {
+         this.hits.add(hits);
+         this.hitTimes.add(time * hits / requests);
+      }
+      if (misses > 0) {
+         this.misses.add(misses);
+         this.missTimes.add(time * misses / requests);
+      }
+      readLatencies.record(time);
    }
 
    public void recordEviction() {
@@ -285,11 +400,13 @@ public void recordEviction() {
    public void recordStores(int stores, long time) {
       this.stores.add(stores);
       this.storeTimes.add(time);
+      writeLatencies.record(time);
    }
 
    public void recordRemoveHits(int removes, long time) {
       this.removeHits.add(removes);
       this.removeTimes.add(time);
+      removeLatencies.record(time);
    }
 
    public void recordRemoveMisses(int removes) {
@@ -26,11 +26,22 @@
    private final Cache<K, V> cache;
    private final ConsistentHash hash;
    private final Supplier<Stream<K>> supplier;
+   private final Function<Set<Integer>, Stream<K>> segmentSupplier;
 
    public KeyStreamSupplier(Cache<K, V> cache, ConsistentHash hash, Supplier<Stream<K>> supplier) {
+      this(cache, hash, supplier, null);
+   }
+
+   /**
+    * @param segmentSupplier supplies the stream of the given segments only, which is used instead of filtering the
+    *                        stream of {@code supplier} by segment. It may be {@code null}
+    */
+   public KeyStreamSupplier(Cache<K, V> cache, ConsistentHash hash, Supplier<Stream<K>> supplier,
+         Function<Set<Integer>, Stream<K>> segmentSupplier) {
       this.cache = cache;
       this.hash = hash;
       this.supplier = supplier;
+      this.segmentSupplier = segmentSupplier;
    }
 
    @Override
@@ -43,6 +54,11 @@ public Stream<K> buildStream(Set<Integer> segmentsToFilter, Set<?> keysToFilter)
          // Make sure we aren't going remote to retrieve these
          AdvancedCache<K, V> advancedCache = cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL);
          stream = (Stream<K>) keysToFilter.stream().filter(k -> advancedCache.containsKey(k));
+      } else if (segmentsToFilter != null && hash != null && segmentSupplier != null) {
+         if (trace) {
+            log.tracef("Only retrieving segments %s", segmentsToFilter);
+         }
+         return segmentSupplier.apply(segmentsToFilter);
       } else {
          stream = supplier.get();
       }
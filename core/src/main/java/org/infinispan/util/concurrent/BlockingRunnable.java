@@ -20,4 +20,20 @@ public interface BlockingRunnable extends Runnable {
     */
    boolean isReady();
 
+   /**
+    * Invoked once when this Runnable is queued because it is not ready.
+    * <p/>
+    * A Runnable that knows what it is waiting for (e.g. a topology or a lock) can register {@code wakeUp} to be invoked
+    * each time it may have become ready, and return {@code true}. It is then only checked when {@code wakeUp} is
+    * invoked, instead of on every {@link BlockingTaskAwareExecutorService#checkForReadyTasks()}.
+    *
+    * @param wakeUp the callback to invoke when this Runnable may be ready. It is cheap and can be invoked from any
+    *               thread, any number of times.
+    * @return {@code true} if {@code wakeUp} was registered, {@code false} to be checked on every {@link
+    * BlockingTaskAwareExecutorService#checkForReadyTasks()} invocation.
+    */
+   default boolean registerWakeUp(Runnable wakeUp) {
+      return false;
+   }
+
 }
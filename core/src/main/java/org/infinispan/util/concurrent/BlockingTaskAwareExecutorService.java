@@ -1,6 +1,7 @@
 package org.infinispan.util.concurrent;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Executor service that is aware of {@code BlockingRunnable} and only dispatch the runnable to a thread when it has low
@@ -28,4 +29,14 @@ public interface BlockingTaskAwareExecutorService extends ExecutorService {
     */
    void checkForReadyTasks();
 
+   /**
+    * @return the number of tasks waiting to be ready
+    */
+   int getBlockedTaskCount();
+
+   /**
+    * @return the time waited by the given fraction of the tasks, e.g. 0.99, before they were ready
+    */
+   long getBlockedTimePercentile(double fraction, TimeUnit unit);
+
 }
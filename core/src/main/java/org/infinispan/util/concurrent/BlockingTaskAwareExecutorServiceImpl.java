@@ -1,5 +1,6 @@
 package org.infinispan.util.concurrent;
 
+import org.infinispan.stats.impl.LatencyHistogram;
 import org.infinispan.util.TimeService;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
@@ -9,17 +10,24 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A special executor service that accepts a {@code BlockingRunnable}. This special runnable gives hints about the code
  * to be running in order to avoiding put a runnable that will block the thread. In this way, only when the runnable
  * says that is ready, it is sent to the real executor service
+ * <p/>
+ * The blocked runnables that register a wake-up (see {@link BlockingRunnable#registerWakeUp(Runnable)}) are only
+ * checked when they are woken up, e.g. when the topology or the lock they wait for is available. The other ones are
+ * checked on every {@link #checkForReadyTasks()} invocation.
  *
  * @author Pedro Ruivo
  * @since 5.3
@@ -28,14 +36,28 @@ public class BlockingTaskAwareExecutorServiceImpl extends AbstractExecutorServic
 
    private static final Log log = LogFactory.getLog(BlockingTaskAwareExecutorServiceImpl.class);
    private static final boolean trace = log.isTraceEnabled();
-   private final Queue<BlockingRunnable> blockedTasks;
+   // The blocked tasks not yet seen by the controller thread
+   private final Queue<BlockedTask> newTasks;
+   // The blocked tasks that were woken up
+   private final Queue<BlockedTask> wokenTasks;
+   // The blocked tasks checked on every checkForReadyTasks()
+   private final Queue<BlockedTask> polledTasks;
+   // The blocked tasks checked only when they are woken up
+   private final Set<BlockedTask> wakeUpTasks;
+   private final AtomicInteger blockedTaskCount;
+   private final LatencyHistogram blockedTimes;
    private final ExecutorService executorService;
    private final TimeService timeService;
    private final ControllerThread controllerThread;
    private volatile boolean shutdown;
 
    public BlockingTaskAwareExecutorServiceImpl(String controllerThreadName, ExecutorService executorService, TimeService timeService) {
-      this.blockedTasks = new ConcurrentLinkedQueue<>();
+      this.newTasks = new ConcurrentLinkedQueue<>();
+      this.wokenTasks = new ConcurrentLinkedQueue<>();
+      this.polledTasks = new ConcurrentLinkedQueue<>();
+      this.wakeUpTasks = ConcurrentHashMap.newKeySet();
+      this.blockedTaskCount = new AtomicInteger();
+      this.blockedTimes = new LatencyHistogram();
       this.executorService = executorService;
       this.timeService = timeService;
       this.shutdown = false;
@@ -51,14 +73,15 @@ public final void execute(BlockingRunnable runnable) {
       if (runnable.isReady()) {
          doExecute(runnable);
          if (trace) {
-            log.tracef("Added a new task directly: %d task(s) are waiting", blockedTasks.size());
+            log.tracef("Added a new task directly: %d task(s) are waiting", blockedTaskCount.get());
          }
       } else {
          //we no longer submit directly to the executor service.
-         blockedTasks.offer(runnable);
+         blockedTaskCount.incrementAndGet();
+         newTasks.offer(new BlockedTask(runnable, timeService.time()));
          controllerThread.checkForReadyTask();
          if (trace) {
-            log.tracef("Added a new task to the queue: %d task(s) are waiting", blockedTasks.size());
+            log.tracef("Added a new task to the queue: %d task(s) are waiting", blockedTaskCount.get());
          }
       }
    }
@@ -74,7 +97,15 @@ public List<Runnable> shutdownNow() {
       controllerThread.interrupt();
       List<Runnable> runnableList = new LinkedList<>();
       runnableList.addAll(executorService.shutdownNow());
-      runnableList.addAll(blockedTasks);
+      for (BlockedTask task : newTasks) {
+         runnableList.add(task.runnable);
+      }
+      for (BlockedTask task : polledTasks) {
+         runnableList.add(task.runnable);
+      }
+      for (BlockedTask task : wakeUpTasks) {
+         runnableList.add(task.runnable);
+      }
       return runnableList;
    }
 
@@ -85,14 +116,14 @@ public boolean isShutdown() {
 
    @Override
    public boolean isTerminated() {
-      return shutdown && blockedTasks.isEmpty() && executorService.isTerminated();
+      return shutdown && blockedTaskCount.get() == 0 && executorService.isTerminated();
    }
 
    @Override
    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
       final long endTime = timeService.expectedEndTime(timeout, unit);
       long waitTime = timeService.remainingTime(endTime, TimeUnit.MILLISECONDS);
-      while (!blockedTasks.isEmpty() && waitTime > 0) {
+      while (blockedTaskCount.get() > 0 && waitTime > 0) {
          Thread.sleep(waitTime);
          waitTime = timeService.remainingTime(endTime, TimeUnit.MILLISECONDS);
       }
@@ -104,6 +135,16 @@ public final void checkForReadyTasks() {
       controllerThread.checkForReadyTask();
    }
 
+   @Override
+   public int getBlockedTaskCount() {
+      return blockedTaskCount.get();
+   }
+
+   @Override
+   public long getBlockedTimePercentile(double fraction, TimeUnit unit) {
+      return unit.convert(blockedTimes.percentile(fraction), TimeUnit.NANOSECONDS);
+   }
+
    @Override
    public void execute(Runnable command) {
       if (shutdown) {
@@ -125,7 +166,23 @@ private void doExecute(BlockingRunnable runnable) {
          executorService.execute(runnable);
       } catch (RejectedExecutionException rejected) {
          //put it back!
-         blockedTasks.offer(runnable);
+         blockedTaskCount.incrementAndGet();
+         polledTasks.offer(new BlockedTask(runnable, timeService.time()));
+      }
+   }
+
+   private void onWakeUp(BlockedTask task) {
+      wokenTasks.offer(task);
+      controllerThread.wakeUp();
+   }
+
+   private static class BlockedTask {
+      final BlockingRunnable runnable;
+      final long blockedSince;
+
+      BlockedTask(BlockingRunnable runnable, long blockedSince) {
+         this.runnable = runnable;
+         this.blockedSince = blockedSince;
       }
    }
 
@@ -133,6 +190,8 @@ private class ControllerThread extends Thread {
 
       private final Semaphore semaphore;
       private volatile boolean interrupted;
+      // Set if the polled tasks must be checked
+      private volatile boolean checkPolledTasks;
 
       public ControllerThread(String controllerThreadName) {
          super(controllerThreadName);
@@ -140,6 +199,11 @@ public ControllerThread(String controllerThreadName) {
       }
 
       public void checkForReadyTask() {
+         checkPolledTasks = true;
+         semaphore.release();
+      }
+
+      public void wakeUp() {
          semaphore.release();
       }
 
@@ -153,6 +217,7 @@ public void interrupt() {
 
       @Override
       public void run() {
+         ArrayDeque<BlockedTask> readyList = new ArrayDeque<>();
          while (!interrupted) {
             try {
                semaphore.acquire();
@@ -160,26 +225,56 @@ public void run() {
                return;
             }
             semaphore.drainPermits();
-            int size = blockedTasks.size();
-            if (size == 0) {
-               continue;
+            boolean checkPolled = checkPolledTasks;
+            checkPolledTasks = false;
+
+            BlockedTask task;
+            while ((task = newTasks.poll()) != null) {
+               BlockedTask blockedTask = task;
+               boolean wakeUpRegistered;
+               wakeUpTasks.add(blockedTask);
+               try {
+                  wakeUpRegistered = blockedTask.runnable.registerWakeUp(() -> onWakeUp(blockedTask));
+               } catch (Throwable t) {
+                  log.debugf(t, "Unable to register the wake-up of task %s", blockedTask.runnable);
+                  wakeUpRegistered = false;
+               }
+               if (!wakeUpRegistered) {
+                  wakeUpTasks.remove(blockedTask);
+                  polledTasks.offer(blockedTask);
+               } else if (blockedTask.runnable.isReady() && wakeUpTasks.remove(blockedTask)) {
+                  // It may have become ready before the wake-up was registered
+                  readyList.addLast(blockedTask);
+               }
+            }
+
+            while ((task = wokenTasks.poll()) != null) {
+               if (wakeUpTasks.contains(task) && task.runnable.isReady() && wakeUpTasks.remove(task)) {
+                  readyList.addLast(task);
+               }
             }
-            ArrayDeque<BlockingRunnable> readyList = new ArrayDeque<>(size);
-            for (Iterator<BlockingRunnable> iterator = blockedTasks.iterator(); iterator.hasNext(); ) {
-               BlockingRunnable runnable = iterator.next();
-               if (runnable.isReady()) {
-                  iterator.remove();
-                  readyList.addLast(runnable);
+
+            int polled = 0;
+            if (checkPolled) {
+               for (Iterator<BlockedTask> iterator = polledTasks.iterator(); iterator.hasNext(); ) {
+                  BlockedTask polledTask = iterator.next();
+                  polled++;
+                  if (polledTask.runnable.isReady()) {
+                     iterator.remove();
+                     readyList.addLast(polledTask);
+                  }
                }
             }
 
             if (trace) {
-               log.tracef("Tasks to be executed=%s, still pending=~%s", readyList.size(), size);
+               log.tracef("Tasks to be executed=%s, polled=%s, still pending=~%s", readyList.size(), polled,
+                          blockedTaskCount.get() - readyList.size());
             }
 
-            BlockingRunnable runnable;
-            while ((runnable = readyList.pollFirst()) != null) {
-               doExecute(runnable);
+            while ((task = readyList.pollFirst()) != null) {
+               blockedTaskCount.decrementAndGet();
+               blockedTimes.record(timeService.timeDuration(task.blockedSince, TimeUnit.NANOSECONDS));
+               doExecute(task.runnable);
             }
          }
       }
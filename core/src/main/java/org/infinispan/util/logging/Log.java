@@ -8,6 +8,7 @@
 import org.infinispan.commons.CacheListenerException;
 import org.infinispan.commons.marshall.AdvancedExternalizer;
 import org.infinispan.commons.util.TypedProperties;
+import org.infinispan.eviction.EvictionStrategy;
 import org.infinispan.jmx.JmxDomainConflictException;
 import org.infinispan.lifecycle.ComponentStatus;
 import org.infinispan.partitionhandling.AvailabilityException;
@@ -1412,4 +1413,32 @@ TimeoutException timeoutWaitingForView(int expectedViewId, int currentViewId,
    @LogMessage(level = WARN)
    @Message(value = "Classpath does not look correct. Make sure you are not mixing uber and jars", id = 411)
    void warnAboutUberJarDuplicates();
+
+   @Message(value = "Off-heap storage cannot be used together with a custom data container", id = 412)
+   CacheConfigurationException offHeapWithCustomDataContainer();
+
+   @Message(value = "Off-heap storage does not support the %s eviction strategy", id = 413)
+   CacheConfigurationException offHeapUnsupportedEvictionStrategy(EvictionStrategy strategy);
+
+   @Message(value = "Off-heap storage cannot be used together with L1", id = 414)
+   CacheConfigurationException offHeapWithL1();
+
+   @Message(value = "Coalescing cross-site writes can only be used with the asynchronous backup strategy.", id = 415)
+   CacheConfigurationException coalesceWindowSyncBackup();
+
+   @Message(value = "The coalesce window of a backup must not be negative and its maximum number of keys must be greater than zero: window=%d, max keys=%d", id = 416)
+   CacheConfigurationException invalidBackupCoalescing(long window, int maxKeys);
+
+   @Message(value = "The flush interval and the modification queue memory of an async store must not be negative: flush interval=%d, modification queue memory=%d", id = 417)
+   CacheConfigurationException invalidAsyncStoreFlushing(long flushInterval, long modificationQueueMemory);
+
+   @Message(value = "The cluster event batch size and window must not be negative: batch size=%d, window=%d", id = 418)
+   CacheConfigurationException invalidClusterEventBatching(int batchSize, long window);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Failed sending a batch of cluster events to %s", id = 419)
+   void failedSendingClusterEvents(Address target, @Cause Throwable cause);
+
+   @Message(value = "The L1 requestor filter size must not be negative: %d", id = 420)
+   CacheConfigurationException l1InvalidRequestorFilterSize(int size);
 }
@@ -47,6 +47,12 @@ public interface BackupSender {
     */
    Map<String, Boolean> status();
 
+   /**
+    * Returns how long, in milliseconds, the oldest write buffered for the given site has been waiting to be sent, or 0
+    * if the site doesn't coalesce writes or none are waiting.
+    */
+   long getReplicationLag(String siteName);
+
    public enum BringSiteOnlineResponse {
       NO_SUCH_SITE,
       ALREADY_ONLINE,
@@ -22,13 +22,18 @@
 import org.infinispan.configuration.global.GlobalConfiguration;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.context.impl.TxInvocationContext;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.factories.annotations.ComponentName;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.Start;
+import org.infinispan.factories.annotations.Stop;
 import org.infinispan.remoting.transport.AggregateBackupResponse;
 import org.infinispan.remoting.transport.BackupResponse;
 import org.infinispan.remoting.transport.Transport;
 import org.infinispan.transaction.impl.LocalTransaction;
 import org.infinispan.transaction.impl.TransactionTable;
+import org.infinispan.transaction.xa.GlobalTransaction;
+import org.infinispan.transaction.xa.TransactionFactory;
 import org.infinispan.util.TimeService;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
@@ -47,6 +52,9 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.infinispan.util.logging.events.Messages.MESSAGES;
 
@@ -67,7 +75,10 @@ public class BackupSenderImpl implements BackupSender {
    private CommandsFactory commandsFactory;
    private final Map<String, CustomFailurePolicy> siteFailurePolicy = new HashMap<>();
    private final ConcurrentMap<String, OfflineStatus> offlineStatus = CollectionFactory.makeConcurrentMap();
+   private final Map<String, CoalescingBackupQueue> coalescingQueues = new HashMap<>();
    private EventLogManager eventLogManager;
+   private ScheduledExecutorService timeoutExecutor;
+   private ExecutorService asyncTransportExecutor;
 
    private final String localSiteName;
    private String cacheName;
@@ -91,6 +102,13 @@ public void init(Cache cache, Transport transport, TransactionTable txTable, Glo
       this.eventLogManager = eventLogManager;
    }
 
+   @Inject
+   public void injectExecutors(@ComponentName(KnownComponentNames.TIMEOUT_SCHEDULE_EXECUTOR) ScheduledExecutorService timeoutExecutor,
+                               @ComponentName(KnownComponentNames.ASYNC_TRANSPORT_EXECUTOR) ExecutorService asyncTransportExecutor) {
+      this.timeoutExecutor = timeoutExecutor;
+      this.asyncTransportExecutor = asyncTransportExecutor;
+   }
+
    @Start
    public void start() {
       this.config = cache.getCacheConfiguration();
@@ -119,6 +137,16 @@ public void siteOffline() {
                                                       }
                                                    });
          offlineStatus.put(siteName, offline);
+         if (bc.isAsyncBackup() && bc.isCoalescing() && !siteName.equals(localSiteName)) {
+            coalescingQueues.put(siteName, new CoalescingBackupQueue(bc, commandsFactory, timeService, this::sendBatch));
+         }
+      }
+   }
+
+   @Stop
+   public void stop() {
+      for (CoalescingBackupQueue queue : coalescingQueues.values()) {
+         flush(queue);
       }
    }
 
@@ -132,6 +160,9 @@ public BackupResponse backupPrepare(PrepareCommand command) throws Exception {
                                                                    command.isOnePhaseCommit());
       //if we run a 2PC then filter out 1PC prepare backup calls as they will happen during the local commit phase.
       BackupFilter filter = !prepare.isOnePhaseCommit() ? BackupFilter.KEEP_2PC_ONLY : BackupFilter.KEEP_ALL;
+      if (filter == BackupFilter.KEEP_ALL) {
+         coalesce(modifications);
+      }
       List<XSiteBackup> backups = calculateBackupInfo(filter);
       return backupCommand(prepare, backups);
    }
@@ -168,6 +199,7 @@ private void updateOfflineSites(BackupResponse backupResponse) {
 
    @Override
    public BackupResponse backupWrite(WriteCommand command) throws Exception {
+      coalesce(Collections.singletonList(command));
       List<XSiteBackup> xSiteBackups = calculateBackupInfo(BackupFilter.KEEP_ALL);
       return backupCommand(command, xSiteBackups);
    }
@@ -211,7 +243,16 @@ public TakeSiteOfflineResponse takeSiteOffline(String siteName) {
       }
    }
 
+   @Override
+   public long getReplicationLag(String siteName) {
+      CoalescingBackupQueue queue = coalescingQueues.get(siteName);
+      return queue == null ? 0 : queue.replicationLag(TimeUnit.MILLISECONDS);
+   }
+
    private BackupResponse backupCommand(VisitableCommand command, List<XSiteBackup> xSiteBackups) throws Exception {
+      if (xSiteBackups.isEmpty()) {
+         return EMPTY_RESPONSE;
+      }
       return transport.backupRemotely(xSiteBackups, commandsFactory.buildSingleXSiteRpcCommand(command));
    }
 
@@ -221,6 +262,7 @@ private BackupResponse sendTo1PCBackups(CommitCommand command) throws Exception
       if (modifications.isEmpty()) {
          return EMPTY_RESPONSE;
       }
+      coalesce(modifications);
       List<XSiteBackup> backups = calculateBackupInfo(BackupFilter.KEEP_1PC_ONLY);
       PrepareCommand prepare = commandsFactory.buildPrepareCommand(command.getGlobalTransaction(),
                                                                    modifications, true);
@@ -257,6 +299,9 @@ private List<XSiteBackup> calculateBackupInfo(BackupFilter backupFilter) {
             log.cacheBackupsDataToSameSite(localSiteName);
             continue;
          }
+         if (coalescingQueues.containsKey(bc.site())) {
+            continue;
+         }
          boolean isSync = bc.strategy() == BackupConfiguration.BackupStrategy.SYNC;
          if (backupFilter == BackupFilter.KEEP_1PC_ONLY) {
             if (isSync && bc.isTwoPhaseCommit())
@@ -278,6 +323,40 @@ private List<XSiteBackup> calculateBackupInfo(BackupFilter backupFilter) {
       return backupInfo;
    }
 
+   /**
+    * Buffers the modifications for the sites with coalescing enabled. They are all asynchronous, so they receive the
+    * same modifications as the one-phase prepares and the non-transactional writes.
+    */
+   private void coalesce(List<WriteCommand> modifications) throws Exception {
+      for (CoalescingBackupQueue queue : coalescingQueues.values()) {
+         if (isOffline(queue.getSiteName())) {
+            log.tracef("The site '%s' is offline, not backing up information to it", queue.getSiteName());
+            continue;
+         }
+         if (queue.add(modifications)) {
+            timeoutExecutor.schedule(() -> asyncTransportExecutor.execute(() -> flush(queue)), queue.getWindow(),
+                                     TimeUnit.MILLISECONDS);
+         }
+      }
+   }
+
+   private void flush(CoalescingBackupQueue queue) {
+      try {
+         queue.flush();
+      } catch (Throwable t) {
+         log.warnXsiteBackupFailed(cacheName, queue.getSiteName(), t);
+      }
+   }
+
+   private void sendBatch(BackupConfiguration backup, List<WriteCommand> batch) throws Exception {
+      // the batch is sent as a one-phase prepare, so a transactional backup cache applies it atomically
+      GlobalTransaction gtx = TransactionFactory.TxFactoryEnum.NODLD_NORECOVERY_XA
+            .newGlobalTransaction(transport.getAddress(), false, null, false);
+      PrepareCommand prepare = commandsFactory.buildPrepareCommand(gtx, batch, true);
+      log.tracef("Backing up %d coalesced writes to site %s", batch.size(), backup.site());
+      backupCommand(prepare, Collections.singletonList(new XSiteBackup(backup.site(), false, backup.replicationTimeout())));
+   }
+
    private boolean isOffline(String site) {
       OfflineStatus offline = offlineStatus.get(site);
       return offline != null && offline.isOffline();
@@ -0,0 +1,153 @@
+package org.infinispan.xsite;
+
+import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.write.ClearCommand;
+import org.infinispan.commands.write.DataWriteCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commands.write.PutMapCommand;
+import org.infinispan.commands.write.RemoveCommand;
+import org.infinispan.commands.write.ReplaceCommand;
+import org.infinispan.commands.write.WriteCommand;
+import org.infinispan.configuration.cache.BackupConfiguration;
+import org.infinispan.util.TimeService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers the writes backed up to an asynchronous site, keeping only the last write of each key, until they are sent
+ * to the site in a single batch.
+ * <p>
+ * Writes to a single key are buffered. A clear discards the buffered writes and any other command (e.g. a functional
+ * write) sends the buffered writes first, and both are then sent on their own. The batches are sent while holding the
+ * lock of the queue, so the site receives them in the order they were created. When {@code maxKeys} keys are
+ * buffered, the thread adding the writes sends them, so writers are slowed down if the site link can't keep up.
+ *
+ * @since 9.0
+ */
+final class CoalescingBackupQueue {
+
+   /**
+    * Sends a batch of writes to the site.
+    */
+   interface BatchSender {
+      void send(BackupConfiguration backup, List<WriteCommand> batch) throws Exception;
+   }
+
+   private static final long NOTHING_PENDING = Long.MIN_VALUE;
+
+   private final BackupConfiguration backup;
+   private final int maxKeys;
+   private final CommandsFactory commandsFactory;
+   private final TimeService timeService;
+   private final BatchSender sender;
+   private final Map<Object, WriteCommand> pending = new LinkedHashMap<>();
+   private volatile long pendingSince = NOTHING_PENDING;
+   private long batchesSent;
+   private long writesCoalesced;
+
+   CoalescingBackupQueue(BackupConfiguration backup, CommandsFactory commandsFactory, TimeService timeService,
+                         BatchSender sender) {
+      this.backup = backup;
+      this.maxKeys = backup.coalesceMaxKeys();
+      this.commandsFactory = commandsFactory;
+      this.timeService = timeService;
+      this.sender = sender;
+   }
+
+   String getSiteName() {
+      return backup.site();
+   }
+
+   /**
+    * @return the time, in milliseconds, the writes can be buffered before they are sent
+    */
+   long getWindow() {
+      return backup.coalesceWindow();
+   }
+
+   /**
+    * Buffers the modifications, sending them right away if the queue is full.
+    *
+    * @return {@code true} if the queue was empty and now holds writes, i.e. a flush must be scheduled
+    */
+   synchronized boolean add(List<WriteCommand> modifications) throws Exception {
+      boolean wasEmpty = pending.isEmpty();
+      for (WriteCommand command : modifications) {
+         if (command instanceof PutKeyValueCommand || command instanceof RemoveCommand ||
+               command instanceof ReplaceCommand) {
+            buffer(((DataWriteCommand) command).getKey(), command);
+         } else if (command instanceof PutMapCommand) {
+            PutMapCommand putMap = (PutMapCommand) command;
+            for (Map.Entry<Object, Object> entry : putMap.getMap().entrySet()) {
+               buffer(entry.getKey(), commandsFactory.buildPutKeyValueCommand(entry.getKey(), entry.getValue(),
+                     putMap.getMetadata(), putMap.getFlagsBitSet()));
+            }
+         } else {
+            if (command instanceof ClearCommand) {
+               writesCoalesced += pending.size();
+               pending.clear();
+               pendingSince = NOTHING_PENDING;
+            } else {
+               flush();
+            }
+            send(Collections.singletonList(command));
+         }
+         if (pending.size() >= maxKeys) {
+            flush();
+         }
+      }
+      return wasEmpty && !pending.isEmpty();
+   }
+
+   /**
+    * Sends the buffered writes, if any.
+    */
+   synchronized void flush() throws Exception {
+      if (pending.isEmpty()) {
+         return;
+      }
+      List<WriteCommand> batch = new ArrayList<>(pending.values());
+      pending.clear();
+      pendingSince = NOTHING_PENDING;
+      send(batch);
+   }
+
+   /**
+    * @return how long the oldest buffered write has been waiting to be sent, or 0 if there is none
+    */
+   long replicationLag(TimeUnit unit) {
+      long since = pendingSince;
+      return since == NOTHING_PENDING ? 0 : timeService.timeDuration(since, unit);
+   }
+
+   synchronized int size() {
+      return pending.size();
+   }
+
+   synchronized long batchesSent() {
+      return batchesSent;
+   }
+
+   synchronized long writesCoalesced() {
+      return writesCoalesced;
+   }
+
+   private void buffer(Object key, WriteCommand command) {
+      if (pending.isEmpty()) {
+         pendingSince = timeService.time();
+      }
+      if (pending.put(key, command) != null) {
+         writesCoalesced++;
+      }
+   }
+
+   private void send(List<WriteCommand> batch) throws Exception {
+      batchesSent++;
+      sender.send(backup, batch);
+   }
+}
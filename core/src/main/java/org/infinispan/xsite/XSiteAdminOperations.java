@@ -253,6 +253,13 @@ public String getTakeOfflineAfterFailures(@Parameter(name = "site", description
       return String.valueOf(offlineStatus.getTakeOffline().afterFailures());
    }
 
+   @ManagedOperation(description = "Returns how long (in milliseconds) the oldest write buffered by this node for the given site has been waiting to be sent.", displayName = "Returns the replication lag of the coalesced writes to the given site.")
+   public String getReplicationLag(@Parameter(name = "site", description = "The name of the backup site") String site) {
+      OfflineStatus offlineStatus = backupSender.getOfflineStatus(site);
+      if (offlineStatus == null) return incorrectSiteName(site);
+      return String.valueOf(backupSender.getReplicationLag(site));
+   }
+
    @ManagedOperation(description = "Brings the given site back online on all the cluster.", displayName = "Brings the given site back online on all the cluster.")
    public String bringSiteOnline(@Parameter(name = "site", description = "The name of the backup site") String site) {
       OfflineStatus offlineStatus = backupSender.getOfflineStatus(site);
@@ -301,6 +301,44 @@ public void call() {
       });
    }
 
+   public void testClusterEventBatching() throws IOException {
+      String config = "<infinispan xmlns=\"urn:infinispan:config:9.0\">" +
+            "<cache-container default-cache=\"default\">\n" +
+            "  <transport/>\n" +
+            "  <distributed-cache name=\"default\" cluster-event-batch-size=\"100\" cluster-event-batch-window=\"5\"/>\n" +
+            "</cache-container>" +
+            INFINISPAN_END_TAG;
+
+      InputStream is = new ByteArrayInputStream(config.getBytes());
+      withCacheManager(new CacheManagerCallable(TestCacheManagerFactory.fromStream(is)) {
+         @Override
+         public void call() {
+            Configuration cfg = cm.getDefaultCacheConfiguration();
+            assertEquals(100, cfg.clustering().clusterEventBatchSize());
+            assertEquals(5, cfg.clustering().clusterEventBatchWindow());
+         }
+      });
+   }
+
+   public void testL1RequestorFilter() throws IOException {
+      String config = "<infinispan xmlns=\"urn:infinispan:config:9.0\">" +
+            "<cache-container default-cache=\"default\">\n" +
+            "  <transport/>\n" +
+            "  <distributed-cache name=\"default\" l1-lifespan=\"10000\" l1-requestor-filter-size=\"4096\"/>\n" +
+            "</cache-container>" +
+            INFINISPAN_END_TAG;
+
+      InputStream is = new ByteArrayInputStream(config.getBytes());
+      withCacheManager(new CacheManagerCallable(TestCacheManagerFactory.fromStream(is)) {
+         @Override
+         public void call() {
+            Configuration cfg = cm.getDefaultCacheConfiguration();
+            assertTrue(cfg.clustering().l1().enabled());
+            assertEquals(4096, cfg.clustering().l1().requestorFilterSize());
+         }
+      });
+   }
+
    private void assertNamedCacheFile(EmbeddedCacheManager cm, boolean deprecated) {
       final GlobalConfiguration gc = cm.getCacheManagerConfiguration();
 
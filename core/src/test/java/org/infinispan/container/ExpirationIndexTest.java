@@ -0,0 +1,115 @@
+package org.infinispan.container;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.infinispan.commons.equivalence.AnyEquivalence;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.container.entries.MortalCacheEntry;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test(groups = "unit", testName = "container.ExpirationIndexTest")
+public class ExpirationIndexTest extends AbstractInfinispanTest {
+
+   private static final long BUCKET_MILLIS = 10;
+
+   private ExpirationIndex<String> index;
+   private Map<String, InternalCacheEntry<String, String>> entries;
+
+   @BeforeMethod
+   public void setUp() {
+      index = new ExpirationIndex<>(AnyEquivalence.getInstance(), BUCKET_MILLIS);
+      entries = new HashMap<>();
+   }
+
+   public void testKeyIndexedOnce() {
+      for (int i = 1; i <= 100; i++) {
+         store("k", i * BUCKET_MILLIS);
+      }
+      assertEquals(1, index.size());
+      assertEquals(0, expired(50 * BUCKET_MILLIS).size());
+      assertEquals(setOf("k"), expired(101 * BUCKET_MILLIS));
+   }
+
+   public void testRemoveUnindexes() {
+      store("removed", BUCKET_MILLIS);
+      store("evicted", BUCKET_MILLIS);
+      store("kept", BUCKET_MILLIS);
+      index.remove("removed");
+      index.remove(entries.remove("evicted"));
+      assertEquals(1, index.size());
+   }
+
+   public void testConditionalRemoveKeepsNewerEntry() {
+      store("k", BUCKET_MILLIS);
+      InternalCacheEntry<String, String> old = entries.get("k");
+      store("k", 10 * BUCKET_MILLIS);
+      index.remove(old);
+      assertEquals(1, index.size());
+   }
+
+   public void testExpiredKeysStayIndexedUntilRemoved() {
+      store("k1", BUCKET_MILLIS);
+      store("k2", BUCKET_MILLIS);
+      store("k3", BUCKET_MILLIS);
+
+      // the reaper stops after the first entry, e.g. because the removal threw an exception
+      Iterator<InternalCacheEntry<String, String>> it = index.expired(2 * BUCKET_MILLIS, entries::get);
+      assertTrue(it.hasNext());
+      it.next();
+      assertEquals(3, index.size());
+
+      assertEquals(setOf("k1", "k2", "k3"), expired(2 * BUCKET_MILLIS));
+
+      remove("k1");
+      remove("k2");
+      assertEquals(setOf("k3"), expired(2 * BUCKET_MILLIS));
+      remove("k3");
+      assertEquals(0, index.size());
+      assertFalse(index.expired(2 * BUCKET_MILLIS, entries::get).hasNext());
+   }
+
+   public void testGoneKeysDropped() {
+      store("k", BUCKET_MILLIS);
+      // removed without going through the index
+      entries.remove("k");
+      assertEquals(0, expired(2 * BUCKET_MILLIS).size());
+      assertEquals(0, index.size());
+   }
+
+   private void store(String key, long lifespan) {
+      InternalCacheEntry<String, String> entry = new MortalCacheEntry(key, "v", lifespan, 0);
+      entries.put(key, entry);
+      index.add(entry);
+   }
+
+   private void remove(String key) {
+      entries.remove(key);
+      index.remove(key);
+   }
+
+   private Set<String> expired(long wallClockTime) {
+      Set<String> keys = new HashSet<>();
+      for (Iterator<InternalCacheEntry<String, String>> it = index.expired(wallClockTime, entries::get); it.hasNext(); ) {
+         keys.add(it.next().getKey());
+      }
+      return keys;
+   }
+
+   private static Set<String> setOf(String... keys) {
+      Set<String> set = new HashSet<>();
+      for (String key : keys) {
+         set.add(key);
+      }
+      return set;
+   }
+}
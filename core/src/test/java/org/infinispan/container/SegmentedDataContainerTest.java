@@ -0,0 +1,27 @@
+package org.infinispan.container;
+
+import org.infinispan.commons.equivalence.AnyEquivalence;
+import org.infinispan.eviction.ActivationManager;
+import org.infinispan.expiration.ExpirationManager;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+
+@Test(groups = "unit", testName = "container.SegmentedDataContainerTest")
+public class SegmentedDataContainerTest extends SimpleDataContainerTest {
+
+   @Override
+   protected DataContainer createContainer() {
+      SegmentedDataContainer dc = new SegmentedDataContainer<Object, String>(16, NUM_SEGMENTS,
+            AnyEquivalence.getInstance());
+      InternalEntryFactoryImpl internalEntryFactory = new InternalEntryFactoryImpl();
+      internalEntryFactory.injectTimeService(TIME_SERVICE);
+      ActivationManager activationManager = mock(ActivationManager.class);
+      doNothing().when(activationManager).onUpdate(Mockito.anyObject(), Mockito.anyBoolean());
+      dc.initialize(null, internalEntryFactory, activationManager, TIME_SERVICE, mock(ExpirationManager.class),
+            keyPartitioner);
+      return dc;
+   }
+}
@@ -9,6 +9,7 @@
 import org.infinispan.container.entries.MortalCacheEntry;
 import org.infinispan.container.entries.TransientCacheEntry;
 import org.infinispan.container.entries.TransientMortalCacheEntry;
+import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.test.AbstractInfinispanTest;
 import org.infinispan.util.CoreImmutables;
 import org.mockito.Mockito;
@@ -16,7 +17,10 @@
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -24,9 +28,14 @@
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
 
 @Test(groups = "unit", testName = "container.SimpleDataContainerTest")
 public class SimpleDataContainerTest extends AbstractInfinispanTest {
+   protected static final int NUM_SEGMENTS = 4;
+
+   protected final KeyPartitioner keyPartitioner = key -> (key.hashCode() & Integer.MAX_VALUE) % NUM_SEGMENTS;
    DataContainer<Object, String> dc;
 
    @BeforeMethod
@@ -282,5 +291,66 @@ public void testGetDuringKeySetLoop() {
       }
 
       assert i == 10 : "Expected the loop to run 10 times, only ran " + i;
-   }   
+   }
+
+   public void testExpirationCandidates() {
+      dc.put("immortal", "v", new EmbeddedMetadata.Builder().build());
+      dc.put("mortal1", "v", new EmbeddedMetadata.Builder().lifespan(1, TimeUnit.MINUTES).build());
+      dc.put("mortal10", "v", new EmbeddedMetadata.Builder().lifespan(10, TimeUnit.MINUTES).build());
+      dc.put("transient1", "v", new EmbeddedMetadata.Builder().maxIdle(1, TimeUnit.MINUTES).build());
+      dc.put("removed", "v", new EmbeddedMetadata.Builder().lifespan(1, TimeUnit.MINUTES).build());
+      dc.remove("removed");
+      long now = TIME_SERVICE.wallClockTime();
+
+      assertEquals(Collections.emptySet(), candidateKeys(now));
+      assertEquals(new HashSet<>(Arrays.asList("mortal1", "transient1")),
+                   candidateKeys(now + TimeUnit.MINUTES.toMillis(2)));
+      // expired entries stay indexed until they are removed
+      assertEquals(new HashSet<>(Arrays.asList("mortal1", "transient1")),
+                   candidateKeys(now + TimeUnit.MINUTES.toMillis(2)));
+      dc.remove("mortal1");
+      dc.remove("transient1");
+      assertEquals(Collections.singleton("mortal10"), candidateKeys(now + TimeUnit.MINUTES.toMillis(11)));
+   }
+
+   private Set<Object> candidateKeys(long wallClockTime) {
+      Set<Object> keys = new HashSet<>();
+      for (Iterator<InternalCacheEntry<Object, String>> it = dc.expirationCandidates(wallClockTime); it.hasNext(); ) {
+         InternalCacheEntry<Object, String> entry = it.next();
+         if (entry.canExpire() && entry.isExpired(wallClockTime)) {
+            keys.add(entry.getKey());
+         }
+      }
+      return keys;
+   }
+
+   public void testSegmentIteration() {
+      for (int i = 0; i < 100; i++) dc.put(i, "v" + i, new EmbeddedMetadata.Builder().build());
+
+      Set<Integer> segments = new HashSet<>();
+      segments.add(1);
+      segments.add(3);
+
+      Set<Object> expected = new HashSet<>();
+      for (int i = 0; i < 100; i++) {
+         if (segments.contains(keyPartitioner.getSegment(i))) expected.add(i);
+      }
+
+      for (Iterator<InternalCacheEntry<Object, String>> it = dc.iterator(segments, keyPartitioner); it.hasNext(); ) {
+         Object key = it.next().getKey();
+         assertTrue("Unexpected key " + key, expected.remove(key));
+      }
+      assertTrue("Did not see keys " + expected + " in iterator!", expected.isEmpty());
+      assertFalse(dc.iterator(Collections.emptySet(), keyPartitioner).hasNext());
+   }
+
+   public void testSegmentIterationSkipsExpired() throws InterruptedException {
+      int segment = keyPartitioner.getSegment("k1");
+      dc.put("k1", "v1", new EmbeddedMetadata.Builder().lifespan(10, TimeUnit.MILLISECONDS).build());
+      Thread.sleep(50);
+
+      Set<Integer> segments = Collections.singleton(segment);
+      assertFalse(dc.iterator(segments, keyPartitioner).hasNext());
+      assertEquals("k1", dc.iteratorIncludingExpired(segments, keyPartitioner).next().getKey());
+   }
 }
@@ -0,0 +1,114 @@
+package org.infinispan.container.offheap;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.StorageType;
+import org.infinispan.container.DataContainer;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.infinispan.util.ControlledTimeService;
+import org.infinispan.util.TimeService;
+import org.testng.annotations.Test;
+
+import static org.infinispan.test.TestingUtil.replaceComponent;
+
+@Test(groups = "functional", testName = "container.offheap.OffHeapDataContainerTest")
+public class OffHeapDataContainerTest extends SingleCacheManagerTest {
+
+   private final ControlledTimeService timeService = new ControlledTimeService(0);
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder cfg = new ConfigurationBuilder();
+      cfg.dataContainer().storageType(StorageType.OFF_HEAP).expiration().disableReaper();
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(cfg);
+      replaceComponent(cm, TimeService.class, timeService, true);
+      cache = cm.getCache();
+      return cm;
+   }
+
+   public void testContainerType() {
+      assertEquals(OffHeapDataContainer.class, cache.getAdvancedCache().getDataContainer().getClass());
+   }
+
+   public void testPutGetRemove() {
+      cache.put("k1", "v1");
+      cache.put("k2", "v2");
+      assertEquals("v1", cache.get("k1"));
+      assertEquals("v2", cache.get("k2"));
+      assertEquals(2, cache.size());
+
+      cache.put("k1", "v1-updated");
+      assertEquals("v1-updated", cache.get("k1"));
+      assertEquals(2, cache.size());
+
+      assertEquals("v2", cache.remove("k2"));
+      assertNull(cache.get("k2"));
+      assertEquals(1, cache.size());
+
+      cache.clear();
+      assertTrue(cache.isEmpty());
+      assertEquals(0, ((OffHeapDataContainer) cache.getAdvancedCache().getDataContainer()).offHeapMemoryUsed());
+   }
+
+   public void testManyEntriesAndIteration() {
+      for (int i = 0; i < 5000; i++) {
+         cache.put(i, "value" + i);
+      }
+      DataContainer<Object, Object> dc = cache.getAdvancedCache().getDataContainer();
+      assertEquals(5000, dc.size());
+      Set<Object> keys = new HashSet<>();
+      for (InternalCacheEntry<Object, Object> entry : dc) {
+         assertEquals("value" + entry.getKey(), entry.getValue());
+         assertTrue(keys.add(entry.getKey()));
+      }
+      assertEquals(5000, keys.size());
+      for (int i = 0; i < 5000; i++) {
+         assertEquals("value" + i, cache.get(i));
+      }
+   }
+
+   public void testStopReleasesMemory() {
+      for (int i = 0; i < 1000; i++) {
+         cache.put(i, "value" + i);
+      }
+      OffHeapDataContainer dc = (OffHeapDataContainer) cache.getAdvancedCache().getDataContainer();
+      assertTrue(dc.offHeapMemoryUsed() > 0);
+
+      cache.stop();
+      assertEquals(0, dc.sizeIncludingExpired());
+      assertEquals(0, dc.offHeapMemoryUsed());
+
+      cache.start();
+      assertTrue(cache.isEmpty());
+      cache.put("k", "v");
+      assertEquals("v", cache.get("k"));
+   }
+
+   public void testExpiration() {
+      cache.put("mortal", "v", 10, TimeUnit.SECONDS);
+      cache.put("transient", "v", -1, TimeUnit.SECONDS, 10, TimeUnit.SECONDS);
+      cache.put("immortal", "v");
+      assertEquals(3, cache.getAdvancedCache().getDataContainer().size());
+
+      timeService.advance(5000);
+      // touching the transient entry extends its life
+      assertEquals("v", cache.get("transient"));
+      timeService.advance(6000);
+
+      assertNull(cache.get("mortal"));
+      assertEquals("v", cache.get("transient"));
+      assertEquals("v", cache.get("immortal"));
+      assertFalse(cache.getAdvancedCache().getDataContainer().containsKey("mortal"));
+   }
+}
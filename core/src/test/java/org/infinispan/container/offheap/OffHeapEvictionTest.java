@@ -0,0 +1,121 @@
+package org.infinispan.container.offheap;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertTrue;
+import static org.testng.AssertJUnit.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.commons.CacheConfigurationException;
+import org.infinispan.commons.CacheException;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.StorageType;
+import org.infinispan.container.DataContainer;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.eviction.EvictionStrategy;
+import org.infinispan.eviction.EvictionType;
+import org.infinispan.eviction.PassivationManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+@Test(groups = "functional", testName = "container.offheap.OffHeapEvictionTest")
+public class OffHeapEvictionTest extends AbstractInfinispanTest {
+
+   public void testCountBasedEviction() {
+      ConfigurationBuilder cfg = new ConfigurationBuilder();
+      cfg.dataContainer().storageType(StorageType.OFF_HEAP)
+            .eviction().strategy(EvictionStrategy.UNORDERED).type(EvictionType.COUNT).size(100);
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(cfg);
+      try {
+         for (int i = 0; i < 1000; i++) {
+            cm.getCache().put(i, "value" + i);
+         }
+         assertEquals(100, cm.getCache().getAdvancedCache().getDataContainer().size());
+      } finally {
+         TestingUtil.killCacheManagers(cm);
+      }
+   }
+
+   public void testMemoryBasedEviction() {
+      long maxBytes = 64 * 1024;
+      ConfigurationBuilder cfg = new ConfigurationBuilder();
+      cfg.dataContainer().storageType(StorageType.OFF_HEAP)
+            .eviction().strategy(EvictionStrategy.UNORDERED).type(EvictionType.MEMORY).size(maxBytes);
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(cfg);
+      try {
+         for (int i = 0; i < 1000; i++) {
+            cm.getCache().put(i, new byte[512]);
+         }
+         OffHeapDataContainer dc = (OffHeapDataContainer) cm.getCache().getAdvancedCache().getDataContainer();
+         assertTrue(dc.offHeapMemoryUsed() <= maxBytes);
+         assertTrue(dc.size() > 0);
+         assertTrue(dc.size() < 1000);
+      } finally {
+         TestingUtil.killCacheManagers(cm);
+      }
+   }
+
+   public void testPassivationDoesNotBlockTheBucket() throws Exception {
+      ConfigurationBuilder cfg = new ConfigurationBuilder();
+      // A single lock for all the buckets
+      cfg.locking().concurrencyLevel(1);
+      cfg.dataContainer().storageType(StorageType.OFF_HEAP)
+            .eviction().strategy(EvictionStrategy.UNORDERED).type(EvictionType.COUNT).size(1);
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(cfg);
+      CountDownLatch release = new CountDownLatch(1);
+      try {
+         Cache<Object, Object> cache = cm.getCache();
+         cache.put("k1", "v1");
+
+         CountDownLatch passivating = new CountDownLatch(1);
+         PassivationManager passivator = mock(PassivationManager.class);
+         doAnswer(invocation -> {
+            passivating.countDown();
+            release.await(30, TimeUnit.SECONDS);
+            return null;
+         }).when(passivator).passivate(any(InternalCacheEntry.class));
+         TestingUtil.replaceComponent(cache, PassivationManager.class, passivator, true);
+
+         Future<Object> put = fork(() -> cache.put("k2", "v2"));
+         assertTrue(passivating.await(10, TimeUnit.SECONDS));
+         // Reading every bucket only works if the evicted entry is passivated without holding its bucket's lock
+         DataContainer<Object, Object> dc = cache.getAdvancedCache().getDataContainer();
+         assertEquals(1, (int) fork(dc::size).get(10, TimeUnit.SECONDS));
+
+         release.countDown();
+         put.get(10, TimeUnit.SECONDS);
+      } finally {
+         release.countDown();
+         TestingUtil.killCacheManagers(cm);
+      }
+   }
+
+   public void testOrderedEvictionStrategyRejected() {
+      ConfigurationBuilder cfg = new ConfigurationBuilder();
+      cfg.dataContainer().storageType(StorageType.OFF_HEAP)
+            .eviction().strategy(EvictionStrategy.LRU).type(EvictionType.COUNT).size(100);
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(cfg);
+      try {
+         cm.getCache();
+         fail("Off-heap storage doesn't keep the LRU order");
+      } catch (CacheException e) {
+         Throwable cause = e;
+         while (cause != null && !(cause instanceof CacheConfigurationException)) {
+            cause = cause.getCause();
+         }
+         assertNotNull(cause);
+      } finally {
+         TestingUtil.killCacheManagers(cm);
+      }
+   }
+}
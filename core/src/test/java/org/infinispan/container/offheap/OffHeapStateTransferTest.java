@@ -0,0 +1,68 @@
+package org.infinispan.container.offheap;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.StorageType;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the segment based operations used by state transfer work with the off-heap container.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "container.offheap.OffHeapStateTransferTest")
+public class OffHeapStateTransferTest extends MultipleCacheManagersTest {
+
+   private static final int NUM_KEYS = 500;
+
+   private ConfigurationBuilder builder;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      builder.dataContainer().storageType(StorageType.OFF_HEAP)
+            .clustering().l1().disable().hash().numOwners(2).numSegments(20);
+      createCluster(builder, 2);
+      waitForClusterToForm();
+   }
+
+   public void testJoinAndLeave() {
+      for (int i = 0; i < NUM_KEYS; i++) {
+         cache(0).put(i, "value" + i);
+      }
+
+      addClusterEnabledCacheManager(builder);
+      waitForClusterToForm();
+      assertAllKeysOwned();
+      for (Cache<Object, Object> c : caches()) {
+         assertEquals(OffHeapDataContainer.class, c.getAdvancedCache().getDataContainer().getClass());
+      }
+
+      TestingUtil.killCacheManagers(manager(0));
+      cacheManagers.remove(0);
+      waitForClusterToForm();
+      assertAllKeysOwned();
+   }
+
+   private void assertAllKeysOwned() {
+      int total = 0;
+      for (Cache<Object, Object> c : caches()) {
+         DistributionManager dm = c.getAdvancedCache().getDistributionManager();
+         for (Object key : c.getAdvancedCache().getDataContainer().keySet()) {
+            assertTrue(dm.getLocality(key).isLocal());
+            total++;
+         }
+      }
+      assertEquals(2 * NUM_KEYS, total);
+      for (int i = 0; i < NUM_KEYS; i++) {
+         assertEquals("value" + i, cache(0).get(i));
+      }
+   }
+}
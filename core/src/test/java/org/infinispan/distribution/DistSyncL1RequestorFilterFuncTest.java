@@ -0,0 +1,20 @@
+package org.infinispan.distribution;
+
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the L1 tests with the nodes keeping a key in their L1 cache tracked by Bloom filters.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "distribution.DistSyncL1RequestorFilterFuncTest")
+public class DistSyncL1RequestorFilterFuncTest extends DistSyncL1FuncTest {
+
+   @Override
+   protected ConfigurationBuilder buildConfiguration() {
+      ConfigurationBuilder builder = super.buildConfiguration();
+      builder.clustering().l1().requestorFilterSize(1024);
+      return builder;
+   }
+}
@@ -2,15 +2,20 @@
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
+import org.infinispan.commands.read.GetCacheEntryCommand;
 import org.infinispan.context.Flag;
+import org.infinispan.interceptors.impl.CallInterceptor;
 import org.testng.annotations.Test;
 
 import java.lang.reflect.Method;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 
 import static org.infinispan.test.TestingUtil.k;
 import static org.infinispan.test.TestingUtil.v;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 
 /**
  * Non-transactional tests for asynchronous methods in a distributed
@@ -135,6 +140,24 @@ public void testLocalAsyncGet(Method m) throws Exception {
       assert f.get() == null;
    }
 
+   public void testAsyncGetCompletesOnRemoteResponse(Method m) throws Exception {
+      Cache<Object, String> ownerCache = getOwner(k(m));
+      ownerCache.put(k(m), v(m));
+
+      CyclicBarrier barrier = new CyclicBarrier(2);
+      ownerCache.getAdvancedCache().getSequentialInterceptorChain().addInterceptorBefore(
+            new BlockingInterceptor(barrier, GetCacheEntryCommand.class, false, false), CallInterceptor.class);
+      try {
+         CompletableFuture<String> f = getNonOwner(k(m)).getAsync(k(m));
+         barrier.await(10, TimeUnit.SECONDS);
+         assertFalse(f.isDone());
+         barrier.await(10, TimeUnit.SECONDS);
+         assertEquals(v(m), f.get(10, TimeUnit.SECONDS));
+      } finally {
+         ownerCache.getAdvancedCache().getSequentialInterceptorChain().removeInterceptor(BlockingInterceptor.class);
+      }
+   }
+
    protected Cache<Object, String> getOwner(Object key) {
       return getOwners(key)[0];
    }
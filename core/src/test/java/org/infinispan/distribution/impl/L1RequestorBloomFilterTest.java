@@ -0,0 +1,71 @@
+package org.infinispan.distribution.impl;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the Bloom filters keep track of the requestors of a key for two generations.
+ *
+ * @since 9.0
+ */
+@Test(groups = "unit", testName = "distribution.impl.L1RequestorBloomFilterTest")
+public class L1RequestorBloomFilterTest extends AbstractInfinispanTest {
+
+   private static final int SEGMENTS = 4;
+   private static final int KEYS = 1000;
+
+   private final Address nodeA = mock(Address.class);
+   private final Address nodeB = mock(Address.class);
+
+   public void testRequestorsAreNeverMissed() {
+      L1RequestorBloomFilter filter = new L1RequestorBloomFilter(SEGMENTS, 4096);
+      for (int i = 0; i < KEYS; i++) {
+         filter.add("key-" + i, i % SEGMENTS, i % 2 == 0 ? nodeA : nodeB);
+      }
+      int falsePositives = 0;
+      for (int i = 0; i < KEYS; i++) {
+         Set<Address> requestors = requestors(filter, "key-" + i, i % SEGMENTS);
+         assertTrue(requestors.contains(i % 2 == 0 ? nodeA : nodeB));
+         falsePositives += requestors.size() - 1;
+      }
+      // 125 keys per node and segment in 4096 bits
+      assertTrue("Too many false positives: " + falsePositives, falsePositives < KEYS / 10);
+   }
+
+   public void testSegmentsAreTrackedSeparately() {
+      L1RequestorBloomFilter filter = new L1RequestorBloomFilter(SEGMENTS, 64);
+      filter.add("key", 0, nodeA);
+      assertEquals(Collections.singleton(nodeA), requestors(filter, "key", 0));
+      assertEquals(Collections.emptySet(), requestors(filter, "key", 1));
+   }
+
+   public void testRotation() {
+      L1RequestorBloomFilter filter = new L1RequestorBloomFilter(SEGMENTS, 1024);
+      filter.add("key", 0, nodeA);
+      filter.rotate();
+      filter.add("key", 0, nodeB);
+      assertEquals(new HashSet<>(Arrays.asList(nodeA, nodeB)), requestors(filter, "key", 0));
+
+      filter.rotate();
+      assertEquals(Collections.singleton(nodeB), requestors(filter, "key", 0));
+
+      filter.rotate();
+      assertEquals(Collections.emptySet(), requestors(filter, "key", 0));
+   }
+
+   private static Set<Address> requestors(L1RequestorBloomFilter filter, Object key, int segment) {
+      Set<Address> requestors = new HashSet<>();
+      filter.addRequestors(key, segment, requestors);
+      return requestors;
+   }
+}
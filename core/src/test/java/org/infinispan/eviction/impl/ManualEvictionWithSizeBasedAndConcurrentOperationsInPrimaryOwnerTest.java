@@ -8,6 +8,7 @@
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.factories.annotations.Stop;
 import org.infinispan.filter.KeyFilter;
 import org.infinispan.filter.KeyValueFilter;
@@ -507,6 +508,17 @@ public Iterator<InternalCacheEntry<K, V>> iteratorIncludingExpired() {
          return delegate.iteratorIncludingExpired();
       }
 
+      @Override
+      public Iterator<InternalCacheEntry<K, V>> iterator(Set<Integer> segments, KeyPartitioner keyPartitioner) {
+         return delegate.iterator(segments, keyPartitioner);
+      }
+
+      @Override
+      public Iterator<InternalCacheEntry<K, V>> iteratorIncludingExpired(Set<Integer> segments,
+                                                                         KeyPartitioner keyPartitioner) {
+         return delegate.iteratorIncludingExpired(segments, keyPartitioner);
+      }
+
       @Override
       public void executeTask(KeyFilter<? super K> filter, BiConsumer<? super K, InternalCacheEntry< K, V>> action)
             throws InterruptedException {
@@ -1,5 +1,9 @@
 package org.infinispan.executors;
 
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
 import org.infinispan.test.AbstractInfinispanTest;
 import org.infinispan.util.concurrent.BlockingRunnable;
 import org.infinispan.util.concurrent.BlockingTaskAwareExecutorService;
@@ -76,6 +80,52 @@ public void testMultipleExecutions() throws Exception {
       }
    }
 
+   public void testWakeUpExecution() throws Exception {
+      BlockingTaskAwareExecutorServiceImpl executorService = createExecutorService();
+      try {
+         final WakeUpSomething wakeUpSomething = new WakeUpSomething();
+         executorService.execute(wakeUpSomething);
+
+         //checked when executed and once the wake-up is registered
+         eventually(() -> wakeUpSomething.checks.get() == 2);
+         assertEquals(1, executorService.getBlockedTaskCount());
+
+         //a generic check does not check the task
+         int checks = wakeUpSomething.checks.get();
+         wakeUpSomething.markReady();
+         executorService.checkForReadyTasks();
+         Thread.sleep(100);
+         assertEquals(checks, wakeUpSomething.checks.get());
+         assertFalse(wakeUpSomething.isExecuted());
+
+         wakeUpSomething.wakeUp.run();
+         eventually(wakeUpSomething::isExecuted);
+         assertEquals(0, executorService.getBlockedTaskCount());
+         assertTrue(executorService.getBlockedTimePercentile(1, TimeUnit.MILLISECONDS) >= 100);
+      } finally {
+         executorService.shutdownNow();
+      }
+   }
+
+   public void testBlockedTaskCount() throws Exception {
+      BlockingTaskAwareExecutorServiceImpl executorService = createExecutorService();
+      try {
+         List<DoSomething> tasks = new LinkedList<>();
+         for (int i = 0; i < 10; ++i) {
+            tasks.add(new DoSomething());
+         }
+         tasks.forEach(executorService::execute);
+         assertEquals(10, executorService.getBlockedTaskCount());
+
+         tasks.get(0).markReady();
+         executorService.checkForReadyTasks();
+         eventually(tasks.get(0)::isExecuted);
+         assertEquals(9, executorService.getBlockedTaskCount());
+      } finally {
+         executorService.shutdownNow();
+      }
+   }
+
    private BlockingTaskAwareExecutorServiceImpl createExecutorService() {
       final String controllerName = "Controller-" + getClass().getSimpleName();
       final ExecutorService realOne = new ThreadPoolExecutor(1, 2, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
@@ -97,7 +147,7 @@ public static class DoSomething implements BlockingRunnable {
       private volatile boolean executed = false;
 
       @Override
-      public synchronized final boolean isReady() {
+      public synchronized boolean isReady() {
          return ready;
       }
 
@@ -114,4 +164,22 @@ public synchronized final boolean isExecuted() {
          return executed;
       }
    }
+
+   public static class WakeUpSomething extends DoSomething {
+
+      private final AtomicInteger checks = new AtomicInteger();
+      private volatile Runnable wakeUp;
+
+      @Override
+      public boolean registerWakeUp(Runnable wakeUp) {
+         this.wakeUp = wakeUp;
+         return true;
+      }
+
+      @Override
+      public boolean isReady() {
+         checks.incrementAndGet();
+         return super.isReady();
+      }
+   }
 }
@@ -0,0 +1,91 @@
+package org.infinispan.notifications.cachelistener.cluster;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.distribution.MagicKey;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.test.TestingUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the cluster listener tests with the events of concurrent operations sent in batches.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "notifications.cachelistener.cluster.ClusterListenerDistBatchingTest")
+public class ClusterListenerDistBatchingTest extends ClusterListenerDistTest {
+
+   private static final int WRITERS = 4;
+   private static final int WRITES = 50;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      builderUsed = new ConfigurationBuilder();
+      builderUsed.clustering().cacheMode(cacheMode).clusterEventBatchSize(10);
+      builderUsed.transaction().cacheStopTimeout(100, TimeUnit.MILLISECONDS);
+      createClusteredCaches(3, CACHE_NAME, builderUsed);
+      injectTimeServices();
+   }
+
+   public void testConcurrentWritesKeepOrderPerKey() throws Exception {
+      Cache<Object, String> cache0 = cache(0, CACHE_NAME);
+      ClusterListener clusterListener = new ClusterListener();
+      cache0.addListener(clusterListener);
+
+      List<MagicKey> keys = new ArrayList<>();
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < WRITERS; i++) {
+         Cache<Object, String> cache = cache(1 + i % 2, CACHE_NAME);
+         MagicKey key = new MagicKey("writer-" + i, cache);
+         keys.add(key);
+         futures.add(fork(() -> {
+            for (int j = 0; j < WRITES; j++) {
+               cache.put(key, String.valueOf(j));
+            }
+         }));
+      }
+      for (Future<?> future : futures) {
+         future.get(30, TimeUnit.SECONDS);
+      }
+
+      assertEquals(WRITERS * WRITES, clusterListener.events.size());
+      for (MagicKey key : keys) {
+         int expected = 0;
+         for (CacheEntryEvent event : clusterListener.events) {
+            if (key.equals(event.getKey())) {
+               assertEquals(String.valueOf(expected++), event.getValue());
+            }
+         }
+         assertEquals(WRITES, expected);
+      }
+   }
+
+   public void testBatcherDroppedWhenNodeLeaves() {
+      Cache<Object, String> cache0 = cache(0, CACHE_NAME);
+      Cache<Object, String> cache1 = cache(1, CACHE_NAME);
+      Address address0 = address(0);
+      cache0.addListener(new ClusterListener());
+      cache1.put(new MagicKey(cache1), FIRST_VALUE);
+
+      Map<Address, ?> batchers = batchers(cache1);
+      assertTrue(batchers.containsKey(address0));
+
+      TestingUtil.killCacheManagers(manager(0));
+      eventually(() -> !batchers.containsKey(address0));
+   }
+
+   private static Map<Address, ?> batchers(Cache<?, ?> cache) {
+      ClusterEventManager<?, ?> manager = TestingUtil.extractComponent(cache, ClusterEventManager.class);
+      return (Map<Address, ?>) TestingUtil.extractField(manager, "batchers");
+   }
+}
@@ -0,0 +1,158 @@
+package org.infinispan.notifications.cachelistener.cluster.impl;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.notifications.cachelistener.cluster.ClusterEvent;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the cluster events sent to a node are gathered while a batch is in flight.
+ *
+ * @since 9.0
+ */
+@Test(groups = "unit", testName = "notifications.cachelistener.cluster.impl.ClusterEventBatcherTest")
+public class ClusterEventBatcherTest extends AbstractInfinispanTest {
+
+   private static final UUID LISTENER = UUID.randomUUID();
+
+   private final BlockingQueue<SentBatch> sent = new LinkedBlockingQueue<>();
+   private final Address target = mock(Address.class);
+   private ScheduledExecutorService scheduler;
+
+   @BeforeMethod
+   public void startScheduler() {
+      scheduler = new ScheduledThreadPoolExecutor(1);
+   }
+
+   @AfterMethod(alwaysRun = true)
+   public void stopScheduler() {
+      scheduler.shutdownNow();
+      sent.clear();
+   }
+
+   public void testEventsAddedWhileInFlightAreBatched() throws Exception {
+      ClusterEventBatcher<String, String> batcher = batcher(100, 0);
+      ClusterEvent<String, String> first = event();
+      CompletableFuture<Void> firstAdded = batcher.add(events(first), true);
+      SentBatch firstBatch = nextBatch();
+      assertEquals(Collections.singletonList(first), firstBatch.events.get(LISTENER));
+
+      List<ClusterEvent<String, String>> others = new ArrayList<>();
+      List<CompletableFuture<Void>> othersAdded = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+         ClusterEvent<String, String> event = event();
+         others.add(event);
+         othersAdded.add(batcher.add(events(event), true));
+      }
+      assertTrue(sent.isEmpty());
+      assertFalse(firstAdded.isDone());
+
+      firstBatch.future.complete(null);
+      assertTrue(firstAdded.isDone());
+      SentBatch secondBatch = nextBatch();
+      assertEquals(others, secondBatch.events.get(LISTENER));
+      assertFalse(othersAdded.get(0).isDone());
+
+      secondBatch.future.complete(null);
+      for (CompletableFuture<Void> future : othersAdded) {
+         assertTrue(future.isDone());
+      }
+      assertTrue(sent.isEmpty());
+   }
+
+   public void testAsyncEventsWaitForTheWindow() throws Exception {
+      ClusterEventBatcher<String, String> batcher = batcher(100, 100);
+      batcher.add(events(event()), false);
+      batcher.add(events(event()), false);
+      assertTrue(sent.isEmpty());
+
+      SentBatch batch = nextBatch();
+      assertEquals(2, batch.events.get(LISTENER).size());
+      batch.future.complete(null);
+   }
+
+   public void testFullBatchBlocksWriters() throws Exception {
+      ClusterEventBatcher<String, String> batcher = batcher(2, 0);
+      batcher.add(events(event()), false);
+      SentBatch firstBatch = nextBatch();
+      batcher.add(events(event()), false);
+      batcher.add(events(event()), false);
+
+      Future<CompletableFuture<Void>> blocked = fork(() -> batcher.add(events(event()), false));
+      Thread.sleep(100);
+      assertFalse(blocked.isDone());
+
+      firstBatch.future.complete(null);
+      blocked.get(10, TimeUnit.SECONDS);
+      SentBatch secondBatch = nextBatch();
+      assertEquals(2, secondBatch.events.get(LISTENER).size());
+      secondBatch.future.complete(null);
+      SentBatch thirdBatch = nextBatch();
+      assertEquals(1, thirdBatch.events.get(LISTENER).size());
+      thirdBatch.future.complete(null);
+   }
+
+   public void testFailedBatchDoesNotBlockTheNextOnes() throws Exception {
+      ClusterEventBatcher<String, String> batcher = batcher(100, 0);
+      CompletableFuture<Void> failed = batcher.add(events(event()), true);
+      nextBatch().future.completeExceptionally(new Exception("expected"));
+      assertTrue(failed.isDone());
+
+      CompletableFuture<Void> next = batcher.add(events(event()), true);
+      nextBatch().future.complete(null);
+      assertTrue(next.isDone());
+   }
+
+   private ClusterEventBatcher<String, String> batcher(int batchSize, long window) {
+      return new ClusterEventBatcher<>(target, batchSize, window, scheduler, (address, events) -> {
+         SentBatch batch = new SentBatch(events);
+         sent.add(batch);
+         return batch.future;
+      });
+   }
+
+   private SentBatch nextBatch() throws InterruptedException {
+      SentBatch batch = sent.poll(10, TimeUnit.SECONDS);
+      assertTrue("No batch was sent", batch != null);
+      return batch;
+   }
+
+   @SuppressWarnings("unchecked")
+   private static ClusterEvent<String, String> event() {
+      return mock(ClusterEvent.class);
+   }
+
+   private static Map<UUID, Collection<ClusterEvent<String, String>>> events(ClusterEvent<String, String> event) {
+      return Collections.singletonMap(LISTENER, Collections.singletonList(event));
+   }
+
+   private static class SentBatch {
+      final Map<UUID, Collection<ClusterEvent<String, String>>> events;
+      final CompletableFuture<Void> future = new CompletableFuture<>();
+
+      SentBatch(Map<UUID, Collection<ClusterEvent<String, String>>> events) {
+         this.events = events;
+      }
+   }
+}
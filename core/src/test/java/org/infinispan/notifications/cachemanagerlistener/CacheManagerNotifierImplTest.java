@@ -1,5 +1,7 @@
 package org.infinispan.notifications.cachemanagerlistener;
 
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachemanagerlistener.annotation.CacheStarted;
 import org.infinispan.notifications.cachemanagerlistener.event.CacheStartedEvent;
 import org.infinispan.notifications.cachemanagerlistener.event.CacheStoppedEvent;
 import org.infinispan.notifications.cachemanagerlistener.event.Event;
@@ -9,6 +11,7 @@
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import static org.mockito.Mockito.*;
@@ -22,7 +25,6 @@ public class CacheManagerNotifierImplTest extends AbstractInfinispanTest {
    public void setUp() {
       n = new CacheManagerNotifierImpl();
       cl = new CacheManagerListener();
-      n.start();
       n.addListener(cl);
    }
 
@@ -53,4 +55,38 @@ public void testNotifyCacheStopped() {
       assert ((CacheStoppedEvent) cl.getEvent()).getCacheName().equals("cache");
       assert cl.getEvent().getType() == Event.Type.CACHE_STOPPED;
    }
+
+   public void testNotifyNonPublicListener() {
+      PrivateListener pl = new PrivateListener();
+      n.addListener(pl);
+      n.notifyCacheStarted("cache");
+
+      assert cl.invocationCount == 1;
+      assert pl.cacheName.equals("cache");
+   }
+
+   public void testListenerExceptionIsNotPropagated() {
+      n.addListener(new FailingListener());
+      n.notifyCacheStarted("cache");
+
+      assert cl.invocationCount == 1;
+   }
+
+   @Listener
+   private static class PrivateListener {
+      String cacheName;
+
+      @CacheStarted
+      public void cacheStarted(CacheStartedEvent e) {
+         cacheName = e.getCacheName();
+      }
+   }
+
+   @Listener
+   public static class FailingListener {
+      @CacheStarted
+      public void cacheStarted(CacheStartedEvent e) throws IOException {
+         throw new IOException("expected");
+      }
+   }
 }
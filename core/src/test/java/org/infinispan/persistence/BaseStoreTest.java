@@ -5,10 +5,12 @@
 import static org.testng.AssertJUnit.*;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.infinispan.filter.CollectionKeyFilter;
@@ -18,6 +20,7 @@
 import org.infinispan.container.InternalEntryFactoryImpl;
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.container.entries.InternalCacheValue;
+import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.marshall.TestObjectStreamMarshaller;
 import org.infinispan.marshall.core.MarshalledEntry;
 import org.infinispan.marshall.core.MarshalledEntryImpl;
@@ -33,6 +36,7 @@
 import org.infinispan.test.fwk.TestInternalCacheEntryFactory;
 import org.infinispan.util.ControlledTimeService;
 import org.infinispan.util.PersistenceMockUtil;
+import org.infinispan.util.concurrent.ConcurrentHashSet;
 import org.infinispan.util.concurrent.WithinThreadExecutor;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -406,6 +410,46 @@ public void testStoreAndRemove() throws PersistenceException {
       assertEquals("k4", set.iterator().next().getKey());
    }
 
+   public void testWriteAndDeleteBatch() throws PersistenceException {
+      assertIsEmpty();
+
+      cl.write(marshalledEntry("k1", "old", null));
+
+      List<MarshalledEntry<?, ?>> entries = new ArrayList<>();
+      for (int i = 1; i <= 10; i++) {
+         entries.add(marshalledEntry("k" + i, "v" + i, null));
+      }
+      cl.writeBatch(entries);
+
+      assertSize(TestingUtil.allEntries(cl), 10);
+      for (int i = 1; i <= 10; i++) {
+         assertEquals("v" + i, unwrap(cl.load("k" + i).getValue()));
+      }
+
+      cl.deleteBatch(Arrays.<Object>asList("k1", "k2", "k3", "missing"));
+
+      Set<MarshalledEntry> set = TestingUtil.allEntries(cl);
+      assertSize(set, 7);
+      assertContains("k1", false);
+      assertContains("k4", true);
+   }
+
+   public void testProcessSegments() throws PersistenceException {
+      assertIsEmpty();
+
+      for (int i = 0; i < 10; i++) {
+         cl.write(marshalledEntry("k" + i, "v" + i, null));
+      }
+
+      // even keys map to segment 0, odd keys to segment 1
+      KeyPartitioner keyPartitioner = key -> (((String) key).charAt(1) - '0') % 2;
+      Set<Object> keys = new ConcurrentHashSet<>();
+      cl.process(Collections.singleton(1), keyPartitioner, new CollectionKeyFilter<>(Collections.<Object>singleton("k3")),
+            (marshalledEntry, taskContext) -> keys.add(marshalledEntry.getKey()), new WithinThreadExecutor(), true, true);
+
+      assertEquals(new HashSet<>(Arrays.asList("k1", "k5", "k7", "k9")), keys);
+   }
+
    public void testPurgeExpired() throws Exception {
       assertIsEmpty();
       // Increased lifespan and idle timeouts to accommodate slower cache stores
@@ -0,0 +1,115 @@
+package org.infinispan.persistence;
+
+import static org.infinispan.test.TestingUtil.getCacheObjectName;
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.eviction.EvictionStrategy;
+import org.infinispan.eviction.EvictionType;
+import org.infinispan.interceptors.base.CommandInterceptor;
+import org.infinispan.jmx.PerThreadMBeanServerLookup;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the entries of a store are preloaded directly into the data container, without loading more entries than
+ * the eviction limit, and that the progress of the preload is reported through JMX.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "persistence.ParallelPreloadTest")
+public class ParallelPreloadTest extends SingleCacheManagerTest {
+
+   private static final String JMX_DOMAIN = ParallelPreloadTest.class.getSimpleName();
+   private static final int NUM_ENTRIES = 1000;
+   private static final int MAX_ENTRIES = 100;
+   private static final String BOUNDED_CACHE = "bounded";
+
+   private final PutCountingInterceptor putCounter = new PutCountingInterceptor();
+   private String tmpDirectory;
+   private MBeanServer mBeanServer;
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      tmpDirectory = TestingUtil.tmpDirectory(this.getClass());
+      GlobalConfigurationBuilder global = new GlobalConfigurationBuilder();
+      global.globalJmxStatistics()
+            .mBeanServerLookup(new PerThreadMBeanServerLookup())
+            .jmxDomain(JMX_DOMAIN)
+            .enable();
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.jmxStatistics().enable();
+      builder.persistence().addSingleFileStore().location(tmpDirectory).preload(true);
+      builder.customInterceptors().addInterceptor().index(0).interceptor(putCounter);
+      mBeanServer = PerThreadMBeanServerLookup.getThreadMBeanServer();
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(global, builder, true);
+
+      ConfigurationBuilder bounded = new ConfigurationBuilder();
+      bounded.jmxStatistics().enable();
+      bounded.eviction().strategy(EvictionStrategy.LRU).type(EvictionType.COUNT).size(MAX_ENTRIES);
+      bounded.persistence().addSingleFileStore().location(tmpDirectory + "/" + BOUNDED_CACHE).preload(true);
+      cm.defineConfiguration(BOUNDED_CACHE, bounded.build());
+      return cm;
+   }
+
+   @AfterClass(alwaysRun = true)
+   protected void removeStoreFiles() {
+      TestingUtil.recursiveFileRemove(tmpDirectory);
+   }
+
+   public void testPreloadIntoDataContainer() throws Exception {
+      for (int i = 0; i < NUM_ENTRIES; i++) {
+         cache.put("key" + i, "value" + i);
+      }
+      cache.stop();
+      putCounter.puts.set(0);
+      cache.start();
+
+      assertEquals(NUM_ENTRIES, cache.getAdvancedCache().getDataContainer().size());
+      for (int i = 0; i < NUM_ENTRIES; i++) {
+         assertEquals("value" + i, cache.getAdvancedCache().getDataContainer().get("key" + i).getValue());
+      }
+      assertEquals("The preloaded entries should bypass the interceptors", 0, putCounter.puts.get());
+
+      ObjectName persistenceManager = getCacheObjectName(JMX_DOMAIN, "___defaultcache(local)", "PersistenceManager");
+      assertEquals((long) NUM_ENTRIES, mBeanServer.getAttribute(persistenceManager, "PreloadedEntries"));
+      assertEquals(false, mBeanServer.getAttribute(persistenceManager, "Preloading"));
+   }
+
+   public void testPreloadStopsAtMaxEntries() throws Exception {
+      Cache<String, String> boundedCache = cacheManager.getCache(BOUNDED_CACHE);
+      for (int i = 0; i < NUM_ENTRIES; i++) {
+         boundedCache.put("key" + i, "value" + i);
+      }
+      boundedCache.stop();
+      boundedCache.start();
+
+      // The store threads share the limit, so they do not load more than MAX_ENTRIES entries together
+      ObjectName persistenceManager = getCacheObjectName(JMX_DOMAIN, BOUNDED_CACHE + "(local)", "PersistenceManager");
+      assertEquals((long) MAX_ENTRIES, mBeanServer.getAttribute(persistenceManager, "PreloadedEntries"));
+      assertEquals(MAX_ENTRIES, boundedCache.getAdvancedCache().getDataContainer().size());
+   }
+
+   static class PutCountingInterceptor extends CommandInterceptor {
+      final AtomicInteger puts = new AtomicInteger();
+
+      @Override
+      public Object visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command) throws Throwable {
+         puts.incrementAndGet();
+         return invokeNextInterceptor(ctx, command);
+      }
+   }
+}
@@ -0,0 +1,63 @@
+package org.infinispan.persistence;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Map;
+
+import javax.transaction.TransactionManager;
+
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.persistence.dummy.DummyInMemoryStore;
+import org.infinispan.persistence.dummy.DummyInMemoryStoreConfigurationBuilder;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the modifications of a transaction are written to the store in batches at commit time.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "persistence.TxStoreBatchTest")
+public class TxStoreBatchTest extends SingleCacheManagerTest {
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder cfg = getDefaultStandaloneCacheConfig(true);
+      cfg.persistence().addStore(DummyInMemoryStoreConfigurationBuilder.class);
+      return TestCacheManagerFactory.createCacheManager(cfg);
+   }
+
+   public void testCommitWritesBatches() throws Exception {
+      cache.put("removed", "v");
+      cache.put("replaced", "v");
+      DummyInMemoryStore store = TestingUtil.getFirstWriter(cache);
+      store.clearStats();
+
+      TransactionManager tm = tm();
+      tm.begin();
+      cache.put("k1", "v1");
+      cache.put("k2", "v2");
+      cache.put("k1", "v1-updated");
+      cache.remove("removed");
+      cache.remove("replaced");
+      cache.put("replaced", "v-new");
+      tm.commit();
+
+      Map<String, Integer> stats = store.stats();
+      assertEquals(1, (int) stats.get("writeBatch"));
+      assertEquals(1, (int) stats.get("deleteBatch"));
+      assertEquals(3, (int) stats.get("write"));
+      assertEquals(1, (int) stats.get("delete"));
+
+      assertEquals("v1-updated", store.load("k1").getValue());
+      assertEquals("v2", store.load("k2").getValue());
+      assertEquals("v-new", store.load("replaced").getValue());
+      assertFalse(store.contains("removed"));
+      assertTrue(store.contains("k1"));
+   }
+}
@@ -94,6 +94,18 @@ public void write(MarshalledEntry entry) {
       }
    }
 
+   @Override
+   public void writeBatch(Iterable entries) {
+      record("writeBatch");
+      AdvancedLoadWriteStore.super.writeBatch(entries);
+   }
+
+   @Override
+   public void deleteBatch(Iterable keys) {
+      record("deleteBatch");
+      AdvancedLoadWriteStore.super.deleteBatch(keys);
+   }
+
    @Override
    public void clear() {
       record("clear");
@@ -7,6 +7,8 @@
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.marshall.core.MarshalledEntry;
 import org.infinispan.marshall.core.MarshalledEntryImpl;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.metadata.impl.InternalMetadataImpl;
 import org.infinispan.persistence.manager.PersistenceManager;
 import org.infinispan.persistence.spi.AdvancedCacheLoader;
 import org.infinispan.test.SingleCacheManagerTest;
@@ -18,7 +20,9 @@
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
@@ -31,6 +35,7 @@
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertTrue;
 import static org.testng.AssertJUnit.assertNotNull;
 
@@ -141,6 +146,99 @@ public void testWritesAndClear() throws ExecutionException, InterruptedException
       clearFuture.get();
    }
 
+   public void testReadsDuringClearAndPurge() throws ExecutionException, InterruptedException {
+      final int NUM_WRITER_THREADS = 2;
+      final int NUM_READER_THREADS = 4;
+      final int NUM_KEYS = 5;
+      final int TEST_DURATION_SECONDS = 2;
+
+      Cache<String, String> cache = cacheManager.getCache(CACHE_NAME);
+      PersistenceManager persistenceManager = TestingUtil.extractComponent(cache, PersistenceManager.class);
+      final SingleFileStore store = persistenceManager.getStores(SingleFileStore.class).iterator().next();
+      final StreamingMarshaller marshaller = TestingUtil.extractComponentRegistry(cache).getCacheMarshaller();
+      assertEquals(0, store.size());
+
+      final List<String> keys = new ArrayList<String>(NUM_KEYS);
+      for (int j = 0; j < NUM_KEYS; j++) {
+         String key = "key" + j;
+         keys.add(key);
+      }
+
+      // clear() waits for the readers to unpin the entries, purge() truncates and merges the free entries
+      final CountDownLatch stopLatch = new CountDownLatch(1);
+      Future[] writeFutures = new Future[NUM_WRITER_THREADS];
+      for (int i = 0; i < NUM_WRITER_THREADS; i++) {
+         writeFutures[i] = fork(stopOnException(new WriteTask(store, marshaller, keys, stopLatch), stopLatch));
+      }
+      Future[] readFutures = new Future[NUM_READER_THREADS];
+      for (int i = 0; i < NUM_READER_THREADS; i++) {
+         readFutures[i] = fork(stopOnException(new ReadTask(store, keys, true, stopLatch), stopLatch));
+      }
+      Future clearFuture = fork(stopOnException(new ClearTask(store, stopLatch), stopLatch));
+      Future purgeFuture = fork(stopOnException(new PurgeTask(store, stopLatch), stopLatch));
+
+      stopLatch.await(TEST_DURATION_SECONDS, SECONDS);
+      stopLatch.countDown();
+
+      for (int i = 0; i < NUM_WRITER_THREADS; i++) {
+         writeFutures[i].get();
+      }
+      for (int i = 0; i < NUM_READER_THREADS; i++) {
+         readFutures[i].get();
+      }
+      clearFuture.get();
+      purgeFuture.get();
+   }
+
+   public void testWritesDuringPurge() throws ExecutionException, InterruptedException {
+      final int NUM_WRITER_THREADS = 4;
+      final int NUM_KEYS_PER_WRITER = 5;
+      final int TEST_DURATION_SECONDS = 2;
+
+      Cache<String, String> cache = cacheManager.getCache(CACHE_NAME);
+      PersistenceManager persistenceManager = TestingUtil.extractComponent(cache, PersistenceManager.class);
+      final SingleFileStore store = persistenceManager.getStores(SingleFileStore.class).iterator().next();
+      final StreamingMarshaller marshaller = TestingUtil.extractComponentRegistry(cache).getCacheMarshaller();
+      assertEquals(0, store.size());
+
+      // each writer replaces its own keys with entries that expire right away, and immortal entries
+      final CountDownLatch stopLatch = new CountDownLatch(1);
+      List<ExpiringWriteTask> writeTasks = new ArrayList<>(NUM_WRITER_THREADS);
+      Future[] writeFutures = new Future[NUM_WRITER_THREADS];
+      for (int i = 0; i < NUM_WRITER_THREADS; i++) {
+         List<String> keys = new ArrayList<>(NUM_KEYS_PER_WRITER);
+         for (int j = 0; j < NUM_KEYS_PER_WRITER; j++) {
+            keys.add("key" + i + "_" + j);
+         }
+         ExpiringWriteTask writeTask = new ExpiringWriteTask(store, marshaller, keys, stopLatch);
+         writeTasks.add(writeTask);
+         writeFutures[i] = fork(stopOnException(writeTask, stopLatch));
+      }
+      Future purgeFuture = fork(stopOnException(new PurgeTask(store, stopLatch), stopLatch));
+
+      stopLatch.await(TEST_DURATION_SECONDS, SECONDS);
+      stopLatch.countDown();
+
+      for (int i = 0; i < NUM_WRITER_THREADS; i++) {
+         writeFutures[i].get();
+      }
+      purgeFuture.get();
+
+      // purge must not have removed the immortal entries that replaced expired ones
+      for (ExpiringWriteTask writeTask : writeTasks) {
+         for (Map.Entry<String, String> e : writeTask.immortalValues.entrySet()) {
+            MarshalledEntry entry = store.load(e.getKey());
+            assertNotNull("Missing entry for " + e.getKey(), entry);
+            assertEquals(e.getValue(), entry.getValue());
+         }
+      }
+      // and an entry in the index must never be free at the same time
+      for (Object fe : store.getEntries().values()) {
+         assertFalse(store.getFreeList().contains(fe));
+      }
+      store.clear();
+   }
+
    public void testSpaceOptimization() throws ExecutionException, InterruptedException {
       final int NUM_KEYS = 100;
       final int TIMES = 10;
@@ -389,6 +487,45 @@ public Object call() throws Exception {
       }
    }
 
+   private class ExpiringWriteTask implements Callable<Object> {
+      private final SingleFileStore store;
+      private final StreamingMarshaller marshaller;
+      private final List<String> keys;
+      private final CountDownLatch stopLatch;
+      // the last value of the keys whose last write was immortal
+      final Map<String, String> immortalValues = new HashMap<>();
+
+      public ExpiringWriteTask(SingleFileStore store, StreamingMarshaller marshaller, List<String> keys,
+                               CountDownLatch stopLatch) {
+         this.store = store;
+         this.marshaller = marshaller;
+         this.keys = keys;
+         this.stopLatch = stopLatch;
+      }
+
+      @Override
+      public Object call() throws Exception {
+         Random random = new Random();
+         int i = 0;
+         while (stopLatch.getCount() != 0) {
+            String key = keys.get(random.nextInt(keys.size()));
+            String value = key + "_value_" + i;
+            if (random.nextBoolean()) {
+               long now = System.currentTimeMillis();
+               InternalMetadataImpl metadata = new InternalMetadataImpl(
+                     new EmbeddedMetadata.Builder().lifespan(1).build(), now, now);
+               store.write(new MarshalledEntryImpl<String, String>(key, value, metadata, marshaller));
+               immortalValues.remove(key);
+            } else {
+               store.write(new MarshalledEntryImpl<String, String>(key, value, null, marshaller));
+               immortalValues.put(key, value);
+            }
+            i++;
+         }
+         return null;
+      }
+   }
+
    private class ReadTask implements Callable<Object> {
       private final boolean allowNulls;
       private final CountDownLatch stopLatch;
@@ -453,6 +590,30 @@ public Object call() throws Exception {
       }
    }
 
+   private class PurgeTask implements Callable<Object> {
+      private final CountDownLatch stopLatch;
+      private final SingleFileStore store;
+
+      public PurgeTask(SingleFileStore store, CountDownLatch stopLatch) {
+         this.stopLatch = stopLatch;
+         this.store = store;
+      }
+
+      @Override
+      public Object call() throws Exception {
+         ExecutorService executor = Executors.newSingleThreadExecutor(getTestThreadFactory("Purge"));
+         try {
+            while (stopLatch.getCount() != 0) {
+               store.purge(executor, null);
+               MILLISECONDS.sleep(10);
+            }
+         } finally {
+            executor.shutdown();
+         }
+         return null;
+      }
+   }
+
    private class ProcessTask implements Callable<Object> {
       private final SingleFileStore store;
 
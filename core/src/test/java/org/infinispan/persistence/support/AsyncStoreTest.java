@@ -56,6 +56,7 @@
 import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertNotNull;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
 import static org.testng.AssertJUnit.fail;
 
 @Test(groups = "unit", testName = "persistence.support.AsyncStoreTest", sequential=true)
@@ -548,6 +549,93 @@ public void run() {
       assertEquals(3, underlying.threads.size());
    }
 
+   public void testModificationQueueMemory(final Method m) throws Exception {
+      LockableStore underlying = new LockableStore();
+      ConfigurationBuilder builder = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+
+      LockableStoreConfigurationBuilder lcscsBuilder = (LockableStoreConfigurationBuilder) builder
+            .persistence()
+            .addStore(new LockableStoreConfigurationBuilder(builder.persistence()));
+      lcscsBuilder.async()
+            .modificationQueueSize(1000)
+            .modificationQueueMemory(1000)
+            .threadPoolSize(1);
+
+      writer = new AdvancedAsyncCacheWriter(underlying);
+      InitializationContext ctx =
+            PersistenceMockUtil.createContext(getClass().getSimpleName(), builder.build(), marshaller);
+      writer.init(ctx);
+      writer.start();
+      underlying.init(ctx);
+      underlying.start();
+      try {
+         final CountDownLatch done = new CountDownLatch(1);
+
+         underlying.lock.lock();
+         try {
+            Thread t = new Thread() {
+               @Override
+               public void run() {
+                  try {
+                     for (int i = 0; i < 100; i++)
+                        writer.write(new MarshalledEntryImpl(k(m, i), v(m, i), null, marshaller()));
+                  } catch (Exception e) {
+                     log.error("Error storing entry", e);
+                  }
+                  done.countDown();
+               }
+            };
+            t.start();
+
+            assertFalse("Background thread should have blocked after adding 1000 bytes", done.await(1, TimeUnit.SECONDS));
+            assertTrue(writer.getQueueMemory() >= 1000);
+         } finally {
+            underlying.lock.unlock();
+         }
+         assertTrue(done.await(10, TimeUnit.SECONDS));
+         eventuallyEquals("All the memory should be released", 0L, writer::getQueueMemory);
+      } finally {
+         writer.stop();
+      }
+      assertEquals(100, underlying.size());
+   }
+
+   @Test(timeOut = 30000)
+   public void testFlushIntervalCoalescesModifications(final Method m) throws Exception {
+      DummyInMemoryStore underlying = new DummyInMemoryStore();
+      ConfigurationBuilder builder = TestCacheManagerFactory.getDefaultCacheConfiguration(false);
+      builder.persistence()
+            .addStore(DummyInMemoryStoreConfigurationBuilder.class)
+               .storeName(m.getName())
+               .async()
+                  .enable()
+                  .flushInterval(1, TimeUnit.MINUTES);
+
+      writer = new AdvancedAsyncCacheWriter(underlying);
+      InitializationContext ctx =
+            PersistenceMockUtil.createContext(getClass().getSimpleName(), builder.build(), marshaller);
+      writer.init(ctx);
+      writer.start();
+      underlying.init(ctx);
+      underlying.start();
+      try {
+         for (int i = 0; i < 100; i++)
+            writer.write(new MarshalledEntryImpl(k(m, "coalesced-"), v(m, i), null, marshaller()));
+         for (int i = 0; i < 10; i++)
+            writer.write(new MarshalledEntryImpl(k(m, i), v(m, i), null, marshaller()));
+
+         assertEquals(11, writer.getQueueSize());
+         assertEquals(0, underlying.size());
+      } finally {
+         // stopping flushes the queue without waiting for the interval
+         writer.stop();
+      }
+      assertEquals(11, underlying.size());
+      assertEquals(11, (int) underlying.stats().get("write"));
+      assertEquals(v(m, 99), underlying.load(k(m, "coalesced-")).getValue());
+      assertTrue(writer.getFlushLatencies().count() > 0);
+   }
+
    private static abstract class OneEntryCacheManagerCallable extends CacheManagerCallable {
       protected final Cache<String, String> cache;
       protected final LockableStore store;
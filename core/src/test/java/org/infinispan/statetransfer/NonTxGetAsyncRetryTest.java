@@ -0,0 +1,120 @@
+package org.infinispan.statetransfer;
+
+import static org.infinispan.test.Exceptions.expectException;
+import static org.infinispan.test.Exceptions.expectExecutionException;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.read.GetCacheEntryCommand;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.distribution.MagicKey;
+import org.infinispan.interceptors.DDSequentialInterceptor;
+import org.infinispan.interceptors.impl.CallInterceptor;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.fwk.CleanupAfterMethod;
+import org.infinispan.util.concurrent.TimeoutException;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that a non-transactional read is retried in the next topology when the owner has a newer topology, and that
+ * it fails if the next topology is not installed in time.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "statetransfer.NonTxGetAsyncRetryTest")
+@CleanupAfterMethod
+public class NonTxGetAsyncRetryTest extends MultipleCacheManagersTest {
+
+   private OutdatedTopologyInterceptor interceptor;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      createClusteredCaches(2, buildConfig());
+   }
+
+   private ConfigurationBuilder buildConfig() {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      builder.clustering().hash().numOwners(1).l1().disable();
+      // The timeout for the next topology
+      builder.clustering().remoteTimeout(2000);
+      return builder;
+   }
+
+   public void testRetryInNextTopology() throws Exception {
+      MagicKey key = addOutdatedTopologyInterceptor();
+
+      CompletableFuture<String> future = nonOwner().getAsync(key);
+      assertTrue(interceptor.thrown.await(10, TimeUnit.SECONDS));
+      // The retry waits for the next topology
+      assertFalse(future.isDone());
+
+      addClusterEnabledCacheManager(buildConfig());
+      waitForClusterToForm();
+      assertEquals("v", future.get(10, TimeUnit.SECONDS));
+   }
+
+   public void testRetryTimesOut() throws Exception {
+      MagicKey key = addOutdatedTopologyInterceptor();
+
+      expectExecutionException(TimeoutException.class, nonOwner().getAsync(key));
+      assertEquals(1, interceptor.invocations.get());
+   }
+
+   public void testSyncRetryTimesOut() throws Exception {
+      MagicKey key = addOutdatedTopologyInterceptor();
+
+      expectException(TimeoutException.class, () -> nonOwner().get(key));
+      assertEquals(1, interceptor.invocations.get());
+   }
+
+   public void testRetryNotAttemptedWhenCacheStops() throws Exception {
+      MagicKey key = addOutdatedTopologyInterceptor();
+
+      CompletableFuture<String> future = nonOwner().getAsync(key);
+      assertTrue(interceptor.thrown.await(10, TimeUnit.SECONDS));
+      assertFalse(future.isDone());
+
+      nonOwner().stop();
+      // The invocation context interceptor ignores the IllegalLifecycleStateException while stopping
+      assertNull(future.get(10, TimeUnit.SECONDS));
+      assertEquals(1, interceptor.invocations.get());
+   }
+
+   private MagicKey addOutdatedTopologyInterceptor() {
+      Cache<Object, String> owner = cache(0);
+      MagicKey key = new MagicKey(owner);
+      owner.put(key, "v");
+      interceptor = new OutdatedTopologyInterceptor();
+      owner.getAdvancedCache().getSequentialInterceptorChain().addInterceptorBefore(interceptor, CallInterceptor.class);
+      return key;
+   }
+
+   private Cache<Object, String> nonOwner() {
+      return cache(1);
+   }
+
+   static class OutdatedTopologyInterceptor extends DDSequentialInterceptor {
+      final CountDownLatch thrown = new CountDownLatch(1);
+      final AtomicInteger invocations = new AtomicInteger();
+
+      @Override
+      public CompletableFuture<Void> visitGetCacheEntryCommand(InvocationContext ctx, GetCacheEntryCommand command)
+            throws Throwable {
+         if (!ctx.isOriginLocal() && invocations.getAndIncrement() == 0) {
+            thrown.countDown();
+            throw new OutdatedTopologyException("Simulated topology change");
+         }
+         return ctx.continueInvocation();
+      }
+   }
+}
@@ -217,6 +217,12 @@ public Iterator<InternalCacheEntry> answer(InvocationOnMock invocation) {
             return cacheEntries.iterator();
          }
       });
+      when(dataContainer.iteratorIncludingExpired(any(), any())).thenAnswer(new Answer<Iterator<InternalCacheEntry>>() {
+         @Override
+         public Iterator<InternalCacheEntry> answer(InvocationOnMock invocation) {
+            return Collections.emptyIterator();
+         }
+      });
       when(transactionTable.getLocalTransactions()).thenReturn(Collections.<LocalTransaction>emptyList());
       when(transactionTable.getRemoteTransactions()).thenReturn(Collections.<RemoteTransaction>emptyList());
 
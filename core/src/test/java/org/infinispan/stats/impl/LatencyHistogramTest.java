@@ -0,0 +1,66 @@
+package org.infinispan.stats.impl;
+
+import org.testng.annotations.Test;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+/**
+ * Tests the bucketing and the percentiles of {@link LatencyHistogram}.
+ *
+ * @since 9.0
+ */
+@Test(groups = "unit", testName = "stats.impl.LatencyHistogramTest")
+public class LatencyHistogramTest {
+
+   public void testBucketsCoverValues() {
+      int previous = -1;
+      for (long value = 0; value < 1 << 20; value++) {
+         int index = LatencyHistogram.bucketIndex(value);
+         assertTrue(index == previous || index == previous + 1);
+         assertTrue(value <= LatencyHistogram.highestValue(index));
+         previous = index;
+      }
+   }
+
+   public void testRelativeError() {
+      for (long value = 1; value < LatencyHistogram.MAX_VALUE; value = value * 3 + 1) {
+         long highest = LatencyHistogram.highestValue(LatencyHistogram.bucketIndex(value));
+         assertTrue(highest - value <= value / 16);
+      }
+   }
+
+   public void testPercentiles() {
+      LatencyHistogram histogram = new LatencyHistogram();
+      assertEquals(0, histogram.percentile(0.99));
+      for (int i = 1; i <= 1000; i++) {
+         histogram.record(i * 1000);
+      }
+      assertEquals(1000, histogram.count());
+      assertWithinError(500_000, histogram.percentile(0.5));
+      assertWithinError(990_000, histogram.percentile(0.99));
+      assertWithinError(999_000, histogram.percentile(0.999));
+      assertWithinError(1_000_000, histogram.percentile(1));
+   }
+
+   public void testOutOfRangeValues() {
+      LatencyHistogram histogram = new LatencyHistogram();
+      histogram.record(-5);
+      histogram.record(Long.MAX_VALUE);
+      assertEquals(0, histogram.percentile(0.5));
+      assertEquals(LatencyHistogram.MAX_VALUE, histogram.percentile(1));
+   }
+
+   public void testReset() {
+      LatencyHistogram histogram = new LatencyHistogram();
+      histogram.record(100);
+      histogram.reset();
+      assertEquals(0, histogram.count());
+      assertEquals(0, histogram.percentile(0.5));
+   }
+
+   private void assertWithinError(long expected, long actual) {
+      assertTrue("Expected about " + expected + " but was " + actual,
+            actual >= expected && actual - expected <= expected / 16);
+   }
+}
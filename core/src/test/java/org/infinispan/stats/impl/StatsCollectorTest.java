@@ -0,0 +1,25 @@
+package org.infinispan.stats.impl;
+
+import org.testng.annotations.Test;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+/**
+ * Tests the latency samples recorded by {@link StatsCollector}.
+ *
+ * @since 9.0
+ */
+@Test(groups = "unit", testName = "stats.impl.StatsCollectorTest")
+public class StatsCollectorTest {
+
+   public void testMultiKeyReadRecordsOneSample() {
+      StatsCollector collector = new StatsCollector();
+      collector.recordReads(3, 1, 1_000_000);
+      assertEquals(3, collector.getHits());
+      assertEquals(1, collector.getMisses());
+      // a single sample with the duration of the whole operation, not one sample per hit and miss part
+      long p50 = collector.getReadTimeP50();
+      assertTrue("Unexpected median " + p50, p50 >= 1_000_000 && p50 <= 1_000_000 + 1_000_000 / 16);
+   }
+}
@@ -4,9 +4,12 @@
 import org.infinispan.commons.CacheException;
 import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.container.DataContainer;
+import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.test.TestingUtil;
 import org.testng.annotations.Test;
 
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anySetOf;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertNotNull;
@@ -32,6 +35,8 @@ public void ensureDataContainerRemoteExceptionPropagated() {
       try {
          Throwable t = new AssertionError();
          DataContainer mockContainer = when(mock(DataContainer.class).iterator()).thenThrow(t).getMock();
+         // The remote node only iterates over the segments it was asked for
+         when(mockContainer.iterator(anySetOf(Integer.class), any(KeyPartitioner.class))).thenThrow(t);
          TestingUtil.replaceComponent(cache1, DataContainer.class, mockContainer, true);
          
          try {
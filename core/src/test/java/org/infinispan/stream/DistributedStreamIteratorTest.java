@@ -10,6 +10,7 @@
 import org.infinispan.distribution.DistributionManager;
 import org.infinispan.distribution.MagicKey;
 import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.distribution.ch.KeyPartitioner;
 import org.infinispan.filter.CacheFilters;
 import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.remoting.rpc.RpcOptions;
@@ -328,6 +329,33 @@ private void testStayLocalIfAllSegmentsPresentLocally(boolean rehashAware) throw
       verify(clusterStreamManager, never()).awaitCompletion(any(UUID.class), anyLong(), any(TimeUnit.class));
    }
 
+   public void testLocalSegmentsIteratedFromDataContainerSegments() {
+      Cache<Object, String> cache0 = cache(0, CACHE_NAME);
+      IntStream.rangeClosed(0, 499).boxed().forEach(i -> cache0.put(i, i.toString()));
+
+      DataContainer dataContainer = TestingUtil.extractComponent(cache0, DataContainer.class);
+      DataContainer spyContainer = mock(DataContainer.class,
+            withSettings().defaultAnswer(AdditionalAnswers.delegatesTo(dataContainer)));
+      TestingUtil.replaceComponent(cache0, DataContainer.class, spyContainer, true);
+      try {
+         ConsistentHash ch = cache0.getAdvancedCache().getDistributionManager().getConsistentHash();
+         Set<Integer> segmentsCache0 = ch.getSegmentsForOwner(cache0.getCacheManager().getAddress());
+
+         Map<Object, String> entries = mapFromIterator(cache0.entrySet().stream().filterKeySegments(segmentsCache0)
+               .iterator());
+
+         Map<Object, String> expected = new HashMap<>();
+         IntStream.rangeClosed(0, 499).filter(i -> segmentsCache0.contains(ch.getSegment(i)))
+               .forEach(i -> expected.put(i, String.valueOf(i)));
+         assertEquals(expected, entries);
+         // Only the requested segments were visited
+         verify(spyContainer, never()).iterator();
+         verify(spyContainer, atLeastOnce()).iterator(anySetOf(Integer.class), any(KeyPartitioner.class));
+      } finally {
+         TestingUtil.replaceComponent(cache0, DataContainer.class, dataContainer, true);
+      }
+   }
+
    private ClusterStreamManager replaceWithSpy(Cache<?,?> cache) {
       ClusterStreamManager component = TestingUtil.extractComponent(cache, ClusterStreamManager.class);
       ClusterStreamManager clusterStreamManager = spy(component);
@@ -403,7 +431,7 @@ protected DataContainer waitUntilDataContainerWillBeIteratedOn(final Cache<?, ?>
       final Answer<Object> forwardedAnswer = AdditionalAnswers.delegatesTo(rpc);
       DataContainer mocaContainer = mock(DataContainer.class, withSettings().defaultAnswer(forwardedAnswer));
       final AtomicInteger invocationCount = new AtomicInteger();
-      doAnswer(invocation -> {
+      Answer<Object> blockingAnswer = invocation -> {
          boolean waiting = false;
          if (invocationCount.getAndIncrement() == 0) {
             waiting = true;
@@ -424,7 +452,10 @@ protected DataContainer waitUntilDataContainerWillBeIteratedOn(final Cache<?, ?>
                checkPoint.awaitStrict("post_iterator_released", 10, TimeUnit.SECONDS);
             }
          }
-      }).when(mocaContainer).iterator();
+      };
+      doAnswer(blockingAnswer).when(mocaContainer).iterator();
+      // Segment filtered streams only iterate over the segments they need
+      doAnswer(blockingAnswer).when(mocaContainer).iterator(anySetOf(Integer.class), any(KeyPartitioner.class));
       TestingUtil.replaceComponent(cache, DataContainer.class, mocaContainer, true);
       return rpc;
    }
@@ -0,0 +1,101 @@
+package org.infinispan.xsite;
+
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.configuration.cache.BackupConfiguration;
+import org.infinispan.configuration.cache.BackupConfigurationBuilder;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.Flag;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.interceptors.base.CommandInterceptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+/**
+ * Tests that an asynchronous backup with a coalesce window only sends the last write of each key.
+ *
+ * @since 9.0
+ */
+@Test(groups = "xsite", testName = "xsite.NonTxCoalescingBackupTest")
+public class NonTxCoalescingBackupTest extends AbstractTwoSitesTest {
+
+   private static final long COALESCE_WINDOW = 1000;
+
+   private CountingInterceptor countingInterceptor;
+
+   public NonTxCoalescingBackupTest() {
+      super.lonBackupStrategy = BackupConfiguration.BackupStrategy.ASYNC;
+      // a single node buffers all the writes, so the order of the clear and the puts is deterministic
+      super.initialClusterSize = 1;
+   }
+
+   @Override
+   protected void createSites() {
+      super.createSites();
+      countingInterceptor = new CountingInterceptor();
+      backup(LON).getAdvancedCache().addInterceptor(countingInterceptor, 1);
+   }
+
+   @Override
+   protected void adaptLONConfiguration(BackupConfigurationBuilder builder) {
+      builder.coalesceWindow(COALESCE_WINDOW);
+   }
+
+   @Override
+   protected ConfigurationBuilder getNycActiveConfig() {
+      return getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+   }
+
+   @Override
+   protected ConfigurationBuilder getLonActiveConfig() {
+      return getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+   }
+
+   @BeforeMethod
+   void clearBackup() {
+      backup(LON).getAdvancedCache().withFlags(Flag.SKIP_XSITE_BACKUP).clear();
+      countingInterceptor.puts.set(0);
+   }
+
+   public void testWritesToSameKeyAreCoalesced() {
+      for (int i = 0; i < 10; i++) {
+         cache(LON, 0).put("k", "v" + i);
+      }
+      cache(LON, 0).put("k2", "v");
+      cache(LON, 0).remove("k2");
+      eventually(() -> "v9".equals(backup(LON).get("k")));
+      assertNull(backup(LON).get("k2"));
+      assertEquals(1, countingInterceptor.puts.get());
+      eventually(() -> backupSender(0).getReplicationLag(NYC) == 0);
+   }
+
+   public void testClearDiscardsBufferedWrites() {
+      cache(LON, 0).put("k", "v");
+      cache(LON, 0).clear();
+      cache(LON, 0).put("k3", "v3");
+      eventually(() -> "v3".equals(backup(LON).get("k3")));
+      assertNull(backup(LON).get("k"));
+      assertEquals(1, countingInterceptor.puts.get());
+   }
+
+   private BackupSender backupSender(int index) {
+      return cache(LON, index).getAdvancedCache().getComponentRegistry().getComponent(BackupSender.class);
+   }
+
+   static class CountingInterceptor extends CommandInterceptor {
+      final AtomicInteger puts = new AtomicInteger();
+
+      @Override
+      public Object visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command) throws Throwable {
+         if (ctx.isOriginLocal()) {
+            puts.incrementAndGet();
+         }
+         return super.visitPutKeyValueCommand(ctx, command);
+      }
+   }
+}
@@ -100,6 +100,28 @@ public void testTwoPhaseCommitAsyncBackup() {
       cb.build();
    }
 
+   @Test(expectedExceptions = CacheConfigurationException.class)
+   public void testCoalesceWindowSyncBackup() {
+      ConfigurationBuilder cb = new ConfigurationBuilder();
+      cb.
+            sites().addBackup()
+               .site("LON")
+               .strategy(BackupConfiguration.BackupStrategy.SYNC)
+               .coalesceWindow(100);
+      cb.build();
+   }
+
+   @Test(expectedExceptions = CacheConfigurationException.class)
+   public void testCoalesceMaxKeysNotPositive() {
+      ConfigurationBuilder cb = new ConfigurationBuilder();
+      cb.
+            sites().addBackup()
+               .site("LON")
+               .coalesceWindow(100)
+               .coalesceMaxKeys(0);
+      cb.build();
+   }
+
    public void testMultipleCachesWithNoCacheName() {
       ConfigurationBuilder cb = new ConfigurationBuilder();
       cb.
@@ -395,6 +395,16 @@ public <T> T execute(String scriptName, Map<String, ?> params) {
       return delegate.execute(scriptName, params);
    }
 
+   @Override
+   public V compute(K key, String functionName, Object argument) {
+      return delegate.compute(key, functionName, argument);
+   }
+
+   @Override
+   public V compute(K key, String functionName, Object argument, long lifespan, TimeUnit lifespanUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
+      return delegate.compute(key, functionName, argument, lifespan, lifespanUnit, maxIdleTime, maxIdleTimeUnit);
+   }
+
    @Override
    public CacheTopologyInfo getCacheTopologyInfo() {
       return delegate.getCacheTopologyInfo();
@@ -0,0 +1,206 @@
+package org.infinispan.persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.infinispan.executors.ExecutorAllCompletionService;
+import org.infinispan.persistence.jdbc.connectionfactory.ConnectionFactory;
+import org.infinispan.persistence.jdbc.logging.Log;
+import org.infinispan.persistence.jdbc.table.management.TableManager;
+import org.infinispan.persistence.spi.PersistenceException;
+import org.infinispan.util.TimeService;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * Purges the expired rows of a table without touching all of them in a single statement.
+ * <p>
+ * The range of the expired timestamps is split in up to {@link #MAX_PARTITIONS} partitions which are purged in
+ * parallel. Each partition streams the expired rows with a read-only query and purges them in batches of
+ * {@link TableManager#getBatchSize()} rows on a second connection, so no statement locks or logs more than a batch
+ * of rows. If a purge rate is set, the partitions wait after each batch so that no more than that many rows are
+ * purged per second. An index on the timestamp column avoids a full table scan per partition.
+ *
+ * @param <T> the type of the rows read by the partitions
+ * @since 9.0
+ */
+public abstract class PartitionedPurger<T> {
+
+   private static final Log log = LogFactory.getLog(PartitionedPurger.class, Log.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   /**
+    * Every partition uses two connections, so the partitions are limited to leave some for the other operations.
+    */
+   static final int MAX_PARTITIONS = 4;
+
+   protected final ConnectionFactory connectionFactory;
+   protected final TableManager tableManager;
+   private final TimeService timeService;
+   private final int purgeRate;
+
+   protected PartitionedPurger(ConnectionFactory connectionFactory, TableManager tableManager, TimeService timeService,
+                               int purgeRate) {
+      this.connectionFactory = connectionFactory;
+      this.tableManager = tableManager;
+      this.timeService = timeService;
+      this.purgeRate = purgeRate;
+   }
+
+   /**
+    * Purges the rows with a timestamp between {@code lowerBound} and the current time, both exclusive.
+    */
+   public void purge(Executor executor, long lowerBound) {
+      long now = timeService.wallClockTime();
+      long[] range = selectTimestampRange(lowerBound, now);
+      if (range == null) {
+         if (trace) log.tracef("No expired rows in %s", tableManager.getTableName());
+         return;
+      }
+      long min = range[0];
+      long max = range[1];
+      int partitions = (int) Math.min(MAX_PARTITIONS, max - min + 1);
+      long span = (max - min) / partitions + 1;
+      AtomicLong nextBatchTime = new AtomicLong(timeService.time());
+      ExecutorAllCompletionService ecs = new ExecutorAllCompletionService(executor);
+      for (long from = min; from <= max; from += span) {
+         long partitionFrom = from;
+         long partitionTo = Math.min(from + span, max + 1);
+         ecs.submit(() -> {
+            purgePartition(partitionFrom, partitionTo, nextBatchTime);
+            return null;
+         });
+      }
+      ecs.waitUntilAllCompleted();
+      if (ecs.isExceptionThrown()) {
+         log.failedPurgingJdbcCacheStore(ecs.getFirstException().getCause());
+         throw new PersistenceException("Failed purging " + tableManager.getTableName(), ecs.getFirstException());
+      }
+   }
+
+   /**
+    * @return the query selecting the rows to purge, with the timestamp range as parameters
+    */
+   protected abstract String getSelectRowsSql();
+
+   /**
+    * Reads the current row of the result set.
+    *
+    * @return the row, or {@code null} if it must be skipped
+    */
+   protected abstract T readRow(ResultSet rs) throws Exception;
+
+   /**
+    * Purges a batch of rows with a timestamp between {@code from}, inclusive, and {@code to}, exclusive.
+    */
+   protected abstract void purgeBatch(Connection conn, List<T> batch, long from, long to) throws Exception;
+
+   /**
+    * Releases the resources held by a batch of rows, whether it was purged or not.
+    */
+   protected void releaseBatch(List<T> batch) {
+   }
+
+   private long[] selectTimestampRange(long lowerBound, long now) {
+      Connection conn = null;
+      PreparedStatement ps = null;
+      ResultSet rs = null;
+      try {
+         conn = connectionFactory.getConnection();
+         ps = conn.prepareStatement(tableManager.getSelectTimestampRangeSql());
+         ps.setLong(1, lowerBound);
+         ps.setLong(2, now);
+         rs = ps.executeQuery();
+         if (!rs.next()) {
+            return null;
+         }
+         long min = rs.getLong(1);
+         return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+      } catch (SQLException e) {
+         log.failedPurgingJdbcCacheStore(e);
+         throw new PersistenceException("Failed purging " + tableManager.getTableName(), e);
+      } finally {
+         JdbcUtil.safeClose(rs);
+         JdbcUtil.safeClose(ps);
+         connectionFactory.releaseConnection(conn);
+      }
+   }
+
+   private void purgePartition(long from, long to, AtomicLong nextBatchTime) throws Exception {
+      if (trace) log.tracef("Purging rows of %s with timestamps in [%d, %d)", tableManager.getTableName(), from, to);
+      int batchSize = tableManager.getBatchSize();
+      List<T> batch = new ArrayList<>(batchSize);
+      Connection readConn = null;
+      Connection writeConn = null;
+      PreparedStatement ps = null;
+      ResultSet rs = null;
+      try {
+         readConn = connectionFactory.getConnection();
+         writeConn = connectionFactory.getConnection();
+         ps = readConn.prepareStatement(getSelectRowsSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+         ps.setLong(1, from);
+         ps.setLong(2, to);
+         ps.setFetchSize(tableManager.getFetchSize());
+         rs = ps.executeQuery();
+         while (rs.next()) {
+            T row = readRow(rs);
+            if (row != null) {
+               batch.add(row);
+               if (batch.size() == batchSize) {
+                  purgeAndRelease(writeConn, batch, from, to, nextBatchTime);
+               }
+            }
+         }
+         if (!batch.isEmpty()) {
+            purgeAndRelease(writeConn, batch, from, to, nextBatchTime);
+         }
+      } finally {
+         if (!batch.isEmpty()) {
+            releaseBatch(batch);
+         }
+         JdbcUtil.safeClose(rs);
+         JdbcUtil.safeClose(ps);
+         connectionFactory.releaseConnection(readConn);
+         connectionFactory.releaseConnection(writeConn);
+      }
+   }
+
+   private void purgeAndRelease(Connection conn, List<T> batch, long from, long to, AtomicLong nextBatchTime)
+         throws Exception {
+      int rows = batch.size();
+      try {
+         purgeBatch(conn, batch, from, to);
+      } finally {
+         releaseBatch(batch);
+         batch.clear();
+      }
+      throttle(rows, nextBatchTime);
+   }
+
+   /**
+    * Waits until the rows purged by all the partitions so far would have been purged at the configured rate.
+    */
+   private void throttle(int rows, AtomicLong nextBatchTime) throws InterruptedException {
+      if (purgeRate <= 0) {
+         return;
+      }
+      long cost = rows * TimeUnit.SECONDS.toNanos(1) / purgeRate;
+      long now = timeService.time();
+      long next;
+      long end;
+      do {
+         next = nextBatchTime.get();
+         end = Math.max(next, now) + cost;
+      } while (!nextBatchTime.compareAndSet(next, end));
+      long wait = end - timeService.time();
+      if (wait > 0) {
+         TimeUnit.NANOSECONDS.sleep(wait);
+      }
+   }
+}
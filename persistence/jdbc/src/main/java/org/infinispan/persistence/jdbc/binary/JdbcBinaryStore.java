@@ -10,18 +10,15 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.infinispan.commons.configuration.ConfiguredBy;
 import org.infinispan.commons.equivalence.Equivalence;
 import org.infinispan.commons.io.ByteBuffer;
-import org.infinispan.commons.marshall.StreamingMarshaller;
 import org.infinispan.executors.ExecutorAllCompletionService;
 import org.infinispan.filter.KeyFilter;
 import org.infinispan.marshall.core.MarshalledEntry;
@@ -29,6 +26,7 @@
 import org.infinispan.persistence.PersistenceUtil;
 import org.infinispan.persistence.TaskContextImpl;
 import org.infinispan.persistence.jdbc.JdbcUtil;
+import org.infinispan.persistence.jdbc.PartitionedPurger;
 import org.infinispan.persistence.jdbc.configuration.JdbcBinaryStoreConfiguration;
 import org.infinispan.persistence.jdbc.connectionfactory.ConnectionFactory;
 import org.infinispan.persistence.jdbc.connectionfactory.ManagedConnectionFactory;
@@ -65,8 +63,6 @@ public class JdbcBinaryStore implements AdvancedLoadWriteStore {
    private static final Log log = LogFactory.getLog(JdbcBinaryStore.class, Log.class);
    private static final boolean trace = log.isTraceEnabled();
 
-   private static final int BATCH_SIZE = 100; // TODO: make configurable
-
    private StripedLock locks;
 
    private JdbcBinaryStoreConfiguration configuration;
@@ -261,200 +257,97 @@ public int size() {
 
    @Override
    public void purge(Executor threadPool, PurgeListener task) {
-      Connection conn = null;
-      PreparedStatement ps = null;
-      ResultSet rs = null;
-      Collection<Bucket> expiredBuckets = new ArrayList<Bucket>(BATCH_SIZE);
-      ExecutorCompletionService ecs = new ExecutorCompletionService(threadPool);
-      BlockingQueue<Bucket> emptyBuckets = new LinkedBlockingQueue<Bucket>();
-      // We have to lock and unlock the buckets in the same thread - executor can execute
-      // the BucketPurger task in different thread. That's why we can't unlock the locks
-      // there but have to send them to this thread through this queue.
-      int tasksScheduled = 0;
-      int tasksCompleted = 0;
-      try {
-         String sql = tableManager.getSelectExpiredRowsSql();
-         conn = connectionFactory.getConnection();
-         ps = conn.prepareStatement(sql);
-         ps.setLong(1, ctx.getTimeService().wallClockTime());
-         rs = ps.executeQuery();
-         while (rs.next()) {
-            Integer bucketId = rs.getInt(2);
-            if (immediateLockForWriting(bucketId)) {
-               if (trace) {
-                  log.tracef("Adding bucket keyed %s for purging.", bucketId);
-               }
-               InputStream binaryStream = rs.getBinaryStream(1);
-               Bucket bucket = unmarshallBucket(binaryStream);
-               bucket.setBucketId(bucketId);
-               expiredBuckets.add(bucket);
-               if (expiredBuckets.size() == BATCH_SIZE) {
-                  ++tasksScheduled;
-                  ecs.submit(new BucketPurger(expiredBuckets, task, ctx.getMarshaller(), conn, emptyBuckets));
-                  expiredBuckets = new ArrayList<Bucket>(BATCH_SIZE);
-               }
-            } else {
-               if (trace) {
-                  log.tracef("Could not acquire write lock for %s, this won't be purged even though it has expired elements", bucketId);
-               }
-            }
-            // continuously unlock already purged buckets - we don't want to run out of memory by storing
-            // them in unlimited collection
-            tasksCompleted += unlockCompleted(ecs, false); // cannot throw InterruptedException
-         }
+      // buckets holding immortal entries with metadata have a negative timestamp, but they may hold expired entries too
+      new BucketPurger(task).purge(threadPool, Long.MIN_VALUE);
+   }
+
+   /**
+    * Removes the expired entries of the buckets, updating the bucket rows or deleting them if they become empty.
+    * The buckets are locked while they are purged, and the buckets that are already locked are skipped.
+    */
+   private class BucketPurger extends PartitionedPurger<Bucket> {
+      private final PurgeListener purgeListener;
 
-         if (!expiredBuckets.isEmpty()) {
-            ++tasksScheduled;
-            ecs.submit(new BucketPurger(expiredBuckets, task, ctx.getMarshaller(), conn, emptyBuckets));
+      BucketPurger(PurgeListener purgeListener) {
+         super(JdbcBinaryStore.this.connectionFactory, JdbcBinaryStore.this.tableManager, ctx.getTimeService(),
+               configuration.table().purgeRate());
+         this.purgeListener = purgeListener;
+      }
+
+      @Override
+      protected String getSelectRowsSql() {
+         return tableManager.getSelectRowsInTimestampRangeSql();
+      }
+
+      @Override
+      protected Bucket readRow(ResultSet rs) throws Exception {
+         Integer bucketId = rs.getInt(2);
+         if (!immediateLockForWriting(bucketId)) {
+            if (trace) {
+               log.tracef("Could not acquire write lock for %s, this won't be purged even though it has expired elements", bucketId);
+            }
+            return null;
          }
-         // wait until all tasks have completed
          try {
-            while (tasksCompleted < tasksScheduled) {
-               tasksCompleted += unlockCompleted(ecs, true);
-            }
-         } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new PersistenceException("Interrupted purging JdbcBinaryStore", e);
+            Bucket bucket = unmarshallBucket(rs.getBinaryStream(1));
+            bucket.setBucketId(bucketId);
+            return bucket;
+         } catch (Exception e) {
+            unlock(bucketId);
+            throw e;
          }
-         // when all tasks have completed, we may have up to BATCH_SIZE empty buckets waiting to be deleted
+      }
+
+      @Override
+      protected void purgeBatch(Connection conn, List<Bucket> batch, long from, long to) throws Exception {
+         List<Object> purgedKeys = new ArrayList<>();
+         PreparedStatement updatePs = null;
          PreparedStatement deletePs = null;
          try {
+            updatePs = conn.prepareStatement(tableManager.getUpdateRowSql());
             deletePs = conn.prepareStatement(tableManager.getDeleteRowSql());
-            Bucket bucket;
-            while ((bucket = emptyBuckets.poll()) != null) {
-               deletePs.setString(1, bucket.getBucketIdAsString());
-               deletePs.addBatch();
-               unlock(bucket.getBucketId());
+            boolean updates = false;
+            boolean deletes = false;
+            for (Bucket bucket : batch) {
+               if (trace) {
+                  log.tracef("Purging bucket %s with entries %s", bucket.getBucketId(), bucket.getStoredEntries());
+               }
+               purgedKeys.addAll(bucket.removeExpiredEntries(ctx.getTimeService()));
+               if (!bucket.isEmpty()) {
+                  ByteBuffer byteBuffer = JdbcUtil.marshall(ctx.getMarshaller(), bucket.getStoredEntries());
+                  updatePs.setBinaryStream(1, new ByteArrayInputStream(byteBuffer.getBuf(), byteBuffer.getOffset(), byteBuffer.getLength()), byteBuffer.getLength());
+                  updatePs.setLong(2, bucket.timestampOfFirstEntryToExpire());
+                  updatePs.setString(3, bucket.getBucketIdAsString());
+                  updatePs.addBatch();
+                  updates = true;
+               } else {
+                  deletePs.setString(1, bucket.getBucketIdAsString());
+                  deletePs.addBatch();
+                  deletes = true;
+               }
             }
-            log.tracef("Flushing deletion batch");
-            deletePs.executeBatch();
-            log.tracef("Flushed deletion batch");
-         } catch (Exception ex) {
-            // if something happens make sure buckets locks are being release
-            log.failedClearingJdbcCacheStore(ex);
-         } finally {
-            JdbcUtil.safeClose(deletePs);
-         }
-
-      } catch (Exception ex) {
-         // if something happens make sure buckets locks are released
-         log.failedClearingJdbcCacheStore(ex);
-         throw new PersistenceException("Failed clearing JdbcBinaryStore", ex);
-      } finally {
-         JdbcUtil.safeClose(ps);
-         JdbcUtil.safeClose(rs);
-
-         try {
-            while (tasksCompleted < tasksScheduled) {
-               tasksCompleted += unlockCompleted(ecs, true);
+            if (updates) {
+               updatePs.executeBatch();
+            }
+            if (deletes) {
+               deletePs.executeBatch();
             }
-         } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new PersistenceException("Interrupted purging JdbcBinaryStore", e);
          } finally {
-            connectionFactory.releaseConnection(conn);
+            JdbcUtil.safeClose(updatePs);
+            JdbcUtil.safeClose(deletePs);
          }
-      }
-   }
-
-   private int unlockCompleted(ExecutorCompletionService ecs, boolean blocking) throws InterruptedException {
-      Future<Collection<Integer>> future;
-      int tasksCompleted = 0;
-      while ((future = blocking ? ecs.take() : ecs.poll()) != null) {
-         tasksCompleted++;
-         try {
-            Collection<Integer> completed = future.get();
-            for (Integer bucketId : completed) {
-               unlock(bucketId);
+         if (purgeListener != null) {
+            for (Object key : purgedKeys) {
+               purgeListener.entryPurged(key);
             }
-         } catch (InterruptedException e) {
-            log.errorExecutingParallelStoreTask(e);
-            Thread.currentThread().interrupt();
-         } catch (ExecutionException e) {
-            log.errorExecutingParallelStoreTask(e);
          }
-         if (blocking) break;
-      }
-      return tasksCompleted;
-   }
-
-   private class BucketPurger implements Callable<Collection<Integer>> {
-
-      private final Collection<Bucket> buckets;
-      private final PurgeListener purgeListener;
-      private final StreamingMarshaller marshaller;
-      private final Connection conn;
-      private final BlockingQueue<Bucket> emptyBuckets;
-
-      private BucketPurger(Collection<Bucket> buckets, PurgeListener purgeListener, StreamingMarshaller marshaller,
-                           Connection conn, BlockingQueue<Bucket> emptyBuckets) {
-         this.buckets = buckets;
-         this.purgeListener = purgeListener;
-         this.marshaller = marshaller;
-         this.conn = conn;
-         this.emptyBuckets = emptyBuckets;
       }
 
       @Override
-      public Collection<Integer> call() throws Exception {
-         log.trace("Purger task started");
-         List<Integer> purgedBuckets = new ArrayList(buckets.size());
-         {
-            PreparedStatement ps = null;
-            try {
-               String sql = tableManager.getUpdateRowSql();
-               ps = conn.prepareStatement(sql);
-               for (Bucket bucket : buckets) {
-                  log.trace("Purging bucket " + bucket.getBucketId() + " with entries " + bucket.getStoredEntries());
-                  for (Object key : bucket.removeExpiredEntries(ctx.getTimeService())) {
-                     if (purgeListener != null) purgeListener.entryPurged(key);
-                  }
-                  if (!bucket.isEmpty()) {
-                     ByteBuffer byteBuffer = JdbcUtil.marshall(marshaller, bucket.getStoredEntries());
-                     ps.setBinaryStream(1, new ByteArrayInputStream(byteBuffer.getBuf(), byteBuffer.getOffset(), byteBuffer.getLength()), byteBuffer.getLength());
-                     ps.setLong(2, bucket.timestampOfFirstEntryToExpire());
-                     ps.setString(3, bucket.getBucketIdAsString());
-                     ps.addBatch();
-                     purgedBuckets.add(bucket.getBucketId());
-                  } else {
-                     emptyBuckets.add(bucket);
-                  }
-               }
-               log.trace("Flushing update batch");
-               ps.executeBatch();
-               log.trace("Flushed update batch");
-            } catch (Exception ex) {
-               log.failedClearingJdbcCacheStore(ex);
-            } finally {
-               JdbcUtil.safeClose(ps);
-            }
-         }
-         // It is possible that the queue will be drained by multiple threads in parallel,
-         // but this is just a bit suboptimal: we won't optimize this case
-         if (emptyBuckets.size() > BATCH_SIZE) {
-            PreparedStatement ps = null;
-            try {
-               String sql = tableManager.getDeleteRowSql();
-               ps = conn.prepareStatement(sql);
-               int deletionCount = 0;
-               Bucket bucket;
-               while (deletionCount < BATCH_SIZE && (bucket = emptyBuckets.poll()) != null) {
-                  ps.setString(1, bucket.getBucketIdAsString());
-                  ps.addBatch();
-                  deletionCount++;
-                  purgedBuckets.add(bucket.getBucketId());
-               }
-               log.tracef("Flushing deletion batch");
-               ps.executeBatch();
-               log.tracef("Flushed deletion batch");
-            } catch (Exception ex) {
-               // if something happens make sure buckets locks are being release
-               log.failedClearingJdbcCacheStore(ex);
-            } finally {
-               JdbcUtil.safeClose(ps);
-            }
+      protected void releaseBatch(List<Bucket> batch) {
+         for (Bucket bucket : batch) {
+            unlock(bucket.getBucketId());
          }
-         return purgedBuckets;
       }
    }
 
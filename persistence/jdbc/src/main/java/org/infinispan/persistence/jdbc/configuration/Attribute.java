@@ -28,6 +28,7 @@ public enum Attribute {
    PASSIVATION("passivation"),
    PASSWORD("password"),
    PREFIX("prefix"),
+   PURGE_RATE("purge-rate"),
    TYPE("type"),
    USERNAME("username")
    ;
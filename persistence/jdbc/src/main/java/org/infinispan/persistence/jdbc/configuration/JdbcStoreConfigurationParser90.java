@@ -302,6 +302,10 @@ private void parseTable(XMLExtendedStreamReader reader, TableManipulationConfigu
                builder.tableNamePrefix(value);
                break;
             }
+            case PURGE_RATE: {
+               builder.purgeRate(Integer.parseInt(value));
+               break;
+            }
             default: {
                throw ParseUtils.unexpectedAttribute(reader, i);
             }
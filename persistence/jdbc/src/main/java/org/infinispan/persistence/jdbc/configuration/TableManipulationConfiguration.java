@@ -16,12 +16,13 @@ public class TableManipulationConfiguration {
    static final AttributeDefinition<String> TIMESTAMP_COLUMN_TYPE = AttributeDefinition.builder("timestampColumnType", null, String.class).immutable().build();
    static final AttributeDefinition<Integer> BATCH_SIZE = AttributeDefinition.builder("batchSize", TableManager.DEFAULT_BATCH_SIZE).immutable().build();
    static final AttributeDefinition<Integer> FETCH_SIZE = AttributeDefinition.builder("fetchSize", TableManager.DEFAULT_FETCH_SIZE).immutable().build();
+   static final AttributeDefinition<Integer> PURGE_RATE = AttributeDefinition.builder("purgeRate", 0).immutable().build();
    static final AttributeDefinition<Boolean> CREATE_ON_START = AttributeDefinition.builder("createOnStart", true).immutable().build();
    static final AttributeDefinition<Boolean> DROP_ON_EXIT = AttributeDefinition.builder("dropOnExit", false).immutable().build();
 
    static AttributeSet attributeSet() {
       return new AttributeSet(TableManipulationConfiguration.class, ID_COLUMN_NAME, ID_COLUMN_TYPE, TABLE_NAME_PREFIX, CACHE_NAME, DATA_COLUMN_NAME, DATA_COLUMN_TYPE,
-                              TIMESTAMP_COLUMN_NAME, TIMESTAMP_COLUMN_TYPE, BATCH_SIZE, FETCH_SIZE, CREATE_ON_START, DROP_ON_EXIT);
+                              TIMESTAMP_COLUMN_NAME, TIMESTAMP_COLUMN_TYPE, BATCH_SIZE, FETCH_SIZE, PURGE_RATE, CREATE_ON_START, DROP_ON_EXIT);
    }
 
    private final Attribute<String> idColumnName;
@@ -34,6 +35,7 @@ static AttributeSet attributeSet() {
    private final Attribute<String> timestampColumnType;
    private final Attribute<Integer> batchSize;
    private final Attribute<Integer> fetchSize;
+   private final Attribute<Integer> purgeRate;
    private final Attribute<Boolean> createOnStart;
    private final Attribute<Boolean> dropOnExit;
    private final AttributeSet attributes;
@@ -50,6 +52,7 @@ static AttributeSet attributeSet() {
       timestampColumnType = attributes.attribute(TIMESTAMP_COLUMN_TYPE);
       batchSize = attributes.attribute(BATCH_SIZE);
       fetchSize = attributes.attribute(FETCH_SIZE);
+      purgeRate = attributes.attribute(PURGE_RATE);
       createOnStart = attributes.attribute(CREATE_ON_START);
       dropOnExit = attributes.attribute(DROP_ON_EXIT);
    }
@@ -105,6 +108,13 @@ public int batchSize() {
       return batchSize.get();
    }
 
+   /**
+    * @return the maximum number of expired rows purged per second, or 0 if unlimited
+    */
+   public int purgeRate() {
+      return purgeRate.get();
+   }
+
    AttributeSet attributes() {
       return attributes;
    }
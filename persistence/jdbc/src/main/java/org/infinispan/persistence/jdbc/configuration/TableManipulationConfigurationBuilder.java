@@ -44,6 +44,15 @@ public S fetchSize(int fetchSize) {
       return self();
    }
 
+   /**
+    * The maximum number of expired rows removed from the table per second when purging, so that purging doesn't
+    * compete with the other operations for the database. Defaults to 0, i.e. unlimited.
+    */
+   public S purgeRate(int purgeRate) {
+      attributes.attribute(PURGE_RATE).set(purgeRate);
+      return self();
+   }
+
    /**
     * Sets the prefix for the name of the table where the data will be stored. "_<cache name>" will
     * be appended to this prefix in order to enforce unique table names for each cache.
@@ -124,6 +133,9 @@ public S timestampColumnType(String timestampColumnType) {
    @Override
    public void validate() {
       validateIfSet(ID_COLUMN_NAME, ID_COLUMN_TYPE, DATA_COLUMN_NAME, DATA_COLUMN_TYPE, TIMESTAMP_COLUMN_NAME, TIMESTAMP_COLUMN_TYPE, TABLE_NAME_PREFIX);
+      if (attributes.attribute(PURGE_RATE).get() < 0) {
+         throw log.invalidPurgeRate(attributes.attribute(PURGE_RATE).get());
+      }
    }
 
    private void validateIfSet(AttributeDefinition<?>... definitions) {
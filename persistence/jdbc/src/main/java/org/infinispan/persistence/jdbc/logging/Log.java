@@ -144,4 +144,11 @@ public interface Log extends org.infinispan.util.logging.Log {
 
    @Message(value = "Cannot specify a ConnectionFactory and manageConnectionFactory at the same time", id = 8030)
    CacheConfigurationException unmanagedConnectionFactory();
+
+   @Message(value = "The purge rate must not be negative, but was %d", id = 8031)
+   CacheConfigurationException invalidPurgeRate(int purgeRate);
+
+   @LogMessage(level = ERROR)
+   @Message(value = "Failed purging expired entries from the store", id = 8032)
+   void failedPurgingJdbcCacheStore(@Cause Throwable e);
 }
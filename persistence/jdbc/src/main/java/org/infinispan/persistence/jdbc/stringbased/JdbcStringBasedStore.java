@@ -8,6 +8,13 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
@@ -22,6 +29,7 @@
 import org.infinispan.marshall.core.MarshalledEntry;
 import org.infinispan.persistence.TaskContextImpl;
 import org.infinispan.persistence.jdbc.JdbcUtil;
+import org.infinispan.persistence.jdbc.PartitionedPurger;
 import org.infinispan.persistence.jdbc.configuration.JdbcStringBasedStoreConfiguration;
 import org.infinispan.persistence.jdbc.connectionfactory.ConnectionFactory;
 import org.infinispan.persistence.jdbc.connectionfactory.ManagedConnectionFactory;
@@ -215,6 +223,119 @@ private void executeLegacyUpdate(Connection connection, MarshalledEntry entry, S
       }
    }
 
+   @Override
+   public void writeBatch(Iterable entries) {
+      // a key could be written more than once in the same batch, only the last value must be stored
+      Map<String, MarshalledEntry> batch = new LinkedHashMap<>();
+      for (Object entry : entries) {
+         MarshalledEntry me = (MarshalledEntry) entry;
+         batch.put(key2Str(me.getKey()), me);
+      }
+      if (batch.isEmpty())
+         return;
+
+      Connection connection = null;
+      try {
+         connection = connectionFactory.getConnection();
+         if (tableManager.isUpsertSupported()) {
+            executeBatchUpsert(connection, batch);
+         } else {
+            executeLegacyBatchUpdate(connection, batch);
+         }
+      } catch (SQLException ex) {
+         log.sqlFailureStoringKeys(ex);
+         throw new PersistenceException("Error while storing string keys to database", ex);
+      } catch (InterruptedException e) {
+         if (trace) {
+            log.trace("Interrupted while marshalling to store");
+         }
+         Thread.currentThread().interrupt();
+      } finally {
+         connectionFactory.releaseConnection(connection);
+      }
+   }
+
+   private void executeBatchUpsert(Connection connection, Map<String, MarshalledEntry> batch)
+         throws InterruptedException, SQLException {
+      String sql = tableManager.getUpsertRowSql();
+      if (trace) {
+         log.tracef("Running sql '%s' for %d keys", sql, batch.size());
+      }
+      PreparedStatement ps = null;
+      try {
+         ps = connection.prepareStatement(sql);
+         addBatchUpdates(ps, batch);
+      } finally {
+         JdbcUtil.safeClose(ps);
+      }
+   }
+
+   /**
+    * Without an upsert statement the rows are replaced by deleting all the keys and inserting them again, within a
+    * single local transaction so that concurrent readers never miss an entry which existed before the batch.
+    */
+   private void executeLegacyBatchUpdate(Connection connection, Map<String, MarshalledEntry> batch)
+         throws InterruptedException, SQLException {
+      boolean autoCommit = connection.getAutoCommit();
+      PreparedStatement deletePs = null;
+      PreparedStatement insertPs = null;
+      boolean committed = false;
+      try {
+         connection.setAutoCommit(false);
+         String deleteSql = tableManager.getDeleteRowSql();
+         String insertSql = tableManager.getInsertRowSql();
+         if (trace) {
+            log.tracef("Running sql '%s' and '%s' for %d keys", deleteSql, insertSql, batch.size());
+         }
+         deletePs = connection.prepareStatement(deleteSql);
+         addBatchDeletes(deletePs, batch.keySet());
+         insertPs = connection.prepareStatement(insertSql);
+         addBatchUpdates(insertPs, batch);
+         connection.commit();
+         committed = true;
+      } finally {
+         JdbcUtil.safeClose(deletePs);
+         JdbcUtil.safeClose(insertPs);
+         try {
+            if (!committed)
+               connection.rollback();
+         } finally {
+            connection.setAutoCommit(autoCommit);
+         }
+      }
+   }
+
+   private void addBatchUpdates(PreparedStatement ps, Map<String, MarshalledEntry> batch)
+         throws InterruptedException, SQLException {
+      int batchSize = tableManager.getBatchSize();
+      int count = 0;
+      for (Map.Entry<String, MarshalledEntry> e : batch.entrySet()) {
+         prepareUpdateStatement(e.getValue(), e.getKey(), ps);
+         ps.addBatch();
+         if (++count % batchSize == 0) {
+            ps.executeBatch();
+         }
+      }
+      if (count % batchSize != 0) {
+         ps.executeBatch();
+      }
+   }
+
+   private void addBatchDeletes(PreparedStatement ps, Collection<String> keys) throws SQLException {
+      int batchSize = tableManager.getBatchSize();
+      int count = 0;
+      for (String keyStr : keys) {
+         ps.setString(1, keyStr);
+         ps.addBatch();
+         if (++count % batchSize == 0) {
+            ps.executeBatch();
+         }
+      }
+      if (count % batchSize != 0) {
+         ps.executeBatch();
+      }
+   }
+
    @Override
    public MarshalledEntry load(Object key) {
       String lockingKey = key2Str(key);
@@ -273,6 +394,34 @@ public boolean delete(Object key) {
       }
    }
 
+   @Override
+   public void deleteBatch(Iterable keys) {
+      Set<String> keyStrs = new LinkedHashSet<>();
+      for (Object key : keys) {
+         keyStrs.add(key2Str(key));
+      }
+      if (keyStrs.isEmpty())
+         return;
+
+      Connection connection = null;
+      PreparedStatement ps = null;
+      try {
+         String sql = tableManager.getDeleteRowSql();
+         if (trace) {
+            log.tracef("Running sql '%s' for %d keys", sql, keyStrs.size());
+         }
+         connection = connectionFactory.getConnection();
+         ps = connection.prepareStatement(sql);
+         addBatchDeletes(ps, keyStrs);
+      } catch (SQLException ex) {
+         log.sqlFailureRemovingKeys(ex);
+         throw new PersistenceException("Error while removing string keys from database", ex);
+      } finally {
+         JdbcUtil.safeClose(ps);
+         connectionFactory.releaseConnection(connection);
+      }
+   }
+
    @Override
    public void clear() throws PersistenceException {
       Connection conn = null;
@@ -296,39 +445,57 @@ public void clear() throws PersistenceException {
 
    @Override
    public void purge(Executor executor, PurgeListener task) {
-      //todo we should make the notification to the purge listener here
-      ExecutorCompletionService<Void> ecs = new ExecutorCompletionService<Void>(executor);
-      Future<Void> future = ecs.submit(new Callable<Void>() {
-         @Override
-         public Void call() throws Exception {
-            Connection conn = null;
-            PreparedStatement ps = null;
-            try {
-               String sql = tableManager.getDeleteExpiredRowsSql();
-               conn = connectionFactory.getConnection();
-               ps = conn.prepareStatement(sql);
-               ps.setLong(1, ctx.getTimeService().wallClockTime());
-               int result = ps.executeUpdate();
-               if (trace) {
-                  log.tracef("Successfully purged %d rows.", result);
+      // immortal entries have a negative timestamp
+      new StringPurger(task).purge(executor, 0);
+   }
+
+   /**
+    * Deletes the expired rows by id, so the purge listener is notified of the keys that were actually deleted.
+    */
+   private class StringPurger extends PartitionedPurger<String> {
+      private final PurgeListener purgeListener;
+
+      StringPurger(PurgeListener purgeListener) {
+         super(JdbcStringBasedStore.this.connectionFactory, JdbcStringBasedStore.this.tableManager, ctx.getTimeService(),
+               configuration.table().purgeRate());
+         this.purgeListener = purgeListener;
+      }
+
+      @Override
+      protected String getSelectRowsSql() {
+         return tableManager.getSelectIdsInTimestampRangeSql();
+      }
+
+      @Override
+      protected String readRow(ResultSet rs) throws SQLException {
+         return rs.getString(1);
+      }
+
+      @Override
+      protected void purgeBatch(Connection conn, List<String> batch, long from, long to) throws SQLException {
+         PreparedStatement ps = null;
+         try {
+            ps = conn.prepareStatement(tableManager.getDeleteRowInTimestampRangeSql());
+            for (String keyStr : batch) {
+               ps.setString(1, keyStr);
+               ps.setLong(2, from);
+               ps.setLong(3, to);
+               ps.addBatch();
+            }
+            int[] results = ps.executeBatch();
+            if (trace) {
+               log.tracef("Purged a batch of %d rows.", batch.size());
+            }
+            if (purgeListener != null && key2StringMapper instanceof TwoWayKey2StringMapper) {
+               for (int i = 0; i < results.length; i++) {
+                  if (results[i] > 0 || results[i] == Statement.SUCCESS_NO_INFO) {
+                     purgeListener.entryPurged(((TwoWayKey2StringMapper) key2StringMapper).getKeyMapping(batch.get(i)));
+                  }
                }
-            } catch (SQLException ex) {
-               log.failedClearingJdbcCacheStore(ex);
-               throw new PersistenceException("Failed clearing string based JDBC store", ex);
-            } finally {
-               JdbcUtil.safeClose(ps);
-               connectionFactory.releaseConnection(conn);
             }
-            return null;
+         } finally {
+            JdbcUtil.safeClose(ps);
          }
-      });
-      try {
-         future.get();
-      } catch (InterruptedException e) {
-         Thread.currentThread().interrupt();
-      } catch (ExecutionException e) {
-         log.errorExecutingParallelStoreTask(e);
-         throw new PersistenceException(e);
       }
    }
 
@@ -39,6 +39,10 @@ public abstract class AbstractTableManager implements TableManager {
    protected String deleteAllRows;
    protected String selectExpiredRowsSql;
    protected String deleteExpiredRowsSql;
+   protected String selectTimestampRangeSql;
+   protected String selectRowsInTimestampRangeSql;
+   protected String selectIdsInTimestampRangeSql;
+   protected String deleteRowInTimestampRangeSql;
 
    AbstractTableManager(ConnectionFactory connectionFactory, TableManipulationConfiguration config, DbMetaData metaData, Log log) {
       this.connectionFactory = connectionFactory;
@@ -259,6 +263,42 @@ public String getDeleteExpiredRowsSql() {
       return deleteExpiredRowsSql;
    }
 
+   @Override
+   public String getSelectTimestampRangeSql() {
+      if (selectTimestampRangeSql == null) {
+         selectTimestampRangeSql = String.format("SELECT MIN(%1$s), MAX(%1$s) FROM %2$s WHERE %1$s > ? AND %1$s < ?",
+                                                 config.timestampColumnName(), getTableName());
+      }
+      return selectTimestampRangeSql;
+   }
+
+   @Override
+   public String getSelectRowsInTimestampRangeSql() {
+      if (selectRowsInTimestampRangeSql == null) {
+         selectRowsInTimestampRangeSql = String.format("%1$s WHERE %2$s >= ? AND %2$s < ?", getLoadAllRowsSql(),
+                                                       config.timestampColumnName());
+      }
+      return selectRowsInTimestampRangeSql;
+   }
+
+   @Override
+   public String getSelectIdsInTimestampRangeSql() {
+      if (selectIdsInTimestampRangeSql == null) {
+         selectIdsInTimestampRangeSql = String.format("SELECT %1$s FROM %2$s WHERE %3$s >= ? AND %3$s < ?",
+                                                      config.idColumnName(), getTableName(), config.timestampColumnName());
+      }
+      return selectIdsInTimestampRangeSql;
+   }
+
+   @Override
+   public String getDeleteRowInTimestampRangeSql() {
+      if (deleteRowInTimestampRangeSql == null) {
+         deleteRowInTimestampRangeSql = String.format("DELETE FROM %1$s WHERE %2$s = ? AND %3$s >= ? AND %3$s < ?",
+                                                      getTableName(), config.idColumnName(), config.timestampColumnName());
+      }
+      return deleteRowInTimestampRangeSql;
+   }
+
    @Override
    public String getUpsertRowSql() {
       if (upsertRowSql == null) {
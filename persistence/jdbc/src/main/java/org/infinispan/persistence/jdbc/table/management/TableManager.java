@@ -58,4 +58,24 @@ public interface TableManager {
    String getSelectExpiredRowsSql();
 
    String getDeleteExpiredRowsSql();
+
+   /**
+    * @return a query selecting the lowest and highest timestamps between two exclusive bounds
+    */
+   String getSelectTimestampRangeSql();
+
+   /**
+    * @return a query selecting the data and id of the rows with a timestamp in a range, lower bound inclusive
+    */
+   String getSelectRowsInTimestampRangeSql();
+
+   /**
+    * @return a query selecting the id of the rows with a timestamp in a range, lower bound inclusive
+    */
+   String getSelectIdsInTimestampRangeSql();
+
+   /**
+    * @return a statement deleting a row if its timestamp is still in a range, lower bound inclusive
+    */
+   String getDeleteRowInTimestampRangeSql();
 }
\ No newline at end of file
@@ -9,6 +9,7 @@
 import org.infinispan.persistence.spi.AdvancedLoadWriteStore;
 import org.infinispan.metadata.Metadata;
 import org.infinispan.metadata.impl.InternalMetadataImpl;
+import org.infinispan.test.TestingUtil;
 import org.infinispan.test.fwk.TestCacheManagerFactory;
 import org.infinispan.test.fwk.UnitTestDatabaseManager;
 import org.infinispan.util.concurrent.WithinThreadExecutor;
@@ -103,6 +104,29 @@ public void testPurgeExpiredAllCodepaths() throws Exception {
       UnitTestDatabaseManager.verifyConnectionLeaks(((JdbcBinaryStore) cl).getConnectionFactory());
    }
 
+   public void testPurgeExpiredInBatches() throws Exception {
+      // expire more buckets than fit in a batch, with different timestamps so that they are split in partitions
+      String[] expiredKeys = new String[TableManager.DEFAULT_BATCH_SIZE * 3];
+      for (int i = 0; i < expiredKeys.length; i++) {
+         expiredKeys[i] = "exp k" + i;
+         cl.write(marshalledEntry(new FixedHashKey(i, expiredKeys[i]), "value", expiringMetadata(i)));
+         cl.write(marshalledEntry(new FixedHashKey(i, "non-exp k" + i), "value", null));
+      }
+      timeService.advance(1000 + expiredKeys.length);
+      cl.purge(new WithinThreadExecutor(), null);
+      for (int i = 0; i < expiredKeys.length; i++) {
+         assertContains(new FixedHashKey(i, "non-exp k" + i), true);
+         assertContains(new FixedHashKey(i, expiredKeys[i]), false);
+      }
+      assertEquals(expiredKeys.length, cl.size());
+      UnitTestDatabaseManager.verifyConnectionLeaks(((JdbcBinaryStore) cl).getConnectionFactory());
+   }
+
+   private InternalMetadataImpl expiringMetadata(int i) {
+      Metadata metadata = TestingUtil.metadata(1000 + i, null);
+      return new InternalMetadataImpl(metadata, timeService.wallClockTime(), timeService.wallClockTime());
+   }
+
 
    public void testCacheSize() {
       long lifespan = 3000;
@@ -144,6 +144,23 @@ public void testMixedKeyedJdbcStore() throws Exception {
       assertEquals("DummyKey2StringMapper", store.key2StringMapper());
    }
 
+   public void testPurgeRate() throws Exception {
+      String config = TestingUtil.INFINISPAN_START_TAG_NO_SCHEMA +
+            "   <cache-container default-cache=\"default\">\n" +
+            "      <local-cache name=\"default\">\n" +
+            "     <persistence>\n" +
+            "       <string-keyed-jdbc-store xmlns=\"urn:infinispan:config:store:jdbc:9.0\" dialect=\"H2\">\n" +
+            "         <data-source jndi-url=\"java:MyDataSource\" />\n" +
+            "         <string-keyed-table prefix=\"entry\" purge-rate=\"1000\" />\n" +
+            "       </string-keyed-jdbc-store>\n" +
+            "     </persistence>\n" +
+            "   </local-cache></cache-container>\n" +
+            TestingUtil.INFINISPAN_END_TAG;
+
+      JdbcStringBasedStoreConfiguration store = (JdbcStringBasedStoreConfiguration) buildCacheManagerWithCacheStore(config);
+      assertEquals(1000, store.table().purgeRate());
+   }
+
    private StoreConfiguration buildCacheManagerWithCacheStore(final String config) throws IOException {
       InputStream is = new ByteArrayInputStream(config.getBytes());
       cacheManager = TestCacheManagerFactory.fromStream(is);
@@ -26,9 +26,4 @@ protected AdvancedLoadWriteStore createStore() throws Exception {
       jdbcMixed.init(createContext(builder.build()));
       return jdbcMixed;
    }
-
-   @Override
-   protected boolean storePurgesAllExpired() {
-      return false;
-   }
 }
@@ -69,9 +69,4 @@ public void call() {
    public String getDatasourceLocation() {
       return "java:/MixedStoreWithManagedConnectionTest/DS";
    }
-
-   @Override
-   protected boolean storePurgesAllExpired() {
-      return false;
-   }
 }
@@ -15,6 +15,7 @@
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNull;
 
 /**
@@ -78,9 +79,20 @@ public void testLoadAndStoreMarshalledValues() throws PersistenceException {
       super.testLoadAndStoreMarshalledValues();
    }
 
-   @Override
-   protected boolean storePurgesAllExpired() {
-      // expiration listener is not called for the entries
-      return false;
+   public void testPurgeExpiredInBatches() throws Exception {
+      // expire more rows than fit in a batch, with different timestamps so that they are split in partitions
+      String[] expiredKeys = new String[TableManager.DEFAULT_BATCH_SIZE * 3];
+      for (int i = 0; i < expiredKeys.length; i++) {
+         expiredKeys[i] = "k" + i;
+         cl.write(marshalledEntry(internalCacheEntry(expiredKeys[i], "v" + i, 1000 + i)));
+      }
+      cl.write(marshalledEntry("immortal", "v", null));
+      cl.write(marshalledEntry(internalCacheEntry("mortal", "v", 1000000)));
+      timeService.advance(1000 + expiredKeys.length);
+      purgeExpired(expiredKeys);
+      assertContains("immortal", true);
+      assertContains("mortal", true);
+      assertEquals(2, cl.size());
+      UnitTestDatabaseManager.verifyConnectionLeaks(((JdbcStringBasedStore) cl).getConnectionFactory());
    }
 }
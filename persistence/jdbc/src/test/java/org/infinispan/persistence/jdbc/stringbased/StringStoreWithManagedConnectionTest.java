@@ -70,9 +70,4 @@ public String getDatasourceLocation() {
    public void testLoadAndStoreMarshalledValues() throws PersistenceException {
       super.testLoadAndStoreMarshalledValues();
    }
-
-   @Override
-   protected boolean storePurgesAllExpired() {
-      return false;
-   }
 }
@@ -13,6 +13,7 @@
 import org.infinispan.commons.configuration.ConfiguredBy;
 import org.infinispan.commons.marshall.Marshaller;
 import org.infinispan.commons.marshall.jboss.GenericJBossMarshaller;
+import org.infinispan.commons.util.CloseableIterator;
 import org.infinispan.commons.util.Util;
 import org.infinispan.container.InternalEntryFactory;
 import org.infinispan.container.versioning.NumericVersion;
@@ -33,6 +34,7 @@
 import org.infinispan.metadata.impl.InternalMetadataImpl;
 import org.infinispan.util.logging.LogFactory;
 
+import java.util.Map.Entry;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
@@ -66,6 +68,8 @@ public class RemoteStore implements AdvancedLoadWriteStore {
    private InternalEntryFactory iceFactory;
    private static final String LIFESPAN = "lifespan";
    private static final String MAXIDLE = "maxidle";
+   private static final int ITERATION_BATCH_SIZE = 1000;
+   private volatile boolean supportsIteration;
    protected InitializationContext ctx;
 
    @Override
@@ -88,6 +92,8 @@ public void start() throws PersistenceException {
       }
       ConfigurationBuilder builder = buildRemoteConfiguration(configuration, marshaller);
       remoteCacheManager = new RemoteCacheManager(builder.build());
+      supportsIteration = remoteCacheManager.getConfiguration().protocolVersion()
+            .compareTo(ConfigurationProperties.PROTOCOL_VERSION_23) >= 0;
 
       if (configuration.remoteCacheName().equals(BasicCacheContainer.DEFAULT_CACHE_NAME))
          remoteCache = remoteCacheManager.getCache();
@@ -107,23 +113,23 @@ public void stop() throws PersistenceException {
    public MarshalledEntry load(Object key) throws PersistenceException {
       if (configuration.rawValues()) {
          MetadataValue<?> value = remoteCache.getWithMetadata(key);
-         if (value != null) {
-            Metadata metadata = new EmbeddedMetadata.Builder()
-                  .version(new NumericVersion(value.getVersion()))
-                  .lifespan(value.getLifespan(), TimeUnit.SECONDS)
-                  .maxIdle(value.getMaxIdle(), TimeUnit.SECONDS).build();
-            long created = value.getCreated();
-            long lastUsed = value.getLastUsed();
-            return ctx.getMarshalledEntryFactory().newMarshalledEntry(key, value.getValue(),
-                                    new InternalMetadataImpl(metadata, created, lastUsed));
-         } else {
-            return null;
-         }
+         return value != null ? toMarshalledEntry(key, value) : null;
       } else {
          return (MarshalledEntry) remoteCache.get(key);
       }
    }
 
+   private MarshalledEntry toMarshalledEntry(Object key, MetadataValue<?> value) {
+      Metadata metadata = new EmbeddedMetadata.Builder()
+            .version(new NumericVersion(value.getVersion()))
+            .lifespan(value.getLifespan(), TimeUnit.SECONDS)
+            .maxIdle(value.getMaxIdle(), TimeUnit.SECONDS).build();
+      long created = value.getCreated();
+      long lastUsed = value.getLastUsed();
+      return ctx.getMarshalledEntryFactory().newMarshalledEntry(key, value.getValue(),
+                              new InternalMetadataImpl(metadata, created, lastUsed));
+   }
+
    @Override
    public boolean contains(Object key) throws PersistenceException {
       return remoteCache.containsKey(key);
@@ -132,18 +138,45 @@ public boolean contains(Object key) throws PersistenceException {
    @Override
    public void process(KeyFilter filter, CacheLoaderTask task, Executor executor, boolean fetchValue, boolean fetchMetadata) {
       TaskContextImpl taskContext = new TaskContextImpl();
+      try {
+         if (!supportsIteration) {
+            processByKey(filter, task, taskContext);
+         } else if (configuration.rawValues()) {
+            try (CloseableIterator<Entry<Object, MetadataValue<Object>>> it =
+                       remoteCache.retrieveEntriesWithMetadata(null, ITERATION_BATCH_SIZE)) {
+               while (it.hasNext() && !taskContext.isStopped()) {
+                  Entry<Object, MetadataValue<Object>> entry = it.next();
+                  if (filter == null || filter.accept(entry.getKey())) {
+                     task.processEntry(toMarshalledEntry(entry.getKey(), entry.getValue()), taskContext);
+                  }
+               }
+            }
+         } else {
+            try (CloseableIterator<Entry<Object, Object>> it = remoteCache.retrieveEntries(null, ITERATION_BATCH_SIZE)) {
+               while (it.hasNext() && !taskContext.isStopped()) {
+                  Entry<Object, Object> entry = it.next();
+                  if (filter == null || filter.accept(entry.getKey())) {
+                     task.processEntry((MarshalledEntry) entry.getValue(), taskContext);
+                  }
+               }
+            }
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   /**
+    * Servers older than protocol 2.3 can't iterate over their entries, so every key is loaded with its own request.
+    */
+   private void processByKey(KeyFilter filter, CacheLoaderTask task, TaskContextImpl taskContext) throws InterruptedException {
       for (Object key : remoteCache.keySet()) {
          if (taskContext.isStopped())
             break;
          if (filter == null || filter.accept(key)) {
-            try {
-               MarshalledEntry marshalledEntry = load(key);
-               if (marshalledEntry != null) {
-                  task.processEntry(marshalledEntry, taskContext);
-               }
-            } catch (InterruptedException e) {
-               Thread.currentThread().interrupt();
-               return;
+            MarshalledEntry marshalledEntry = load(key);
+            if (marshalledEntry != null) {
+               task.processEntry(marshalledEntry, taskContext);
             }
          }
       }
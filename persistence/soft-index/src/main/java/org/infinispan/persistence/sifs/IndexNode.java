@@ -227,6 +227,12 @@ protected EntryRecord apply(LeafNode leafNode, byte[] key, FileProvider fileProv
          protected EntryPosition apply(LeafNode leafNode, byte[] key, FileProvider fileProvider, TimeService timeService) throws IOException, IndexNodeOutdatedException {
             EntryRecord hak = leafNode.loadHeaderAndKey(fileProvider);
             if (Arrays.equals(hak.getKey(), key)) {
+               if (hak.getHeader().valueLength() <= 0) {
+                  if (trace) {
+                     log.tracef("Found node on %d:%d but it is a tombstone", leafNode.file, leafNode.offset);
+                  }
+                  return null;
+               }
                if (hak.getHeader().expiryTime() > 0 && hak.getHeader().expiryTime() <= timeService.wallClockTime()) {
                   if (trace) {
                      log.tracef("Found node on %d:%d but it is expired", leafNode.file, leafNode.offset);
@@ -1,15 +1,21 @@
 package org.infinispan.persistence.sifs;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.infinispan.commons.io.ByteBuffer;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
 /**
- * This component has the only thread that polls the queue with requests to write some entry into the cache store.
+ * This component has a thread that polls the queue with requests to write some entry into the cache store.
  * It writes the records to append-only log files, inserts the entry position into TemporaryTable and queues the position
  * to be persisted in Index.
+ * <p>
+ * There may be several appenders, each one appending to its own log file. Requests for the same key are always
+ * routed to the same appender, so that the records of a key are written and indexed in order. The sequence ids are
+ * shared by all appenders. All the requests taken from the queue before it becomes empty are written with a single
+ * {@code force} call before their requestors are notified.
  *
  * @author Radim Vansa &lt;rvansa@redhat.com&gt;
  */
@@ -23,30 +29,27 @@ public class LogAppender extends Thread {
    private final int maxFileSize;
    private final Compactor compactor;
    private final FileProvider fileProvider;
+   private final AtomicLong seqIds;
    private LogRequest pausedRequest;
-   private long seqId = 0;
 
    LogAppender(SyncProcessingQueue<LogRequest> inboundQueue,
                BlockingQueue<IndexRequest> indexQueue,
                TemporaryTable temporaryTable,
                Compactor compactor,
-               FileProvider fileProvider, boolean syncWrites, int maxFileSize) {
-      super("BCS-LogAppender");
+               FileProvider fileProvider, AtomicLong seqIds, boolean syncWrites, int maxFileSize, int id) {
+      super("BCS-LogAppender-" + id);
       this.setDaemon(true);
       this.queue = inboundQueue;
       this.indexQueue = indexQueue;
       this.temporaryTable = temporaryTable;
       this.compactor = compactor;
       this.fileProvider = fileProvider;
+      this.seqIds = seqIds;
       this.syncWrites = syncWrites;
       this.maxFileSize = maxFileSize;
       start();
    }
 
-   public void setSeqId(long seqId) {
-      this.seqId = seqId;
-   }
-
    public void pause() throws InterruptedException {
       LogRequest pause = LogRequest.pauseRequest();
       queue.pushAndWait(pause);
@@ -128,8 +131,8 @@ private byte[] raw(ByteBuffer buffer) {
       }
    }
 
-   private final long nextSeqId() {
-      return seqId++;
+   private long nextSeqId() {
+      return seqIds.getAndIncrement();
    }
 
    public void stopOperations() throws InterruptedException {
@@ -35,7 +35,9 @@
  *                 into append-only file, writes the offset into TemporaryTable
  *                 and enqueues request to update index into UpdateQueue.
  *                 The append-only files have limited size, when the file is full,
- *                 new file is started.
+ *                 new file is started. There is one LogAppender (with its own queue
+ *                 and append-only file) for each segment of the Index, and every
+ *                 key is written by the LogAppender of its segment.
  * - IndexUpdater: Reads the UpdateQueue, applies the operation into B-tree-like
  *                 structure Index (exact description below) and then removes
  *                 the entry from TemporaryTable. When the Index is overwriten,
@@ -106,9 +108,9 @@ public class SoftIndexFileStore implements AdvancedLoadWriteStore {
    private boolean started = false;
    private TemporaryTable temporaryTable;
    private IndexQueue indexQueue;
-   private SyncProcessingQueue<LogRequest> storeQueue;
+   private SyncProcessingQueue<LogRequest>[] storeQueues;
    private FileProvider fileProvider;
-   private LogAppender logAppender;
+   private LogAppender[] logAppenders;
    private Index index;
    private Compactor compactor;
    private StreamingMarshaller marshaller;
@@ -136,11 +138,18 @@ public void start() {
       }
       started = true;
       temporaryTable = new TemporaryTable(configuration.indexQueueLength() * configuration.indexSegments(), keyEquivalence);
-      storeQueue = new SyncProcessingQueue<LogRequest>();
+      int appenders = configuration.indexSegments();
+      storeQueues = new SyncProcessingQueue[appenders];
+      logAppenders = new LogAppender[appenders];
+      final AtomicLong seqIds = new AtomicLong(0);
       indexQueue = new IndexQueue(configuration.indexSegments(), configuration.indexQueueLength(), keyEquivalence);
       fileProvider = new FileProvider(configuration.dataLocation(), configuration.openFilesLimit());
       compactor = new Compactor(fileProvider, temporaryTable, indexQueue, marshaller, timeService, configuration.maxFileSize(), configuration.compactionThreshold());
-      logAppender = new LogAppender(storeQueue, indexQueue, temporaryTable, compactor, fileProvider, configuration.syncWrites(), configuration.maxFileSize());
+      for (int i = 0; i < appenders; ++i) {
+         storeQueues[i] = new SyncProcessingQueue<LogRequest>();
+         logAppenders[i] = new LogAppender(storeQueues[i], indexQueue, temporaryTable, compactor, fileProvider,
+               seqIds, configuration.syncWrites(), configuration.maxFileSize(), i);
+      }
       try {
          index = new Index(fileProvider, configuration.indexLocation(), configuration.indexSegments(),
                configuration.minNodeSize(), configuration.maxNodeSize(),
@@ -187,7 +196,8 @@ public void afterFile(int file) {
             }
          });
       }
-      logAppender.setSeqId(maxSeqId.get() + 1);
+      // no record can be written before the index is built, as the store is not started yet
+      seqIds.set(maxSeqId.get() + 1);
    }
 
    protected boolean isSeqIdOld(long seqId, Object key, byte[] serializedKey) throws IOException {
@@ -236,8 +246,10 @@ protected boolean isIndexLoaded() {
    @Override
    public void stop() {
       try {
-         logAppender.stopOperations();
-         logAppender = null;
+         for (LogAppender logAppender : logAppenders) {
+            logAppender.stopOperations();
+         }
+         logAppenders = null;
          compactor.stopOperations();
          compactor = null;
          index.stopOperations();
@@ -246,7 +258,7 @@ public void stop() {
          fileProvider = null;
          temporaryTable = null;
          indexQueue = null;
-         storeQueue = null;
+         storeQueues = null;
       } catch (InterruptedException e) {
          throw new PersistenceException("Cannot stop cache store", e);
       } finally {
@@ -257,7 +269,9 @@ public void stop() {
    @Override
    public synchronized void clear() throws PersistenceException {
       try {
-         logAppender.clearAndPause();
+         for (LogAppender logAppender : logAppenders) {
+            logAppender.clearAndPause();
+         }
          compactor.clearAndPause();
       } catch (InterruptedException e) {
          throw new PersistenceException("Cannot pause cache store to clear it.", e);
@@ -274,13 +288,17 @@ public synchronized void clear() throws PersistenceException {
       }
       temporaryTable.clear();
       compactor.resumeAfterPause();
-      logAppender.resumeAfterPause();
+      resumeLogAppenders(logAppenders.length);
    }
 
    @Override
    public synchronized int size() {
+      int paused = 0;
       try {
-         logAppender.pause();
+         for (LogAppender logAppender : logAppenders) {
+            logAppender.pause();
+            paused++;
+         }
          long size = index.size();
          return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
       } catch (InterruptedException e) {
@@ -288,10 +306,21 @@ public synchronized int size() {
          Thread.currentThread().interrupt();
          return -1;
       } finally {
-         logAppender.resumeAfterPause();
+         resumeLogAppenders(paused);
       }
    }
 
+   private void resumeLogAppenders(int paused) {
+      for (int i = 0; i < paused; ++i) {
+         logAppenders[i].resumeAfterPause();
+      }
+   }
+
+   private SyncProcessingQueue<LogRequest> storeQueue(Object key) {
+      // same routing as in IndexQueue, so every appender feeds a single index segment
+      return storeQueues[Math.abs(keyEquivalence.hashCode(key)) % storeQueues.length];
+   }
+
    @Override
    public void purge(Executor threadPool, PurgeListener listener) {
       log.trace("Purge method not supported, ignoring.");
@@ -310,7 +339,7 @@ public void write(MarshalledEntry entry) {
          throw new PersistenceException("SoftIndexFileStore is limited to keys with serialized size <= 32767 bytes");
       }
       try {
-         storeQueue.pushAndWait(LogRequest.storeRequest(entry));
+         storeQueue(entry.getKey()).pushAndWait(LogRequest.storeRequest(entry));
       } catch (Exception e) {
          throw new PersistenceException(e);
       }
@@ -320,7 +349,7 @@ public void write(MarshalledEntry entry) {
    public boolean delete(Object key) {
       try {
          LogRequest request = LogRequest.deleteRequest(key, toBuffer(marshaller.objectToByteBuffer(key)));
-         storeQueue.pushAndWait(request);
+         storeQueue(key).pushAndWait(request);
          return (Boolean) request.getIndexRequest().getResult();
       } catch (Exception e) {
          throw new PersistenceException(e);
@@ -2,6 +2,7 @@
 
 import static org.infinispan.persistence.PersistenceUtil.internalMetadata;
 import static org.infinispan.test.TestingUtil.recursiveFileRemove;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertTrue;
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNotNull;
@@ -170,6 +171,14 @@ public void testStopStartWithRemoves() {
       store.startIndex();
    }
 
+   public void testContainsAfterDelete() {
+      store.write(marshalledEntry(internalCacheEntry("k1", "v1", -1)));
+      assertTrue(store.contains("k1"));
+      assertTrue(store.delete("k1"));
+      // The index still points to the tombstone record until it is compacted
+      assertFalse(store.contains("k1"));
+   }
+
    // test for ISPN-5753
    public void testOverrideWithExpirableAndCompaction() throws InterruptedException {
       // write immortal entry
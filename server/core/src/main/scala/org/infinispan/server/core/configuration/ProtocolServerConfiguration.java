@@ -19,9 +19,10 @@ public abstract class ProtocolServerConfiguration {
    private final SslConfiguration ssl;
    private final boolean tcpNoDelay;
    private final int workerThreads;
+   private final int ioThreads;
    private final Set<String> ignoredCaches;
 
-   protected ProtocolServerConfiguration(String defaultCacheName, String name, String host, int port, int idleTimeout, int recvBufSize, int sendBufSize, SslConfiguration ssl, boolean tcpNoDelay, int workerThreads, Set<String> ignoredCaches) {
+   protected ProtocolServerConfiguration(String defaultCacheName, String name, String host, int port, int idleTimeout, int recvBufSize, int sendBufSize, SslConfiguration ssl, boolean tcpNoDelay, int workerThreads, int ioThreads, Set<String> ignoredCaches) {
       this.defaultCacheName = defaultCacheName;
       this.name = name;
       this.host = host;
@@ -32,6 +33,7 @@ protected ProtocolServerConfiguration(String defaultCacheName, String name, Stri
       this.ssl = ssl;
       this.tcpNoDelay = tcpNoDelay;
       this.workerThreads = workerThreads;
+      this.ioThreads = ioThreads;
       this.ignoredCaches = ignoredCaches;
    }
 
@@ -75,6 +77,10 @@ public int workerThreads() {
       return workerThreads;
    }
 
+   public int ioThreads() {
+      return ioThreads;
+   }
+
    public Set<String> ignoredCaches() {
       return ignoredCaches;
    }
@@ -82,7 +88,7 @@ public Set<String> ignoredCaches() {
    @Override
    public String toString() {
       return "ProtocolServerConfiguration [defaultCacheName=" + defaultCacheName +", name=" + name + ", host=" + host + ", port=" + port + ", idleTimeout=" + idleTimeout + ", recvBufSize=" + recvBufSize + ", sendBufSize="
-            + sendBufSize + ", ssl=" + ssl + ", tcpNoDelay=" + tcpNoDelay + ", workerThreads=" + workerThreads + ", ignoredCaches=" + ignoredCaches + "]";
+            + sendBufSize + ", ssl=" + ssl + ", tcpNoDelay=" + tcpNoDelay + ", workerThreads=" + workerThreads + ", ioThreads=" + ioThreads + ", ignoredCaches=" + ignoredCaches + "]";
    }
 
 }
@@ -21,6 +21,7 @@
    protected final SslConfigurationBuilder ssl;
    protected boolean tcpNoDelay = true;
    protected int workerThreads = 2 * Runtime.getRuntime().availableProcessors();
+   protected int ioThreads = 2 * Runtime.getRuntime().availableProcessors();
    protected Set<String> ignoredCaches = Collections.EMPTY_SET;
 
    protected ProtocolServerConfigurationBuilder(int port) {
@@ -93,6 +94,12 @@ public S workerThreads(int workerThreads) {
       return this.self();
    }
 
+   @Override
+   public S ioThreads(int ioThreads) {
+      this.ioThreads = ioThreads;
+      return this.self();
+   }
+
    @Override
    public void validate() {
       ssl.validate();
@@ -108,6 +115,9 @@ public void validate() {
       if (workerThreads < 0) {
          throw log.illegalWorkerThreads(workerThreads);
       }
+      if (ioThreads <= 0) {
+         throw log.illegalIoThreads(ioThreads);
+      }
    }
 
    @Override
@@ -121,6 +131,7 @@ public Builder<?> read(T template) {
       this.sendBufSize = template.sendBufSize();
       this.tcpNoDelay = template.tcpNoDelay();
       this.workerThreads = template.workerThreads();
+      this.ioThreads = template.ioThreads();
       this.ssl.read(template.ssl());
       this.ignoredCaches = template.ignoredCaches();
       return this;
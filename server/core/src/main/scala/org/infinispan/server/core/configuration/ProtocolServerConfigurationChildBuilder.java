@@ -60,6 +60,12 @@
     */
    S workerThreads(int workerThreads);
 
+   /**
+    * Sets the number of threads of the event loop which reads and writes the connections. Defaults to twice the number
+    * of available processors
+    */
+   S ioThreads(int ioThreads);
+
    /**
     * Sets the caches to be ignored
     */
@@ -109,4 +109,11 @@ public interface JavaLog extends org.infinispan.util.logging.Log {
    @Message(value = "Request to encode unexpected message %s", id = 5024)
    void errorUnexpectedMessage(Object msg);
 
+   @Message(value = "Illegal number of ioThreads: %d", id = 5025)
+   IllegalArgumentException illegalIoThreads(int ioThreads);
+
+   @LogMessage(level = INFO)
+   @Message(value = "Using the %s transport for %s", id = 5026)
+   void usingTransport(String transport, String server);
+
 }
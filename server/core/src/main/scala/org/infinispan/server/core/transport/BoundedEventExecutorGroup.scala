@@ -0,0 +1,109 @@
+package org.infinispan.server.core.transport
+
+import java.util.concurrent.{ConcurrentLinkedQueue, ThreadFactory}
+import java.util.concurrent.atomic.AtomicInteger
+
+import io.netty.channel.{Channel, ChannelHandler, ChannelHandlerContext, ChannelInboundHandlerAdapter}
+import io.netty.util.concurrent.{EventExecutor, EventExecutorGroup, MultithreadEventExecutorGroup, SingleThreadEventExecutor}
+
+/**
+ * An event executor group whose executors limit the number of pending tasks without blocking the IO threads.
+ * <p>
+ * When an executor already has {@code maxPendingTasks} tasks waiting, the channels that submit more tasks through the
+ * handler returned by {@link #backPressureHandler(EventExecutor)} stop reading, by turning off their auto-read. They
+ * read again once a task of the executor completes. The IO threads never wait, so the other channels registered with
+ * them, and the writes of the paused channels, are not delayed.
+ *
+ * @since 9.0
+ */
+class BoundedEventExecutorGroup(nThreads: Int, threadFactory: ThreadFactory, maxPendingTasks: Int)
+        extends MultithreadEventExecutorGroup(nThreads, threadFactory, Int.box(maxPendingTasks)) {
+
+   override protected def newChild(threadFactory: ThreadFactory, args: AnyRef*): EventExecutor =
+      new BoundedEventExecutor(this, threadFactory, args.head.asInstanceOf[Integer])
+
+   /**
+    * Returns a handler that stops reading from its channel while {@code executor} is full. It must be added to the
+    * pipeline right before the handlers running in {@code executor}, which must be one of the executors of this group.
+    */
+   def backPressureHandler(executor: EventExecutor): ChannelHandler =
+      new BackPressureHandler(executor.asInstanceOf[BoundedEventExecutor])
+}
+
+object BoundedEventExecutorGroup {
+   /**
+    * Set this system property to change the maximum number of pending tasks of each executor.
+    */
+   val MAX_PENDING_TASKS_PROPERTY = "infinispan.server.handler.maxPendingTasks"
+
+   def maxPendingTasks: Int = Integer.getInteger(MAX_PENDING_TASKS_PROPERTY, 1024)
+}
+
+private class BoundedEventExecutor(parent: EventExecutorGroup, threadFactory: ThreadFactory, maxPendingTasks: Int)
+        extends SingleThreadEventExecutor(parent, threadFactory, true) {
+
+   private val queuedTasks = new AtomicInteger
+   private val pausedChannels = new ConcurrentLinkedQueue[Channel]
+
+   override def execute(task: Runnable): Unit = {
+      // The tasks submitted by the executor thread itself are not counted
+      if (inEventLoop) {
+         super.execute(task)
+      } else {
+         queuedTasks.incrementAndGet()
+         try {
+            super.execute(new Runnable {
+               override def run(): Unit = try task.run() finally taskCompleted()
+            })
+         } catch {
+            case t: Throwable =>
+               taskCompleted()
+               throw t
+         }
+      }
+   }
+
+   def isFull: Boolean = queuedTasks.get >= maxPendingTasks
+
+   /**
+    * Stops reading from the channel until a task completes.
+    */
+   def pauseReading(channel: Channel): Unit = {
+      channel.config.setAutoRead(false)
+      pausedChannels.add(channel)
+      // The tasks may have completed before the channel was added
+      if (!isFull) resumeReading()
+   }
+
+   private def taskCompleted(): Unit = {
+      if (queuedTasks.decrementAndGet() < maxPendingTasks && !pausedChannels.isEmpty) resumeReading()
+   }
+
+   private def resumeReading(): Unit = {
+      var channel = pausedChannels.poll()
+      while (channel != null) {
+         channel.config.setAutoRead(true)
+         channel = pausedChannels.poll()
+      }
+   }
+
+   override protected def run(): Unit = {
+      var shutdown = false
+      while (!shutdown) {
+         val task = takeTask()
+         if (task != null) {
+            task.run()
+            updateLastExecutionTime()
+         }
+         shutdown = confirmShutdown()
+      }
+   }
+}
+
+private class BackPressureHandler(executor: BoundedEventExecutor) extends ChannelInboundHandlerAdapter {
+   override def channelRead(ctx: ChannelHandlerContext, msg: AnyRef): Unit = {
+      // Submits the message to the executor
+      ctx.fireChannelRead(msg)
+      if (executor.isFull) executor.pauseReading(ctx.channel)
+   }
+}
@@ -18,13 +18,23 @@ import org.infinispan.server.core.configuration.ProtocolServerConfiguration
 import io.netty.util.concurrent.{DefaultThreadFactory, ImmediateEventExecutor}
 import io.netty.util.internal.logging.{Log4JLoggerFactory, InternalLoggerFactory}
 import io.netty.bootstrap.ServerBootstrap
-import io.netty.channel.{Channel, ChannelInitializer, ChannelOption}
+import io.netty.channel.{Channel, ChannelInitializer, ChannelOption, EventLoopGroup, ServerChannel}
+import io.netty.channel.epoll.{Epoll, EpollChannelOption, EpollEventLoopGroup, EpollServerSocketChannel}
 import io.netty.channel.nio.NioEventLoopGroup
 import io.netty.channel.socket.nio.NioServerSocketChannel
 import io.netty.buffer.PooledByteBufAllocator
 
 /**
  * A Netty based transport.
+ * <p>
+ * On Linux the native epoll transport is used, unless it has been disabled with the
+ * {@link NettyTransport#USE_EPOLL_PROPERTY} system property. Otherwise the NIO transport is used. In both cases a
+ * single thread accepts the connections.
+ * <p>
+ * With epoll, {@code SO_REUSEPORT} can be enabled with the {@link NettyTransport#USE_REUSE_PORT_PROPERTY} system
+ * property. Each of the IO threads then accepts its own connections on a listening socket bound to the same port, and
+ * the kernel balances the incoming connections between them. Since another process can then bind the same port too,
+ * this is not the default.
  *
  * @author Galder Zamarreño
  * @since 4.1
@@ -37,8 +47,19 @@ class NettyTransport(server: ProtocolServer, handler: ChannelInitializer[Channel
    private val serverChannels = new DefaultChannelGroup(threadNamePrefix + "-Channels", ImmediateEventExecutor.INSTANCE)
    val acceptedChannels = new DefaultChannelGroup(threadNamePrefix + "-Accepted", ImmediateEventExecutor.INSTANCE)
 
-   private val masterGroup = new NioEventLoopGroup(1, new DefaultThreadFactory(threadNamePrefix + "ServerMaster"))
-   private val workerGroup = new NioEventLoopGroup(0, new DefaultThreadFactory(threadNamePrefix + "ServerWorker"))
+   private val useEpoll = NettyTransport.isEpollEnabled
+   private val useReusePort = useEpoll && NettyTransport.isReusePortEnabled
+   private val masterGroup: EventLoopGroup = {
+      val threadFactory = new DefaultThreadFactory(threadNamePrefix + "ServerMaster")
+      if (useReusePort) null
+      else if (useEpoll) new EpollEventLoopGroup(1, threadFactory)
+      else new NioEventLoopGroup(1, threadFactory)
+   }
+   private val workerGroup: EventLoopGroup = {
+      val threadFactory = new DefaultThreadFactory(threadNamePrefix + "ServerWorker")
+      if (useEpoll) new EpollEventLoopGroup(configuration.ioThreads, threadFactory)
+      else new NioEventLoopGroup(configuration.ioThreads, threadFactory)
+   }
 
    private val totalBytesWritten, totalBytesRead = new AtomicLong
    private val isGlobalStatsEnabled =
@@ -50,8 +71,14 @@ class NettyTransport(server: ProtocolServer, handler: ChannelInitializer[Channel
          InternalLoggerFactory.setDefaultFactory(new Log4JLoggerFactory)
 
       val bootstrap = new ServerBootstrap()
-      bootstrap.group(masterGroup, workerGroup)
-      bootstrap.channel(classOf[NioServerSocketChannel])
+      if (useReusePort) {
+         // Every listening socket is registered with the next IO thread of the group, which accepts its connections
+         bootstrap.group(workerGroup, workerGroup)
+         bootstrap.option[java.lang.Boolean](EpollChannelOption.SO_REUSEPORT, true)
+      } else {
+         bootstrap.group(masterGroup, workerGroup)
+      }
+      bootstrap.channel(if (useEpoll) classOf[EpollServerSocketChannel] else classOf[NioServerSocketChannel])
       bootstrap.childHandler(handler)
       bootstrap.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
       bootstrap.childOption[java.lang.Boolean](ChannelOption.TCP_NODELAY, configuration.tcpNoDelay) // Sets server side tcpNoDelay
@@ -60,8 +87,13 @@ class NettyTransport(server: ProtocolServer, handler: ChannelInitializer[Channel
       if (configuration.recvBufSize > 0)
          bootstrap.childOption[java.lang.Integer](ChannelOption.SO_RCVBUF, configuration.recvBufSize) // Sets server side receive buffer
 
-      val ch = bootstrap.bind(address).sync().channel()
-      serverChannels.add(ch)
+      // Each listening socket bound to an ephemeral port would get a different port
+      val listeners = if (useReusePort && address.getPort != 0) configuration.ioThreads else 1
+      for (i <- 0 until listeners) {
+         val ch = bootstrap.bind(address).sync().channel()
+         serverChannels.add(ch)
+      }
+      logUsingTransport(if (useEpoll) "epoll" else "NIO", threadNamePrefix)
    }
 
    private def isLog4jAvailable: Boolean = {
@@ -98,7 +130,8 @@ class NettyTransport(server: ProtocolServer, handler: ChannelInitializer[Channel
       }
       if (isDebugEnabled)
          debug("Channel group completely closed, release external resources")
-      masterGroup.shutdownGracefully()
+      if (masterGroup != null)
+         masterGroup.shutdownGracefully()
       workerGroup.shutdownGracefully()
    }
 
@@ -112,6 +145,8 @@ class NettyTransport(server: ProtocolServer, handler: ChannelInitializer[Channel
 
    override def getNumberWorkerThreads = configuration.workerThreads.toString
 
+   override def getNumberIOThreads = configuration.ioThreads.toString
+
    override def getIdleTimeout = configuration.idleTimeout.toString
 
    override def getTcpNoDelay = configuration.tcpNoDelay.toString
@@ -171,6 +206,26 @@ class NettyTransport(server: ProtocolServer, handler: ChannelInitializer[Channel
       }
    }
 }
+
+object NettyTransport {
+   /**
+    * Set this system property to {@code false} to use the NIO transport even when the native epoll transport is
+    * available.
+    */
+   val USE_EPOLL_PROPERTY = "infinispan.server.channel.epoll"
+
+   /**
+    * Set this system property to {@code true} to bind a listening socket with {@code SO_REUSEPORT} for each IO thread
+    * when the native epoll transport is used.
+    */
+   val USE_REUSE_PORT_PROPERTY = "infinispan.server.channel.reuseport"
+
+   def isEpollEnabled: Boolean =
+      Epoll.isAvailable && java.lang.Boolean.parseBoolean(System.getProperty(USE_EPOLL_PROPERTY, "true"))
+
+   def isReusePortEnabled: Boolean = java.lang.Boolean.getBoolean(USE_REUSE_PORT_PROPERTY)
+}
+
 // TODO: Could be generalised to calculate any jmx params cluster wide
 class ConnectionAdderTask(serverName: String)
         extends DistributedCallable[AnyRef, AnyRef, java.lang.Integer] with Serializable {
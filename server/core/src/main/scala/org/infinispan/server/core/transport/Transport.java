@@ -63,6 +63,14 @@ public interface Transport {
    )
    String getNumberWorkerThreads();
 
+   @ManagedAttribute(
+         description = "Returns the number of IO threads.",
+         displayName = "Number of IO threads",
+         dataType = DataType.TRAIT,
+         displayType = DisplayType.SUMMARY
+   )
+   String getNumberIOThreads();
+
    @ManagedAttribute(
          description = "Returns the idle timeout.",
          displayName = "Idle timeout",
@@ -27,6 +27,12 @@ class AbstractProtocolServerTest extends AbstractInfinispanTest {
       expectIllegalArgument(b, createServer)
    }
 
+   def testValidateZeroIoThreads() {
+      val b = new MockServerConfigurationBuilder
+      b.ioThreads(0);
+      expectIllegalArgument(b, createServer)
+   }
+
    def testValidateNegativeIdleTimeout() {
       val b = new MockServerConfigurationBuilder
       b.idleTimeout(-2);
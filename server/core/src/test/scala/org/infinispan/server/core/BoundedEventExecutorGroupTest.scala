@@ -0,0 +1,61 @@
+package org.infinispan.server.core
+
+import java.util.concurrent.{CountDownLatch, TimeUnit}
+
+import io.netty.channel.embedded.EmbeddedChannel
+import io.netty.channel.{Channel, ChannelHandlerContext, ChannelInboundHandlerAdapter, ChannelInitializer}
+import io.netty.util.concurrent.DefaultThreadFactory
+import org.infinispan.server.core.transport.BoundedEventExecutorGroup
+import org.infinispan.test.AbstractInfinispanTest
+import org.infinispan.test.AbstractInfinispanTest.Condition
+import org.testng.AssertJUnit.{assertEquals, assertFalse, assertTrue}
+import org.testng.annotations.Test
+
+/**
+ * Tests that the channels using a full executor of a {@link BoundedEventExecutorGroup} stop reading, without blocking
+ * the thread submitting the tasks, and read again once a task completes.
+ *
+ * @since 9.0
+ */
+@Test(groups = Array("functional"), testName = "server.core.BoundedEventExecutorGroupTest")
+class BoundedEventExecutorGroupTest extends AbstractInfinispanTest {
+
+   def testReadingPausedWhenFull() {
+      // Each message submits a channelRead and a channelReadComplete task
+      val group = new BoundedEventExecutorGroup(1, new DefaultThreadFactory("BoundedTest"), 3)
+      try {
+         val executor = group.next()
+         val release = new CountDownLatch(1)
+         val completed = new CountDownLatch(3)
+         val channel = new EmbeddedChannel(new ChannelInitializer[Channel] {
+            override def initChannel(ch: Channel): Unit = {
+               ch.pipeline.addLast("backPressure", group.backPressureHandler(executor))
+               ch.pipeline.addLast(executor, "handler", new ChannelInboundHandlerAdapter {
+                  override def channelRead(ctx: ChannelHandlerContext, msg: AnyRef): Unit = {
+                     release.await(10, TimeUnit.SECONDS)
+                     completed.countDown()
+                  }
+               })
+            }
+         })
+
+         channel.writeInbound("1")
+         assertTrue(channel.config.isAutoRead)
+         // The executor is full, but the message is still submitted without waiting
+         channel.writeInbound("2")
+         assertFalse(channel.config.isAutoRead)
+         channel.writeInbound("3")
+         assertFalse(channel.config.isAutoRead)
+
+         release.countDown()
+         assertTrue(completed.await(10, TimeUnit.SECONDS))
+         eventually(new Condition {
+            override def isSatisfied: Boolean = channel.config.isAutoRead
+         })
+         assertEquals(0, completed.getCount)
+         channel.finish()
+      } finally {
+         group.shutdownGracefully(0, 0, TimeUnit.SECONDS)
+      }
+   }
+}
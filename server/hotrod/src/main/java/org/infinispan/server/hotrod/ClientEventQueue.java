@@ -0,0 +1,105 @@
+package org.infinispan.server.hotrod;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+
+import org.infinispan.commons.equivalence.AnyEquivalence;
+import org.infinispan.commons.equivalence.ByteArrayEquivalence;
+import org.infinispan.commons.util.CollectionFactory;
+import org.infinispan.server.hotrod.configuration.ClientEventOverflowPolicy;
+
+/**
+ * The bounded queue of events waiting to be written to the connection of a client listener.
+ * <p>
+ * Events are offered by the threads which modify the cache, which never wait for space in the queue: when the queue
+ * is full the {@link ClientEventOverflowPolicy} decides what happens with the event. Only the events of the initial
+ * state of a listener, which are produced by a thread dedicated to the listener registration, wait for the client.
+ *
+ * @since 9.0
+ */
+class ClientEventQueue {
+
+   enum Outcome {
+      QUEUED, COALESCED, DROPPED, REJECTED
+   }
+
+   private final int capacity;
+   private final ClientEventOverflowPolicy overflowPolicy;
+   private final ArrayDeque<PendingEvent> events;
+   // The last queued event for every key, only maintained when coalescing
+   private final Map<byte[], PendingEvent> eventsByKey;
+
+   ClientEventQueue(int capacity, ClientEventOverflowPolicy overflowPolicy) {
+      this.capacity = capacity;
+      this.overflowPolicy = overflowPolicy;
+      this.events = new ArrayDeque<>(capacity);
+      this.eventsByKey = overflowPolicy == ClientEventOverflowPolicy.COALESCE ?
+            CollectionFactory.makeMap(capacity, ByteArrayEquivalence.INSTANCE, AnyEquivalence.getInstance()) : null;
+   }
+
+   /**
+    * Queues an event without waiting, applying the overflow policy if the queue is full.
+    */
+   synchronized Outcome offer(byte[] key, Object event) {
+      if (events.size() < capacity) {
+         add(key, event);
+         return Outcome.QUEUED;
+      }
+      switch (overflowPolicy) {
+         case COALESCE:
+            PendingEvent pending = eventsByKey.get(key);
+            if (pending != null) {
+               pending.event = event;
+               return Outcome.COALESCED;
+            }
+            return Outcome.DROPPED;
+         case DROP:
+            return Outcome.DROPPED;
+         default:
+            return Outcome.REJECTED;
+      }
+   }
+
+   /**
+    * Queues an event, waiting for space in the queue if it is full.
+    */
+   synchronized void put(byte[] key, Object event) throws InterruptedException {
+      while (events.size() >= capacity) {
+         wait();
+      }
+      add(key, event);
+   }
+
+   synchronized Object poll() {
+      PendingEvent pending = events.poll();
+      if (pending == null)
+         return null;
+      if (eventsByKey != null) {
+         eventsByKey.remove(pending.key, pending);
+      }
+      notifyAll();
+      return pending.event;
+   }
+
+   synchronized int size() {
+      return events.size();
+   }
+
+   private void add(byte[] key, Object event) {
+      PendingEvent pending = new PendingEvent(key, event);
+      events.add(pending);
+      if (eventsByKey != null) {
+         eventsByKey.put(key, pending);
+      }
+   }
+
+   private static final class PendingEvent {
+      final byte[] key;
+      Object event;
+
+      PendingEvent(byte[] key, Object event) {
+         this.key = key;
+         this.event = event;
+      }
+   }
+}
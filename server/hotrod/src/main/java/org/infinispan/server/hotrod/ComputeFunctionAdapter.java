@@ -0,0 +1,46 @@
+package org.infinispan.server.hotrod;
+
+import java.io.Serializable;
+import java.util.function.BiFunction;
+
+import org.infinispan.commons.api.functional.EntryVersion.NumericEntryVersion;
+import org.infinispan.commons.api.functional.EntryView.ReadWriteEntryView;
+import org.infinispan.commons.api.functional.MetaParam.MetaEntryVersion;
+import org.infinispan.commons.api.functional.MetaParam.MetaLifespan;
+import org.infinispan.commons.api.functional.MetaParam.MetaMaxIdle;
+
+/**
+ * Applies a {@link ServerComputeFunction} to an entry through the functional read-write API. The version and the
+ * expiration of the new value are decided on the node which received the request, so that every owner stores the
+ * same metadata.
+ *
+ * @since 9.0
+ */
+class ComputeFunctionAdapter implements BiFunction<byte[], ReadWriteEntryView<byte[], byte[]>, byte[]>, Serializable {
+   private final ServerComputeFunction function;
+   private final long version;
+   private final long lifespan;
+   private final long maxIdle;
+
+   ComputeFunctionAdapter(ServerComputeFunction function, long version, long lifespan, long maxIdle) {
+      this.function = function;
+      this.version = version;
+      this.lifespan = lifespan;
+      this.maxIdle = maxIdle;
+   }
+
+   @Override
+   public byte[] apply(byte[] argument, ReadWriteEntryView<byte[], byte[]> view) {
+      byte[] current = view.find().orElse(null);
+      byte[] value = function.apply(view.key(), current, argument);
+      if (value == null) {
+         if (current != null) {
+            view.remove();
+         }
+      } else {
+         view.set(value, new MetaEntryVersion<>(new NumericEntryVersion(version)),
+               new MetaLifespan(lifespan), new MetaMaxIdle(maxIdle));
+      }
+      return value;
+   }
+}
@@ -175,6 +175,10 @@ protected void channelRead0(ChannelHandlerContext ctx, CacheDecodeContext msg) t
             writeResponse(msg, ctx.channel(), new GetAllResponse(h.version(), h.messageId(), h.cacheName(),
                     h.clientIntel(), h.topologyId(), map));
             break;
+         case ComputeRequest:
+            ServerComputeFunction function = server.getComputeFunction((String) msg.operationDecodeContext());
+            writeResponse(msg, ctx.channel(), msg.compute(function));
+            break;
          default:
             throw new IllegalArgumentException("Unsupported operation invoked: " + msg.header().op());
       }
@@ -9,6 +9,7 @@
 import org.infinispan.server.core.logging.JavaLog;
 import org.infinispan.server.core.transport.ExtendedByteBuf;
 import org.infinispan.server.core.transport.NettyTransport;
+import org.infinispan.server.hotrod.configuration.HotRodServerConfiguration;
 import scala.Option;
 
 import java.net.InetSocketAddress;
@@ -44,6 +45,10 @@ public HotRodDecoder(EmbeddedCacheManager cacheManager, NettyTransport transport
       this.server = server;
 
       this.decodeCtx = new CacheDecodeContext(server);
+      if (((HotRodServerConfiguration) server.getConfiguration()).zeroCopy()) {
+         // Large values span many reads: keep the received buffers instead of copying them into a growing one
+         setCumulator(COMPOSITE_CUMULATOR);
+      }
    }
 
    public NettyTransport getTransport() {
@@ -34,6 +34,7 @@ static Object operationToResponse(HotRodOperation op) {
          case ExecRequest: return OperationResponse.ExecResponse();
          case PutAllRequest: return OperationResponse.PutAllResponse();
          case GetAllRequest: return OperationResponse.GetAllResponse();
+         case ComputeRequest: return OperationResponse.ComputeResponse();
          default: throw new IllegalArgumentException("Unsupported operation: " + op);
       }
    }
@@ -0,0 +1,31 @@
+package org.infinispan.server.hotrod;
+
+import java.io.Serializable;
+
+/**
+ * A function which Hot Rod clients can invoke by name to update a single entry in one round trip.
+ * <p>
+ * The function is applied while holding the lock of the key on its primary owner, so concurrent computations on the
+ * same key are serialized without any version checks or retries on the client side. Since the function is sent to
+ * the owners of the key along with the write, implementations must be {@link Serializable} and should be
+ * deterministic, as backup owners apply it again to their own copy of the entry.
+ * <p>
+ * Functions are registered with {@link HotRodServer#addComputeFunction(String, ServerComputeFunction)}, or deployed
+ * as a service annotated with {@link org.infinispan.filter.NamedFactory} which is then registered under the
+ * annotation name when the server starts.
+ *
+ * @since 9.0
+ */
+@FunctionalInterface
+public interface ServerComputeFunction extends Serializable {
+
+   /**
+    * Computes the new value of an entry.
+    *
+    * @param key the key of the entry, as sent by the client
+    * @param currentValue the current value of the entry, or {@code null} if there is none
+    * @param argument the argument sent by the client, never {@code null}
+    * @return the new value of the entry, or {@code null} to remove it
+    */
+   byte[] apply(byte[] key, byte[] currentValue, byte[] argument);
+}
@@ -3,10 +3,12 @@ package org.infinispan.server.hotrod
 import java.util.{Map, Set}
 
 import org.infinispan.AdvancedCache
+import org.infinispan.commons.api.functional.Param.FutureMode
 import org.infinispan.container.entries.CacheEntry
 import org.infinispan.container.versioning.{EntryVersion, NumericVersion, NumericVersionGenerator, VersionGenerator}
 import org.infinispan.context.Flag
 import org.infinispan.factories.ComponentRegistry
+import org.infinispan.functional.impl.{FunctionalMapImpl, ReadWriteMapImpl}
 import org.infinispan.manager.EmbeddedCacheManager
 import org.infinispan.metadata.{EmbeddedMetadata, Metadata}
 import org.infinispan.registry.InternalCacheRegistry
@@ -196,6 +198,29 @@ class CacheDecodeContext(server: HotRodServer) extends ServerConstants with Log
       successResp(prev)
    }
 
+   def compute(function: ServerComputeFunction): Response = {
+      // The lifespan and max idle are applied by the function itself, so the cache defaults have to be resolved here
+      val expiration = server.getCacheConfiguration(header.cacheName).expiration()
+      val lifespan = params.lifespan match {
+         case ExpirationParam(EXPIRATION_DEFAULT, _) => expiration.lifespan()
+         case p => decoder.toMillis(p, header)
+      }
+      val maxIdle = params.maxIdle match {
+         case ExpirationParam(EXPIRATION_DEFAULT, _) => expiration.maxIdle()
+         case p => decoder.toMillis(p, header)
+      }
+      val version = generateVersion(server.getCacheRegistry(header.cacheName), cache).asInstanceOf[NumericVersion]
+      val rw = ReadWriteMapImpl.create(FunctionalMapImpl.create(cache)).withParams(FutureMode.COMPLETED)
+      // Runs the function on the primary owner of the key, under its lock
+      val value = rw.eval(key, rawValue, new ComputeFunctionAdapter(function, version.getVersion, lifespan, maxIdle)).join()
+      if (value != null)
+         new GetResponse(header.version, header.messageId, header.cacheName, header.clientIntel,
+            OperationResponse.ComputeResponse, Success, header.topologyId, Some(value))
+      else
+         new GetResponse(header.version, header.messageId, header.cacheName, header.clientIntel,
+            OperationResponse.ComputeResponse, KeyDoesNotExist, header.topologyId, None)
+   }
+
    def generateVersion(registry: ComponentRegistry, cache: org.infinispan.Cache[Bytes, Bytes]): EntryVersion = {
       val cacheVersionGenerator = registry.getVersionGenerator
       if (cacheVersionGenerator == null) {
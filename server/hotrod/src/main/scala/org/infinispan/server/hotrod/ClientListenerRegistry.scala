@@ -3,7 +3,7 @@ package org.infinispan.server.hotrod
 import java.io.{ObjectInput, ObjectOutput}
 import java.lang.reflect.Constructor
 import java.util.concurrent._
-import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.{AtomicBoolean, AtomicLong}
 
 import io.netty.channel.Channel
 import org.infinispan.commons.equivalence.{AnyEquivalence, ByteArrayEquivalence}
@@ -19,6 +19,7 @@ import org.infinispan.notifications.cachelistener.annotation.{CacheEntryExpired,
 import org.infinispan.notifications.cachelistener.event._
 import org.infinispan.notifications.cachelistener.filter._
 import org.infinispan.notifications.cachelistener.event.Event.Type
+import org.infinispan.server.hotrod.ClientEventQueue.Outcome
 import org.infinispan.server.hotrod.Events.{CustomRawEvent, CustomEvent, KeyEvent, KeyWithVersionEvent}
 import org.infinispan.server.hotrod.OperationResponse._
 import org.infinispan.server.hotrod.configuration.HotRodServerConfiguration
@@ -107,8 +108,17 @@ class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends L
 
       if (includeState) {
          // If state included, do it async
-         val cf = CompletableFuture.runAsync(() =>
-            cache.addListener(clientEventSender, filter.orNull, converter.orNull), addListenerExecutor)
+         val sender = baseSender(clientEventSender)
+         // The initial state is sent from the add listener thread, so only that thread waits for the client to
+         // read it, events raised by concurrent writes still follow the overflow policy
+         val cf = CompletableFuture.runAsync(() => {
+            sender.replayThread = Thread.currentThread()
+            try {
+               cache.addListener(clientEventSender, filter.orNull, converter.orNull)
+            } finally {
+               sender.replayThread = null
+            }
+         }, addListenerExecutor)
 
          cf.whenComplete((t: Void, cause: Throwable) => {
             val resp = cause match {
@@ -194,6 +204,11 @@ class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends L
       addListenerExecutor.shutdown()
    }
 
+   private def baseSender(sender: AnyRef): BaseClientEventSender = sender match {
+      case s: BaseClientEventSender => s
+      case s: BaseCompatibilityClientEventSender => s.delegate
+   }
+
    def findAndWriteEvents(channel: Channel): Unit = {
       // Make sure we write any event in main event loop
       channel.eventLoop().execute(new Runnable {
@@ -214,20 +229,26 @@ class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends L
            extends BaseClientEventSender(ch, listenerId, version, targetEventType)
 
    private abstract class BaseClientEventSender(ch: Channel, listenerId: Bytes, version: Byte, targetEventType: ClientEventType) {
-      val eventQueue = new LinkedBlockingQueue[AnyRef](100)
+      val eventQueue = new ClientEventQueue(configuration.eventQueueSize(), configuration.eventOverflowPolicy())
+      private val writeScheduled = new AtomicBoolean()
+      private val overflowLogged = new AtomicBoolean()
+      @volatile var replayThread: Thread = null
 
       def hasChannel(channel: Channel): Boolean = ch == channel
 
       def writeEventsIfPossible(): Unit = {
+         writeScheduled.set(false)
          var written = false
-         while(!eventQueue.isEmpty && ch.isWritable) {
-            val event = eventQueue.poll()
+         var event: AnyRef = null
+         while (ch.isWritable && { event = eventQueue.poll(); event != null }) {
             if (isTrace) tracef("Write event: %s to channel %s", event, ch)
             ch.write(event)
             written = true
          }
          if (written) {
+            // All the events drained so far go out with a single flush
             ch.flush()
+            overflowLogged.set(false)
          }
       }
 
@@ -270,12 +291,26 @@ class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends L
          if (isTrace)
             log.tracef("Queue event %s, before queuing event queue size is %d", remoteEvent, eventQueue.size())
 
-         val waitingForFlush = !ch.isWritable
-         eventQueue.put(remoteEvent)
+         if (Thread.currentThread() eq replayThread) {
+            eventQueue.put(key, remoteEvent)
+         } else {
+            eventQueue.offer(key, remoteEvent) match {
+               case Outcome.DROPPED =>
+                  if (overflowLogged.compareAndSet(false, true)) clientListenerEventQueueFull(ch)
+               case Outcome.REJECTED =>
+                  if (overflowLogged.compareAndSet(false, true)) {
+                     closingSlowClientListenerChannel(ch)
+                     ch.close()
+                  }
+               case _ =>
+            }
+         }
 
-         if (!waitingForFlush) {
-            // Make sure we write any event in main event loop
-            ch.eventLoop().submit(() => writeEventsIfPossible())
+         // Make sure we write any event in main event loop, scheduling a single write for all the queued events
+         if (ch.isWritable && writeScheduled.compareAndSet(false, true)) {
+            ch.eventLoop().execute(new Runnable {
+               override def run(): Unit = writeEventsIfPossible()
+            })
          }
       }
 
@@ -355,7 +390,7 @@ class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends L
            extends BaseCompatibilityClientEventSender(delegate, converter)
 
    private abstract class BaseCompatibilityClientEventSender(
-           delegate: BaseClientEventSender, converter: HotRodTypeConverter) {
+           val delegate: BaseClientEventSender, converter: HotRodTypeConverter) {
       @CacheEntryCreated
       @CacheEntryModified
       @CacheEntryRemoved
@@ -72,6 +72,7 @@ object Decoder2x extends AbstractVersionedDecoder with ServerConstants with Log
                case 0x31 => HotRodOperation.IterationStartRequest
                case 0x33 => HotRodOperation.IterationNextRequest
                case 0x35 => HotRodOperation.IterationEndRequest
+               case 0x37 => HotRodOperation.ComputeRequest
                case _ => throw new HotRodUnknownOperationException(
                   "Unknown operation: " + streamOp, version, messageId)
             }
@@ -460,6 +461,12 @@ object Decoder2x extends AbstractVersionedDecoder with ServerConstants with Log
             if (addItem()) {
                out.add(hrCtx)
             }
+         case HotRodOperation.ComputeRequest =>
+            readMaybeString(buffer).foreach(functionName => {
+               hrCtx.operationDecodeContext = functionName
+               buffer.markReaderIndex()
+               out.add(hrCtx)
+            })
          case _ =>
       }
    }
@@ -240,6 +240,22 @@ object Encoder2x extends AbstractVersionedEncoder with Constants with Log {
       }
    }
 
+   /**
+    * Writes the body of a successful get response, except the bytes of its value, and returns the value so that it
+    * can be written to the channel without copying it.
+    */
+   def writeGetResponseUntilValue(g: GetResponse, buf: ByteBuf): Bytes = {
+      g match {
+         case v: GetWithVersionResponse => buf.writeLong(v.dataVersion)
+         case m: GetWithMetadataResponse =>
+            writeMetadata(m.lifespan, m.maxIdle, m.created, m.lastUsed, m.dataVersion, buf)
+         case _ =>
+      }
+      val value = g.data.get
+      writeUnsignedInt(value.length, buf)
+      value
+   }
+
    private def writeMetadata(lifespan: Int, maxIdle: Int, created: Long, lastUsed: Long, dataVersion: Long, buf: ByteBuf) = {
       val flags = (if (lifespan < 0) INFINITE_LIFESPAN else 0) + (if (maxIdle < 0) INFINITE_MAXIDLE else 0)
       buf.writeByte(flags)
@@ -1,12 +1,12 @@
 package org.infinispan.server.hotrod
 
-import io.netty.buffer.ByteBuf
+import io.netty.buffer.{ByteBuf, Unpooled}
 import io.netty.util.internal.PlatformDependent
 import logging.Log
 import org.infinispan.manager.EmbeddedCacheManager
 import org.infinispan.commons.util.Util
 import io.netty.handler.codec.MessageToByteEncoder
-import io.netty.channel.ChannelHandlerContext
+import io.netty.channel.{ChannelHandlerContext, ChannelPromise}
 import io.netty.channel.ChannelHandler.Sharable
 import org.infinispan.server.hotrod.Events.Event
 import org.infinispan.server.hotrod.OperationStatus._
@@ -25,6 +25,36 @@ class HotRodEncoder(cacheManager: EmbeddedCacheManager, server: HotRodServer)
    private lazy val addressCache: AddressCache =
       if (isClustered) cacheManager.getCache(server.getConfiguration.topologyCacheName) else null
    private val isTrace = isTraceEnabled
+   private lazy val zeroCopyThreshold = server.getConfiguration.zeroCopyThreshold
+
+   override def write(ctx: ChannelHandlerContext, msg: Any, promise: ChannelPromise): Unit = {
+      msg match {
+         case g: GetResponse if zeroCopyThreshold > 0 && Constants.isVersion2x(g.version) && g.status == Success
+               && g.data.exists(_.length >= zeroCopyThreshold) =>
+            writeWithoutCopy(ctx, g, promise)
+         case _ => super.write(ctx, msg, promise)
+      }
+   }
+
+   /**
+    * Writes the header of a large get response to a pooled buffer and appends the value by wrapping its array, instead
+    * of copying it to the buffer. The arrays stored in the cache are never modified, so they can be sent as they are.
+    */
+   private def writeWithoutCopy(ctx: ChannelHandlerContext, g: GetResponse, promise: ChannelPromise): Unit = {
+      trace("Encode msg %s without copying its value", g)
+      val buf = ctx.alloc().ioBuffer()
+      val value = try {
+         Encoder2x.writeHeader(g, buf, addressCache, server)
+         Encoder2x.writeGetResponseUntilValue(g, buf)
+      } catch {
+         case t: Throwable =>
+            // Let the regular encoding write the error response
+            buf.release()
+            super.write(ctx, g, promise)
+            return
+      }
+      ctx.write(Unpooled.wrappedBuffer(buf, Unpooled.wrappedBuffer(value)), promise)
+   }
 
    def encode(ctx: ChannelHandlerContext, msg: Any, buf: ByteBuf): Unit = {
       try {
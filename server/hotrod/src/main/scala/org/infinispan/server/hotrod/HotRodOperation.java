@@ -46,7 +46,8 @@ public enum HotRodOperation {
 
    // Operations that end after a Custom Value is read
    PutAllRequest(false, false, DecoderRequirements.VALUE_CUSTOM, true),
-   GetAllRequest(false, false, DecoderRequirements.VALUE_CUSTOM, true)
+   GetAllRequest(false, false, DecoderRequirements.VALUE_CUSTOM, true),
+   ComputeRequest(true, true, DecoderRequirements.VALUE_CUSTOM, true)
    ;
 
    private final boolean requiresKey;
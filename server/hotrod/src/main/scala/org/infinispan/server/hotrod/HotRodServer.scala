@@ -5,6 +5,7 @@ import java.util.function.Predicate
 import javax.security.sasl.SaslServerFactory
 
 import io.netty.channel.{Channel, ChannelInitializer}
+import io.netty.util.concurrent.{DefaultThreadFactory, EventExecutorGroup}
 import org.infinispan
 import org.infinispan.AdvancedCache
 import org.infinispan.commons.equivalence.AnyEquivalence
@@ -24,7 +25,7 @@ import org.infinispan.notifications.cachelistener.filter.{CacheEventConverterFac
 import org.infinispan.registry.InternalCacheRegistry
 import org.infinispan.remoting.transport.Address
 import org.infinispan.server.core.security.SaslUtils
-import org.infinispan.server.core.transport.TimeoutEnabledChannelInitializer
+import org.infinispan.server.core.transport.{BoundedEventExecutorGroup, TimeoutEnabledChannelInitializer}
 import org.infinispan.server.core.{AbstractProtocolServer, QueryFacade}
 import org.infinispan.server.hotrod.configuration.HotRodServerConfiguration
 import org.infinispan.server.hotrod.event.KeyValueWithPreviousEventConverterFactory
@@ -58,12 +59,14 @@ class HotRodServer extends AbstractProtocolServer("HotRod") with Log {
    private val knownCacheConfigurations = CollectionFactory.makeConcurrentMap[String, Configuration](4, 0.9f, 16)
    private val knownCacheRegistries = CollectionFactory.makeConcurrentMap[String, ComponentRegistry](4, 0.9f, 16)
    private var queryFacades: Seq[QueryFacade] = _
+   private val computeFunctions = CollectionFactory.makeConcurrentMap[String, ServerComputeFunction](4, 0.9f, 16)
    private val saslMechFactories = CollectionFactory.makeConcurrentMap[String, SaslServerFactory](4, 0.9f, 16)
    private var clientListenerRegistry: ClientListenerRegistry = _
    private var marshaller: Marshaller = _
    private var distributedExecutorService: DefaultExecutorService = _
    private var viewChangeListener: CrashedMemberDetectorListener = _
    private var topologyChangeListener: ReAddMyAddressListener = _
+   private var executionGroup: EventExecutorGroup = _
 
 
    lazy val iterationManager: IterationManager = new DefaultIterationManager(getCacheManager)
@@ -102,6 +105,7 @@ class HotRodServer extends AbstractProtocolServer("HotRod") with Log {
       loadFilterConverterFactories(classOf[CacheEventFilterConverterFactory])(addCacheEventFilterConverterFactory)
       loadFilterConverterFactories(classOf[CacheEventConverterFactory])(addCacheEventConverterFactory)
       loadFilterConverterFactories(classOf[KeyValueFilterConverterFactory[Any, Any, Any]])(addKeyValueFilterConverterFactory)
+      loadFilterConverterFactories(classOf[ServerComputeFunction])(addComputeFunction)
 
       // Start default cache and the endpoint before adding self to
       // topology in order to avoid topology updates being used before
@@ -126,10 +130,21 @@ class HotRodServer extends AbstractProtocolServer("HotRod") with Log {
          transport
       }
       if (configuration.idleTimeout > 0)
-         new HotRodChannelInitializer(this, getTransport(), getEncoder, getQualifiedName)
+         new HotRodChannelInitializer(this, getTransport(), getEncoder, getExecutionGroup)
            with TimeoutEnabledChannelInitializer
       else // Idle timeout logic is disabled with -1 or 0 values
-         new HotRodChannelInitializer(this, getTransport(), getEncoder, getQualifiedName)
+         new HotRodChannelInitializer(this, getTransport(), getEncoder, getExecutionGroup)
+   }
+
+   /**
+    * Returns the executor which runs the requests of all the connections, away from the IO threads. When one of its
+    * threads has too many requests queued, its connections stop reading, see {@link BoundedEventExecutorGroup}.
+    */
+   protected def getExecutionGroup: EventExecutorGroup = {
+      if (executionGroup == null)
+         executionGroup = new BoundedEventExecutorGroup(configuration.workerThreads,
+            new DefaultThreadFactory(getQualifiedName + "ServerHandler"), BoundedEventExecutorGroup.maxPendingTasks)
+      executionGroup
    }
 
    private def loadFilterConverterFactories[T](c: Class[T])(action: (String, T) => Any) = ServiceFinder.load(c).foreach { factory =>
@@ -330,6 +345,17 @@ class HotRodServer extends AbstractProtocolServer("HotRod") with Log {
       iterationManager.removeKeyValueFilterConverterFactory(name)
    }
 
+   def addComputeFunction(name: String, function: ServerComputeFunction): Unit = {
+      computeFunctions.put(name, function)
+   }
+
+   def removeComputeFunction(name: String): Unit = {
+      computeFunctions.remove(name)
+   }
+
+   def getComputeFunction(name: String): ServerComputeFunction =
+      Option(computeFunctions.get(name)).getOrElse(throw missingComputeFunction(name))
+
    override def stop: Unit = {
       if (viewChangeListener != null) {
          SecurityActions.removeListener(cacheManager, viewChangeListener)
@@ -343,6 +369,10 @@ class HotRodServer extends AbstractProtocolServer("HotRod") with Log {
 
       if (clientListenerRegistry != null) clientListenerRegistry.stop()
       super.stop
+      if (executionGroup != null) {
+         executionGroup.shutdownGracefully()
+         executionGroup = null
+      }
    }
 
    @Listener(sync = false)
@@ -48,6 +48,8 @@ object OperationResponse extends Enumeration {
    val IterationNextResponse = Value(0x34)
    val IterationEndResponse = Value(0x36)
 
+   val ComputeResponse = Value(0x38)
+
    def toResponse(request: HotRodOperation): OperationResponse = {
       // Go to java so switch case will be optimized properly
       OperationResponseJava.operationToResponse(request).asInstanceOf[OperationResponse]
@@ -91,6 +93,8 @@ object OperationResponse extends Enumeration {
          case IterationStartResponse => HotRodOperation.IterationStartRequest
          case IterationNextResponse => HotRodOperation.IterationNextRequest
          case IterationEndResponse => HotRodOperation.IterationEndRequest
+
+         case ComputeResponse => HotRodOperation.ComputeRequest
          case _ => null
       }
    }
@@ -48,4 +48,19 @@ public HotRodServerChildConfigurationBuilder topologyStateTransfer(boolean topol
       return builder.topologyStateTransfer(topologyStateTransfer);
    }
 
+   @Override
+   public HotRodServerChildConfigurationBuilder eventQueueSize(int eventQueueSize) {
+      return builder.eventQueueSize(eventQueueSize);
+   }
+
+   @Override
+   public HotRodServerChildConfigurationBuilder eventOverflowPolicy(ClientEventOverflowPolicy eventOverflowPolicy) {
+      return builder.eventOverflowPolicy(eventOverflowPolicy);
+   }
+
+   @Override
+   public HotRodServerChildConfigurationBuilder zeroCopyThreshold(int zeroCopyThreshold) {
+      return builder.zeroCopyThreshold(zeroCopyThreshold);
+   }
+
 }
@@ -0,0 +1,24 @@
+package org.infinispan.server.hotrod.configuration;
+
+/**
+ * Defines what the server does with an event for a client listener when the queue of events waiting to be written
+ * to the client's connection is full, e.g. because the client reads its events slower than they are produced.
+ *
+ * @since 9.0
+ */
+public enum ClientEventOverflowPolicy {
+   /**
+    * Replaces the queued event for the same key with the new one. The event is discarded like with {@link #DROP} if no
+    * event for the same key is queued.
+    */
+   COALESCE,
+   /**
+    * Discards the event and logs a warning.
+    */
+   DROP,
+   /**
+    * Closes the connection of the client, which then fails over to another connection and is notified with a
+    * {@code ClientCacheFailover} event.
+    */
+   DISCONNECT
+}
@@ -45,4 +45,23 @@ public interface HotRodServerChildConfigurationBuilder {
     */
    HotRodServerChildConfigurationBuilder topologyStateTransfer(boolean topologyStateTransfer);
 
+   /**
+    * Configures the maximum number of events waiting to be written to the connection of each client listener.
+    * Defaults to 100
+    */
+   HotRodServerChildConfigurationBuilder eventQueueSize(int eventQueueSize);
+
+   /**
+    * Configures what happens to the events of a client listener whose event queue is full. See
+    * {@link ClientEventOverflowPolicy}. Defaults to {@link ClientEventOverflowPolicy#COALESCE}
+    */
+   HotRodServerChildConfigurationBuilder eventOverflowPolicy(ClientEventOverflowPolicy eventOverflowPolicy);
+
+   /**
+    * Configures the size, in bytes, from which the values read from the cache are written to the connection without
+    * copying them, and the requests are accumulated without copying the received buffers. Defaults to 0, which
+    * disables it
+    */
+   HotRodServerChildConfigurationBuilder zeroCopyThreshold(int zeroCopyThreshold);
+
 }
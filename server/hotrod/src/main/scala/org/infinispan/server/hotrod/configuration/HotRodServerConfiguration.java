@@ -17,10 +17,13 @@ public class HotRodServerConfiguration extends ProtocolServerConfiguration {
    private final boolean topologyAwaitInitialTransfer;
    private final boolean topologyStateTransfer;
    private final AuthenticationConfiguration authentication;
+   private final int eventQueueSize;
+   private final ClientEventOverflowPolicy eventOverflowPolicy;
+   private final int zeroCopyThreshold;
 
    HotRodServerConfiguration(String defaultCacheName, String proxyHost, int proxyPort, long topologyLockTimeout, long topologyReplTimeout, boolean topologyAwaitInitialTransfer, boolean topologyStateTransfer,
-         String name, String host, int port, int idleTimeout, int recvBufSize, int sendBufSize, SslConfiguration ssl, boolean tcpNoDelay, int workerThreads, AuthenticationConfiguration authentication, Set<String> ignoredCaches) {
-      super(defaultCacheName, name, host, port, idleTimeout, recvBufSize, sendBufSize, ssl, tcpNoDelay, workerThreads, ignoredCaches);
+         int eventQueueSize, ClientEventOverflowPolicy eventOverflowPolicy, int zeroCopyThreshold, String name, String host, int port, int idleTimeout, int recvBufSize, int sendBufSize, SslConfiguration ssl, boolean tcpNoDelay, int workerThreads, int ioThreads, AuthenticationConfiguration authentication, Set<String> ignoredCaches) {
+      super(defaultCacheName, name, host, port, idleTimeout, recvBufSize, sendBufSize, ssl, tcpNoDelay, workerThreads, ioThreads, ignoredCaches);
       this.proxyHost = proxyHost;
       this.proxyPort = proxyPort;
       this.topologyCacheName = TOPOLOGY_CACHE_NAME_PREFIX + (name.length() > 0 ? "_" + name : name);
@@ -29,6 +32,9 @@ public class HotRodServerConfiguration extends ProtocolServerConfiguration {
       this.topologyStateTransfer = topologyStateTransfer;
       this.topologyAwaitInitialTransfer = topologyAwaitInitialTransfer;
       this.authentication = authentication;
+      this.eventQueueSize = eventQueueSize;
+      this.eventOverflowPolicy = eventOverflowPolicy;
+      this.zeroCopyThreshold = zeroCopyThreshold;
    }
 
    public String proxyHost() {
@@ -63,12 +69,30 @@ public AuthenticationConfiguration authentication() {
       return authentication;
    }
 
+   public int eventQueueSize() {
+      return eventQueueSize;
+   }
+
+   public ClientEventOverflowPolicy eventOverflowPolicy() {
+      return eventOverflowPolicy;
+   }
+
+   public int zeroCopyThreshold() {
+      return zeroCopyThreshold;
+   }
+
+   public boolean zeroCopy() {
+      return zeroCopyThreshold > 0;
+   }
+
    @Override
    public String toString() {
       return "HotRodServerConfiguration [proxyHost=" + proxyHost + ", proxyPort=" + proxyPort + ", topologyCacheName="
             + topologyCacheName + ", topologyLockTimeout=" + topologyLockTimeout + ", topologyReplTimeout="
             + topologyReplTimeout + ", topologyAwaitInitialTransfer=" + topologyAwaitInitialTransfer
-            + ", topologyStateTransfer=" + topologyStateTransfer + ", authentication=" + authentication
+            + ", topologyStateTransfer=" + topologyStateTransfer + ", eventQueueSize=" + eventQueueSize
+            + ", eventOverflowPolicy=" + eventOverflowPolicy + ", zeroCopyThreshold=" + zeroCopyThreshold
+            + ", authentication=" + authentication
             + ", ignoredCaches=" + ignoredCaches() + ", " + super.toString() + "]";
    }
 }
@@ -1,10 +1,12 @@
 package org.infinispan.server.hotrod.configuration;
 
 import org.infinispan.commons.configuration.Builder;
+import org.infinispan.commons.logging.LogFactory;
 import org.infinispan.configuration.cache.LockingConfigurationBuilder;
 import org.infinispan.configuration.cache.StateTransferConfigurationBuilder;
 import org.infinispan.configuration.cache.SyncConfigurationBuilder;
 import org.infinispan.server.core.configuration.ProtocolServerConfigurationBuilder;
+import org.infinispan.server.hotrod.logging.JavaLog;
 
 /**
  * HotRodServerConfigurationBuilder.
@@ -14,6 +16,7 @@
  */
 public class HotRodServerConfigurationBuilder extends ProtocolServerConfigurationBuilder<HotRodServerConfiguration, HotRodServerConfigurationBuilder> implements
       Builder<HotRodServerConfiguration>, HotRodServerChildConfigurationBuilder {
+   private static final JavaLog log = LogFactory.getLog(HotRodServerConfigurationBuilder.class, JavaLog.class);
    private final AuthenticationConfigurationBuilder authentication = new AuthenticationConfigurationBuilder(this);
    private String proxyHost;
    private int proxyPort = -1;
@@ -21,6 +24,9 @@ public class HotRodServerConfigurationBuilder extends ProtocolServerConfiguratio
    private long topologyReplTimeout = 10000L;
    private boolean topologyAwaitInitialTransfer = true;
    private boolean topologyStateTransfer = true;
+   private int eventQueueSize = 100;
+   private ClientEventOverflowPolicy eventOverflowPolicy = ClientEventOverflowPolicy.COALESCE;
+   private int zeroCopyThreshold = 0;
 
    public HotRodServerConfigurationBuilder() {
       super(11222);
@@ -91,10 +97,41 @@ public HotRodServerConfigurationBuilder topologyStateTransfer(boolean topologySt
       return this;
    }
 
+   /**
+    * Configures the maximum number of events waiting to be written to the connection of each client listener.
+    * Defaults to 100
+    */
+   @Override
+   public HotRodServerConfigurationBuilder eventQueueSize(int eventQueueSize) {
+      this.eventQueueSize = eventQueueSize;
+      return this;
+   }
+
+   /**
+    * Configures what happens to the events of a client listener whose event queue is full. See
+    * {@link ClientEventOverflowPolicy}. Defaults to {@link ClientEventOverflowPolicy#COALESCE}
+    */
+   @Override
+   public HotRodServerConfigurationBuilder eventOverflowPolicy(ClientEventOverflowPolicy eventOverflowPolicy) {
+      this.eventOverflowPolicy = eventOverflowPolicy;
+      return this;
+   }
+
+   /**
+    * Configures the size, in bytes, from which the values read from the cache are written to the connection without
+    * copying them, and the requests are accumulated without copying the received buffers. Defaults to 0, which
+    * disables it
+    */
+   @Override
+   public HotRodServerConfigurationBuilder zeroCopyThreshold(int zeroCopyThreshold) {
+      this.zeroCopyThreshold = zeroCopyThreshold;
+      return this;
+   }
+
    @Override
    public HotRodServerConfiguration create() {
-      return new HotRodServerConfiguration(defaultCacheName, proxyHost == null ? host : proxyHost, proxyPort < 0 ? port : proxyPort, topologyLockTimeout, topologyReplTimeout, topologyAwaitInitialTransfer, topologyStateTransfer, name, host, port, idleTimeout,
-            recvBufSize, sendBufSize, ssl.create(), tcpNoDelay, workerThreads, authentication.create(), ignoredCaches);
+      return new HotRodServerConfiguration(defaultCacheName, proxyHost == null ? host : proxyHost, proxyPort < 0 ? port : proxyPort, topologyLockTimeout, topologyReplTimeout, topologyAwaitInitialTransfer, topologyStateTransfer, eventQueueSize, eventOverflowPolicy, zeroCopyThreshold, name, host, port, idleTimeout,
+            recvBufSize, sendBufSize, ssl.create(), tcpNoDelay, workerThreads, ioThreads, authentication.create(), ignoredCaches);
    }
 
    @Override
@@ -106,6 +143,9 @@ public HotRodServerConfigurationBuilder read(HotRodServerConfiguration template)
       this.topologyReplTimeout = template.topologyReplTimeout();
       this.topologyAwaitInitialTransfer = template.topologyAwaitInitialTransfer();
       this.topologyStateTransfer = template.topologyStateTransfer();
+      this.eventQueueSize = template.eventQueueSize();
+      this.eventOverflowPolicy = template.eventOverflowPolicy();
+      this.zeroCopyThreshold = template.zeroCopyThreshold();
       return this;
    }
 
@@ -113,6 +153,12 @@ public HotRodServerConfigurationBuilder read(HotRodServerConfiguration template)
    public void validate() {
       super.validate();
       authentication.validate();
+      if (eventQueueSize <= 0) {
+         throw log.illegalEventQueueSize(eventQueueSize);
+      }
+      if (zeroCopyThreshold < 0) {
+         throw log.illegalZeroCopyThreshold(zeroCopyThreshold);
+      }
    }
 
    public HotRodServerConfiguration build(boolean validate) {
@@ -86,4 +86,21 @@ public interface JavaLog extends org.infinispan.util.logging.Log {
 
    @Message(value = "EXTERNAL SASL mechanism not allowed without SSL client certificate", id = 6018)
    SecurityException externalMechNotAllowedWithoutSSLClientCert();
+
+   @Message(value = "Compute function '%s' not found in server", id = 6019)
+   IllegalStateException missingComputeFunction(String name);
+
+   @Message(value = "Client listener event queue size must be greater than 0, but it is %d", id = 6020)
+   CacheConfigurationException illegalEventQueueSize(int eventQueueSize);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Event queue of client listener on channel %s is full, discarding events until the client catches up", id = 6021)
+   void clientListenerEventQueueFull(Object channel);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Event queue of client listener on channel %s is full, closing the connection", id = 6022)
+   void closingSlowClientListenerChannel(Object channel);
+
+   @Message(value = "Zero copy threshold must not be negative, but it is %d", id = 6023)
+   CacheConfigurationException illegalZeroCopyThreshold(int zeroCopyThreshold);
 }
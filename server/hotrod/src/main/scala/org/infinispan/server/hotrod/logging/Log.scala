@@ -50,4 +50,10 @@ trait Log extends org.infinispan.server.core.logging.Log {
 
    def illegalIterationId(iterationId: String) = log.illegalIterationId(iterationId)
 
+   def missingComputeFunction(name: String) = log.missingComputeFunction(name)
+
+   def clientListenerEventQueueFull(channel: AnyRef) = log.clientListenerEventQueueFull(channel)
+
+   def closingSlowClientListenerChannel(channel: AnyRef) = log.closingSlowClientListenerChannel(channel)
+
 }
\ No newline at end of file
@@ -1,8 +1,8 @@
 package org.infinispan.server.hotrod.transport
 
 import io.netty.channel.{Channel, ChannelOutboundHandler}
-import io.netty.util.concurrent.{DefaultEventExecutorGroup, DefaultThreadFactory}
-import org.infinispan.server.core.transport.{NettyChannelInitializer, NettyTransport}
+import io.netty.util.concurrent.EventExecutorGroup
+import org.infinispan.server.core.transport.{BoundedEventExecutorGroup, NettyChannelInitializer, NettyTransport}
 import org.infinispan.server.hotrod.logging.{LoggingContextHandler, HotRodAccessLoggingHandler}
 import org.infinispan.server.hotrod.{HotRodExceptionHandler, AuthenticationHandler, ContextHandler, HotRodServer}
 
@@ -13,19 +13,24 @@ import org.infinispan.server.hotrod.{HotRodExceptionHandler, AuthenticationHandl
   * @since 9.0
   */
 class HotRodChannelInitializer(val server: HotRodServer, transport: => NettyTransport,
-                               val encoder: ChannelOutboundHandler, threadNamePrefix: String)
+                               val encoder: ChannelOutboundHandler, executionGroup: EventExecutorGroup)
       extends NettyChannelInitializer(server, transport, encoder) {
 
    override def initChannel(ch: Channel): Unit = {
       super.initChannel(ch)
-      // Any inbound handler after this point should really be using this executionGroup
-      val executionGroup = new DefaultEventExecutorGroup(transport.configuration.workerThreads,
-         new DefaultThreadFactory(threadNamePrefix + "ServerHandler"))
+      // Any inbound handler after this point should really be using the executor of the executionGroup picked for
+      // this channel, shared with other channels
+      val executor = executionGroup.next()
+      executionGroup match {
+         case bounded: BoundedEventExecutorGroup =>
+            ch.pipeline.addLast("backPressure", bounded.backPressureHandler(executor))
+         case _ =>
+      }
       if (server.getConfiguration.authentication().enabled()) {
-         ch.pipeline().addLast(executionGroup, "authentication", new AuthenticationHandler(server))
+         ch.pipeline().addLast(executor, "authentication", new AuthenticationHandler(server))
       }
-      ch.pipeline.addLast(executionGroup, "handler", new ContextHandler(server, transport))
-      ch.pipeline.addLast(executionGroup, "exception", new HotRodExceptionHandler)
+      ch.pipeline.addLast(executor, "handler", new ContextHandler(server, transport))
+      ch.pipeline.addLast(executor, "exception", new HotRodExceptionHandler)
 
       // Logging handlers
       ch.pipeline.addBefore("decoder", "logging", new HotRodAccessLoggingHandler)
@@ -0,0 +1,67 @@
+package org.infinispan.server.hotrod;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import org.infinispan.server.hotrod.ClientEventQueue.Outcome;
+import org.infinispan.server.hotrod.configuration.ClientEventOverflowPolicy;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the overflow policies of the client listener event queue.
+ *
+ * @since 9.0
+ */
+@Test(groups = "unit", testName = "server.hotrod.ClientEventQueueTest")
+public class ClientEventQueueTest {
+
+   public void testCoalesceReplacesQueuedEventForSameKey() {
+      ClientEventQueue queue = new ClientEventQueue(2, ClientEventOverflowPolicy.COALESCE);
+      assertEquals(Outcome.QUEUED, queue.offer(key(1), "k1-v1"));
+      assertEquals(Outcome.QUEUED, queue.offer(key(2), "k2-v1"));
+      assertEquals(Outcome.COALESCED, queue.offer(key(1), "k1-v2"));
+      assertEquals(Outcome.DROPPED, queue.offer(key(3), "k3-v1"));
+      assertEquals("k1-v2", queue.poll());
+      // Once polled, the event of a key can't be replaced anymore
+      assertEquals(Outcome.QUEUED, queue.offer(key(1), "k1-v3"));
+      assertEquals(Outcome.COALESCED, queue.offer(key(1), "k1-v4"));
+      assertEquals("k2-v1", queue.poll());
+      assertEquals("k1-v4", queue.poll());
+      assertNull(queue.poll());
+   }
+
+   public void testDrop() {
+      ClientEventQueue queue = new ClientEventQueue(1, ClientEventOverflowPolicy.DROP);
+      assertEquals(Outcome.QUEUED, queue.offer(key(1), "k1-v1"));
+      assertEquals(Outcome.DROPPED, queue.offer(key(1), "k1-v2"));
+      assertEquals("k1-v1", queue.poll());
+      assertEquals(0, queue.size());
+   }
+
+   public void testDisconnect() {
+      ClientEventQueue queue = new ClientEventQueue(1, ClientEventOverflowPolicy.DISCONNECT);
+      assertEquals(Outcome.QUEUED, queue.offer(key(1), "k1-v1"));
+      assertEquals(Outcome.REJECTED, queue.offer(key(2), "k2-v1"));
+      assertEquals(1, queue.size());
+   }
+
+   public void testPutWaitsForSpace() throws Exception {
+      ClientEventQueue queue = new ClientEventQueue(1, ClientEventOverflowPolicy.DROP);
+      queue.put(key(1), "k1-v1");
+      Thread producer = new Thread(() -> {
+         try {
+            queue.put(key(2), "k2-v1");
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+         }
+      });
+      producer.start();
+      assertEquals("k1-v1", queue.poll());
+      producer.join(10000);
+      assertEquals("k2-v1", queue.poll());
+   }
+
+   private static byte[] key(int i) {
+      return new byte[]{(byte) i};
+   }
+}
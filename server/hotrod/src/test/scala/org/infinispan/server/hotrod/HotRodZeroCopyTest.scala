@@ -0,0 +1,53 @@
+package org.infinispan.server.hotrod
+
+import java.lang.reflect.Method
+import java.util.Random
+
+import org.infinispan.manager.EmbeddedCacheManager
+import org.infinispan.server.hotrod.OperationStatus._
+import org.infinispan.server.hotrod.configuration.HotRodServerConfigurationBuilder
+import org.infinispan.server.hotrod.test.HotRodTestingUtil._
+import org.testng.annotations.Test
+
+/**
+ * Tests that the values above the zero copy threshold are sent and received correctly.
+ *
+ * @since 9.0
+ */
+@Test(groups = Array("functional"), testName = "server.hotrod.HotRodZeroCopyTest")
+class HotRodZeroCopyTest extends HotRodSingleNodeTest {
+
+   private val threshold = 1024
+
+   override protected def createStartHotRodServer(cacheManager: EmbeddedCacheManager) =
+      startHotRodServer(cacheManager, new HotRodServerConfigurationBuilder().zeroCopyThreshold(threshold))
+
+   def testLargeValue(m: Method) {
+      val value = randomBytes(64 * 1024)
+      assertStatus(client.put(k(m), 0, 0, value), Success)
+      assertSuccess(client.get(k(m), 0), value)
+      assertSuccess(client.getWithVersion(k(m), 0), value, 0)
+      assertSuccess(client.getWithMetadata(k(m), 0), value, -1, -1)
+   }
+
+   def testLargeValueWithMetadata(m: Method) {
+      val value = randomBytes(threshold)
+      assertStatus(client.put(k(m), 100, 50, value), Success)
+      assertSuccess(client.getWithMetadata(k(m), 0), value, 100, 50)
+   }
+
+   def testSmallValue(m: Method) {
+      client.assertPut(m)
+      assertSuccess(client.assertGet(m), v(m))
+   }
+
+   def testMissingKey(m: Method) {
+      assertKeyDoesNotExist(client.get(k(m), 0))
+   }
+
+   private def randomBytes(size: Int): Array[Byte] = {
+      val bytes = new Array[Byte](size)
+      new Random().nextBytes(bytes)
+      bytes
+   }
+}
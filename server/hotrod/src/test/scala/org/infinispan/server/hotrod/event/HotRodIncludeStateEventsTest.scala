@@ -0,0 +1,102 @@
+package org.infinispan.server.hotrod.event
+
+import java.lang.reflect.Method
+import java.util.Arrays
+import java.util.concurrent.{Callable, CountDownLatch, TimeUnit}
+
+import org.infinispan.configuration.cache.{CacheMode, ConfigurationBuilder}
+import org.infinispan.container.versioning.NumericVersion
+import org.infinispan.manager.EmbeddedCacheManager
+import org.infinispan.metadata.EmbeddedMetadata
+import org.infinispan.server.hotrod.OperationStatus._
+import org.infinispan.server.hotrod.test.HotRodTestingUtil._
+import org.infinispan.server.hotrod.test.{TestClientListener, TestKeyWithVersionEvent, TestResponse}
+import org.infinispan.server.hotrod.{Bytes, HotRodMultiNodeTest}
+import org.infinispan.test.AbstractCacheTest._
+import org.infinispan.test.AbstractInfinispanTest.Condition
+import org.testng.AssertJUnit.assertTrue
+import org.testng.annotations.Test
+
+import scala.collection.JavaConverters._
+
+/**
+ * Tests that writes are not blocked while the initial state is being sent to a slow client listener.
+ *
+ * @since 9.0
+ */
+@Test(groups = Array("functional"), testName = "server.hotrod.event.HotRodIncludeStateEventsTest")
+class HotRodIncludeStateEventsTest extends HotRodMultiNodeTest {
+
+   private val numEntries = 500
+
+   override protected def cacheName: String = "include-state-events"
+
+   override protected def createCacheConfig: ConfigurationBuilder = {
+      val builder = hotRodCacheConfiguration(getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false))
+      builder.clustering().hash().numOwners(1)
+      builder
+   }
+
+   override protected def startTestHotRodServer(cacheManager: EmbeddedCacheManager, port: Int) =
+      startHotRodServer(cacheManager, port, getDefaultHotRodConfiguration().eventQueueSize(4))
+
+   def testWritesDuringIncludeState(m: Method) {
+      // Big keys so that the initial state does not fit in the socket buffers of the stalled client
+      val metadata = new EmbeddedMetadata.Builder().version(new NumericVersion(1)).build()
+      for (i <- 0 until numEntries) advancedCache[Bytes, Bytes](0, cacheName).put(key(i), v(m), metadata)
+
+      val listener = new StalledClientListener
+      val addListener = fork(new Callable[TestResponse] {
+         override def call(): TestResponse = clients.head.addClientListener(listener, true, None, None, true)
+      })
+      try {
+         assertTrue(listener.received.await(10, TimeUnit.SECONDS))
+         eventually(new Condition {
+            override def isSatisfied: Boolean = isReplayBlocked
+         })
+
+         // Update existing keys and create new ones owned by the other node, their events are forwarded to the
+         // listener node and queued from a thread other than the one replaying the initial state
+         val dm = advancedCache[Bytes, Bytes](1, cacheName).getDistributionManager
+         val remoteKeys = (0 until 2 * numEntries by 10).map(key)
+            .filter(k => dm.getPrimaryLocation(k) == address(1)).take(20)
+         val writer = clients.tail.head
+         val writes = fork(new Callable[Unit] {
+            override def call(): Unit =
+               remoteKeys.foreach(k => assertStatus(writer.put(k, 0, 0, v(m, "v2-")), Success))
+         })
+         writes.get(30, TimeUnit.SECONDS)
+      } finally {
+         listener.release.countDown()
+      }
+
+      assertStatus(addListener.get(30, TimeUnit.SECONDS), Success)
+      assertStatus(clients.head.removeClientListener(listener.getId), Success)
+   }
+
+   private def key(i: Int): Bytes = {
+      val key = new Array[Byte](16 * 1024)
+      Arrays.fill(key, i.toByte)
+      key(0) = (i >> 8).toByte
+      key
+   }
+
+   private def isReplayBlocked: Boolean =
+      Thread.getAllStackTraces.asScala.exists { case (thread, stack) =>
+         thread.getName.startsWith("add-listener-thread") && thread.getState == Thread.State.WAITING &&
+            stack.exists(e => e.getClassName == "org.infinispan.server.hotrod.ClientEventQueue" && e.getMethodName == "put")
+      }
+
+   private class StalledClientListener extends TestClientListener {
+      val received = new CountDownLatch(1)
+      val release = new CountDownLatch(1)
+
+      override def onCreated(event: TestKeyWithVersionEvent): Unit = {
+         // Stop reading from the channel until released
+         received.countDown()
+         release.await(30, TimeUnit.SECONDS)
+      }
+
+      override def getId: Bytes = Array[Byte](4, 5, 6)
+   }
+}
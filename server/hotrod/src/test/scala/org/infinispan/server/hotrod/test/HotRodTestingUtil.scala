@@ -108,17 +108,17 @@ object HotRodTestingUtil extends Log {
             }
             if (perf) {
                if (configuration.idleTimeout > 0)
-                  new HotRodChannelInitializer(this, getTransport(), getEncoder, "test")
+                  new HotRodChannelInitializer(this, getTransport(), getEncoder, getExecutionGroup)
                     with TimeoutEnabledChannelInitializer with SingleByteFrameDecoderChannelInitializer
                else // Idle timeout logic is disabled with -1 or 0 values
-                  new HotRodChannelInitializer(this, getTransport(), getEncoder, "test")
+                  new HotRodChannelInitializer(this, getTransport(), getEncoder, getExecutionGroup)
                     with SingleByteFrameDecoderChannelInitializer
             } else {
                if (configuration.idleTimeout > 0)
-                  new HotRodChannelInitializer(this, getTransport(), getEncoder, "test")
+                  new HotRodChannelInitializer(this, getTransport(), getEncoder, getExecutionGroup)
                     with TimeoutEnabledChannelInitializer
                else // Idle timeout logic is disabled with -1 or 0 values
-                  new HotRodChannelInitializer(this, getTransport(), getEncoder, "test")
+                  new HotRodChannelInitializer(this, getTransport(), getEncoder, getExecutionGroup)
             }
          }
       }